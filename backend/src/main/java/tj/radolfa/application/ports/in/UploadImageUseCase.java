@@ -7,7 +7,8 @@ import java.io.InputStream;
  * and attach the resulting public URL to a listing variant.
  *
  * <p>Callers (controllers) hand off the raw bytes; this use case owns
- * the full pipeline: process → upload → persist URL.</p>
+ * the full pipeline: process → upload → persist URL. Only the hand-off is
+ * synchronous.</p>
  */
 public interface UploadImageUseCase {
 
@@ -15,7 +16,8 @@ public interface UploadImageUseCase {
      * @param slug             slug of the listing variant to attach the image to
      * @param imageStream      raw image bytes from the HTTP multipart upload
      * @param originalFilename original client filename (used to detect source format)
-     * @return                 the public URL of the uploaded image
+     * @return                 the public URL the image will be served from; it is attached
+     *                         to the listing once processing finishes in the background
      */
     String upload(String slug, InputStream imageStream, String originalFilename);
 }
@@ -3,13 +3,13 @@ package tj.radolfa.application.ports.in.payment;
 /**
  * In-Port: handle a successful payment callback from the provider.
  *
- * <p>Called by the payment webhook controller after signature validation.
- * Responsibilities:
+ * <p>Run by the background worker for callbacks recorded through
+ * {@link RecordPaymentCallbackUseCase}. Responsibilities:
  * <ol>
  *   <li>Validate idempotency — skip if already processed.</li>
  *   <li>Transition the {@code Payment} to COMPLETED.</li>
  *   <li>Transition the linked {@code Order} to PAID.</li>
- *   <li>Trigger loyalty points award.</li>
+ *   <li>Enqueue the loyalty points award.</li>
  * </ol>
  */
 public interface ConfirmPaymentUseCase {
@@ -0,0 +1,17 @@
+package tj.radolfa.application.ports.in.payment;
+
+/**
+ * In-Port: accept a successful payment callback from the provider.
+ *
+ * <p>Called by the payment webhook controller after signature validation. Only
+ * records the callback; {@link ConfirmPaymentUseCase} runs later on a background
+ * worker, so the provider is acknowledged without waiting for order processing.
+ */
+public interface RecordPaymentCallbackUseCase {
+
+    /**
+     * @param providerTransactionId the transaction ID as reported by the provider
+     * @throws IllegalArgumentException when no payment has this transaction ID
+     */
+    void execute(String providerTransactionId);
+}
@@ -0,0 +1,23 @@
+package tj.radolfa.application.ports.in.product;
+
+import java.util.List;
+
+/**
+ * In-Port: create many product hierarchies in one request (catalog onboarding).
+ *
+ * <p>All-or-nothing: every product is validated before anything is written, and
+ * all of them are persisted in a single transaction.
+ */
+public interface BulkCreateProductsUseCase {
+
+    /** Upper bound on products per call. */
+    int MAX_PRODUCTS = 1_000;
+
+    /**
+     * @param commands one {@link CreateProductUseCase.Command} per product
+     * @return the new ProductBase ids, in command order, and totals
+     */
+    Result execute(List<CreateProductUseCase.Command> commands);
+
+    record Result(List<Long> productBaseIds, int variants, int skus) {}
+}
@@ -0,0 +1,48 @@
+package tj.radolfa.application.ports.in.product;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * In-Port: bulk price/stock ingestion from an external catalogue feed.
+ *
+ * <p>Rows are consumed as a stream and compared against the stored values; only
+ * SKUs whose price or stock actually differ are written. Every listing variant
+ * with at least one changed SKU is reported downstream exactly once per import.
+ * ADMIN only — enforced at the controller level.
+ */
+public interface ImportPriceStockUseCase {
+
+    /**
+     * One feed row. A {@code null} price or stock leaves that value unchanged.
+     *
+     * @param line  1-based position in the source file, for error reporting
+     * @param error parse failure reported by the reader; the row is rejected
+     */
+    record Row(long line, String skuCode, BigDecimal price, Integer stock, String error) {
+
+        public static Row of(long line, String skuCode, BigDecimal price, Integer stock) {
+            return new Row(line, skuCode, price, stock, null);
+        }
+
+        public static Row malformed(long line, String error) {
+            return new Row(line, null, null, null, error);
+        }
+    }
+
+    /**
+     * @param rows            rows read from the feed
+     * @param updated         SKUs written
+     * @param unchanged       rows matching the stored values
+     * @param unknown         rows whose skuCode does not exist
+     * @param rejected        malformed or invalid rows
+     * @param conflicts       rows skipped because the SKU was edited while the import ran
+     * @param variantsChanged listing variants reported downstream
+     * @param errors          first rejected or conflicting rows, as "line N: reason"
+     */
+    record Result(int rows, int updated, int unchanged, int unknown, int rejected, int conflicts,
+                  int variantsChanged, List<String> errors) {}
+
+    Result execute(Iterator<Row> rows);
+}
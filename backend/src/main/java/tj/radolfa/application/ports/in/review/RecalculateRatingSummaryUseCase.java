@@ -1,5 +1,7 @@
 package tj.radolfa.application.ports.in.review;
 
+import tj.radolfa.domain.model.RatingTotals;
+
 /**
  * Recomputes the {@code ProductRatingSummary} for a variant from all its approved reviews.
  *
@@ -9,4 +11,10 @@ package tj.radolfa.application.ports.in.review;
 public interface RecalculateRatingSummaryUseCase {
 
     void execute(Long listingVariantId);
+
+    /**
+     * Adds a signed change to the stored totals without reading any reviews.
+     * Falls back to {@link #execute} when the result would go negative (drift).
+     */
+    void applyDelta(Long listingVariantId, RatingTotals delta);
 }
@@ -0,0 +1,14 @@
+package tj.radolfa.application.ports.in.review;
+
+import tj.radolfa.domain.model.RatingTotals;
+
+/**
+ * Queues a change to a variant's rating summary caused by moderation.
+ *
+ * <p>Changes are applied asynchronously once the calling transaction commits;
+ * several changes to the same variant are coalesced into one summary write.
+ */
+public interface RecordRatingChangeUseCase {
+
+    void record(Long listingVariantId, RatingTotals delta);
+}
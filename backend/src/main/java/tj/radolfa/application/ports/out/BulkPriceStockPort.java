@@ -0,0 +1,28 @@
+package tj.radolfa.application.ports.out;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Out-Port: set-based price/stock reads and writes for bulk imports.
+ */
+public interface BulkPriceStockPort {
+
+    /** Stored price, stock and optimistic-lock version of a SKU. */
+    record CurrentSku(Long skuId, String skuCode, Long variantId, BigDecimal price, int stock, long version) {}
+
+    /** New price and stock for a SKU, valid only while it is still at {@code version}. */
+    record Change(Long skuId, BigDecimal price, int stock, long version) {}
+
+    List<CurrentSku> findBySkuCodes(Collection<String> skuCodes);
+
+    /**
+     * Applies all changes in one transaction. A SKU whose version moved since it was
+     * read is left as it is.
+     *
+     * @return ids of the SKUs not written because their version moved
+     */
+    Set<Long> apply(List<Change> changes);
+}
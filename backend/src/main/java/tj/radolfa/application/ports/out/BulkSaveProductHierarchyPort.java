@@ -0,0 +1,28 @@
+package tj.radolfa.application.ports.out;
+
+import tj.radolfa.domain.model.ListingVariant;
+import tj.radolfa.domain.model.ProductBase;
+import tj.radolfa.domain.model.Sku;
+
+import java.util.List;
+
+/**
+ * Out-Port: insert many new product hierarchies with set-based writes.
+ *
+ * <p>Ids and product codes are assigned by the implementation; the ids on the
+ * given domain objects are ignored.
+ */
+public interface BulkSaveProductHierarchyPort {
+
+    /** A new variant, its already-resolved color and its SKUs. */
+    record NewVariant(ListingVariant variant, Long colorId, List<Sku> skus) {}
+
+    record NewProduct(ProductBase base, List<NewVariant> variants) {}
+
+    record SavedVariant(ListingVariant variant, List<Sku> skus) {}
+
+    record SavedProduct(ProductBase base, List<SavedVariant> variants) {}
+
+    /** Inserts every product in the caller's transaction; results are in input order. */
+    List<SavedProduct> insertAll(List<NewProduct> products);
+}
@@ -0,0 +1,47 @@
+package tj.radolfa.application.ports.out;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Out-Port: tells the other backend instances to drop cached entries.
+ *
+ * <p>Publishing joins the caller's transaction, so other instances evict only once the
+ * change that made their entries stale has committed. The publishing instance evicts its
+ * own entries itself; it never receives its own messages.
+ *
+ * <p>Every message is a log row and a {@code NOTIFY}, which Postgres serialises across
+ * all committing transactions — publish from rare administrative changes only, never
+ * per order or per checkout.
+ */
+public interface CacheInvalidationPort {
+
+    enum EntityType {
+        /** The loyalty tier table; ids are ignored. */
+        LOYALTY_TIER,
+        /** Per-user cached state: tier id, discount snapshot. */
+        USER
+    }
+
+    /** An invalidation message; an empty {@code ids} set covers every entry of {@code type}. */
+    record Invalidation(EntityType type, Set<Long> ids) {
+
+        public Invalidation {
+            ids = Set.copyOf(ids);
+        }
+
+        public boolean all() {
+            return ids.isEmpty();
+        }
+    }
+
+    /** A cache that applies invalidations published by other instances. */
+    interface Subscriber {
+
+        /** Evicts local entries only — must not publish again. */
+        void evict(Invalidation invalidation);
+    }
+
+    /** Publishes an invalidation of {@code ids}; an empty collection invalidates every entry of {@code type}. */
+    void publish(EntityType type, Collection<Long> ids);
+}
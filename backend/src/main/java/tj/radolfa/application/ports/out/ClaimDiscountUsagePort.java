@@ -0,0 +1,20 @@
+package tj.radolfa.application.ports.out;
+
+import tj.radolfa.domain.model.Discount;
+
+/**
+ * Out-Port: atomically records one use of a discount by an order.
+ *
+ * <p>Must be called inside the checkout transaction; the claim is rolled back with it.
+ */
+@FunctionalInterface
+public interface ClaimDiscountUsagePort {
+
+    /**
+     * Counts one use of {@code discount} towards its total and per-customer caps.
+     *
+     * @return {@code false} when either cap is already reached; the caller must then
+     *         abort the transaction
+     */
+    boolean tryClaim(Discount discount, Long userId);
+}
@@ -0,0 +1,30 @@
+package tj.radolfa.application.ports.out;
+
+import tj.radolfa.domain.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Streams the admin order list for export, without paging or a total count.
+ *
+ * <p>Rows are handed to {@code sink} as they are read from a server-side cursor;
+ * implementations must not buffer the result set.
+ */
+public interface ExportAdminOrdersPort {
+
+    record OrderExportRow(
+            Long id,
+            Instant createdAt,
+            String status,
+            BigDecimal totalAmount,
+            String deliveryType,
+            int itemCount,
+            String userPhone,
+            String userName
+    ) {}
+
+    /** Same filters as {@link LoadAdminOrdersPort#search}; newest orders first. */
+    void streamOrders(String search, OrderStatus statusFilter, Consumer<OrderExportRow> sink);
+}
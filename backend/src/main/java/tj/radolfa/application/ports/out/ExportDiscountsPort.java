@@ -0,0 +1,30 @@
+package tj.radolfa.application.ports.out;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Streams the admin campaign list for export, without paging or a total count.
+ */
+public interface ExportDiscountsPort {
+
+    record DiscountExportRow(
+            Long id,
+            String title,
+            String typeName,
+            String amountType,
+            BigDecimal amountValue,
+            Instant validFrom,
+            Instant validUpto,
+            boolean disabled,
+            String couponCode,
+            BigDecimal minBasketAmount,
+            Integer usageCapTotal,
+            Integer usageCapPerCustomer,
+            int targetCount
+    ) {}
+
+    /** Same filters as {@link LoadDiscountPort#findAll}; ordered by id. */
+    void streamDiscounts(DiscountFilter filter, Consumer<DiscountExportRow> sink);
+}
@@ -0,0 +1,39 @@
+package tj.radolfa.application.ports.out;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Out-Port: where image jobs run and where raw uploads wait for them.
+ *
+ * The port knows nothing about thread pools or temporary files --
+ * how many workers render, how uploads are scheduled and where an
+ * upload is buffered are infrastructure choices.
+ */
+public interface ImageJobPort {
+
+    /**
+     * Copies {@code source} somewhere it outlives the request, then closes {@code source}.
+     *
+     * @throws tj.radolfa.domain.exception.ImageProcessingException when the upload cannot be buffered
+     */
+    SpooledImage spool(InputStream source, String originalFilename);
+
+    /** Runs CPU-bound rendering work; may run it on the calling thread when the workers are saturated. */
+    <T> CompletableFuture<T> render(Supplier<T> job);
+
+    /** Runs a blocking upload without holding a rendering worker. */
+    CompletableFuture<Void> upload(Runnable job);
+
+    /** A buffered upload; closing it discards the copy. */
+    interface SpooledImage extends AutoCloseable {
+
+        /** Opens a fresh stream over the buffered bytes; the caller closes it. */
+        InputStream open() throws IOException;
+
+        @Override
+        void close();
+    }
+}
@@ -1,10 +1,13 @@
 package tj.radolfa.application.ports.out;
 
+import tj.radolfa.domain.model.ImageRendition;
+
 import java.io.InputStream;
+import java.util.Map;
 
 /**
  * Out-Port: resize and compress an image according to pipeline rules.
- * Returns a processed image ready for upload.
+ * Returns processed images ready for upload.
  *
  * The port is intentionally agnostic to the underlying library
  * (Thumbnailator, ImageMagick, etc.) -- that is an infrastructure choice.
@@ -12,10 +15,15 @@ import java.io.InputStream;
 public interface ImageProcessingPort {
 
     /**
+     * Decodes the source once and renders every {@link ImageRendition} from it.
+     * CPU-bound; callers are expected to run it off the request thread.
+     *
      * @param source           raw image bytes as received from the client
      * @param originalFilename original filename; may be used to detect the source format
-     * @return a {@link ProcessedImage} containing the resized/compressed bytes,
-     *         the target MIME type, and the file extension
+     * @return one {@link ProcessedImage} per rendition, all in the same format
      */
-    ProcessedImage process(InputStream source, String originalFilename);
+    Map<ImageRendition, ProcessedImage> renditions(InputStream source, String originalFilename);
+
+    /** File extension of every processed image, e.g. "webp" or "jpg". */
+    String extension();
 }
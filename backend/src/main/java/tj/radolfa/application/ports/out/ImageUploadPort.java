@@ -11,10 +11,17 @@ import java.io.InputStream;
 public interface ImageUploadPort {
 
     /**
-     * @param imageStream   the already-processed (resized, compressed) image bytes
+     * Streams the image to storage; implementations must not buffer the whole object.
+     *
+     * @param imageStream   the already-processed (resized, compressed) image bytes;
+     *                      read to the end but not closed
+     * @param contentLength exact number of bytes in {@code imageStream}
      * @param objectKey     the desired storage key (e.g. "products/SKU-001/abc123.webp")
      * @param contentType   MIME type (e.g. "image/webp", "image/jpeg")
      * @return              the public URL of the uploaded object
      */
-    String upload(InputStream imageStream, String objectKey, String contentType);
+    String upload(InputStream imageStream, long contentLength, String objectKey, String contentType);
+
+    /** Public URL an object uploaded under {@code objectKey} is (or will be) served from. */
+    String publicUrl(String objectKey);
 }
@@ -0,0 +1,26 @@
+package tj.radolfa.application.ports.out;
+
+/**
+ * Out-Port: durable queue of background work.
+ *
+ * <p>Enqueueing joins the caller's transaction, so a job exists exactly when the
+ * change that requires it commits.
+ */
+public interface JobQueuePort {
+
+    enum Stage {
+        /** Payment → COMPLETED, order → PAID; key: provider transaction id. */
+        PAYMENT_CONFIRMATION,
+        /** Cashback for a paid order; key: order id, payload: user id. */
+        LOYALTY_AWARD
+    }
+
+    /**
+     * Records a job for {@code stage}, unless one with the same key already exists.
+     * A job with the same key that was parked as dead is queued again instead.
+     *
+     * @param payload stage-specific data, or {@code null}
+     * @return {@code false} when the job was already recorded and is not dead
+     */
+    boolean enqueue(Stage stage, String key, String payload);
+}
@@ -2,8 +2,17 @@ package tj.radolfa.application.ports.out;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import tj.radolfa.domain.model.DiscountedProductRow;
 
+import java.util.function.Consumer;
+
 public interface ListDiscountedProductsPort {
     Page<DiscountedProductRow> findDiscountedProducts(DiscountedProductFilter filter, Pageable pageable);
+
+    /**
+     * Streams every matching row for export. Rows carry the winning campaign only —
+     * {@link DiscountedProductRow#otherCampaigns()} is always empty.
+     */
+    void streamDiscountedProducts(DiscountedProductFilter filter, Sort sort, Consumer<DiscountedProductRow> sink);
 }
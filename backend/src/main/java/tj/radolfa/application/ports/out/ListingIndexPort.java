@@ -32,8 +32,28 @@ public interface ListingIndexPort {
                java.time.Instant lastSyncAt,
                String productCode, java.util.List<String> skuCodes);
 
+    /**
+     * Upsert many listing variant documents at once. Implementations backed by a
+     * search engine should send them as bulk requests rather than one call per document.
+     */
+    default void indexAll(java.util.List<Document> documents) {
+        for (Document d : documents) {
+            index(d.variantId(), d.productBaseId(), d.slug(), d.name(), d.category(),
+                    d.colorKey(), d.colorHexCode(), d.description(), d.images(),
+                    d.price(), d.totalStock(), d.lastSyncAt(), d.productCode(), d.skuCodes());
+        }
+    }
+
     /**
      * Remove a listing variant from the search index.
      */
     void delete(String slug);
+
+    /** One listing variant document; fields as documented on {@link #index}. */
+    record Document(Long variantId, Long productBaseId, String slug, String name, String category,
+                    String colorKey, String colorHexCode,
+                    String description, java.util.List<String> images,
+                    Double price, Integer totalStock,
+                    java.time.Instant lastSyncAt,
+                    String productCode, java.util.List<String> skuCodes) {}
 }
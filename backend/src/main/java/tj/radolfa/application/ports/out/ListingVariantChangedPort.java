@@ -0,0 +1,16 @@
+package tj.radolfa.application.ports.out;
+
+import java.util.Collection;
+
+/**
+ * Out-Port: tells downstream consumers (the search index) that the price or stock
+ * of listing variants changed.
+ *
+ * <p>Implementations must be fire-and-forget: failures are logged
+ * but never block the caller.
+ */
+public interface ListingVariantChangedPort {
+
+    /** Called once per batch of writes; each variant id appears once. */
+    void variantsChanged(Collection<Long> variantIds);
+}
@@ -0,0 +1,31 @@
+package tj.radolfa.application.ports.out;
+
+import tj.radolfa.domain.model.Money;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Output port: everything a cart line needs about its SKU — product name, colour,
+ * size, first image, stock and price — for a whole cart in one round trip.
+ */
+public interface LoadCartLinePort {
+
+    /**
+     * Compact projection of a SKU and its variant / product.
+     *
+     * @param imageUrl first variant image (original URL, not a rendition), or {@code null}
+     */
+    record CartLine(Long skuId,
+                    String skuCode,
+                    Long listingVariantId,
+                    String productName,
+                    String colorKey,
+                    String sizeLabel,
+                    String imageUrl,
+                    int stockQuantity,
+                    Money price) {}
+
+    /** Lines keyed by SKU id; ids that do not exist are simply absent. */
+    Map<Long, CartLine> findBySkuIds(Collection<Long> skuIds);
+}
@@ -1,5 +1,6 @@
 package tj.radolfa.application.ports.out;
 
+import tj.radolfa.domain.model.RatingTotals;
 import tj.radolfa.domain.model.ReviewTraitInputType;
 
 import java.math.BigDecimal;
@@ -11,6 +12,15 @@ public interface LoadRatingSummaryPort {
 
     Optional<RatingSummaryView> findByVariantId(Long listingVariantId);
 
+    /**
+     * Running totals of a variant's summary, row-locked until the surrounding
+     * transaction ends so concurrent deltas apply one after another.
+     */
+    Optional<RatingTotals> findTotalsForUpdate(Long listingVariantId);
+
+    /** Variants that have a summary row or at least one approved review. */
+    List<Long> findAllRatedVariantIds();
+
     record RatingSummaryView(
             Long variantId,
             BigDecimal averageRating,
@@ -2,7 +2,6 @@ package tj.radolfa.application.ports.out;
 
 import tj.radolfa.domain.model.User;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,7 +11,4 @@ public interface LoadUserPort {
     Optional<User> loadByPhone(String phone);
 
     Optional<User> loadById(Long id);
-
-    /** Returns all users whose loyalty tier is NOT permanently locked. */
-    List<User> findAllNonPermanent();
 }
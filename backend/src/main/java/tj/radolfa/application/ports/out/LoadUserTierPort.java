@@ -0,0 +1,13 @@
+package tj.radolfa.application.ports.out;
+
+import java.util.Optional;
+
+/**
+ * Out-Port: look up only the id of a user's current loyalty tier — no user aggregate,
+ * no tier fetch joins.
+ */
+public interface LoadUserTierPort {
+
+    /** Empty when the user does not exist or holds no tier. */
+    Optional<Long> findTierId(Long userId);
+}
@@ -0,0 +1,44 @@
+package tj.radolfa.application.ports.out;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Out-Port: the append-only loyalty points ledger.
+ *
+ * <p>Every movement is one signed ledger row; a user's balance is never written in place.
+ * Movements must be made inside the caller's transaction and are rolled back with it.
+ */
+public interface LoyaltyPointsLedgerPort {
+
+    enum Reason { AWARD, REVIEW_BONUS, REDEEM, RESTORE, REVOKE }
+
+    /** The user's current balance; {@code 0} for a user with no movements. */
+    int balance(Long userId);
+
+    /** Current balances of the given users; users with no movements map to {@code 0}. */
+    Map<Long, Integer> balances(Collection<Long> userIds);
+
+    /**
+     * Adds {@code points} to the user's balance.
+     *
+     * @param orderId order the movement belongs to, or {@code null}; at most one movement
+     *                per order and reason is recorded
+     * @return {@code false} when this order already has a movement for {@code reason}
+     */
+    boolean credit(Long userId, int points, Reason reason, Long orderId);
+
+    /**
+     * Deducts {@code points} if the balance covers them.
+     *
+     * @return {@code false} (and nothing recorded) when the balance is lower than {@code points}
+     */
+    boolean tryDebit(Long userId, int points, Reason reason, Long orderId);
+
+    /**
+     * Deducts {@code points}, or the whole balance if it is lower.
+     *
+     * @return the number of points actually deducted
+     */
+    int debitUpTo(Long userId, int points, Reason reason, Long orderId);
+}
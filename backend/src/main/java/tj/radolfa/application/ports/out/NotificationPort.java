@@ -7,8 +7,10 @@ import tj.radolfa.domain.model.OrderStatus;
  *
  * <p>Implementations:
  * <ul>
- *   <li>{@code NotificationPortStub} — dev/test; logs to console.</li>
- *   <li>Future: SMS via SMS.ru, push via FCM, or email via SMTP.</li>
+ *   <li>{@code NotificationOutboxAdapter} — records the message in the caller's transaction;
+ *       it is delivered asynchronously through a {@code NotificationSink}
+ *       ({@code NotificationPortStub} logs to console).</li>
+ *   <li>Future sinks: SMS via SMS.ru, push via FCM, or email via SMTP.</li>
  * </ul>
  */
 public interface NotificationPort {
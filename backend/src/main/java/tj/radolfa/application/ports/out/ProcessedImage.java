@@ -6,10 +6,14 @@ import java.io.InputStream;
  * The output of the image processing pipeline.
  * Immutable value object -- no setters, no mutation after construction.
  *
+ * The receiver owns {@code data} and must close it; implementations may back it
+ * with a temporary file that is removed on close.
+ *
  * Intentionally a plain record: no Spring, no Jackson, no Lombok.
  */
 public record ProcessedImage(
         InputStream data,
+        long contentLength,   // exact number of bytes in data
         String contentType,   // e.g. "image/webp" or "image/jpeg"
         String extension      // e.g. "webp" or "jpg"
 ) {}
@@ -0,0 +1,13 @@
+package tj.radolfa.application.ports.out;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Out-port for the pre-aggregated order KPIs behind the admin dashboard.
+ */
+public interface RecordOrderStatsPort {
+
+    /** Counts a newly placed order towards the day it was placed (UTC). */
+    void recordPlaced(Instant placedAt, BigDecimal totalAmount);
+}
@@ -1,17 +1,16 @@
 package tj.radolfa.application.ports.out;
 
-import java.math.BigDecimal;
+import tj.radolfa.domain.model.RatingTotals;
+
 import java.util.List;
-import java.util.Map;
 
 public interface SaveRatingSummaryPort {
 
+    /**
+     * Stores the running totals together with the derived average, distribution
+     * and SLIDER trait aggregates shown on the product page.
+     */
     void upsert(Long listingVariantId,
-                BigDecimal averageRating,
-                int reviewCount,
-                Map<Integer, Integer> distribution,
-                int sizeAccurate,
-                int sizeRunsSmall,
-                int sizeRunsLarge,
+                RatingTotals totals,
                 List<LoadRatingSummaryPort.TraitAggregateView> traitAggregates);
 }
@@ -0,0 +1,45 @@
+package tj.radolfa.application.ports.out;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Out-Port: cluster-wide leases for scheduled work.
+ *
+ * <p>Every backend instance fires the same {@code @Scheduled} triggers; work that must
+ * happen once (or once per partition) takes a named lease first. A lease is renewed in
+ * the background while held, and expires if its holder dies.
+ */
+public interface SchedulerLockPort {
+
+    /** A held lease; closing it releases the name for other instances. */
+    interface Lease extends AutoCloseable {
+
+        /** {@code false} once a renewal found the lease taken over — the holder must stop. */
+        boolean isHeld();
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Takes the lease on {@code name} unless another instance holds it.
+     *
+     * @param ttl how long the lease survives without renewal
+     */
+    Optional<Lease> tryAcquire(String name, Duration ttl);
+
+    /**
+     * Runs {@code task} while holding the lease on {@code name}.
+     *
+     * @return {@code false} (task not run) when another instance holds the lease
+     */
+    default boolean runExclusively(String name, Duration ttl, Runnable task) {
+        Optional<Lease> lease = tryAcquire(name, ttl);
+        if (lease.isEmpty()) return false;
+        try (Lease held = lease.get()) {
+            task.run();
+        }
+        return true;
+    }
+}
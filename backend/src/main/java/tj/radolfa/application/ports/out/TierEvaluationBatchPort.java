@@ -0,0 +1,64 @@
+package tj.radolfa.application.ports.out;
+
+import tj.radolfa.domain.model.User;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Out-Port: persistent state of the monthly tier evaluation batch.
+ *
+ * <p>A run is keyed by the month it evaluates, so triggering it again for the same
+ * month either resumes it from its checkpoints or, once completed, does nothing.
+ * Non-permanent users are split into id-range partitions that are worked independently.
+ */
+public interface TierEvaluationBatchPort {
+
+    enum RunStatus { RUNNING, COMPLETED }
+
+    /** One user-id range; users up to and including {@code lastUserId} are done. */
+    record Partition(int number, long lastUserId, long toUserId, boolean completed) {}
+
+    /** A user to evaluate together with the net spending staged for the month. */
+    record Candidate(User user, BigDecimal netSpending) {}
+
+    /** Outcome counts of a chunk, a partition or a whole run. */
+    record Progress(int promoted, int demoted, int unchanged, int failed) {
+
+        public static final Progress NONE = new Progress(0, 0, 0, 0);
+
+        public Progress plus(Progress other) {
+            return new Progress(promoted + other.promoted, demoted + other.demoted,
+                    unchanged + other.unchanged, failed + other.failed);
+        }
+
+        public int total() {
+            return promoted + demoted + unchanged + failed;
+        }
+    }
+
+    Optional<RunStatus> findRunStatus(YearMonth period);
+
+    /**
+     * Creates the run for {@code period}: splits the non-permanent users into at most
+     * {@code partitions} id ranges and stages every user's net spending in
+     * [{@code from}, {@code to}) with one grouped aggregate. No-op when the run exists.
+     */
+    void createRun(YearMonth period, Instant from, Instant to, int partitions);
+
+    List<Partition> findPartitions(YearMonth period);
+
+    /** Next non-permanent users of a partition after {@code afterUserId}, ascending by id. */
+    List<Candidate> loadChunk(YearMonth period, Partition partition, long afterUserId, int limit);
+
+    /** Advances a partition's checkpoint and adds the chunk's outcome counts. */
+    void checkpoint(YearMonth period, int partition, long lastUserId, Progress progress);
+
+    void completePartition(YearMonth period, int partition);
+
+    /** Marks the run completed and drops its staged spending. */
+    void completeRun(YearMonth period);
+}
@@ -22,15 +22,18 @@ public class AssignUserTierService implements AssignUserTierUseCase {
     private final LoadLoyaltyTierPort   loadLoyaltyTierPort;
     private final SaveUserPort          saveUserPort;
     private final LoyaltySpendCalculator loyaltySpendCalculator;
+    private final LoyaltyTierCache      loyaltyTierCache;
 
     public AssignUserTierService(LoadUserPort loadUserPort,
                                  LoadLoyaltyTierPort loadLoyaltyTierPort,
                                  SaveUserPort saveUserPort,
-                                 LoyaltySpendCalculator loyaltySpendCalculator) {
+                                 LoyaltySpendCalculator loyaltySpendCalculator,
+                                 LoyaltyTierCache loyaltyTierCache) {
         this.loadUserPort          = loadUserPort;
         this.loadLoyaltyTierPort   = loadLoyaltyTierPort;
         this.saveUserPort          = saveUserPort;
         this.loyaltySpendCalculator = loyaltySpendCalculator;
+        this.loyaltyTierCache      = loyaltyTierCache;
     }
 
     @Override
@@ -65,8 +68,10 @@ public class AssignUserTierService implements AssignUserTierUseCase {
                 current.permanent(),
                 lowestTierEver);
 
-        return saveUserPort.save(new User(
+        User saved = saveUserPort.save(new User(
                 user.id(), user.phone(), user.role(), user.name(),
                 user.email(), updated, user.enabled(), user.version()));
+        loyaltyTierCache.invalidateUser(user.id());
+        return saved;
     }
 }
@@ -6,6 +6,8 @@ import tj.radolfa.application.ports.in.loyalty.AwardLoyaltyPointsUseCase;
 import tj.radolfa.application.ports.out.LoadLoyaltyTierPort;
 import tj.radolfa.application.ports.out.LoadOrderPort;
 import tj.radolfa.application.ports.out.LoadUserPort;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort.Reason;
 import tj.radolfa.application.ports.out.SaveOrderPort;
 import tj.radolfa.application.ports.out.SaveUserPort;
 import tj.radolfa.domain.model.LoyaltyProfile;
@@ -15,6 +17,7 @@ import tj.radolfa.domain.model.User;
 import tj.radolfa.domain.service.LoyaltyCalculator;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Awards cashback points to a user after a successful payment.
@@ -28,32 +31,43 @@ import java.util.List;
  *   <li>Load the paid order for its {@code totalAmount}.</li>
  *   <li>Load all tier definitions for tier-upgrade logic.</li>
  *   <li>Delegate to {@link LoyaltyCalculator#awardPoints} to compute new profile.</li>
- *   <li>Persist the updated user.</li>
+ *   <li>Credit the points to the ledger, then persist the updated user (spend and tier).</li>
  * </ol>
+ *
+ * <p>The ledger credit is keyed by order, so it doubles as the award's claim: when it
+ * reports the order as already credited — a retry racing the first award — nothing else
+ * is written and the month's spend is not counted twice. An award that moves the user
+ * up a tier drops their {@link LoyaltyTierCache} entry.
  */
 @Service
 @Transactional
 public class AwardLoyaltyPointsService implements AwardLoyaltyPointsUseCase {
 
-    private final LoadUserPort         loadUserPort;
-    private final LoadOrderPort        loadOrderPort;
-    private final LoadLoyaltyTierPort  loadLoyaltyTierPort;
-    private final SaveUserPort         saveUserPort;
-    private final SaveOrderPort        saveOrderPort;
-    private final LoyaltyCalculator    loyaltyCalculator;
+    private final LoadUserPort            loadUserPort;
+    private final LoadOrderPort           loadOrderPort;
+    private final LoadLoyaltyTierPort     loadLoyaltyTierPort;
+    private final SaveUserPort            saveUserPort;
+    private final SaveOrderPort           saveOrderPort;
+    private final LoyaltyPointsLedgerPort ledger;
+    private final LoyaltyCalculator       loyaltyCalculator;
+    private final LoyaltyTierCache        loyaltyTierCache;
 
     public AwardLoyaltyPointsService(LoadUserPort loadUserPort,
                                      LoadOrderPort loadOrderPort,
                                      LoadLoyaltyTierPort loadLoyaltyTierPort,
                                      SaveUserPort saveUserPort,
                                      SaveOrderPort saveOrderPort,
-                                     LoyaltyCalculator loyaltyCalculator) {
+                                     LoyaltyPointsLedgerPort ledger,
+                                     LoyaltyCalculator loyaltyCalculator,
+                                     LoyaltyTierCache loyaltyTierCache) {
         this.loadUserPort        = loadUserPort;
         this.loadOrderPort       = loadOrderPort;
         this.loadLoyaltyTierPort = loadLoyaltyTierPort;
         this.saveUserPort        = saveUserPort;
         this.saveOrderPort       = saveOrderPort;
+        this.ledger              = ledger;
         this.loyaltyCalculator   = loyaltyCalculator;
+        this.loyaltyTierCache    = loyaltyTierCache;
     }
 
     @Override
@@ -74,9 +88,16 @@ public class AwardLoyaltyPointsService implements AwardLoyaltyPointsUseCase {
         LoyaltyProfile updated = loyaltyCalculator.awardPoints(
                 user.loyalty(), order.totalAmount(), allTiers);
 
+        // Keyed by order: a retried award cannot credit twice
+        if (earnedPoints > 0 && !ledger.credit(userId, earnedPoints, Reason.AWARD, orderId)) {
+            return;
+        }
         saveUserPort.save(new User(
                 user.id(), user.phone(), user.role(), user.name(),
                 user.email(), updated, user.enabled(), user.version()));
+        if (!Objects.equals(tierIdOf(user.loyalty()), tierIdOf(updated))) {
+            loyaltyTierCache.invalidateUser(userId);
+        }
 
         // Record awarded points on the order so RefundPaymentService can revoke them later
         Order recorded = new Order(
@@ -88,4 +109,8 @@ public class AwardLoyaltyPointsService implements AwardLoyaltyPointsUseCase {
                 order.shippedAt(), order.deliveredAt(), order.cancelledAt(), order.refundedAt());
         saveOrderPort.save(recorded);
     }
+
+    private static Long tierIdOf(LoyaltyProfile loyalty) {
+        return loyalty != null && loyalty.tier() != null ? loyalty.tier().id() : null;
+    }
 }
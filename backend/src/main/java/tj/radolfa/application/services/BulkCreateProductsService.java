@@ -0,0 +1,226 @@
+package tj.radolfa.application.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tj.radolfa.application.ports.in.product.BulkCreateProductsUseCase;
+import tj.radolfa.application.ports.in.product.CreateProductUseCase.Command;
+import tj.radolfa.application.ports.out.BulkSaveProductHierarchyPort;
+import tj.radolfa.application.ports.out.BulkSaveProductHierarchyPort.NewProduct;
+import tj.radolfa.application.ports.out.BulkSaveProductHierarchyPort.NewVariant;
+import tj.radolfa.application.ports.out.BulkSaveProductHierarchyPort.SavedProduct;
+import tj.radolfa.application.ports.out.BulkSaveProductHierarchyPort.SavedVariant;
+import tj.radolfa.application.ports.out.ListingIndexPort;
+import tj.radolfa.application.ports.out.LoadBrandPort;
+import tj.radolfa.application.ports.out.LoadCategoryBlueprintPort;
+import tj.radolfa.application.ports.out.LoadCategoryPort;
+import tj.radolfa.application.ports.out.LoadColorPort;
+import tj.radolfa.application.readmodel.CategoryView;
+import tj.radolfa.domain.exception.ResourceNotFoundException;
+import tj.radolfa.domain.model.ListingVariant;
+import tj.radolfa.domain.model.Money;
+import tj.radolfa.domain.model.ProductBase;
+import tj.radolfa.domain.model.Sku;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Creates many product hierarchies in one transaction — the bulk counterpart of
+ * {@link CreateProductService}, with the same validation rules and generated codes.
+ *
+ * <p>Categories, blueprints, brands and colors are looked up once per distinct id rather
+ * than once per product, every product is validated before anything is written, and the
+ * rows are inserted through {@link BulkSaveProductHierarchyPort} in batches. The search
+ * index is then updated with one bulk call; like single creation, an indexing failure
+ * is logged and does not fail the request.
+ */
+@Slf4j
+@Service
+public class BulkCreateProductsService implements BulkCreateProductsUseCase {
+
+    private final LoadCategoryPort             loadCategoryPort;
+    private final LoadColorPort                loadColorPort;
+    private final LoadBrandPort                loadBrandPort;
+    private final LoadCategoryBlueprintPort    loadBlueprintPort;
+    private final BulkSaveProductHierarchyPort savePort;
+    private final ListingIndexPort             listingIndexPort;
+
+    public BulkCreateProductsService(LoadCategoryPort loadCategoryPort,
+                                     LoadColorPort loadColorPort,
+                                     LoadBrandPort loadBrandPort,
+                                     LoadCategoryBlueprintPort loadBlueprintPort,
+                                     BulkSaveProductHierarchyPort savePort,
+                                     ListingIndexPort listingIndexPort) {
+        this.loadCategoryPort  = loadCategoryPort;
+        this.loadColorPort     = loadColorPort;
+        this.loadBrandPort     = loadBrandPort;
+        this.loadBlueprintPort = loadBlueprintPort;
+        this.savePort          = savePort;
+        this.listingIndexPort  = listingIndexPort;
+    }
+
+    @Override
+    @Transactional
+    public Result execute(List<Command> commands) {
+        if (commands.isEmpty()) {
+            throw new IllegalArgumentException("At least one product is required");
+        }
+        if (commands.size() > MAX_PRODUCTS) {
+            throw new IllegalArgumentException(
+                    "At most " + MAX_PRODUCTS + " products per request, got " + commands.size());
+        }
+
+        Map<Long, CategoryView>               categories = new HashMap<>();
+        Map<Long, CategoryBlueprintValidator> validators = new HashMap<>();
+        Map<Long, LoadColorPort.ColorView>    colors     = new HashMap<>();
+        Set<Long>                             brands     = new HashSet<>();
+
+        // 1. Resolve and validate everything before the first write
+        List<NewProduct> products = new ArrayList<>(commands.size());
+        for (Command command : commands) {
+            CategoryView category = categories.computeIfAbsent(command.categoryId(), id ->
+                    loadCategoryPort.findById(id)
+                            .orElseThrow(() -> new ResourceNotFoundException("Category not found: id=" + id)));
+
+            if (command.brandId() != null && brands.add(command.brandId())) {
+                loadBrandPort.findById(command.brandId())
+                        .orElseThrow(() -> new ResourceNotFoundException(
+                                "Brand not found: id=" + command.brandId()));
+            }
+
+            CategoryBlueprintValidator validator = validators.computeIfAbsent(category.id(), id ->
+                    new CategoryBlueprintValidator(category.name(), loadBlueprintPort.findByCategoryId(id)));
+
+            String externalRef = "INTERNAL-" + randomHex();
+            ProductBase base = new ProductBase(null, externalRef, command.name(), category.name(),
+                    category.id(), command.brandId());
+
+            List<NewVariant> variants = new ArrayList<>(command.variants().size());
+            for (Command.VariantDefinition variantDef : command.variants()) {
+                validator.validate(variantDef.attributes());
+                LoadColorPort.ColorView color = colors.computeIfAbsent(variantDef.colorId(), id ->
+                        loadColorPort.findById(id)
+                                .orElseThrow(() -> new ResourceNotFoundException("Color not found: id=" + id)));
+                variants.add(new NewVariant(buildVariant(variantDef, color, externalRef), color.id(),
+                        buildSkus(variantDef)));
+            }
+            products.add(new NewProduct(base, variants));
+        }
+
+        // 2. Batched inserts
+        List<SavedProduct> saved = savePort.insertAll(products);
+
+        // 3. One bulk index call — fire-and-forget, like single creation
+        Map<String, String> hexByColorKey = new HashMap<>();
+        colors.values().forEach(c -> {
+            if (c.hexCode() != null) hexByColorKey.put(c.colorKey(), c.hexCode());
+        });
+        List<ListingIndexPort.Document> documents = new ArrayList<>();
+        int variantCount = 0, skuCount = 0;
+        for (SavedProduct product : saved) {
+            for (SavedVariant sv : product.variants()) {
+                variantCount++;
+                skuCount += sv.skus().size();
+                documents.add(toDocument(product.base(), sv, hexByColorKey.get(sv.variant().getColorKey())));
+            }
+        }
+        try {
+            listingIndexPort.indexAll(documents);
+        } catch (Exception ex) {
+            log.error("[BULK-CREATE-PRODUCT] ES bulk indexing failed for {} variant(s): {}",
+                    documents.size(), ex.getMessage());
+        }
+
+        List<Long> ids = saved.stream().map(p -> p.base().getId()).toList();
+        log.info("[BULK-CREATE-PRODUCT] Created {} product(s), {} variant(s), {} SKU(s)",
+                ids.size(), variantCount, skuCount);
+        return new Result(ids, variantCount, skuCount);
+    }
+
+    private static ListingVariant buildVariant(Command.VariantDefinition variantDef,
+                                               LoadColorPort.ColorView color,
+                                               String externalRef) {
+        ListingVariant variant = new ListingVariant(
+                null,
+                null,                    // productBaseId — assigned on insert
+                color.colorKey(),
+                null,                    // slug — generated below
+                variantDef.webDescription(),
+                Collections.emptyList(),
+                variantDef.attributes(),
+                Collections.emptyList(), // tagIds — none on creation
+                null,
+                null,                    // productCode — assigned on insert
+                variantDef.isEnabled(),
+                variantDef.isActive(),
+                variantDef.weightKg(),
+                variantDef.widthCm(),
+                variantDef.heightCm(),
+                variantDef.depthCm()
+        );
+        variant.generateSlug(externalRef);
+        if (variantDef.images() != null) {
+            for (String url : variantDef.images()) {
+                variant.addImage(url);
+            }
+        }
+        return variant;
+    }
+
+    private static List<Sku> buildSkus(Command.VariantDefinition variantDef) {
+        List<Sku> skus = new ArrayList<>(variantDef.skus().size());
+        for (Command.SkuDefinition def : variantDef.skus()) {
+            skus.add(new Sku(null, null, "SKU-" + randomHex(), def.sizeLabel(),
+                    def.stockQuantity(), def.price(), "BC-" + randomHex()));
+        }
+        return skus;
+    }
+
+    private static ListingIndexPort.Document toDocument(ProductBase base, SavedVariant sv, String colorHex) {
+        ListingVariant variant = sv.variant();
+        Double price = sv.skus().stream()
+                .map(Sku::getPrice)
+                .filter(Objects::nonNull)
+                .map(Money::amount)
+                .min(BigDecimal::compareTo)
+                .map(BigDecimal::doubleValue)
+                .orElse(null);
+        int totalStock = sv.skus().stream()
+                .mapToInt(s -> s.getStockQuantity() != null ? s.getStockQuantity() : 0)
+                .sum();
+        List<String> skuCodes = sv.skus().stream()
+                .map(Sku::getSkuCode)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new ListingIndexPort.Document(
+                variant.getId(),
+                base.getId(),
+                variant.getSlug(),
+                base.getName(),
+                base.getCategory(),
+                variant.getColorKey(),
+                colorHex,
+                variant.getWebDescription(),
+                new ArrayList<>(variant.getImages()),
+                price,
+                totalStock,
+                variant.getLastSyncAt(),
+                variant.getProductCode(),
+                skuCodes);
+    }
+
+    // 12 hex chars (48 bits of entropy), as in CreateProductService
+    private static String randomHex() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+    }
+}
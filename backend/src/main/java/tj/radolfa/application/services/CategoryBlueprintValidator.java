@@ -0,0 +1,90 @@
+package tj.radolfa.application.services;
+
+import tj.radolfa.application.ports.out.LoadCategoryBlueprintPort.BlueprintEntry;
+import tj.radolfa.domain.exception.InvalidAttributeValueException;
+import tj.radolfa.domain.model.ProductAttribute;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Checks variant attributes against the blueprint of one category: every required
+ * key present, ENUM/MULTI values allowed, NUMBER values numeric.
+ *
+ * <p>Built once per category and reused for all of its variants.
+ */
+final class CategoryBlueprintValidator {
+
+    private final String                      categoryName;
+    private final Map<String, BlueprintEntry> blueprintByKey;
+    private final List<String>                requiredKeys;
+
+    CategoryBlueprintValidator(String categoryName, List<BlueprintEntry> blueprints) {
+        this.categoryName   = categoryName;
+        this.blueprintByKey = blueprints.stream()
+                .collect(Collectors.toMap(BlueprintEntry::attributeKey, e -> e));
+        this.requiredKeys   = blueprints.stream()
+                .filter(BlueprintEntry::required)
+                .map(BlueprintEntry::attributeKey)
+                .toList();
+    }
+
+    void validate(List<ProductAttribute> attributes) {
+        if (blueprintByKey.isEmpty()) return;
+        List<ProductAttribute> attrs = attributes == null ? List.of() : attributes;
+
+        Set<String> providedKeys = attrs.stream()
+                .map(ProductAttribute::key)
+                .collect(Collectors.toSet());
+        List<String> missing = requiredKeys.stream()
+                .filter(k -> !providedKeys.contains(k))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Missing required attributes for category '" + categoryName
+                    + "': " + missing);
+        }
+
+        for (ProductAttribute attr : attrs) {
+            BlueprintEntry bp = blueprintByKey.get(attr.key());
+            if (bp == null) continue; // attribute not in blueprint — permitted
+
+            switch (bp.type()) {
+                case ENUM -> {
+                    if (attr.values().size() != 1) {
+                        throw new InvalidAttributeValueException(attr.key(),
+                                "ENUM attributes must have exactly one value, got: " + attr.values());
+                    }
+                    String value = attr.values().get(0);
+                    if (!bp.allowedValues().contains(value)) {
+                        throw new InvalidAttributeValueException(attr.key(),
+                                "'" + value + "' is not an allowed value. Allowed: " + bp.allowedValues());
+                    }
+                }
+                case MULTI -> {
+                    for (String value : attr.values()) {
+                        if (!bp.allowedValues().contains(value)) {
+                            throw new InvalidAttributeValueException(attr.key(),
+                                    "'" + value + "' is not an allowed value. Allowed: " + bp.allowedValues());
+                        }
+                    }
+                }
+                case NUMBER -> {
+                    if (attr.values().size() != 1) {
+                        throw new InvalidAttributeValueException(attr.key(),
+                                "NUMBER attributes must have exactly one value, got: " + attr.values());
+                    }
+                    try {
+                        new java.math.BigDecimal(attr.values().get(0));
+                    } catch (NumberFormatException e) {
+                        throw new InvalidAttributeValueException(attr.key(),
+                                "'" + attr.values().get(0) + "' is not a valid number");
+                    }
+                }
+                case TEXT -> { /* no constraint beyond presence */ }
+            }
+        }
+    }
+}
@@ -6,28 +6,27 @@ import tj.radolfa.application.ports.in.discount.RecordDiscountApplicationUseCase
 import tj.radolfa.application.ports.in.discount.ResolveDiscountsUseCase;
 import tj.radolfa.application.ports.in.loyalty.RedeemLoyaltyPointsUseCase;
 import tj.radolfa.application.ports.in.order.CheckoutUseCase;
+import tj.radolfa.application.ports.out.ClaimDiscountUsagePort;
+import tj.radolfa.application.ports.out.LoadCartLinePort;
+import tj.radolfa.application.ports.out.LoadCartLinePort.CartLine;
 import tj.radolfa.application.ports.out.LoadCartPort;
-import tj.radolfa.application.ports.out.LoadListingVariantPort;
 import tj.radolfa.application.ports.out.LoadPickpointPort;
-import tj.radolfa.application.ports.out.LoadProductBasePort;
-import tj.radolfa.application.ports.out.LoadSkuPort;
 import tj.radolfa.application.ports.out.LoadUserPort;
+import tj.radolfa.application.ports.out.RecordOrderStatsPort;
 import tj.radolfa.application.ports.out.SaveCartPort;
 import tj.radolfa.application.ports.out.SaveOrderPort;
 import tj.radolfa.application.ports.out.StockAdjustmentPort;
+import tj.radolfa.domain.exception.DiscountConflictException;
 import tj.radolfa.domain.model.AppliedDiscount;
 import tj.radolfa.domain.model.Cart;
 import tj.radolfa.domain.model.CartItem;
 import tj.radolfa.domain.model.Discount;
-import tj.radolfa.domain.model.ListingVariant;
 import tj.radolfa.domain.model.LoyaltyProfile;
 import tj.radolfa.domain.model.Money;
 import tj.radolfa.domain.model.Order;
 import tj.radolfa.domain.model.OrderItem;
 import tj.radolfa.domain.model.OrderStatus;
 import tj.radolfa.domain.model.Pickpoint;
-import tj.radolfa.domain.model.ProductBase;
-import tj.radolfa.domain.model.Sku;
 import tj.radolfa.domain.model.User;
 import tj.radolfa.domain.service.LoyaltyCalculator;
 
@@ -37,6 +36,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,9 +44,7 @@ public class CheckoutService implements CheckoutUseCase {
 
     private final LoadCartPort                     loadCartPort;
     private final SaveCartPort                     saveCartPort;
-    private final LoadSkuPort                      loadSkuPort;
-    private final LoadListingVariantPort           loadListingVariantPort;
-    private final LoadProductBasePort              loadProductBasePort;
+    private final LoadCartLinePort                 loadCartLinePort;
     private final LoadUserPort                     loadUserPort;
     private final SaveOrderPort                    saveOrderPort;
     private final StockAdjustmentPort              stockAdjustmentPort;
@@ -55,12 +53,12 @@ public class CheckoutService implements CheckoutUseCase {
     private final ResolveDiscountsUseCase          resolveDiscountsUseCase;
     private final RecordDiscountApplicationUseCase recordDiscountApplicationUseCase;
     private final LoadPickpointPort                loadPickpointPort;
+    private final RecordOrderStatsPort             recordOrderStatsPort;
+    private final ClaimDiscountUsagePort           claimDiscountUsagePort;
 
     public CheckoutService(LoadCartPort loadCartPort,
                            SaveCartPort saveCartPort,
-                           LoadSkuPort loadSkuPort,
-                           LoadListingVariantPort loadListingVariantPort,
-                           LoadProductBasePort loadProductBasePort,
+                           LoadCartLinePort loadCartLinePort,
                            LoadUserPort loadUserPort,
                            SaveOrderPort saveOrderPort,
                            StockAdjustmentPort stockAdjustmentPort,
@@ -68,12 +66,12 @@ public class CheckoutService implements CheckoutUseCase {
                            RedeemLoyaltyPointsUseCase redeemLoyaltyPointsUseCase,
                            ResolveDiscountsUseCase resolveDiscountsUseCase,
                            RecordDiscountApplicationUseCase recordDiscountApplicationUseCase,
-                           LoadPickpointPort loadPickpointPort) {
+                           LoadPickpointPort loadPickpointPort,
+                           RecordOrderStatsPort recordOrderStatsPort,
+                           ClaimDiscountUsagePort claimDiscountUsagePort) {
         this.loadCartPort                    = loadCartPort;
         this.saveCartPort                    = saveCartPort;
-        this.loadSkuPort                     = loadSkuPort;
-        this.loadListingVariantPort          = loadListingVariantPort;
-        this.loadProductBasePort             = loadProductBasePort;
+        this.loadCartLinePort                = loadCartLinePort;
         this.loadUserPort                    = loadUserPort;
         this.saveOrderPort                   = saveOrderPort;
         this.stockAdjustmentPort             = stockAdjustmentPort;
@@ -82,6 +80,8 @@ public class CheckoutService implements CheckoutUseCase {
         this.resolveDiscountsUseCase         = resolveDiscountsUseCase;
         this.recordDiscountApplicationUseCase = recordDiscountApplicationUseCase;
         this.loadPickpointPort               = loadPickpointPort;
+        this.recordOrderStatsPort            = recordOrderStatsPort;
+        this.claimDiscountUsagePort          = claimDiscountUsagePort;
     }
 
     @Override
@@ -102,16 +102,16 @@ public class CheckoutService implements CheckoutUseCase {
             throw new IllegalStateException("Cannot checkout with an empty cart");
         }
 
-        // 3. Load all SKUs in one batch, then re-validate stock
+        // 3. Load every line's SKU, variant and product in one query, then re-validate stock
         Set<Long> skuIds = cart.getItems().stream()
                 .map(CartItem::getSkuId)
                 .collect(Collectors.toSet());
-        Map<Long, Sku> skuById = loadSkuPort.findAllByIdsAsMap(skuIds);
+        Map<Long, CartLine> lineBySkuId = loadCartLinePort.findBySkuIds(skuIds);
 
         for (CartItem item : cart.getItems()) {
-            Sku sku = skuById.get(item.getSkuId());
-            if (sku == null) throw new IllegalStateException("SKU not found: " + item.getSkuId());
-            int available = sku.getStockQuantity() != null ? sku.getStockQuantity() : 0;
+            CartLine line = lineBySkuId.get(item.getSkuId());
+            if (line == null) throw new IllegalStateException("SKU not found: " + item.getSkuId());
+            int available = line.stockQuantity();
             if (available < item.getQuantity()) {
                 throw new IllegalStateException(
                         "Insufficient stock for SKU " + item.getSkuId() +
@@ -120,8 +120,8 @@ public class CheckoutService implements CheckoutUseCase {
         }
 
         // 4. Resolve all applicable discounts once for the whole cart (batched, no N+1)
-        List<String> itemCodes = skuById.values().stream()
-                .map(Sku::getSkuCode)
+        List<String> itemCodes = lineBySkuId.values().stream()
+                .map(CartLine::skuCode)
                 .distinct()
                 .toList();
         Map<String, List<Discount>> resolvedDiscounts = resolveDiscountsUseCase.resolve(
@@ -132,7 +132,7 @@ public class CheckoutService implements CheckoutUseCase {
         BigDecimal tierPct = loyaltyCalculator.resolveTierPercentage(profile);
 
         List<LineResolution> lineResolutions = cart.getItems().stream()
-                .map(item -> resolveLineResolution(item, tierPct, skuById, resolvedDiscounts))
+                .map(item -> resolveLineResolution(item, tierPct, lineBySkuId, resolvedDiscounts))
                 .toList();
 
         BigDecimal subtotalRaw = BigDecimal.ZERO;
@@ -166,7 +166,7 @@ public class CheckoutService implements CheckoutUseCase {
 
         // 8. Build order items
         List<OrderItem> orderItems = cart.getItems().stream()
-                .map(item -> enrichToOrderItem(item, skuById))
+                .map(item -> toOrderItem(item, lineBySkuId.get(item.getSkuId())))
                 .toList();
 
         // 9. Persist order
@@ -180,6 +180,7 @@ public class CheckoutService implements CheckoutUseCase {
                 null, null, null,
                 null, null, null, null);
         Order saved = saveOrderPort.save(newOrder);
+        recordOrderStatsPort.recordPlaced(newOrder.createdAt(), total.amount());
 
         // 10. Record one discount_application row per stacked discount layer per line
         List<OrderItem> savedItems = saved.items();
@@ -203,6 +204,21 @@ public class CheckoutService implements CheckoutUseCase {
             }
         }
 
+        // 10b. Claim one use per applied campaign — the exact usage-cap check. Ascending
+        //      discount id keeps concurrent checkouts from deadlocking on the counter rows.
+        Map<Long, Discount> appliedCampaigns = new TreeMap<>();
+        for (LineResolution lr : lineResolutions) {
+            for (AppliedDiscount ad : lr.applied()) {
+                appliedCampaigns.putIfAbsent(ad.discount().id(), ad.discount());
+            }
+        }
+        for (Discount discount : appliedCampaigns.values()) {
+            if (!claimDiscountUsagePort.tryClaim(discount, command.userId())) {
+                throw new DiscountConflictException(
+                        "Discount \"" + discount.title() + "\" has reached its usage limit");
+            }
+        }
+
         // 11. Decrement stock
         for (CartItem item : cart.getItems()) {
             stockAdjustmentPort.decrement(item.getSkuId(), item.getQuantity());
@@ -248,7 +264,7 @@ public class CheckoutService implements CheckoutUseCase {
      * and strictly beats the original snapshot — loyalty alone is not recorded as a discount.
      */
     private LineResolution resolveLineResolution(CartItem item, BigDecimal tierPct,
-                                                  Map<Long, Sku> skuById,
+                                                  Map<Long, CartLine> lineBySkuId,
                                                   Map<String, List<Discount>> resolvedDiscounts) {
         BigDecimal original = item.getUnitPriceSnapshot().amount();
 
@@ -258,10 +274,8 @@ public class CheckoutService implements CheckoutUseCase {
                         .setScale(2, RoundingMode.HALF_UP)
                 : original;
 
-        Sku sku = skuById.get(item.getSkuId());
-        if (sku == null) throw new IllegalStateException("SKU not found: " + item.getSkuId());
-
-        List<Discount> discounts = resolvedDiscounts.getOrDefault(sku.getSkuCode(), List.of());
+        CartLine line = lineBySkuId.get(item.getSkuId());
+        List<Discount> discounts = resolvedDiscounts.getOrDefault(line.skuCode(), List.of());
         if (!discounts.isEmpty()) {
             List<AppliedDiscount> applied = AppliedDiscount.fold(discounts, original);
             BigDecimal stackedPrice = applied.get(applied.size() - 1).reducedUnitPrice();
@@ -277,19 +291,8 @@ public class CheckoutService implements CheckoutUseCase {
         return new LineResolution(loyaltyPrice.min(original), List.of());
     }
 
-    private OrderItem enrichToOrderItem(CartItem cartItem, Map<Long, Sku> skuById) {
-        Sku sku = skuById.get(cartItem.getSkuId());
-        if (sku == null) throw new IllegalStateException("SKU not found: " + cartItem.getSkuId());
-
-        ListingVariant variant = loadListingVariantPort.findVariantById(sku.getListingVariantId())
-                .orElseThrow(() -> new IllegalStateException(
-                        "Variant not found: " + sku.getListingVariantId()));
-
-        ProductBase product = loadProductBasePort.findById(variant.getProductBaseId())
-                .orElseThrow(() -> new IllegalStateException(
-                        "Product not found: " + variant.getProductBaseId()));
-
-        return new OrderItem(null, cartItem.getSkuId(), variant.getId(), sku.getSkuCode(),
-                product.getName(), cartItem.getQuantity(), cartItem.getUnitPriceSnapshot());
+    private OrderItem toOrderItem(CartItem cartItem, CartLine line) {
+        return new OrderItem(null, cartItem.getSkuId(), line.listingVariantId(), line.skuCode(),
+                line.productName(), cartItem.getQuantity(), cartItem.getUnitPriceSnapshot());
     }
 }
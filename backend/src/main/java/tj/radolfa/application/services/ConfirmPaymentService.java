@@ -4,9 +4,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tj.radolfa.application.ports.in.loyalty.AwardLoyaltyPointsUseCase;
 import tj.radolfa.application.ports.in.order.UpdateOrderStatusUseCase;
 import tj.radolfa.application.ports.in.payment.ConfirmPaymentUseCase;
+import tj.radolfa.application.ports.out.JobQueuePort;
+import tj.radolfa.application.ports.out.JobQueuePort.Stage;
 import tj.radolfa.application.ports.out.LoadOrderPort;
 import tj.radolfa.application.ports.out.LoadPaymentPort;
 import tj.radolfa.application.ports.out.SavePaymentPort;
@@ -17,12 +18,15 @@ import tj.radolfa.domain.model.PaymentStatus;
 /**
  * Handles a successful payment callback from the provider.
  *
+ * <p>Runs as the {@link Stage#PAYMENT_CONFIRMATION} job recorded by
+ * {@link RecordPaymentCallbackService}; a failure rolls back and the job is retried.
+ *
  * <ol>
  *   <li>Find the payment by provider transaction ID.</li>
  *   <li>Idempotency guard: skip if already COMPLETED.</li>
  *   <li>Transition the {@code Payment} to COMPLETED and persist.</li>
  *   <li>Transition the linked {@code Order} to PAID.</li>
- *   <li>Trigger loyalty points award (Phase 9 provides the real implementation).</li>
+ *   <li>Enqueue the loyalty points award as its own {@link Stage#LOYALTY_AWARD} job.</li>
  * </ol>
  */
 @Service
@@ -34,18 +38,18 @@ public class ConfirmPaymentService implements ConfirmPaymentUseCase {
     private final SavePaymentPort          savePaymentPort;
     private final LoadOrderPort            loadOrderPort;
     private final UpdateOrderStatusUseCase updateOrderStatusUseCase;
-    private final AwardLoyaltyPointsUseCase awardLoyaltyPointsUseCase;
+    private final JobQueuePort             jobQueuePort;
 
     public ConfirmPaymentService(LoadPaymentPort loadPaymentPort,
                                  SavePaymentPort savePaymentPort,
                                  LoadOrderPort loadOrderPort,
                                  UpdateOrderStatusUseCase updateOrderStatusUseCase,
-                                 AwardLoyaltyPointsUseCase awardLoyaltyPointsUseCase) {
+                                 JobQueuePort jobQueuePort) {
         this.loadPaymentPort          = loadPaymentPort;
         this.savePaymentPort          = savePaymentPort;
         this.loadOrderPort            = loadOrderPort;
         this.updateOrderStatusUseCase = updateOrderStatusUseCase;
-        this.awardLoyaltyPointsUseCase = awardLoyaltyPointsUseCase;
+        this.jobQueuePort             = jobQueuePort;
     }
 
     @Override
@@ -69,10 +73,10 @@ public class ConfirmPaymentService implements ConfirmPaymentUseCase {
         updateOrderStatusUseCase.execute(new UpdateOrderStatusUseCase.Command(
                 payment.orderId(), OrderStatus.PAID, null, null, null));
 
-        // Award loyalty points (Phase 9 provides real implementation)
+        // Award loyalty points separately, so a failing award never holds back the order
         Long userId = loadOrderPort.loadById(payment.orderId())
                 .orElseThrow(() -> new IllegalStateException("Order not found: " + payment.orderId()))
                 .userId();
-        awardLoyaltyPointsUseCase.execute(userId, payment.orderId());
+        jobQueuePort.enqueue(Stage.LOYALTY_AWARD, payment.orderId().toString(), userId.toString());
     }
 }
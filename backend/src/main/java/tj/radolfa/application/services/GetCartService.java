@@ -3,35 +3,31 @@ package tj.radolfa.application.services;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tj.radolfa.application.ports.in.cart.GetCartUseCase;
+import tj.radolfa.application.ports.out.LoadCartLinePort;
+import tj.radolfa.application.ports.out.LoadCartLinePort.CartLine;
 import tj.radolfa.application.ports.out.LoadCartPort;
-import tj.radolfa.application.ports.out.LoadListingVariantPort;
-import tj.radolfa.application.ports.out.LoadProductBasePort;
-import tj.radolfa.application.ports.out.LoadSkuPort;
 import tj.radolfa.application.readmodel.CartView;
 import tj.radolfa.domain.model.Cart;
 import tj.radolfa.domain.model.CartItem;
-import tj.radolfa.domain.model.ListingVariant;
-import tj.radolfa.domain.model.ProductBase;
-import tj.radolfa.domain.model.Sku;
+import tj.radolfa.domain.model.ImageRendition;
 
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Renders the active cart. All line details come from one {@link LoadCartLinePort}
+ * call, so the query count does not grow with the number of lines.
+ */
 @Service
 public class GetCartService implements GetCartUseCase {
 
-    private final LoadCartPort            loadCartPort;
-    private final LoadSkuPort             loadSkuPort;
-    private final LoadListingVariantPort  loadListingVariantPort;
-    private final LoadProductBasePort     loadProductBasePort;
+    private final LoadCartPort     loadCartPort;
+    private final LoadCartLinePort loadCartLinePort;
 
     public GetCartService(LoadCartPort loadCartPort,
-                          LoadSkuPort loadSkuPort,
-                          LoadListingVariantPort loadListingVariantPort,
-                          LoadProductBasePort loadProductBasePort) {
-        this.loadCartPort           = loadCartPort;
-        this.loadSkuPort            = loadSkuPort;
-        this.loadListingVariantPort = loadListingVariantPort;
-        this.loadProductBasePort    = loadProductBasePort;
+                          LoadCartLinePort loadCartLinePort) {
+        this.loadCartPort     = loadCartPort;
+        this.loadCartLinePort = loadCartLinePort;
     }
 
     @Override
@@ -43,31 +39,25 @@ public class GetCartService implements GetCartUseCase {
     }
 
     private CartView toView(Cart cart) {
+        Map<Long, CartLine> lines = loadCartLinePort.findBySkuIds(
+                cart.getItems().stream().map(CartItem::getSkuId).toList());
         List<CartView.ItemView> itemViews = cart.getItems().stream()
-                .map(this::enrichItem)
+                .map(item -> enrichItem(item, lines))
                 .toList();
         return new CartView(cart.getId(), itemViews, cart.total(), cart.itemCount(), cart.getCouponCode());
     }
 
-    private CartView.ItemView enrichItem(CartItem item) {
-        Sku sku = loadSkuPort.findSkuById(item.getSkuId())
-                .orElseThrow(() -> new IllegalStateException("SKU not found: " + item.getSkuId()));
-
-        ListingVariant variant = loadListingVariantPort.findVariantById(sku.getListingVariantId())
-                .orElseThrow(() -> new IllegalStateException("Variant not found: " + sku.getListingVariantId()));
-
-        ProductBase product = loadProductBasePort.findById(variant.getProductBaseId())
-                .orElseThrow(() -> new IllegalStateException("Product not found: " + variant.getProductBaseId()));
-
-        String imageUrl = variant.getImages().isEmpty() ? null : variant.getImages().get(0);
-        int stock = sku.getStockQuantity() != null ? sku.getStockQuantity() : 0;
+    private CartView.ItemView enrichItem(CartItem item, Map<Long, CartLine> lines) {
+        CartLine line = lines.get(item.getSkuId());
+        if (line == null) throw new IllegalStateException("SKU not found: " + item.getSkuId());
 
+        int stock = line.stockQuantity();
         return new CartView.ItemView(
                 item.getSkuId(),
-                product.getName(),
-                variant.getColorKey(),
-                sku.getSizeLabel(),
-                imageUrl,
+                line.productName(),
+                line.colorKey(),
+                line.sizeLabel(),
+                ImageRendition.url(line.imageUrl(), ImageRendition.THUMB),
                 item.getQuantity(),
                 item.getUnitPriceSnapshot(),
                 item.lineTotal(),
@@ -0,0 +1,101 @@
+package tj.radolfa.application.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tj.radolfa.application.ports.out.ImageJobPort;
+import tj.radolfa.application.ports.out.ImageJobPort.SpooledImage;
+import tj.radolfa.application.ports.out.ImageProcessingPort;
+import tj.radolfa.application.ports.out.ImageUploadPort;
+import tj.radolfa.application.ports.out.ProcessedImage;
+import tj.radolfa.domain.model.ImageRendition;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders an upload into every {@link ImageRendition} and stores them under one key prefix.
+ *
+ * <p>The source is decoded once as a rendering job; the finished renditions are then
+ * uploaded in parallel as upload jobs. Where those jobs run is up to {@link ImageJobPort}.
+ *
+ * <p>The raw upload is spooled before {@link #submit} returns, so the caller's stream
+ * (e.g. a multipart part) may be closed as soon as the request ends.
+ */
+@Slf4j
+@Component
+public class ImageRenditionPipeline {
+
+    private final ImageProcessingPort processingPort;
+    private final ImageUploadPort     uploadPort;
+    private final ImageJobPort        jobPort;
+
+    public ImageRenditionPipeline(ImageProcessingPort processingPort,
+                                  ImageUploadPort uploadPort,
+                                  ImageJobPort jobPort) {
+        this.processingPort = processingPort;
+        this.uploadPort     = uploadPort;
+        this.jobPort        = jobPort;
+    }
+
+    /** URL the {@link ImageRendition#PRIMARY} rendition of {@code keyPrefix} is served from. */
+    public String primaryUrl(String keyPrefix) {
+        return uploadPort.publicUrl(objectKey(keyPrefix, ImageRendition.PRIMARY));
+    }
+
+    /**
+     * Renders and uploads all renditions of {@code source} under {@code keyPrefix}.
+     *
+     * @return completes with {@link #primaryUrl} once every rendition is stored
+     */
+    public CompletableFuture<String> submit(String keyPrefix, InputStream source, String originalFilename) {
+        SpooledImage spooled = jobPort.spool(source, originalFilename);
+        long started = System.nanoTime();
+
+        return jobPort
+                .render(() -> render(spooled, originalFilename))
+                .thenCompose(renditions -> CompletableFuture.allOf(renditions.entrySet().stream()
+                        .map(e -> jobPort.upload(() -> upload(objectKey(keyPrefix, e.getKey()), e.getValue())))
+                        .toArray(CompletableFuture[]::new)))
+                .thenApply(v -> {
+                    log.debug("[IMAGE] Stored {} renditions of {} under {} in {} ms",
+                            ImageRendition.values().length, originalFilename, keyPrefix,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                    return primaryUrl(keyPrefix);
+                });
+    }
+
+    /** {@link #submit} and wait — for callers that must hand back a URL that already resolves. */
+    public String process(String keyPrefix, InputStream source, String originalFilename) {
+        try {
+            return submit(keyPrefix, source, originalFilename).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private Map<ImageRendition, ProcessedImage> render(SpooledImage spooled, String originalFilename) {
+        try (spooled; InputStream in = spooled.open()) {
+            return processingPort.renditions(in, originalFilename);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void upload(String objectKey, ProcessedImage image) {
+        try (InputStream data = image.data()) {
+            uploadPort.upload(data, image.contentLength(), objectKey, image.contentType());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String objectKey(String keyPrefix, ImageRendition rendition) {
+        return keyPrefix + "/" + rendition.fileName(processingPort.extension());
+    }
+}
@@ -0,0 +1,160 @@
+package tj.radolfa.application.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import tj.radolfa.application.ports.in.product.ImportPriceStockUseCase;
+import tj.radolfa.application.ports.out.BulkPriceStockPort;
+import tj.radolfa.application.ports.out.BulkPriceStockPort.Change;
+import tj.radolfa.application.ports.out.BulkPriceStockPort.CurrentSku;
+import tj.radolfa.application.ports.out.ListingVariantChangedPort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies a price/stock feed in batches of {@value #BATCH_SIZE} rows.
+ *
+ * <p>Each batch loads the stored values of its SKUs with one query, drops rows that
+ * would not change anything and writes the rest with one set-based update. A SKU
+ * listed twice in a batch takes its last row. Affected variants are collected over
+ * the whole import and reported once at the end, so a variant whose SKUs are
+ * spread over many rows is re-indexed once.
+ *
+ * <p>A SKU edited between the read and the write keeps the edit: its row is counted
+ * as a conflict, reported in the errors and its variant is not re-indexed.
+ *
+ * <p>Batches commit independently: a failure stops the import, and batches
+ * already written stay written (re-running the same file is a no-op for them).
+ */
+@Service
+public class ImportPriceStockService implements ImportPriceStockUseCase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImportPriceStockService.class);
+
+    static final int BATCH_SIZE = 500;
+    static final int MAX_ERRORS = 100;
+
+    private final BulkPriceStockPort        bulkPriceStockPort;
+    private final ListingVariantChangedPort listingVariantChangedPort;
+
+    public ImportPriceStockService(BulkPriceStockPort bulkPriceStockPort,
+                                   ListingVariantChangedPort listingVariantChangedPort) {
+        this.bulkPriceStockPort        = bulkPriceStockPort;
+        this.listingVariantChangedPort = listingVariantChangedPort;
+    }
+
+    @Override
+    public Result execute(Iterator<Row> rows) {
+        Tally tally = new Tally();
+        Set<Long> changedVariants = new LinkedHashSet<>();
+        Map<String, Row> batch = new LinkedHashMap<>();
+
+        while (rows.hasNext()) {
+            Row row = rows.next();
+            tally.rows++;
+            String error = validate(row);
+            if (error != null) {
+                tally.reject(row.line(), error);
+                continue;
+            }
+            // Last row wins; a superseded row counts as unchanged
+            if (batch.put(row.skuCode(), row) != null) tally.unchanged++;
+            if (batch.size() >= BATCH_SIZE) {
+                applyBatch(batch, tally, changedVariants);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) applyBatch(batch, tally, changedVariants);
+
+        if (!changedVariants.isEmpty()) {
+            listingVariantChangedPort.variantsChanged(changedVariants);
+        }
+
+        LOG.info("[IMPORT-PRICE-STOCK] rows={}, updated={}, unchanged={}, unknown={}, rejected={}, conflicts={}, variants={}",
+                tally.rows, tally.updated, tally.unchanged, tally.unknown, tally.rejected, tally.conflicts,
+                changedVariants.size());
+        return new Result(tally.rows, tally.updated, tally.unchanged, tally.unknown, tally.rejected,
+                tally.conflicts, changedVariants.size(), List.copyOf(tally.errors));
+    }
+
+    private void applyBatch(Map<String, Row> batch, Tally tally, Set<Long> changedVariants) {
+        Map<String, CurrentSku> current = bulkPriceStockPort.findBySkuCodes(batch.keySet()).stream()
+                .collect(Collectors.toMap(CurrentSku::skuCode, Function.identity()));
+
+        List<Change> changes = new ArrayList<>();
+        Map<Long, Row> rowsBySku = new HashMap<>();
+        Map<Long, Long> variantsBySku = new HashMap<>();
+        for (Row row : batch.values()) {
+            CurrentSku sku = current.get(row.skuCode());
+            if (sku == null) {
+                tally.unknown++;
+                continue;
+            }
+            BigDecimal price = row.price() != null ? row.price() : sku.price();
+            int stock = row.stock() != null ? row.stock() : sku.stock();
+            if (samePrice(price, sku.price()) && stock == sku.stock()) {
+                tally.unchanged++;
+                continue;
+            }
+            changes.add(new Change(sku.skuId(), price, stock, sku.version()));
+            rowsBySku.put(sku.skuId(), row);
+            variantsBySku.put(sku.skuId(), sku.variantId());
+        }
+
+        if (changes.isEmpty()) return;
+        Set<Long> conflicts = bulkPriceStockPort.apply(changes);
+        for (Change change : changes) {
+            if (conflicts.contains(change.skuId())) {
+                tally.conflict(rowsBySku.get(change.skuId()).line());
+                continue;
+            }
+            tally.updated++;
+            changedVariants.add(variantsBySku.get(change.skuId()));
+        }
+    }
+
+    private static String validate(Row row) {
+        if (row.error() != null) return row.error();
+        if (row.skuCode() == null || row.skuCode().isBlank()) return "skuCode is required";
+        if (row.price() == null && row.stock() == null) return "price or stock is required";
+        if (row.price() != null && row.price().signum() < 0) return "price must be ≥ 0";
+        if (row.price() != null && row.price().stripTrailingZeros().scale() > 2) return "price must have at most 2 decimals";
+        if (row.stock() != null && row.stock() < 0) return "stock must be ≥ 0";
+        return null;
+    }
+
+    /** NUMERIC(12,2) equality: 10 and 10.00 are the same price. */
+    private static boolean samePrice(BigDecimal a, BigDecimal b) {
+        if (a == null || b == null) return a == b;
+        return a.compareTo(b) == 0;
+    }
+
+    private static final class Tally {
+        int rows, updated, unchanged, unknown, rejected, conflicts;
+        final List<String> errors = new ArrayList<>();
+
+        void reject(long line, String reason) {
+            rejected++;
+            error(line, reason);
+        }
+
+        void conflict(long line) {
+            conflicts++;
+            error(line, "SKU was edited during the import, skipped");
+        }
+
+        private void error(long line, String reason) {
+            if (errors.size() < MAX_ERRORS) errors.add("line " + line + ": " + reason);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package tj.radolfa.application.services;
+
+import org.springframework.stereotype.Component;
+import tj.radolfa.application.ports.out.CacheInvalidationPort;
+import tj.radolfa.application.ports.out.CacheInvalidationPort.EntityType;
+import tj.radolfa.application.ports.out.CacheInvalidationPort.Invalidation;
+import tj.radolfa.application.ports.out.LoadLoyaltyTierPort;
+import tj.radolfa.application.ports.out.LoadUserTierPort;
+import tj.radolfa.application.support.AfterCommit;
+import tj.radolfa.domain.model.LoyaltyTier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory loyalty tier table plus a user → tierId map, so storefront tier pricing
+ * resolves a user's tier without touching the database.
+ *
+ * <p>The tier table is dropped by {@link UpdateLoyaltyTierService}; a user's entry by
+ * {@link AssignUserTierService}, {@link MonthlyTierEvaluationService} and an upgrade in
+ * {@link AwardLoyaltyPointsService}. Each
+ * invalidation applies immediately and again once the writing transaction commits, and
+ * is published to the other instances, which evict on receipt. {@link #TTL} only bounds
+ * staleness should a message be lost.
+ */
+@Component
+public class LoyaltyTierCache implements CacheInvalidationPort.Subscriber {
+
+    static final Duration TTL         = Duration.ofMinutes(10);
+    static final int      MAX_ENTRIES = 100_000;
+
+    private final LoadLoyaltyTierPort    loadLoyaltyTierPort;
+    private final LoadUserTierPort       loadUserTierPort;
+    private final CacheInvalidationPort  cacheInvalidationPort;
+    private final Clock                  clock;
+    private final Map<Long, UserTier>    userTiers     = new ConcurrentHashMap<>();
+    private final AtomicLong             invalidations = new AtomicLong();
+    private final AtomicLong             tierReloads   = new AtomicLong();
+    private volatile TierTable           tierTable;
+
+    public LoyaltyTierCache(LoadLoyaltyTierPort loadLoyaltyTierPort,
+                            LoadUserTierPort loadUserTierPort,
+                            CacheInvalidationPort cacheInvalidationPort) {
+        this(loadLoyaltyTierPort, loadUserTierPort, cacheInvalidationPort, Clock.systemUTC());
+    }
+
+    LoyaltyTierCache(LoadLoyaltyTierPort loadLoyaltyTierPort,
+                     LoadUserTierPort loadUserTierPort,
+                     CacheInvalidationPort cacheInvalidationPort,
+                     Clock clock) {
+        this.loadLoyaltyTierPort   = loadLoyaltyTierPort;
+        this.loadUserTierPort      = loadUserTierPort;
+        this.cacheInvalidationPort = cacheInvalidationPort;
+        this.clock                 = clock;
+    }
+
+    /** The user's current tier, or empty when they have none (or do not exist). */
+    public Optional<LoyaltyTier> tierOf(Long userId) {
+        Long tierId = tierIdOf(userId);
+        return tierId == null ? Optional.empty() : Optional.ofNullable(tiers().byId().get(tierId));
+    }
+
+    /** Drops the user's cached tier now and, inside a transaction, again after it commits. */
+    public void invalidateUser(Long userId) {
+        if (userId == null) return;
+        invalidateUsers(List.of(userId));
+    }
+
+    /** {@link #invalidateUser} for many users, published as one message. */
+    public void invalidateUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        afterCommitToo(() -> evictUsers(userIds));
+        cacheInvalidationPort.publish(EntityType.USER, userIds);
+    }
+
+    /** Drops the tier table now and, inside a transaction, again after it commits. */
+    public void invalidateTiers() {
+        afterCommitToo(this::evictTiers);
+        cacheInvalidationPort.publish(EntityType.LOYALTY_TIER, List.of());
+    }
+
+    @Override
+    public void evict(Invalidation invalidation) {
+        switch (invalidation.type()) {
+            case LOYALTY_TIER -> evictTiers();
+            case USER -> {
+                if (invalidation.all()) {
+                    invalidations.incrementAndGet();
+                    userTiers.clear();
+                } else {
+                    evictUsers(invalidation.ids());
+                }
+            }
+            default -> { }
+        }
+    }
+
+    int size() {
+        return userTiers.size();
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    private void evictUsers(Collection<Long> userIds) {
+        invalidations.incrementAndGet();
+        userIds.forEach(userTiers::remove);
+    }
+
+    private void evictTiers() {
+        tierReloads.incrementAndGet();
+        tierTable = null;
+    }
+
+    private Long tierIdOf(Long userId) {
+        Instant now = clock.instant();
+        UserTier cached = userTiers.get(userId);
+        if (cached != null && cached.loadedAt().plus(TTL).isAfter(now)) {
+            return cached.tierId();
+        }
+
+        // A tier loaded while some user was being invalidated may already be stale
+        long generation = invalidations.get();
+        UserTier fresh = new UserTier(loadUserTierPort.findTierId(userId).orElse(null), now);
+        if (invalidations.get() == generation && hasRoom(now)) {
+            userTiers.put(userId, fresh);
+        }
+        return fresh.tierId();
+    }
+
+    private TierTable tiers() {
+        Instant now = clock.instant();
+        TierTable table = tierTable;
+        if (table == null || !table.loadedAt().plus(TTL).isAfter(now)) {
+            long generation = tierReloads.get();
+            table = new TierTable(loadLoyaltyTierPort.findAll().stream()
+                    .collect(Collectors.toUnmodifiableMap(LoyaltyTier::id, Function.identity())), now);
+            if (tierReloads.get() == generation) {
+                tierTable = table;
+            }
+        }
+        return table;
+    }
+
+    private boolean hasRoom(Instant now) {
+        if (userTiers.size() < MAX_ENTRIES) return true;
+        userTiers.values().removeIf(t -> !t.loadedAt().plus(TTL).isAfter(now));
+        return userTiers.size() < MAX_ENTRIES;
+    }
+
+    private static void afterCommitToo(Runnable evict) {
+        evict.run();
+        AfterCommit.run(evict);
+    }
+
+    private record UserTier(Long tierId, Instant loadedAt) {}
+
+    private record TierTable(Map<Long, LoyaltyTier> byId, Instant loadedAt) {}
+}
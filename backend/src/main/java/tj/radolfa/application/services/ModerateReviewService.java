@@ -5,11 +5,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tj.radolfa.application.ports.in.loyalty.AwardReviewBonusUseCase;
 import tj.radolfa.application.ports.in.review.ModerateReviewUseCase;
-import tj.radolfa.application.ports.in.review.RecalculateRatingSummaryUseCase;
+import tj.radolfa.application.ports.in.review.RecordRatingChangeUseCase;
 import tj.radolfa.application.ports.out.LoadReviewPort;
 import tj.radolfa.application.ports.out.NotificationPort;
 import tj.radolfa.application.ports.out.SaveReviewPort;
 import tj.radolfa.domain.exception.ResourceNotFoundException;
+import tj.radolfa.domain.model.RatingTotals;
 import tj.radolfa.domain.model.Review;
 import tj.radolfa.domain.model.ReviewStatus;
 
@@ -21,18 +22,18 @@ public class ModerateReviewService implements ModerateReviewUseCase {
 
     private final LoadReviewPort                  loadReviewPort;
     private final SaveReviewPort                  saveReviewPort;
-    private final RecalculateRatingSummaryUseCase recalcUseCase;
+    private final RecordRatingChangeUseCase       ratingChangeUseCase;
     private final AwardReviewBonusUseCase         awardReviewBonusUseCase;
     private final NotificationPort                notificationPort;
 
     public ModerateReviewService(LoadReviewPort loadReviewPort,
                                  SaveReviewPort saveReviewPort,
-                                 RecalculateRatingSummaryUseCase recalcUseCase,
+                                 RecordRatingChangeUseCase ratingChangeUseCase,
                                  AwardReviewBonusUseCase awardReviewBonusUseCase,
                                  NotificationPort notificationPort) {
         this.loadReviewPort         = loadReviewPort;
         this.saveReviewPort         = saveReviewPort;
-        this.recalcUseCase          = recalcUseCase;
+        this.ratingChangeUseCase    = ratingChangeUseCase;
         this.awardReviewBonusUseCase = awardReviewBonusUseCase;
         this.notificationPort       = notificationPort;
     }
@@ -55,7 +56,7 @@ public class ModerateReviewService implements ModerateReviewUseCase {
         }
 
         saveReviewPort.save(review);
-        recalcUseCase.execute(review.getListingVariantId());
+        ratingChangeUseCase.record(review.getListingVariantId(), RatingTotals.ofReview(review));
 
         awardReviewBonusUseCase.execute(review.getAuthorId());
         notificationPort.sendReviewApprovedNotification(review.getAuthorId(), review.getId());
@@ -68,8 +69,14 @@ public class ModerateReviewService implements ModerateReviewUseCase {
     @Transactional
     public void reject(Long reviewId) {
         Review review = loadOrThrow(reviewId);
+        boolean wasApproved = review.getStatus() == ReviewStatus.APPROVED;
         review.reject();
         saveReviewPort.save(review);
+
+        // Withdrawing an approved review removes its contribution from the summary
+        if (wasApproved) {
+            ratingChangeUseCase.record(review.getListingVariantId(), RatingTotals.ofReview(review).negate());
+        }
         log.info("[REVIEW] Rejected review id={}", reviewId);
     }
 
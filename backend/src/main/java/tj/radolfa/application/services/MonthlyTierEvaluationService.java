@@ -1,70 +1,235 @@
 package tj.radolfa.application.services;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import tj.radolfa.application.ports.out.LoadLoyaltyTierPort;
-import tj.radolfa.application.ports.out.LoadUserPort;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+import tj.radolfa.application.ports.out.SchedulerLockPort.Lease;
+import tj.radolfa.application.ports.out.TierEvaluationBatchPort;
+import tj.radolfa.application.ports.out.TierEvaluationBatchPort.Candidate;
+import tj.radolfa.application.ports.out.TierEvaluationBatchPort.Partition;
+import tj.radolfa.application.ports.out.TierEvaluationBatchPort.Progress;
+import tj.radolfa.application.ports.out.TierEvaluationBatchPort.RunStatus;
 import tj.radolfa.domain.model.LoyaltyTier;
-import tj.radolfa.domain.model.User;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.YearMonth;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Evaluates loyalty tier promotions and demotions for all non-permanent users
  * at the end of each calendar month.
  *
+ * <p>Runs as a chunked, resumable batch keyed by the evaluated month:
+ * <ol>
+ *   <li>The first trigger for a month creates the run — users are split into id-range
+ *       partitions and everyone's net spending is staged by one grouped aggregate.</li>
+ *   <li>Partitions are worked in parallel; each chunk of users is evaluated and its
+ *       checkpoint advanced in one transaction. A partition is only worked under its
+ *       {@link SchedulerLockPort} lease, so every backend instance can run the job and
+ *       the partitions are split between them.</li>
+ *   <li>Once every partition is done the run is marked completed. Triggering a
+ *       completed month again is a no-op; an interrupted run resumes from its
+ *       checkpoints against the same staged spending.</li>
+ * </ol>
+ *
  * <p>Called by {@link tj.radolfa.infrastructure.scheduling.MonthlyTierEvaluationJob}.
  */
 @Slf4j
 @Service
 public class MonthlyTierEvaluationService {
 
-    private final LoadUserPort           loadUserPort;
-    private final LoadLoyaltyTierPort    loadLoyaltyTierPort;
+    static final Duration PARTITION_LEASE = Duration.ofMinutes(5);
+
+    private final LoadLoyaltyTierPort      loadLoyaltyTierPort;
+    private final TierEvaluationBatchPort  batchPort;
     private final UserTierEvaluatorService userTierEvaluatorService;
+    private final LoyaltyTierCache         loyaltyTierCache;
+    private final SchedulerLockPort        schedulerLockPort;
+    private final int                      partitions;
+    private final int                      parallelism;
+    private final int                      chunkSize;
 
-    public MonthlyTierEvaluationService(LoadUserPort loadUserPort,
-                                        LoadLoyaltyTierPort loadLoyaltyTierPort,
-                                        UserTierEvaluatorService userTierEvaluatorService) {
-        this.loadUserPort            = loadUserPort;
-        this.loadLoyaltyTierPort     = loadLoyaltyTierPort;
+    public MonthlyTierEvaluationService(LoadLoyaltyTierPort loadLoyaltyTierPort,
+                                        TierEvaluationBatchPort batchPort,
+                                        UserTierEvaluatorService userTierEvaluatorService,
+                                        LoyaltyTierCache loyaltyTierCache,
+                                        SchedulerLockPort schedulerLockPort,
+                                        @Value("${radolfa.loyalty.tier-evaluation.partitions:16}") int partitions,
+                                        @Value("${radolfa.loyalty.tier-evaluation.parallelism:4}") int parallelism,
+                                        @Value("${radolfa.loyalty.tier-evaluation.chunk-size:200}") int chunkSize) {
+        this.loadLoyaltyTierPort      = loadLoyaltyTierPort;
+        this.batchPort                = batchPort;
         this.userTierEvaluatorService = userTierEvaluatorService;
+        this.loyaltyTierCache         = loyaltyTierCache;
+        this.schedulerLockPort        = schedulerLockPort;
+        this.partitions               = partitions;
+        this.parallelism              = parallelism;
+        this.chunkSize                = chunkSize;
+    }
+
+    /** Evaluates (or resumes evaluating) the previous calendar month. */
+    public void evaluatePreviousMonth() {
+        evaluate(YearMonth.now(ZoneOffset.UTC).minusMonths(1));
     }
 
     /**
-     * Evaluates the previous calendar month for all non-permanent users.
-     * Each user is saved in its own transaction to avoid a single oversized transaction.
+     * Evaluates {@code period} for all non-permanent users.
+     *
+     * @return {@code true} when the run for the month is complete
      */
-    public void evaluatePreviousMonth() {
-        YearMonth previousMonth = YearMonth.now(ZoneOffset.UTC).minusMonths(1);
-        Instant from = previousMonth.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
-        Instant to   = previousMonth.atEndOfMonth().plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    public boolean evaluate(YearMonth period) {
+        Optional<RunStatus> status = batchPort.findRunStatus(period);
+        if (status.isPresent() && status.get() == RunStatus.COMPLETED) {
+            log.info("Monthly tier evaluation for {} already completed — skipping", period);
+            return true;
+        }
+        if (status.isEmpty()) {
+            Instant from = period.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+            Instant to   = period.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+            batchPort.createRun(period, from, to, partitions);
+        }
 
         List<LoyaltyTier> allTiers = loadLoyaltyTierPort.findAll();
-        List<User> users = loadUserPort.findAllNonPermanent();
+        List<Partition> pending = batchPort.findPartitions(period).stream()
+                .filter(p -> !p.completed())
+                .toList();
+
+        log.info("Monthly tier evaluation {} for {} ({} partitions pending)",
+                status.isEmpty() ? "started" : "resumed", period, pending.size());
 
-        log.info("Monthly tier evaluation started for {} (evaluating {} users)", previousMonth, users.size());
+        Progress total = Progress.NONE;
+        boolean allDone = true;
+        int heldElsewhere = 0;
+        if (!pending.isEmpty()) {
+            try (ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, pending.size()))) {
+                List<Future<Optional<Progress>>> futures = new ArrayList<>();
+                for (Partition partition : pending) {
+                    futures.add(pool.submit(() -> claimAndRun(period, partition.number(), allTiers)));
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    try {
+                        Optional<Progress> progress = futures.get(i).get();
+                        if (progress.isPresent()) {
+                            total = total.plus(progress.get());
+                        } else {
+                            heldElsewhere++;
+                        }
+                    } catch (ExecutionException e) {
+                        allDone = false;
+                        log.error("Tier evaluation partition {} of {} stopped, will resume on next run: {}",
+                                pending.get(i).number(), period, e.getCause().getMessage(), e.getCause());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        allDone = false;
+                        break;
+                    }
+                }
+            }
+        }
 
-        int promoted = 0, demoted = 0, unchanged = 0;
+        if (allDone && heldElsewhere > 0) {
+            // Whichever instance finishes the last partition completes the run
+            allDone = batchPort.findPartitions(period).stream().allMatch(Partition::completed);
+            if (!allDone) {
+                log.info("Monthly tier evaluation for {}: {} partitions are being worked by another instance",
+                        period, heldElsewhere);
+                return false;
+            }
+        }
+
+        if (!allDone) {
+            log.warn("Monthly tier evaluation for {} incomplete — promoted={}, demoted={}, unchanged={}, failed={}",
+                    period, total.promoted(), total.demoted(), total.unchanged(), total.failed());
+            return false;
+        }
 
-        for (User user : users) {
+        batchPort.completeRun(period);
+        log.info("Monthly tier evaluation for {} complete — promoted={}, demoted={}, unchanged={}, failed={}",
+                period, total.promoted(), total.demoted(), total.unchanged(), total.failed());
+        return true;
+    }
+
+    /**
+     * Works the partition under its lease.
+     *
+     * @return empty when another instance holds the partition
+     */
+    private Optional<Progress> claimAndRun(YearMonth period, int number, List<LoyaltyTier> allTiers) {
+        Optional<Lease> lease = schedulerLockPort.tryAcquire(
+                "tier-evaluation:" + period + ":" + number, PARTITION_LEASE);
+        if (lease.isEmpty()) return Optional.empty();
+
+        try (Lease held = lease.get()) {
+            // Re-read under the lease: another instance may have advanced or finished it
+            Optional<Partition> partition = batchPort.findPartitions(period).stream()
+                    .filter(p -> p.number() == number)
+                    .findFirst();
+            if (partition.isEmpty() || partition.get().completed()) return Optional.of(Progress.NONE);
+            return Optional.of(runPartition(period, partition.get(), allTiers, held));
+        }
+    }
+
+    /** Works one partition chunk by chunk from its checkpoint to the end of its range. */
+    private Progress runPartition(YearMonth period, Partition partition, List<LoyaltyTier> allTiers, Lease lease) {
+        Progress progress = Progress.NONE;
+        long after = partition.lastUserId();
+        while (true) {
+            if (!lease.isHeld()) {
+                throw new IllegalStateException("Lease on partition " + partition.number() + " lost");
+            }
+            List<Candidate> chunk = batchPort.loadChunk(period, partition, after, chunkSize);
+            if (chunk.isEmpty()) break;
+
+            progress = progress.plus(evaluateChunk(period, partition.number(), chunk, allTiers));
+            // Chunk committed — storefront pricing must see the new tiers
+            loyaltyTierCache.invalidateUsers(chunk.stream().map(c -> c.user().id()).toList());
+            after = chunk.get(chunk.size() - 1).user().id();
+        }
+        batchPort.completePartition(period, partition.number());
+        log.debug("Tier evaluation partition {} of {} done ({} users)", partition.number(), period, progress.total());
+        return progress;
+    }
+
+    /**
+     * Evaluates a chunk in one transaction. If that fails, users are re-read and retried
+     * one by one so a single bad row cannot block the partition; evaluation is a pure
+     * function of the staged spending, so re-applying users of a rolled-back chunk is safe.
+     */
+    private Progress evaluateChunk(YearMonth period, int partition, List<Candidate> chunk, List<LoyaltyTier> allTiers) {
+        try {
+            return userTierEvaluatorService.evaluateChunk(period, partition, chunk, allTiers);
+        } catch (Exception chunkFailure) {
+            log.warn("Tier evaluation chunk failed in partition {} of {}, retrying per user: {}",
+                    partition, period, chunkFailure.getMessage());
+        }
+
+        int promoted = 0, demoted = 0, unchanged = 0, failed = 0;
+        for (Candidate candidate : chunk) {
             try {
-                Result result = userTierEvaluatorService.evaluate(user, from, to, allTiers);
-                switch (result) {
+                switch (userTierEvaluatorService.reevaluate(
+                        candidate.user().id(), candidate.netSpending(), allTiers)) {
                     case PROMOTED  -> promoted++;
                     case DEMOTED   -> demoted++;
                     case UNCHANGED -> unchanged++;
                 }
             } catch (Exception e) {
-                log.error("Failed to evaluate user id={}: {}", user.id(), e.getMessage(), e);
+                failed++;
+                log.error("Failed to evaluate user id={}: {}", candidate.user().id(), e.getMessage(), e);
             }
         }
-
-        log.info("Monthly tier evaluation complete — promoted={}, demoted={}, unchanged={}",
-                promoted, demoted, unchanged);
+        Progress progress = new Progress(promoted, demoted, unchanged, failed);
+        batchPort.checkpoint(period, partition, chunk.get(chunk.size() - 1).user().id(), progress);
+        return progress;
     }
 
     public enum Result { PROMOTED, DEMOTED, UNCHANGED }
@@ -0,0 +1,87 @@
+package tj.radolfa.application.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import tj.radolfa.application.ports.in.review.RecalculateRatingSummaryUseCase;
+import tj.radolfa.application.ports.in.review.RecordRatingChangeUseCase;
+import tj.radolfa.application.support.AfterCommit;
+import tj.radolfa.domain.model.RatingTotals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalescing buffer between moderation and the rating summary table.
+ *
+ * <p>A delta is added only after the moderating transaction commits, so a rolled-back
+ * approval never reaches the summary. Deltas for the same variant are merged in memory;
+ * {@link #flush()} (driven by {@code RatingSummaryFlushJob}) then writes each dirty
+ * variant once, however many reviews were moderated in between. A failed write is put
+ * back and retried on the next flush. Whatever is still pending at shutdown is flushed
+ * before the application context closes.
+ */
+@Slf4j
+@Service
+public class RatingSummaryUpdateQueue implements RecordRatingChangeUseCase {
+
+    private final RecalculateRatingSummaryUseCase recalcUseCase;
+    private final Map<Long, RatingTotals>         pending = new ConcurrentHashMap<>();
+
+    public RatingSummaryUpdateQueue(RecalculateRatingSummaryUseCase recalcUseCase) {
+        this.recalcUseCase = recalcUseCase;
+    }
+
+    @Override
+    public void record(Long listingVariantId, RatingTotals delta) {
+        if (delta.isEmpty()) return;
+
+        AfterCommit.run(() -> enqueue(listingVariantId, delta));
+    }
+
+    /**
+     * Applies every pending delta. Serialised so the scheduled flush and the
+     * shutdown flush never write the same variant concurrently.
+     *
+     * @return number of variants written
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) return 0;
+
+        int written = 0;
+        for (Long variantId : new ArrayList<>(pending.keySet())) {
+            RatingTotals delta = pending.remove(variantId);
+            if (delta == null || delta.isEmpty()) continue;
+            try {
+                recalcUseCase.applyDelta(variantId, delta);
+                written++;
+            } catch (Exception e) {
+                enqueue(variantId, delta);
+                log.warn("[RATING] Flush failed for variantId={}, will retry: {}", variantId, e.getMessage());
+            }
+        }
+        if (written > 0) {
+            log.debug("[RATING] Flushed {} rating summaries, {} still pending", written, pending.size());
+        }
+        return written;
+    }
+
+    /** Variants with an unflushed change — exposed for tests and monitoring. */
+    public List<Long> pendingVariantIds() {
+        return List.copyOf(pending.keySet());
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        int remaining = pending.size();
+        if (remaining == 0) return;
+        log.info("[RATING] Flushing {} pending rating summaries before shutdown", remaining);
+        flush();
+    }
+
+    private void enqueue(Long listingVariantId, RatingTotals delta) {
+        pending.merge(listingVariantId, delta, RatingTotals::plus);
+    }
+}
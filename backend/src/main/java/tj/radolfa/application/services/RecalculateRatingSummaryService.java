@@ -8,131 +8,106 @@ import tj.radolfa.application.ports.out.LoadRatingSummaryPort;
 import tj.radolfa.application.ports.out.LoadReviewPort;
 import tj.radolfa.application.ports.out.LoadReviewTraitPort;
 import tj.radolfa.application.ports.out.SaveRatingSummaryPort;
-import tj.radolfa.domain.model.MatchingSize;
+import tj.radolfa.domain.model.RatingTotals;
 import tj.radolfa.domain.model.Review;
 import tj.radolfa.domain.model.ReviewTrait;
 import tj.radolfa.domain.model.ReviewTraitInputType;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
+/**
+ * Maintains {@code product_rating_summaries}.
+ *
+ * <p>{@link #applyDelta} is the normal path: it adds one coalesced change to the stored
+ * running totals in O(1). {@link #execute} rebuilds a variant from all approved reviews
+ * and is kept for drift correction (the weekly sweep in {@code RatingSummaryFlushJob}) and
+ * as the fallback when the stored totals turn out to be inconsistent.
+ */
 @Slf4j
 @Service
 public class RecalculateRatingSummaryService implements RecalculateRatingSummaryUseCase {
 
     private final LoadReviewPort        loadReviewPort;
     private final LoadReviewTraitPort   loadReviewTraitPort;
+    private final LoadRatingSummaryPort loadRatingSummaryPort;
     private final SaveRatingSummaryPort saveRatingSummaryPort;
 
     public RecalculateRatingSummaryService(LoadReviewPort loadReviewPort,
                                            LoadReviewTraitPort loadReviewTraitPort,
+                                           LoadRatingSummaryPort loadRatingSummaryPort,
                                            SaveRatingSummaryPort saveRatingSummaryPort) {
         this.loadReviewPort        = loadReviewPort;
         this.loadReviewTraitPort   = loadReviewTraitPort;
+        this.loadRatingSummaryPort = loadRatingSummaryPort;
         this.saveRatingSummaryPort = saveRatingSummaryPort;
     }
 
     @Override
     @Transactional
     public void execute(Long listingVariantId) {
-        List<Review> approved = loadReviewPort.findAllApprovedByVariant(listingVariantId);
-
-        int reviewCount = approved.size();
-
-        if (reviewCount == 0) {
-            saveRatingSummaryPort.upsert(listingVariantId,
-                    BigDecimal.ZERO, 0, zeroDistribution(), 0, 0, 0, List.of());
-            return;
+        RatingTotals totals = RatingTotals.EMPTY;
+        for (Review r : loadReviewPort.findAllApprovedByVariant(listingVariantId)) {
+            totals = totals.plus(RatingTotals.ofReview(r));
         }
+        save(listingVariantId, totals);
 
-        int ratingSum = approved.stream().mapToInt(Review::getRating).sum();
-        BigDecimal averageRating = BigDecimal.valueOf(ratingSum)
-                .divide(BigDecimal.valueOf(reviewCount), 2, RoundingMode.HALF_UP);
-
-        Map<Integer, Integer> distribution = zeroDistribution();
-        for (Review r : approved) {
-            distribution.merge(r.getRating(), 1, Integer::sum);
-        }
+        log.info("[RATING] Recalculated variantId={} count={} avg={}",
+                listingVariantId, totals.reviewCount(), totals.averageRating());
+    }
 
-        int sizeAccurate   = 0;
-        int sizeRunsSmall  = 0;
-        int sizeRunsLarge  = 0;
-        for (Review r : approved) {
-            if (r.getMatchingSize() == null) continue;
-            if (r.getMatchingSize() == MatchingSize.ACCURATE)        sizeAccurate++;
-            else if (r.getMatchingSize() == MatchingSize.RUNS_SMALL) sizeRunsSmall++;
-            else if (r.getMatchingSize() == MatchingSize.RUNS_LARGE) sizeRunsLarge++;
+    @Override
+    @Transactional
+    public void applyDelta(Long listingVariantId, RatingTotals delta) {
+        RatingTotals current = loadRatingSummaryPort.findTotalsForUpdate(listingVariantId)
+                .orElse(RatingTotals.EMPTY);
+        RatingTotals updated = current.plus(delta);
+
+        if (isInconsistent(updated)) {
+            log.warn("[RATING] Totals for variantId={} would go negative — rebuilding from reviews",
+                    listingVariantId);
+            execute(listingVariantId);
+            return;
         }
 
-        List<LoadRatingSummaryPort.TraitAggregateView> traitAggregates =
-                computeTraitAggregates(listingVariantId, approved);
+        save(listingVariantId, updated);
+        log.debug("[RATING] Applied delta variantId={} count={} avg={}",
+                listingVariantId, updated.reviewCount(), updated.averageRating());
+    }
 
-        saveRatingSummaryPort.upsert(listingVariantId,
-                averageRating, reviewCount, distribution,
-                sizeAccurate, sizeRunsSmall, sizeRunsLarge,
-                traitAggregates);
+    // ---- Private -------------------------------------------------------
 
-        log.info("[RATING] Recalculated variantId={} count={} avg={} traits={}",
-                listingVariantId, reviewCount, averageRating, traitAggregates.size());
+    private void save(Long listingVariantId, RatingTotals totals) {
+        saveRatingSummaryPort.upsert(listingVariantId, totals,
+                computeTraitAggregates(listingVariantId, totals));
     }
 
     private List<LoadRatingSummaryPort.TraitAggregateView> computeTraitAggregates(
-            Long listingVariantId, List<Review> approved) {
+            Long listingVariantId, RatingTotals totals) {
 
-        List<ReviewTrait> traits = loadReviewTraitPort.findByVariantId(listingVariantId);
-        if (traits.isEmpty()) return List.of();
+        if (totals.traitTotals().isEmpty()) return List.of();
 
         // Only SLIDER traits produce a numeric average
-        Map<String, ReviewTrait> sliderTraitByKey = new HashMap<>();
-        for (ReviewTrait t : traits) {
-            if (t.getInputType() == ReviewTraitInputType.SLIDER) {
-                sliderTraitByKey.put(t.getKey(), t);
-            }
-        }
-        if (sliderTraitByKey.isEmpty()) return List.of();
-
-        // Accumulate: traitKey → [sum, count]
-        Map<String, BigDecimal[]> totals = new HashMap<>();
-        for (Review r : approved) {
-            Map<String, Object> answers = r.getTraitAnswers();
-            if (answers == null) continue;
-            for (Map.Entry<String, Object> entry : answers.entrySet()) {
-                String key = entry.getKey();
-                if (!sliderTraitByKey.containsKey(key)) continue;
-                BigDecimal val;
-                try {
-                    val = new BigDecimal(entry.getValue().toString());
-                } catch (NumberFormatException ignored) {
-                    continue;
-                }
-                totals.computeIfAbsent(key, k -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
-                totals.get(key)[0] = totals.get(key)[0].add(val);
-                totals.get(key)[1] = totals.get(key)[1].add(BigDecimal.ONE);
-            }
-        }
-
         List<LoadRatingSummaryPort.TraitAggregateView> result = new ArrayList<>();
-        for (ReviewTrait trait : traits) {
+        for (ReviewTrait trait : loadReviewTraitPort.findByVariantId(listingVariantId)) {
             if (trait.getInputType() != ReviewTraitInputType.SLIDER) continue;
-            BigDecimal[] t = totals.get(trait.getKey());
-            if (t == null || t[1].compareTo(BigDecimal.ZERO) == 0) continue;
-            BigDecimal average = t[0].divide(t[1], 2, RoundingMode.HALF_UP);
+            RatingTotals.TraitTotal t = totals.traitTotals().get(trait.getKey());
+            if (t == null || t.count() <= 0) continue;
             result.add(new LoadRatingSummaryPort.TraitAggregateView(
                     trait.getKey(),
                     trait.getLabelI18n(),
                     trait.getInputType(),
-                    average,
-                    t[1].intValue()
+                    t.average(),
+                    t.count()
             ));
         }
         return result;
     }
 
-    private static Map<Integer, Integer> zeroDistribution() {
-        return new java.util.HashMap<>(Map.of(1, 0, 2, 0, 3, 0, 4, 0, 5, 0));
+    private static boolean isInconsistent(RatingTotals t) {
+        return t.reviewCount() < 0 || t.ratingSum() < 0
+                || t.count1() < 0 || t.count2() < 0 || t.count3() < 0 || t.count4() < 0 || t.count5() < 0
+                || t.sizeAccurate() < 0 || t.sizeRunsSmall() < 0 || t.sizeRunsLarge() < 0
+                || t.traitTotals().values().stream().anyMatch(tt -> tt.count() < 0);
     }
 }
@@ -0,0 +1,50 @@
+package tj.radolfa.application.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tj.radolfa.application.ports.in.payment.RecordPaymentCallbackUseCase;
+import tj.radolfa.application.ports.out.JobQueuePort;
+import tj.radolfa.application.ports.out.JobQueuePort.Stage;
+import tj.radolfa.application.ports.out.LoadPaymentPort;
+import tj.radolfa.domain.model.Payment;
+import tj.radolfa.domain.model.PaymentStatus;
+
+/**
+ * Records a payment callback as a {@link Stage#PAYMENT_CONFIRMATION} job.
+ *
+ * <p>Redelivered callbacks are absorbed by the job key (the provider transaction ID),
+ * so the provider can be acknowledged as soon as this transaction commits. A redelivery
+ * for a confirmation that was parked as dead queues it again.
+ */
+@Service
+public class RecordPaymentCallbackService implements RecordPaymentCallbackUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RecordPaymentCallbackService.class);
+
+    private final LoadPaymentPort loadPaymentPort;
+    private final JobQueuePort    jobQueuePort;
+
+    public RecordPaymentCallbackService(LoadPaymentPort loadPaymentPort, JobQueuePort jobQueuePort) {
+        this.loadPaymentPort = loadPaymentPort;
+        this.jobQueuePort    = jobQueuePort;
+    }
+
+    @Override
+    @Transactional
+    public void execute(String providerTransactionId) {
+        Payment payment = loadPaymentPort.findByProviderTransactionId(providerTransactionId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "No payment found for transaction: " + providerTransactionId));
+
+        if (payment.status() == PaymentStatus.COMPLETED) {
+            log.info("[PaymentCallback] Already COMPLETED — skipping. tx={}", providerTransactionId);
+            return;
+        }
+
+        if (!jobQueuePort.enqueue(Stage.PAYMENT_CONFIRMATION, providerTransactionId, null)) {
+            log.info("[PaymentCallback] Callback already recorded. tx={}", providerTransactionId);
+        }
+    }
+}
@@ -4,33 +4,32 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tj.radolfa.application.ports.in.loyalty.RedeemLoyaltyPointsUseCase;
 import tj.radolfa.application.ports.out.LoadUserPort;
-import tj.radolfa.application.ports.out.SaveUserPort;
-import tj.radolfa.domain.model.LoyaltyProfile;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort.Reason;
 import tj.radolfa.domain.model.Money;
-import tj.radolfa.domain.model.User;
 import tj.radolfa.domain.service.LoyaltyCalculator;
 
 /**
  * Deducts loyalty points from a user's balance during checkout.
  *
  * <p>Points are deducted <em>pessimistically</em> (before payment) to prevent
- * double-spend across concurrent sessions. If the payment is subsequently
- * refunded or cancelled, the calling service is responsible for restoring
- * the deducted points.
+ * double-spend across concurrent sessions: the ledger debit is conditional on the
+ * balance at the moment it is recorded. If the payment is subsequently refunded or
+ * cancelled, the calling service is responsible for restoring the deducted points.
  */
 @Service
 @Transactional
 public class RedeemLoyaltyPointsService implements RedeemLoyaltyPointsUseCase {
 
-    private final LoadUserPort      loadUserPort;
-    private final SaveUserPort      saveUserPort;
-    private final LoyaltyCalculator loyaltyCalculator;
+    private final LoadUserPort            loadUserPort;
+    private final LoyaltyPointsLedgerPort ledger;
+    private final LoyaltyCalculator       loyaltyCalculator;
 
     public RedeemLoyaltyPointsService(LoadUserPort loadUserPort,
-                                      SaveUserPort saveUserPort,
+                                      LoyaltyPointsLedgerPort ledger,
                                       LoyaltyCalculator loyaltyCalculator) {
         this.loadUserPort      = loadUserPort;
-        this.saveUserPort      = saveUserPort;
+        this.ledger            = ledger;
         this.loyaltyCalculator = loyaltyCalculator;
     }
 
@@ -40,31 +39,15 @@ public class RedeemLoyaltyPointsService implements RedeemLoyaltyPointsUseCase {
             throw new IllegalArgumentException("pointsToRedeem must be positive, got: " + pointsToRedeem);
         }
 
-        User user = loadUserPort.loadById(userId)
+        loadUserPort.loadById(userId)
                 .orElseThrow(() -> new IllegalStateException("User not found: " + userId));
 
-        LoyaltyProfile profile = user.loyalty();
-        if (profile.points() < pointsToRedeem) {
+        if (!ledger.tryDebit(userId, pointsToRedeem, Reason.REDEEM, null)) {
             throw new IllegalArgumentException(
-                    "Insufficient points: available=" + profile.points() +
+                    "Insufficient points: available=" + ledger.balance(userId) +
                     ", requested=" + pointsToRedeem);
         }
 
-        Money moneyValue = loyaltyCalculator.pointsToMoney(pointsToRedeem);
-
-        LoyaltyProfile deducted = new LoyaltyProfile(
-                profile.tier(),
-                profile.points() - pointsToRedeem,
-                profile.spendToNextTier(),
-                profile.spendToMaintainTier(),
-                profile.currentMonthSpending(),
-                profile.permanent(),
-                profile.lowestTierEver());
-
-        saveUserPort.save(new User(
-                user.id(), user.phone(), user.role(), user.name(),
-                user.email(), deducted, user.enabled(), user.version()));
-
-        return moneyValue;
+        return loyaltyCalculator.pointsToMoney(pointsToRedeem);
     }
 }
@@ -4,9 +4,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tj.radolfa.application.ports.in.loyalty.RestoreLoyaltyPointsUseCase;
 import tj.radolfa.application.ports.out.LoadUserPort;
-import tj.radolfa.application.ports.out.SaveUserPort;
-import tj.radolfa.domain.model.LoyaltyProfile;
-import tj.radolfa.domain.model.User;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort.Reason;
 
 /**
  * Credits loyalty points back to a user's balance when an order is cancelled.
@@ -18,12 +17,12 @@ import tj.radolfa.domain.model.User;
 @Transactional
 public class RestoreLoyaltyPointsService implements RestoreLoyaltyPointsUseCase {
 
-    private final LoadUserPort loadUserPort;
-    private final SaveUserPort saveUserPort;
+    private final LoadUserPort            loadUserPort;
+    private final LoyaltyPointsLedgerPort ledger;
 
-    public RestoreLoyaltyPointsService(LoadUserPort loadUserPort, SaveUserPort saveUserPort) {
+    public RestoreLoyaltyPointsService(LoadUserPort loadUserPort, LoyaltyPointsLedgerPort ledger) {
         this.loadUserPort = loadUserPort;
-        this.saveUserPort = saveUserPort;
+        this.ledger       = ledger;
     }
 
     @Override
@@ -32,21 +31,9 @@ public class RestoreLoyaltyPointsService implements RestoreLoyaltyPointsUseCase
             throw new IllegalArgumentException("pointsToRestore must be positive, got: " + pointsToRestore);
         }
 
-        User user = loadUserPort.loadById(userId)
+        loadUserPort.loadById(userId)
                 .orElseThrow(() -> new IllegalStateException("User not found: " + userId));
 
-        LoyaltyProfile profile = user.loyalty();
-        LoyaltyProfile restored = new LoyaltyProfile(
-                profile.tier(),
-                profile.points() + pointsToRestore,
-                profile.spendToNextTier(),
-                profile.spendToMaintainTier(),
-                profile.currentMonthSpending(),
-                profile.permanent(),
-                profile.lowestTierEver());
-
-        saveUserPort.save(new User(
-                user.id(), user.phone(), user.role(), user.name(),
-                user.email(), restored, user.enabled(), user.version()));
+        ledger.credit(userId, pointsToRestore, Reason.RESTORE, null);
     }
 }
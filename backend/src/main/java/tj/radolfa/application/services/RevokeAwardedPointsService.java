@@ -4,9 +4,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tj.radolfa.application.ports.in.loyalty.RevokeAwardedPointsUseCase;
 import tj.radolfa.application.ports.out.LoadUserPort;
-import tj.radolfa.application.ports.out.SaveUserPort;
-import tj.radolfa.domain.model.LoyaltyProfile;
-import tj.radolfa.domain.model.User;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort.Reason;
 
 /**
  * Deducts cashback points that were awarded after a payment that is now refunded.
@@ -18,12 +17,12 @@ import tj.radolfa.domain.model.User;
 @Transactional
 public class RevokeAwardedPointsService implements RevokeAwardedPointsUseCase {
 
-    private final LoadUserPort loadUserPort;
-    private final SaveUserPort saveUserPort;
+    private final LoadUserPort            loadUserPort;
+    private final LoyaltyPointsLedgerPort ledger;
 
-    public RevokeAwardedPointsService(LoadUserPort loadUserPort, SaveUserPort saveUserPort) {
+    public RevokeAwardedPointsService(LoadUserPort loadUserPort, LoyaltyPointsLedgerPort ledger) {
         this.loadUserPort = loadUserPort;
-        this.saveUserPort = saveUserPort;
+        this.ledger       = ledger;
     }
 
     @Override
@@ -32,23 +31,9 @@ public class RevokeAwardedPointsService implements RevokeAwardedPointsUseCase {
             throw new IllegalArgumentException("pointsToRevoke must be positive, got: " + pointsToRevoke);
         }
 
-        User user = loadUserPort.loadById(userId)
+        loadUserPort.loadById(userId)
                 .orElseThrow(() -> new IllegalStateException("User not found: " + userId));
 
-        LoyaltyProfile profile = user.loyalty();
-        int newBalance = Math.max(0, profile.points() - pointsToRevoke);
-
-        LoyaltyProfile revoked = new LoyaltyProfile(
-                profile.tier(),
-                newBalance,
-                profile.spendToNextTier(),
-                profile.spendToMaintainTier(),
-                profile.currentMonthSpending(),
-                profile.permanent(),
-                profile.lowestTierEver());
-
-        saveUserPort.save(new User(
-                user.id(), user.phone(), user.role(), user.name(),
-                user.email(), revoked, user.enabled(), user.version()));
+        ledger.debitUpTo(userId, pointsToRevoke, Reason.REVOKE, null);
     }
 }
@@ -3,24 +3,26 @@ package tj.radolfa.application.services;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tj.radolfa.application.ports.in.cart.UpdateCartItemQuantityUseCase;
+import tj.radolfa.application.ports.out.LoadCartLinePort;
 import tj.radolfa.application.ports.out.LoadCartPort;
-import tj.radolfa.application.ports.out.LoadSkuPort;
 import tj.radolfa.application.ports.out.SaveCartPort;
 import tj.radolfa.domain.model.Cart;
 
+import java.util.List;
+
 @Service
 public class UpdateCartItemQuantityService implements UpdateCartItemQuantityUseCase {
 
-    private final LoadCartPort loadCartPort;
-    private final SaveCartPort saveCartPort;
-    private final LoadSkuPort  loadSkuPort;
+    private final LoadCartPort     loadCartPort;
+    private final SaveCartPort     saveCartPort;
+    private final LoadCartLinePort loadCartLinePort;
 
     public UpdateCartItemQuantityService(LoadCartPort loadCartPort,
                                          SaveCartPort saveCartPort,
-                                         LoadSkuPort loadSkuPort) {
-        this.loadCartPort = loadCartPort;
-        this.saveCartPort = saveCartPort;
-        this.loadSkuPort  = loadSkuPort;
+                                         LoadCartLinePort loadCartLinePort) {
+        this.loadCartPort     = loadCartPort;
+        this.saveCartPort     = saveCartPort;
+        this.loadCartLinePort = loadCartLinePort;
     }
 
     @Override
@@ -30,9 +32,9 @@ public class UpdateCartItemQuantityService implements UpdateCartItemQuantityUseC
                 .orElseThrow(() -> new IllegalStateException("No active cart for user: " + userId));
 
         if (newQuantity > 0) {
-            int available = loadSkuPort.findSkuById(skuId)
-                    .map(s -> s.getStockQuantity() != null ? s.getStockQuantity() : 0)
-                    .orElseThrow(() -> new IllegalArgumentException("SKU not found: " + skuId));
+            LoadCartLinePort.CartLine line = loadCartLinePort.findBySkuIds(List.of(skuId)).get(skuId);
+            if (line == null) throw new IllegalArgumentException("SKU not found: " + skuId);
+            int available = line.stockQuantity();
 
             if (available < newQuantity) {
                 throw new IllegalStateException(
@@ -20,11 +20,14 @@ public class UpdateLoyaltyTierService implements UpdateLoyaltyTierUseCase {
 
     private final LoadLoyaltyTierPort loadLoyaltyTierPort;
     private final SaveLoyaltyTierPort saveLoyaltyTierPort;
+    private final LoyaltyTierCache    loyaltyTierCache;
 
     public UpdateLoyaltyTierService(LoadLoyaltyTierPort loadLoyaltyTierPort,
-                                    SaveLoyaltyTierPort saveLoyaltyTierPort) {
+                                    SaveLoyaltyTierPort saveLoyaltyTierPort,
+                                    LoyaltyTierCache loyaltyTierCache) {
         this.loadLoyaltyTierPort = loadLoyaltyTierPort;
         this.saveLoyaltyTierPort = saveLoyaltyTierPort;
+        this.loyaltyTierCache    = loyaltyTierCache;
     }
 
     @Override
@@ -49,6 +52,7 @@ public class UpdateLoyaltyTierService implements UpdateLoyaltyTierUseCase {
                 command.color());
 
         saveLoyaltyTierPort.save(updated);
+        loyaltyTierCache.invalidateTiers();
         LOG.info("[TIER-UPDATE] Updated color for tier={} to {}", tier.name(), command.color());
     }
 }
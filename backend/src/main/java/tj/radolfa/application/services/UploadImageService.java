@@ -1,51 +1,57 @@
 package tj.radolfa.application.services;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import tj.radolfa.application.ports.in.UpdateListingUseCase;
 import tj.radolfa.application.ports.in.UploadImageUseCase;
-import tj.radolfa.application.ports.out.ImageProcessingPort;
-import tj.radolfa.application.ports.out.ImageUploadPort;
 import tj.radolfa.application.ports.out.LoadListingVariantPort;
-import tj.radolfa.application.ports.out.ProcessedImage;
-import tj.radolfa.application.ports.out.SaveListingVariantPort;
-import tj.radolfa.domain.model.ListingVariant;
 
 import java.io.InputStream;
 import java.util.UUID;
 
+/**
+ * Accepts a listing image and renders it in the background.
+ *
+ * <p>The request only checks the listing and buffers the upload; the renditions are
+ * produced and stored by {@link ImageRenditionPipeline}, and the primary URL is appended
+ * to the gallery once all of them are in storage.
+ */
+@Slf4j
 @Service
-@Transactional
 public class UploadImageService implements UploadImageUseCase {
 
     private final LoadListingVariantPort loadListingVariantPort;
-    private final SaveListingVariantPort saveListingVariantPort;
-    private final ImageProcessingPort imageProcessingPort;
-    private final ImageUploadPort imageUploadPort;
+    private final UpdateListingUseCase   updateListingUseCase;
+    private final ImageRenditionPipeline pipeline;
 
     public UploadImageService(LoadListingVariantPort loadListingVariantPort,
-                              SaveListingVariantPort saveListingVariantPort,
-                              ImageProcessingPort imageProcessingPort,
-                              ImageUploadPort imageUploadPort) {
+                              UpdateListingUseCase updateListingUseCase,
+                              ImageRenditionPipeline pipeline) {
         this.loadListingVariantPort = loadListingVariantPort;
-        this.saveListingVariantPort = saveListingVariantPort;
-        this.imageProcessingPort = imageProcessingPort;
-        this.imageUploadPort = imageUploadPort;
+        this.updateListingUseCase   = updateListingUseCase;
+        this.pipeline               = pipeline;
     }
 
     @Override
     public String upload(String slug, InputStream imageStream, String originalFilename) {
-        ListingVariant variant = loadListingVariantPort.findBySlug(slug)
+        loadListingVariantPort.findBySlug(slug)
                 .orElseThrow(() -> new IllegalArgumentException("Listing not found: " + slug));
 
-        ProcessedImage processed = imageProcessingPort.process(imageStream, originalFilename);
-
-        String objectKey = "products/" + slug + "/" + UUID.randomUUID() + "." + processed.extension();
-        String publicUrl = imageUploadPort.upload(processed.data(), objectKey, processed.contentType());
-
-        variant.addImage(publicUrl);
-        saveListingVariantPort.save(variant);
-
-        return publicUrl;
+        String keyPrefix = "products/" + slug + "/" + UUID.randomUUID();
+        pipeline.submit(keyPrefix, imageStream, originalFilename)
+                .whenComplete((url, failure) -> {
+                    if (failure != null) {
+                        log.error("[IMAGE] Processing image {} for slug={} failed: {}",
+                                originalFilename, slug, failure.getMessage(), failure);
+                        return;
+                    }
+                    try {
+                        updateListingUseCase.addImage(slug, url);
+                    } catch (Exception e) {
+                        log.error("[IMAGE] Attaching {} to slug={} failed: {}", url, slug, e.getMessage());
+                    }
+                });
+
+        return pipeline.primaryUrl(keyPrefix);
     }
 }
@@ -3,20 +3,23 @@ package tj.radolfa.application.services;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tj.radolfa.application.ports.out.LoadMonthlySpendingPort;
+import tj.radolfa.application.ports.out.LoadUserPort;
 import tj.radolfa.application.ports.out.SaveUserPort;
+import tj.radolfa.application.ports.out.TierEvaluationBatchPort;
+import tj.radolfa.application.ports.out.TierEvaluationBatchPort.Candidate;
+import tj.radolfa.application.ports.out.TierEvaluationBatchPort.Progress;
 import tj.radolfa.domain.model.LoyaltyProfile;
 import tj.radolfa.domain.model.LoyaltyTier;
 import tj.radolfa.domain.model.User;
 import tj.radolfa.domain.service.LoyaltyCalculator;
 
 import java.math.BigDecimal;
-import java.time.Instant;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Objects;
 
 /**
- * Evaluates and persists the loyalty tier change for a single user.
+ * Evaluates and persists loyalty tier changes, one chunk of users per transaction.
  * Extracted into its own bean so that {@code @Transactional} is applied
  * through the Spring proxy (self-invocation from
  * {@link MonthlyTierEvaluationService} would bypass the proxy).
@@ -25,24 +28,60 @@ import java.util.Objects;
 @Service
 public class UserTierEvaluatorService {
 
+    private final LoadUserPort            loadUserPort;
     private final SaveUserPort            saveUserPort;
-    private final LoadMonthlySpendingPort loadMonthlySpendingPort;
+    private final TierEvaluationBatchPort batchPort;
     private final LoyaltyCalculator       loyaltyCalculator;
 
-    public UserTierEvaluatorService(SaveUserPort saveUserPort,
-                                    LoadMonthlySpendingPort loadMonthlySpendingPort,
+    public UserTierEvaluatorService(LoadUserPort loadUserPort,
+                                    SaveUserPort saveUserPort,
+                                    TierEvaluationBatchPort batchPort,
                                     LoyaltyCalculator loyaltyCalculator) {
-        this.saveUserPort            = saveUserPort;
-        this.loadMonthlySpendingPort = loadMonthlySpendingPort;
-        this.loyaltyCalculator       = loyaltyCalculator;
+        this.loadUserPort      = loadUserPort;
+        this.saveUserPort      = saveUserPort;
+        this.batchPort         = batchPort;
+        this.loyaltyCalculator = loyaltyCalculator;
     }
 
+    /**
+     * Evaluates a chunk of users and advances the partition checkpoint in the same
+     * transaction, so a chunk is either fully applied and checkpointed or not at all.
+     */
+    @Transactional
+    public Progress evaluateChunk(YearMonth period, int partition,
+                                  List<Candidate> chunk, List<LoyaltyTier> allTiers) {
+        int promoted = 0, demoted = 0, unchanged = 0;
+        for (Candidate candidate : chunk) {
+            switch (evaluate(candidate.user(), candidate.netSpending(), allTiers)) {
+                case PROMOTED  -> promoted++;
+                case DEMOTED   -> demoted++;
+                case UNCHANGED -> unchanged++;
+            }
+        }
+        Progress progress = new Progress(promoted, demoted, unchanged, 0);
+        batchPort.checkpoint(period, partition, chunk.get(chunk.size() - 1).user().id(), progress);
+        return progress;
+    }
+
+    /**
+     * Re-reads the user and evaluates them in a transaction of their own — the fallback
+     * when a chunk fails. A chunk usually fails because a concurrent save bumped one
+     * user's version, so the chunk's copy of that user cannot be saved again.
+     */
+    @Transactional
+    public MonthlyTierEvaluationService.Result reevaluate(Long userId,
+                                                          BigDecimal netSpending,
+                                                          List<LoyaltyTier> allTiers) {
+        User user = loadUserPort.loadById(userId)
+                .orElseThrow(() -> new IllegalStateException("User not found: " + userId));
+        return evaluate(user, netSpending, allTiers);
+    }
+
+    /** Evaluates a single user against the previous month's net spending. */
     @Transactional
     public MonthlyTierEvaluationService.Result evaluate(User user,
-                                                        Instant from,
-                                                        Instant to,
+                                                        BigDecimal netSpending,
                                                         List<LoyaltyTier> allTiers) {
-        BigDecimal netSpending = loadMonthlySpendingPort.calculateNetSpending(user.id(), from, to);
         LoyaltyProfile current = user.loyalty();
         LoyaltyProfile updated = loyaltyCalculator.evaluateMonthlyTier(netSpending, current, allTiers);
 
@@ -0,0 +1,29 @@
+package tj.radolfa.application.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers in-memory side effects (cache updates, buffered deltas, meters) until the
+ * surrounding transaction commits, so a rollback never leaves them behind.
+ *
+ * <p>Kept in the application layer so services and adapters can share it.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    /** Runs {@code action} once the current transaction commits; at once when there is none. */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
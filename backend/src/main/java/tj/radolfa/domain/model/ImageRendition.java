@@ -0,0 +1,63 @@
+package tj.radolfa.domain.model;
+
+import java.util.Locale;
+
+/**
+ * Sizes every uploaded image is rendered at, smallest first.
+ *
+ * <p>The renditions of one upload share a folder and differ only in file name
+ * ({@code .../{uuid}/thumb.webp}, {@code .../{uuid}/card.webp}, ...). Variants store the
+ * {@link #PRIMARY} URL; any other size is derived from it with {@link #url}.
+ * Images uploaded before renditions existed keep their single URL for every size.
+ *
+ * <p>Pure Java — zero Spring / JPA / Jackson / Lombok dependencies.
+ */
+public enum ImageRendition {
+
+    /** Swatches, cart and order lines. */
+    THUMB(240),
+    /** Listing grid cards. */
+    CARD(640),
+    /** Product page gallery. */
+    DETAIL(1280),
+    /** Full-screen zoom. */
+    ZOOM(1920);
+
+    /** The rendition stored on the variant and handed back by uploads. */
+    public static final ImageRendition PRIMARY = DETAIL;
+
+    private final int maxSize;
+
+    ImageRendition(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /** Longest edge in pixels; smaller images are not upscaled. */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public String fileName(String extension) {
+        return name().toLowerCase(Locale.ROOT) + "." + extension;
+    }
+
+    /**
+     * URL of {@code rendition} for an image URL of any rendition of the same upload.
+     * URLs that are not part of a rendition set are returned unchanged.
+     */
+    public static String url(String imageUrl, ImageRendition rendition) {
+        if (imageUrl == null) return null;
+        int slash = imageUrl.lastIndexOf('/');
+        int dot   = imageUrl.lastIndexOf('.');
+        if (slash < 0 || dot < slash) return imageUrl;
+
+        String name = imageUrl.substring(slash + 1, dot);
+        for (ImageRendition r : values()) {
+            if (r.name().toLowerCase(Locale.ROOT).equals(name)) {
+                return imageUrl.substring(0, slash + 1) + rendition.name().toLowerCase(Locale.ROOT)
+                        + imageUrl.substring(dot);
+            }
+        }
+        return imageUrl;
+    }
+}
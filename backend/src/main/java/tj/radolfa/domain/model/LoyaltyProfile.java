@@ -14,4 +14,9 @@ public record LoyaltyProfile(
     public static LoyaltyProfile empty() {
         return new LoyaltyProfile(null, 0, null, null, null, false, null);
     }
+
+    public LoyaltyProfile withPoints(int points) {
+        return new LoyaltyProfile(tier, points, spendToNextTier, spendToMaintainTier,
+                currentMonthSpending, permanent, lowestTierEver);
+    }
 }
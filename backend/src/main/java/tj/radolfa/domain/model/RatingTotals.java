@@ -0,0 +1,127 @@
+package tj.radolfa.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running sums behind a variant's rating summary.
+ *
+ * <p>The same shape serves as both the stored aggregate and a signed change to it:
+ * {@link #ofReview(Review)} is the contribution of one approved review, its
+ * {@link #negate()} removes it again, and {@link #plus(RatingTotals)} folds changes
+ * together in O(1) regardless of how many reviews the variant has.
+ *
+ * <p>Trait totals are kept for every numeric answer; which of them are shown as
+ * averages (SLIDER traits only) is decided when the summary is rendered.
+ */
+public record RatingTotals(
+        int reviewCount,
+        long ratingSum,
+        int count1,
+        int count2,
+        int count3,
+        int count4,
+        int count5,
+        int sizeAccurate,
+        int sizeRunsSmall,
+        int sizeRunsLarge,
+        Map<String, TraitTotal> traitTotals
+) {
+
+    public static final RatingTotals EMPTY = new RatingTotals(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, Map.of());
+
+    public RatingTotals {
+        traitTotals = traitTotals == null ? Map.of() : Map.copyOf(traitTotals);
+    }
+
+    /** Sum and count of numeric answers for one trait key. */
+    public record TraitTotal(BigDecimal sum, int count) {
+
+        TraitTotal plus(TraitTotal other) {
+            return new TraitTotal(sum.add(other.sum), count + other.count);
+        }
+
+        TraitTotal negate() {
+            return new TraitTotal(sum.negate(), -count);
+        }
+
+        public BigDecimal average() {
+            return count == 0 ? BigDecimal.ZERO
+                    : sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+        }
+    }
+
+    /** Contribution of a single review to the totals. */
+    public static RatingTotals ofReview(Review review) {
+        int rating = review.getRating();
+        MatchingSize size = review.getMatchingSize();
+
+        Map<String, TraitTotal> traits = new HashMap<>();
+        Map<String, Object> answers = review.getTraitAnswers();
+        if (answers != null) {
+            for (Map.Entry<String, Object> entry : answers.entrySet()) {
+                if (entry.getValue() == null) continue;
+                try {
+                    traits.put(entry.getKey(), new TraitTotal(new BigDecimal(entry.getValue().toString()), 1));
+                } catch (NumberFormatException ignored) {
+                    // Non-numeric answers (RADIO etc.) never produce an average
+                }
+            }
+        }
+
+        return new RatingTotals(1, rating,
+                rating == 1 ? 1 : 0,
+                rating == 2 ? 1 : 0,
+                rating == 3 ? 1 : 0,
+                rating == 4 ? 1 : 0,
+                rating == 5 ? 1 : 0,
+                size == MatchingSize.ACCURATE   ? 1 : 0,
+                size == MatchingSize.RUNS_SMALL ? 1 : 0,
+                size == MatchingSize.RUNS_LARGE ? 1 : 0,
+                traits);
+    }
+
+    public RatingTotals plus(RatingTotals other) {
+        Map<String, TraitTotal> traits = new HashMap<>(traitTotals);
+        other.traitTotals.forEach((key, t) -> traits.merge(key, t, TraitTotal::plus));
+        traits.values().removeIf(t -> t.count() == 0);
+
+        return new RatingTotals(
+                reviewCount   + other.reviewCount,
+                ratingSum     + other.ratingSum,
+                count1        + other.count1,
+                count2        + other.count2,
+                count3        + other.count3,
+                count4        + other.count4,
+                count5        + other.count5,
+                sizeAccurate  + other.sizeAccurate,
+                sizeRunsSmall + other.sizeRunsSmall,
+                sizeRunsLarge + other.sizeRunsLarge,
+                traits);
+    }
+
+    public RatingTotals negate() {
+        Map<String, TraitTotal> traits = new HashMap<>();
+        traitTotals.forEach((key, t) -> traits.put(key, t.negate()));
+        return new RatingTotals(-reviewCount, -ratingSum,
+                -count1, -count2, -count3, -count4, -count5,
+                -sizeAccurate, -sizeRunsSmall, -sizeRunsLarge, traits);
+    }
+
+    public boolean isEmpty() {
+        return this.equals(EMPTY);
+    }
+
+    /** Mean star rating rounded to two decimals; zero when there are no reviews. */
+    public BigDecimal averageRating() {
+        return reviewCount <= 0 ? BigDecimal.ZERO
+                : BigDecimal.valueOf(ratingSum).divide(BigDecimal.valueOf(reviewCount), 2, RoundingMode.HALF_UP);
+    }
+
+    /** Star value (1–5) → number of reviews. */
+    public Map<Integer, Integer> distribution() {
+        return Map.of(1, count1, 2, count2, 3, count3, 4, count4, 5, count5);
+    }
+}
@@ -0,0 +1,225 @@
+package tj.radolfa.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tj.radolfa.application.ports.out.CacheInvalidationPort.Subscriber;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+import tj.radolfa.infrastructure.persistence.adapter.CacheInvalidationAdapter;
+import tj.radolfa.infrastructure.persistence.adapter.CacheInvalidationAdapter.Received;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies cache invalidations published by other instances to this instance's caches.
+ *
+ * <p>A daemon thread holds one connection that {@code LISTEN}s on
+ * {@value CacheInvalidationAdapter#CHANNEL}. Each notification is resolved to its log
+ * row and handed to every {@link Subscriber}. While that connection is down (and at
+ * startup, until it is up) notifications may be missed, so the log is polled by
+ * {@code created_at} every {@code radolfa.cache.invalidation.poll-interval-ms} instead.
+ * Once the listener reconnects, one last poll covers the gap. Polls reach back
+ * {@link #CATCH_UP_SLACK} to allow for clock skew and transactions that were still open.
+ * Evictions are idempotent, so a message seen by both paths is simply applied once.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code radolfa.cache.invalidation.lag} — write of the message to its local eviction</li>
+ *   <li>{@code radolfa.cache.invalidation.received} — counter tagged {@code path=notify|poll}</li>
+ *   <li>{@code radolfa.cache.invalidation.listening} — 1 while notifications are being received</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CacheInvalidationListener {
+
+    static final Duration CATCH_UP_SLACK  = Duration.ofSeconds(30);
+    static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+    static final Duration SEEN_RETENTION  = Duration.ofMinutes(5);
+    static final int      WAIT_MILLIS     = 1000;
+
+    private final CacheInvalidationAdapter  invalidationLog;
+    private final List<Subscriber>          subscribers;
+    private final DataSource                dataSource;
+    private final SchedulerLockPort         schedulerLockPort;
+    private final Clock                     clock;
+    private final boolean                   listen;
+    private final Duration                  retention;
+    private final Timer                     lag;
+    private final Counter                   viaNotify;
+    private final Counter                   viaPoll;
+    private final AtomicInteger             listening = new AtomicInteger();
+    private final AtomicReference<Instant>  pollFrom;
+    private final Map<Long, Instant>        seen      = new HashMap<>();
+
+    private volatile boolean running = true;
+    private Thread           listener;
+
+    public CacheInvalidationListener(CacheInvalidationAdapter invalidationLog,
+                                     List<Subscriber> subscribers,
+                                     DataSource dataSource,
+                                     SchedulerLockPort schedulerLockPort,
+                                     MeterRegistry registry,
+                                     @Value("${radolfa.cache.invalidation.listen:true}") boolean listen,
+                                     @Value("${radolfa.cache.invalidation.retention-hours:24}") long retentionHours) {
+        this(invalidationLog, subscribers, dataSource, schedulerLockPort, registry, Clock.systemUTC(),
+                listen, Duration.ofHours(retentionHours));
+    }
+
+    CacheInvalidationListener(CacheInvalidationAdapter invalidationLog,
+                              List<Subscriber> subscribers,
+                              DataSource dataSource,
+                              SchedulerLockPort schedulerLockPort,
+                              MeterRegistry registry,
+                              Clock clock,
+                              boolean listen,
+                              Duration retention) {
+        this.invalidationLog   = invalidationLog;
+        this.subscribers       = List.copyOf(subscribers);
+        this.dataSource        = dataSource;
+        this.schedulerLockPort = schedulerLockPort;
+        this.clock             = clock;
+        this.listen            = listen;
+        this.retention         = retention;
+        this.pollFrom          = new AtomicReference<>(clock.instant());
+        this.lag               = Timer.builder("radolfa.cache.invalidation.lag")
+                .description("Time from an invalidation's write to its local eviction")
+                .register(registry);
+        this.viaNotify         = received(registry, "notify");
+        this.viaPoll           = received(registry, "poll");
+        Gauge.builder("radolfa.cache.invalidation.listening", listening, AtomicInteger::get)
+                .description("1 while invalidations arrive as notifications, 0 while polling")
+                .register(registry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!listen) {
+            log.info("[CACHE] Invalidation listener disabled — polling only");
+            return;
+        }
+        listener = new Thread(this::listenLoop, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener != null) listener.interrupt();
+    }
+
+    /** Catch-up path; a no-op while the listener is connected. */
+    @Scheduled(fixedDelayString = "${radolfa.cache.invalidation.poll-interval-ms:5000}")
+    public void poll() {
+        Instant from = pollFrom.get();
+        if (from == null) return;
+        Instant started = clock.instant();
+        apply(invalidationLog.createdSince(from.minus(CATCH_UP_SLACK)), viaPoll);
+        pollFrom.compareAndSet(from, started);
+    }
+
+    @Scheduled(cron = "${radolfa.cache.invalidation.purge-cron:0 50 4 * * *}", zone = "UTC")
+    public void purge() {
+        schedulerLockPort.runExclusively("cache-invalidation-purge", Duration.ofMinutes(5), () -> {
+            int purged = invalidationLog.purgeOlderThan(retention);
+            if (purged > 0) {
+                log.info("[CACHE] Purged {} invalidation log rows", purged);
+            }
+        });
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    synchronized void apply(List<Received> messages, Counter path) {
+        Instant now = clock.instant();
+        seen.values().removeIf(at -> at.plus(SEEN_RETENTION).isBefore(now));
+        for (Received message : messages) {
+            if (message.origin().equals(invalidationLog.origin())) continue;
+            if (seen.putIfAbsent(message.id(), now) != null) continue;
+
+            lag.record(Math.max(0, message.lagMillis()), TimeUnit.MILLISECONDS);
+            path.increment();
+            for (Subscriber subscriber : subscribers) {
+                try {
+                    subscriber.evict(message.invalidation());
+                } catch (RuntimeException ex) {
+                    log.warn("[CACHE] {} failed to apply {}: {}",
+                            subscriber.getClass().getSimpleName(), message.invalidation(), ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection conn = dataSource.getConnection(); Statement st = conn.createStatement()) {
+                st.execute("LISTEN " + CacheInvalidationAdapter.CHANNEL);
+                PGConnection pg = conn.unwrap(PGConnection.class);
+                listening.set(1);
+                log.info("[CACHE] Listening for invalidations");
+
+                // Listening now, so anything written from here on arrives as a notification
+                Instant from = pollFrom.getAndSet(null);
+                if (from != null) {
+                    apply(invalidationLog.createdSince(from.minus(CATCH_UP_SLACK)), viaPoll);
+                }
+                while (running) {
+                    receive(pg.getNotifications(WAIT_MILLIS));
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) return;
+                listening.set(0);
+                pollFrom.compareAndSet(null, clock.instant());
+                log.warn("[CACHE] Invalidation listener down, polling until it reconnects: {}", ex.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY.toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(PGNotification[] notifications) {
+        if (notifications == null || notifications.length == 0) return;
+        List<Long> ids = new ArrayList<>();
+        for (PGNotification n : notifications) {
+            String[] originAndId = n.getParameter().split("\\|", 2);
+            if (originAndId.length == 2 && !originAndId[0].equals(invalidationLog.origin())) {
+                ids.add(Long.valueOf(originAndId[1]));
+            }
+        }
+        apply(invalidationLog.byIds(ids), viaNotify);
+    }
+
+    private static Counter received(MeterRegistry registry, String path) {
+        return Counter.builder("radolfa.cache.invalidation.received")
+                .description("Invalidations from other instances applied locally")
+                .tag("path", path)
+                .register(registry);
+    }
+}
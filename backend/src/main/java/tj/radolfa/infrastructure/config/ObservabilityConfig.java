@@ -0,0 +1,55 @@
+package tj.radolfa.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import tj.radolfa.infrastructure.observability.PortMetricsAspect;
+import tj.radolfa.infrastructure.observability.RequestSqlMetricsFilter;
+import tj.radolfa.infrastructure.observability.SqlExecutionTimingListener;
+import tj.radolfa.infrastructure.observability.SqlMetricsProperties;
+import tj.radolfa.infrastructure.observability.SqlStatementCounter;
+
+/**
+ * Wires application metrics beyond the actuator defaults.
+ *
+ * <ul>
+ *   <li>Per-request SQL instrumentation — off with {@code radolfa.observability.sql.enabled=false}</li>
+ *   <li>Use-case / out-port timers — off with {@code radolfa.observability.ports.enabled=false}</li>
+ * </ul>
+ */
+@Configuration
+@EnableConfigurationProperties(SqlMetricsProperties.class)
+public class ObservabilityConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "radolfa.observability.sql", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlExecutionTimingListener.class.getName());
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "radolfa.observability.sql", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RequestSqlMetricsFilter> requestSqlMetricsFilter(MeterRegistry registry,
+                                                                                   SqlMetricsProperties properties) {
+        FilterRegistrationBean<RequestSqlMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestSqlMetricsFilter(registry, properties));
+        // Ahead of the Spring Security chain (-100) so JWT user lookups are counted
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "radolfa.observability.ports", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public PortMetricsAspect portMetricsAspect(MeterRegistry registry) {
+        return new PortMetricsAspect(registry);
+    }
+}
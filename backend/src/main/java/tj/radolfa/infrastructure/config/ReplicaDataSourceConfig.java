@@ -0,0 +1,111 @@
+package tj.radolfa.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import tj.radolfa.infrastructure.persistence.routing.ReadReplicaAspect;
+import tj.radolfa.infrastructure.persistence.routing.ReadYourWritesFilter;
+import tj.radolfa.infrastructure.persistence.routing.ReplicaLagMonitor;
+import tj.radolfa.infrastructure.persistence.routing.ReplicaProperties;
+import tj.radolfa.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read-replica routing, active only when {@code radolfa.datasource.replica.url} is set.
+ *
+ * <ul>
+ *   <li>The application {@link DataSource} becomes a lazy proxy over a
+ *       {@link ReplicaRoutingDataSource} of the primary and replica pools</li>
+ *   <li>only {@code @ReadReplica} adapters read from the replica, in read-only
+ *       transactions; other reads, and cache loads through {@code PrimaryReads},
+ *       stay on the primary</li>
+ *   <li>{@link ReadYourWritesFilter} keeps clients on the primary right after they write</li>
+ *   <li>Hibernate releases connections after each transaction instead of holding them
+ *       for the open-in-view session, so a replica connection never outlives its
+ *       read-only transaction</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnExpression("!'${radolfa.datasource.replica.url:}'.isBlank()")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, ReplicaProperties replica) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(replica.url())
+                .username(replica.username() != null ? replica.username() : primary.determineUsername())
+                .password(replica.password() != null ? replica.password() : primary.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(replica.poolSize());
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaProperties replica,
+                                               MeterRegistry registry) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), registry,
+                Duration.ofSeconds(replica.maxLagSeconds()), Duration.ofMillis(replica.lagCheckIntervalMs()));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry registry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, registry));
+    }
+
+    @Bean
+    public ReadReplicaAspect readReplicaAspect(PlatformTransactionManager transactionManager) {
+        return new ReadReplicaAspect(transactionManager);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaProperties replica) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(Duration.ofSeconds(replica.stickySeconds())));
+        // Ahead of the Spring Security chain (-100) so the JWT user lookup sees the pin too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandling() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -3,37 +3,41 @@ package tj.radolfa.infrastructure.notification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import tj.radolfa.application.ports.out.NotificationPort;
-import tj.radolfa.domain.model.OrderStatus;
+
+import java.util.List;
+import java.util.Set;
 
 /**
- * Stub for {@link NotificationPort} — logs all calls to the console.
+ * Stub {@link NotificationSink} — logs every message drained from the notification
+ * outbox to the console.
  *
  * <p>Active in all profiles until a real SMS/push adapter is provided.
  */
 @Component
-public class NotificationPortStub implements NotificationPort {
+public class NotificationPortStub implements NotificationSink {
 
     private static final Logger log = LoggerFactory.getLogger(NotificationPortStub.class);
 
     @Override
-    public void sendOrderConfirmation(Long userId, Long orderId) {
-        log.info("[NOTIFICATION STUB] Order confirmation → userId={} orderId={}", userId, orderId);
-    }
-
-    @Override
-    public void sendOrderStatusUpdate(Long userId, Long orderId, OrderStatus newStatus) {
-        log.info("[NOTIFICATION STUB] Order status update → userId={} orderId={} status={}",
-                userId, orderId, newStatus);
-    }
-
-    @Override
-    public void sendReviewApprovedNotification(Long userId, Long reviewId) {
-        log.info("[NOTIFICATION STUB] Review approved → userId={} reviewId={}", userId, reviewId);
+    public int maxBatchSize() {
+        return 100;
     }
 
     @Override
-    public void sendReviewReplyNotification(Long userId, Long reviewId) {
-        log.info("[NOTIFICATION STUB] Seller reply posted → userId={} reviewId={}", userId, reviewId);
+    public Set<Long> deliver(List<OutboundNotification> batch) {
+        for (OutboundNotification n : batch) {
+            switch (n.kind()) {
+                case ORDER_CONFIRMATION ->
+                        log.info("[NOTIFICATION STUB] Order confirmation → userId={} orderId={}", n.userId(), n.refId());
+                case ORDER_STATUS_UPDATE ->
+                        log.info("[NOTIFICATION STUB] Order status update → userId={} orderId={} status={}",
+                                n.userId(), n.refId(), n.detail());
+                case REVIEW_APPROVED ->
+                        log.info("[NOTIFICATION STUB] Review approved → userId={} reviewId={}", n.userId(), n.refId());
+                case REVIEW_REPLY ->
+                        log.info("[NOTIFICATION STUB] Seller reply posted → userId={} reviewId={}", n.userId(), n.refId());
+            }
+        }
+        return Set.of();
     }
 }
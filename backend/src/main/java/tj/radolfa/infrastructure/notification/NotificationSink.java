@@ -0,0 +1,21 @@
+package tj.radolfa.infrastructure.notification;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Provider-facing end of the notification outbox: delivers batches drained by
+ * {@link tj.radolfa.infrastructure.scheduling.NotificationDispatcher}.
+ */
+public interface NotificationSink {
+
+    /** Most messages one provider call accepts. */
+    int maxBatchSize();
+
+    /**
+     * Delivers {@code batch} in one provider call. Throwing fails the whole batch.
+     *
+     * @return ids of messages the provider rejected; they are retried
+     */
+    Set<Long> deliver(List<OutboundNotification> batch);
+}
@@ -0,0 +1,15 @@
+package tj.radolfa.infrastructure.notification;
+
+import java.time.Instant;
+
+/**
+ * One leased {@code notification_outbox} row on its way to the provider.
+ *
+ * @param refId  order or review the message is about, depending on {@code kind}
+ * @param detail kind-specific detail — the new status for {@link Kind#ORDER_STATUS_UPDATE}
+ */
+public record OutboundNotification(long id, Kind kind, Long userId, Long refId, String detail,
+                                   int attempts, Instant createdAt) {
+
+    public enum Kind { ORDER_CONFIRMATION, ORDER_STATUS_UPDATE, REVIEW_APPROVED, REVIEW_REPLY }
+}
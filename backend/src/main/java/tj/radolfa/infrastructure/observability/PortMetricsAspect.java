@@ -0,0 +1,140 @@
+package tj.radolfa.infrastructure.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import tj.radolfa.domain.model.PageResult;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every inbound use case and every out-port method implemented by a persistence
+ * adapter. Other public methods of adapter beans (flush hooks, caches, helpers) are
+ * not ports and are left alone.
+ *
+ * <h3>Meters</h3>
+ * <ul>
+ *   <li>{@code radolfa.port.calls} — timer, tags {@code layer} ({@code use_case} | {@code out_port}),
+ *       {@code component} (implementing class), {@code method}, {@code outcome}</li>
+ *   <li>{@code radolfa.port.errors} — counter, same identity tags plus {@code exception}</li>
+ *   <li>{@code radolfa.port.result.size} — summary of returned collection / page / optional sizes</li>
+ * </ul>
+ *
+ * <p>All tag values come from class and method names, so cardinality is bounded by the
+ * code base. Meters are resolved once per method and cached; the per-call overhead is two
+ * {@code nanoTime} reads, two map lookups and the record itself. Self-invocations inside a
+ * bean are not intercepted, which keeps nested helper calls out of the numbers.
+ */
+@Aspect
+public class PortMetricsAspect {
+
+    static final String LAYER_USE_CASE = "use_case";
+    static final String LAYER_OUT_PORT = "out_port";
+
+    private final MeterRegistry registry;
+    // target class → method → meters; keyed by class too because one use-case interface
+    // method can be implemented by several beans
+    private final Map<Class<?>, Map<Method, PortMeters>> meters = new ConcurrentHashMap<>();
+
+    public PortMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Pointcut("execution(* tj.radolfa.application.ports.in..*UseCase.*(..))")
+    void useCase() {}
+
+    @Pointcut("execution(* tj.radolfa.application.ports.out..*.*(..))"
+            + " && within(tj.radolfa.infrastructure.persistence.adapter..*)")
+    void outPort() {}
+
+    @Around("useCase()")
+    public Object timeUseCase(ProceedingJoinPoint pjp) throws Throwable {
+        return time(pjp, LAYER_USE_CASE);
+    }
+
+    @Around("outPort() && !useCase()")
+    public Object timeOutPort(ProceedingJoinPoint pjp) throws Throwable {
+        return time(pjp, LAYER_OUT_PORT);
+    }
+
+    private Object time(ProceedingJoinPoint pjp, String layer) throws Throwable {
+        Class<?> target = AopUtils.getTargetClass(pjp.getTarget());
+        PortMeters m = meters
+                .computeIfAbsent(target, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(((MethodSignature) pjp.getSignature()).getMethod(),
+                        method -> new PortMeters(layer, target.getSimpleName(), method.getName()));
+
+        long start = System.nanoTime();
+        try {
+            Object result = pjp.proceed();
+            m.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            int size = sizeOf(result);
+            if (size >= 0) m.resultSize.record(size);
+            return result;
+        } catch (Throwable t) {
+            m.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            m.errors(t.getClass()).increment();
+            throw t;
+        }
+    }
+
+    /** Number of elements carried by a result, or -1 when the result is not a container. */
+    static int sizeOf(Object result) {
+        if (result instanceof Collection<?> c) return c.size();
+        if (result instanceof Map<?, ?> m)     return m.size();
+        if (result instanceof PageResult<?> p) return p.content().size();
+        if (result instanceof Optional<?> o)   return o.isPresent() ? 1 : 0;
+        return -1;
+    }
+
+    private final class PortMeters {
+
+        private final String layer;
+        private final String component;
+        private final String method;
+        private final Timer success;
+        private final Timer failure;
+        private final DistributionSummary resultSize;
+        private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+        PortMeters(String layer, String component, String method) {
+            this.layer      = layer;
+            this.component  = component;
+            this.method     = method;
+            this.success    = timer("success");
+            this.failure    = timer("error");
+            this.resultSize = DistributionSummary.builder("radolfa.port.result.size")
+                    .description("Elements returned per port call")
+                    .tags("layer", layer, "component", component, "method", method)
+                    .register(registry);
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder("radolfa.port.calls")
+                    .description("Latency of use-case and out-port calls")
+                    .tags("layer", layer, "component", component, "method", method, "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        Counter errors(Class<?> exceptionType) {
+            return errors.computeIfAbsent(exceptionType, type -> Counter.builder("radolfa.port.errors")
+                    .description("Exceptions thrown by use-case and out-port calls")
+                    .tags("layer", layer, "component", component, "method", method,
+                            "exception", type.getSimpleName())
+                    .register(registry));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package tj.radolfa.infrastructure.observability;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of SQL statements a controller endpoint may issue
+ * per request, including the JWT user lookup done by the security filter.
+ *
+ * <p>Exceeding the budget is always logged and counted in
+ * {@code http.server.sql.budget.exceeded}. With
+ * {@code radolfa.observability.sql.enforce-budgets=true} (tests only) the request
+ * additionally fails with {@link QueryBudgetExceededException}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface QueryBudget {
+
+    /** Maximum statements per request. */
+    int value();
+}
@@ -0,0 +1,12 @@
+package tj.radolfa.infrastructure.observability;
+
+/**
+ * Thrown when an endpoint annotated with {@link QueryBudget} issues more SQL
+ * statements than declared and budget enforcement is enabled.
+ */
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(String endpoint, int budget, int actual) {
+        super("Query budget exceeded for " + endpoint + ": " + actual + " statements (budget " + budget + ")");
+    }
+}
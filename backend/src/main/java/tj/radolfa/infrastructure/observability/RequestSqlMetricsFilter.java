@@ -0,0 +1,139 @@
+package tj.radolfa.infrastructure.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a {@link SqlStatementCounter} scope around every HTTP request and publishes
+ * what it collected, tagged by HTTP method and matched URI pattern.
+ *
+ * <h3>Meters</h3>
+ * <ul>
+ *   <li>{@code http.server.sql.statements} — statements per request (histogram)</li>
+ *   <li>{@code http.server.sql.time} — JDBC execution time per request (histogram)</li>
+ *   <li>{@code http.server.sql.n_plus_one} — requests where one statement repeated
+ *       at least {@code n-plus-one-threshold} times</li>
+ *   <li>{@code http.server.sql.budget.exceeded} — requests over their {@link QueryBudget}</li>
+ * </ul>
+ *
+ * <p>With {@code enforce-budgets} on, the response body is buffered until the request
+ * is over, so an overrun can still turn into a {@link QueryBudgetExceededException}
+ * instead of a 2xx that was already sent. A response committed anyway (an error sent
+ * by the container, an explicit flush of the raw response) is only logged.
+ *
+ * <p>Runs ahead of the security chain so the JWT user lookup is attributed to the request.
+ * The collected stats are also exposed as the {@link #STATS_ATTRIBUTE} request attribute.
+ */
+public class RequestSqlMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RequestSqlMetricsFilter.class);
+
+    public static final String STATS_ATTRIBUTE = RequestSqlMetricsFilter.class.getName() + ".STATS";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry        registry;
+    private final SqlMetricsProperties properties;
+
+    public RequestSqlMetricsFilter(MeterRegistry registry, SqlMetricsProperties properties) {
+        this.registry   = registry;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        // With enforcement on, hold the body back so an overrun can still fail the request
+        ContentCachingResponseWrapper held = properties.enforceBudgets()
+                ? new ContentCachingResponseWrapper(response) : null;
+
+        SqlStatementCounter.begin();
+        SqlStatementCounter.Stats stats;
+        try {
+            filterChain.doFilter(request, held != null ? held : response);
+        } finally {
+            stats = SqlStatementCounter.end();
+        }
+
+        QueryBudgetExceededException overrun = stats != null ? publish(request, stats) : null;
+        if (overrun != null && held != null) {
+            if (!response.isCommitted()) {
+                throw overrun;
+            }
+            LOG.error("[SQL] {} — response already committed, request not failed", overrun.getMessage());
+        }
+        if (held != null) {
+            held.copyBodyToResponse();
+        }
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    /** Records the request's meters; returns the budget overrun, if any. */
+    private QueryBudgetExceededException publish(HttpServletRequest request, SqlStatementCounter.Stats stats) {
+        request.setAttribute(STATS_ATTRIBUTE, stats);
+        String method = request.getMethod();
+        String uri = uriPattern(request);
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("SQL statements issued per HTTP request")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.statements());
+        Timer.builder("http.server.sql.time")
+                .description("JDBC execution time per HTTP request")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.executionNanos(), TimeUnit.NANOSECONDS);
+
+        Map.Entry<String, Integer> repeated = stats.mostRepeated(properties.nPlusOneThreshold());
+        if (repeated != null) {
+            Counter.builder("http.server.sql.n_plus_one")
+                    .tags("method", method, "uri", uri)
+                    .register(registry)
+                    .increment();
+            LOG.warn("[SQL] Possible N+1 on {} {}: statement repeated {}x: {}",
+                    method, uri, repeated.getValue(), repeated.getKey());
+        }
+
+        QueryBudget budget = queryBudget(request);
+        if (budget == null || stats.statements() <= budget.value()) return null;
+
+        Counter.builder("http.server.sql.budget.exceeded")
+                .tags("method", method, "uri", uri)
+                .register(registry)
+                .increment();
+        LOG.warn("[SQL] Query budget exceeded on {} {}: {} statements (budget {})",
+                method, uri, stats.statements(), budget.value());
+        return new QueryBudgetExceededException(method + " " + uri, budget.value(), stats.statements());
+    }
+
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+
+    private static QueryBudget queryBudget(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        return handler instanceof HandlerMethod hm ? hm.getMethodAnnotation(QueryBudget.class) : null;
+    }
+}
@@ -0,0 +1,38 @@
+package tj.radolfa.infrastructure.observability;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds JDBC execution time to the active {@link SqlStatementCounter} scope.
+ *
+ * <p>Hibernate creates one instance per session via {@code hibernate.session.events.auto},
+ * so the start timestamp is plain instance state — a session is never shared across threads.
+ */
+public class SqlExecutionTimingListener implements SessionEventListener {
+
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementCounter.Stats stats = SqlStatementCounter.current();
+        if (stats != null && startedAt != 0) {
+            stats.addExecutionNanos(System.nanoTime() - startedAt);
+        }
+        startedAt = 0;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
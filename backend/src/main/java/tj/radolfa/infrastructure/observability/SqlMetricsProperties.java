@@ -0,0 +1,18 @@
+package tj.radolfa.infrastructure.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for per-request SQL instrumentation.
+ * Bound to {@code radolfa.observability.sql.*} in application.yml.
+ *
+ * @param enabled           registers the Hibernate hooks and the request filter
+ * @param enforceBudgets    fail requests that exceed their {@link QueryBudget}; meant for tests
+ * @param nPlusOneThreshold repetitions of the same statement within one request that are reported as N+1
+ */
+@ConfigurationProperties(prefix = "radolfa.observability.sql")
+public record SqlMetricsProperties(
+        boolean enabled,
+        boolean enforceBudgets,
+        int nPlusOneThreshold
+) {}
@@ -0,0 +1,85 @@
+package tj.radolfa.infrastructure.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-thread SQL statement accounting for the current HTTP request.
+ *
+ * <p>Hibernate calls {@link #inspect(String)} for every statement it prepares, and
+ * {@link SqlExecutionTimingListener} adds the JDBC execution time. Both only record
+ * while a scope opened by {@link #begin()} is active on the calling thread, so
+ * scheduled jobs and startup work cost nothing beyond a {@code ThreadLocal} read.
+ *
+ * <p>Statements issued through {@code JdbcTemplate} bypass Hibernate and are not counted.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    /** Opens a counting scope on the current thread, replacing any previous one. */
+    public static Stats begin() {
+        Stats stats = new Stats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /** Closes the current scope and returns what it collected, or {@code null} if none was open. */
+    public static Stats end() {
+        Stats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static Stats current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.bySql.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    /**
+     * Statements, JDBC execution time and per-statement repetition counts for one scope.
+     */
+    public static final class Stats {
+
+        private int statements;
+        private long executionNanos;
+        private final Map<String, Integer> bySql = new HashMap<>();
+
+        public int statements() {
+            return statements;
+        }
+
+        public long executionNanos() {
+            return executionNanos;
+        }
+
+        void addExecutionNanos(long nanos) {
+            executionNanos += nanos;
+        }
+
+        /**
+         * Returns the most repeated statement when it ran at least {@code threshold} times —
+         * the signature of a lazy collection initialised inside a loop (N+1).
+         */
+        public Map.Entry<String, Integer> mostRepeated(int threshold) {
+            Map.Entry<String, Integer> worst = null;
+            for (Map.Entry<String, Integer> e : bySql.entrySet()) {
+                if (e.getValue() >= threshold && (worst == null || e.getValue() > worst.getValue())) {
+                    worst = e;
+                }
+            }
+            return worst;
+        }
+    }
+}
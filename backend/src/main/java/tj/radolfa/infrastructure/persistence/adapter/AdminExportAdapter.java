@@ -0,0 +1,186 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tj.radolfa.application.ports.out.DiscountFilter;
+import tj.radolfa.application.ports.out.ExportAdminOrdersPort;
+import tj.radolfa.application.ports.out.ExportDiscountsPort;
+import tj.radolfa.domain.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Cursor-backed exports of the admin order and campaign lists.
+ *
+ * <p>The PostgreSQL driver only streams a result set when it runs inside a transaction
+ * with a fetch size; otherwise it materialises every row first. Each method therefore
+ * opens a read-only transaction, reads {@value #FETCH_SIZE} rows per round trip and
+ * hands each row to the sink before the next is read. Only scalar columns are selected,
+ * so nothing accumulates in the persistence context either.
+ */
+@Component
+public class AdminExportAdapter implements ExportAdminOrdersPort, ExportDiscountsPort {
+
+    static final int FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    // ---- ExportAdminOrdersPort -----------------------------------------
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamOrders(String search, OrderStatus statusFilter, Consumer<OrderExportRow> sink) {
+        // Same filters as OrderSpecifications.adminSearch
+        List<String> conditions = new ArrayList<>();
+        conditions.add("o.deleted_at IS NULL");
+        Long idMatch = null;
+        if (search != null && !search.isBlank()) {
+            try {
+                idMatch = Long.parseLong(search.trim());
+                conditions.add("(LOWER(u.phone) LIKE :search OR o.id = :id)");
+            } catch (NumberFormatException ignored) {
+                conditions.add("LOWER(u.phone) LIKE :search");
+            }
+        }
+        if (statusFilter != null) {
+            conditions.add("o.status = :status");
+        }
+
+        Query query = em.createNativeQuery("""
+                SELECT o.id, o.created_at, o.status, o.total_amount, o.delivery_type,
+                       (SELECT COUNT(*) FROM order_items oi WHERE oi.order_id = o.id) AS item_count,
+                       u.phone, u.name
+                FROM orders o
+                LEFT JOIN users u ON u.id = o.user_id
+                WHERE %s
+                ORDER BY o.created_at DESC, o.id DESC
+                """.formatted(String.join(" AND ", conditions)));
+        if (search != null && !search.isBlank()) {
+            query.setParameter("search", "%" + search.toLowerCase() + "%");
+        }
+        if (idMatch != null) {
+            query.setParameter("id", idMatch);
+        }
+        if (statusFilter != null) {
+            query.setParameter("status", statusFilter.name());
+        }
+
+        stream(query, r -> sink.accept(new OrderExportRow(
+                ((Number) r[0]).longValue(),
+                toInstant(r[1]),
+                (String) r[2],
+                (BigDecimal) r[3],
+                (String) r[4],
+                ((Number) r[5]).intValue(),
+                (String) r[6],
+                (String) r[7])));
+    }
+
+    // ---- ExportDiscountsPort -------------------------------------------
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamDiscounts(DiscountFilter filter, Consumer<DiscountExportRow> sink) {
+        // Same filters as DiscountAdapter.buildSpec
+        List<String> conditions = new ArrayList<>();
+        if (filter.typeId() != null) {
+            conditions.add("d.discount_type_id = :typeId");
+        }
+        if (filter.from() != null) {
+            conditions.add("d.valid_upto >= :from");
+        }
+        if (filter.to() != null) {
+            conditions.add("d.valid_from <= :to");
+        }
+        boolean searching = filter.search() != null && !filter.search().isBlank();
+        if (searching) {
+            conditions.add("""
+                    (LOWER(d.title) LIKE :search
+                     OR EXISTS (SELECT 1 FROM discount_items di
+                                WHERE di.discount_id = d.id AND LOWER(di.item_code) LIKE :search))""");
+        }
+        String statusCondition = filter.status() == null ? null : switch (filter.status()) {
+            case "ACTIVE"    -> "d.is_disabled = FALSE AND d.valid_from <= :now AND d.valid_upto >= :now";
+            case "SCHEDULED" -> "d.is_disabled = FALSE AND d.valid_from > :now";
+            case "EXPIRED"   -> "d.is_disabled = FALSE AND d.valid_upto < :now";
+            case "DISABLED"  -> "d.is_disabled = TRUE";
+            default          -> null;
+        };
+        if (statusCondition != null) {
+            conditions.add(statusCondition);
+        }
+
+        Query query = em.createNativeQuery("""
+                SELECT d.id, d.title, dt.name, d.amount_type, d.amount_value,
+                       d.valid_from, d.valid_upto, d.is_disabled, d.coupon_code,
+                       d.min_basket_amount, d.usage_cap_total, d.usage_cap_per_customer,
+                       (SELECT COUNT(*) FROM discount_target t WHERE t.discount_id = d.id) AS target_count
+                FROM discounts d
+                JOIN discount_types dt ON dt.id = d.discount_type_id
+                %s
+                ORDER BY d.id
+                """.formatted(conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions)));
+        if (filter.typeId() != null) {
+            query.setParameter("typeId", filter.typeId());
+        }
+        if (filter.from() != null) {
+            query.setParameter("from", filter.from().atStartOfDay().atOffset(ZoneOffset.UTC));
+        }
+        if (filter.to() != null) {
+            query.setParameter("to", filter.to().atTime(23, 59, 59).atOffset(ZoneOffset.UTC));
+        }
+        if (searching) {
+            query.setParameter("search", "%" + filter.search().toLowerCase() + "%");
+        }
+        if (statusCondition != null && statusCondition.contains(":now")) {
+            query.setParameter("now", OffsetDateTime.now(ZoneOffset.UTC));
+        }
+
+        stream(query, r -> sink.accept(new DiscountExportRow(
+                ((Number) r[0]).longValue(),
+                (String) r[1],
+                (String) r[2],
+                (String) r[3],
+                (BigDecimal) r[4],
+                toInstant(r[5]),
+                toInstant(r[6]),
+                (Boolean) r[7],
+                (String) r[8],
+                (BigDecimal) r[9],
+                r[10] != null ? ((Number) r[10]).intValue() : null,
+                r[11] != null ? ((Number) r[11]).intValue() : null,
+                ((Number) r[12]).intValue())));
+    }
+
+    // ---- Helpers -------------------------------------------------------
+
+    /** Runs {@code query} through a server-side cursor, passing each row on as it is read. */
+    @SuppressWarnings("unchecked")
+    static void stream(Query query, Consumer<Object[]> rowConsumer) {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE);
+        try (Stream<Object[]> rows = query.getResultStream()) {
+            rows.forEach(rowConsumer);
+        }
+    }
+
+    private static Instant toInstant(Object val) {
+        if (val == null)                     return null;
+        if (val instanceof Instant inst)     return inst;
+        if (val instanceof Timestamp ts)     return ts.toInstant();
+        if (val instanceof OffsetDateTime o) return o.toInstant();
+        throw new IllegalStateException("Unexpected timestamp type: " + val.getClass());
+    }
+}
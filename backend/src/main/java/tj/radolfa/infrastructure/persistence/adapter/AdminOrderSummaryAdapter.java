@@ -4,35 +4,69 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import tj.radolfa.application.ports.out.AdminOrderSummary;
 import tj.radolfa.application.ports.out.AdminOrderSummaryPort;
+import tj.radolfa.application.ports.out.RecordOrderStatsPort;
+import tj.radolfa.application.support.AfterCommit;
+import tj.radolfa.infrastructure.persistence.repository.OrderDailyStatsRepository;
 import tj.radolfa.infrastructure.persistence.repository.OrderRepository;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Admin dashboard KPIs served from the {@code order_daily_stats} rollup.
+ *
+ * <p>Checkout upserts one of {@value #STRIPES} rows of the day an order is placed, picked
+ * at random, so concurrent checkouts rarely wait on each other's row lock. The summary
+ * sums a few rows per day of history for the lifetime total, the month's rows and a
+ * cached snapshot for today — nothing scales with the number of orders.
+ *
+ * <p>Today's figures are kept in memory: the snapshot is reloaded from its row every
+ * {@link #TODAY_REFRESH} (or when the UTC day rolls over) and orders placed through this
+ * instance are added as soon as they commit, so other instances lag by at most one
+ * refresh interval.
+ */
 @Component
-public class AdminOrderSummaryAdapter implements AdminOrderSummaryPort {
+public class AdminOrderSummaryAdapter implements AdminOrderSummaryPort, RecordOrderStatsPort {
 
-    private final OrderRepository repository;
+    static final Duration TODAY_REFRESH = Duration.ofSeconds(10);
+    static final int      STRIPES       = 8;
 
-    public AdminOrderSummaryAdapter(OrderRepository repository) {
-        this.repository = repository;
+    private final OrderRepository           orderRepository;
+    private final OrderDailyStatsRepository statsRepository;
+    private final Clock                     clock;
+    private final AtomicReference<TodaySnapshot> today = new AtomicReference<>();
+
+    public AdminOrderSummaryAdapter(OrderRepository orderRepository,
+                                    OrderDailyStatsRepository statsRepository) {
+        this(orderRepository, statsRepository, Clock.systemUTC());
+    }
+
+    AdminOrderSummaryAdapter(OrderRepository orderRepository,
+                             OrderDailyStatsRepository statsRepository,
+                             Clock clock) {
+        this.orderRepository = orderRepository;
+        this.statsRepository = statsRepository;
+        this.clock           = clock;
     }
 
+    // ---- AdminOrderSummaryPort -----------------------------------------
+
     @Override
     public AdminOrderSummary load() {
-        ZonedDateTime nowUtc = Instant.now().atZone(ZoneOffset.UTC);
-        Instant startOfToday = nowUtc.toLocalDate().atStartOfDay(ZoneOffset.UTC).toInstant();
-        Instant startOfMonth = nowUtc.toLocalDate().withDayOfMonth(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        LocalDate todayUtc = LocalDate.now(clock.withZone(ZoneOffset.UTC));
 
-        long totalOrders       = repository.countAllOrders();
-        long todayOrders       = repository.countOrdersSince(startOfToday);
-        BigDecimal revenueToday  = repository.sumRevenueSince(startOfToday);
-        BigDecimal revenueMonth  = repository.sumRevenueSince(startOfMonth);
+        TodaySnapshot todayStats  = todaySnapshot(todayUtc);
+        long totalOrders          = statsRepository.sumOrdersPlaced();
+        BigDecimal revenueMonth   = statsRepository.sumRevenueFrom(todayUtc.withDayOfMonth(1));
 
-        List<AdminOrderSummary.RecentOrder> recentOrders = repository
+        List<AdminOrderSummary.RecentOrder> recentOrders = orderRepository
                 .findMostRecent(PageRequest.of(0, 10))
                 .stream()
                 .map(o -> new AdminOrderSummary.RecentOrder(
@@ -43,6 +77,42 @@ public class AdminOrderSummaryAdapter implements AdminOrderSummaryPort {
                         o.getCreatedAt()))
                 .toList();
 
-        return new AdminOrderSummary(totalOrders, todayOrders, revenueToday, revenueMonth, recentOrders);
+        return new AdminOrderSummary(totalOrders, todayStats.orders(), todayStats.revenue(),
+                revenueMonth, recentOrders);
+    }
+
+    // ---- RecordOrderStatsPort ------------------------------------------
+
+    @Override
+    public void recordPlaced(Instant placedAt, BigDecimal totalAmount) {
+        LocalDate day = placedAt.atZone(ZoneOffset.UTC).toLocalDate();
+        statsRepository.recordPlaced(day, ThreadLocalRandom.current().nextInt(STRIPES), totalAmount);
+
+        Runnable bumpToday = () -> today.updateAndGet(s -> s != null && s.day().equals(day)
+                ? s.plus(totalAmount) : s);
+        AfterCommit.run(bumpToday);
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    private TodaySnapshot todaySnapshot(LocalDate todayUtc) {
+        Instant now = clock.instant();
+        TodaySnapshot current = today.get();
+        if (current != null && current.day().equals(todayUtc)
+                && current.loadedAt().plus(TODAY_REFRESH).isAfter(now)) {
+            return current;
+        }
+        Object[] sums = statsRepository.sumDay(todayUtc).get(0);
+        TodaySnapshot fresh = new TodaySnapshot(todayUtc, ((Number) sums[0]).longValue(),
+                new BigDecimal(sums[1].toString()), now);
+        today.set(fresh);
+        return fresh;
+    }
+
+    record TodaySnapshot(LocalDate day, long orders, BigDecimal revenue, Instant loadedAt) {
+
+        TodaySnapshot plus(BigDecimal amount) {
+            return new TodaySnapshot(day, orders + 1, revenue.add(amount), loadedAt);
+        }
     }
 }
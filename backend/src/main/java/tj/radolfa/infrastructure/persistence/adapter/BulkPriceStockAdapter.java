@@ -0,0 +1,93 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tj.radolfa.application.ports.out.BulkPriceStockPort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Set-based SKU price/stock access for {@code ImportPriceStockService}.
+ *
+ * <p>Changes are written as {@code UPDATE skus ... FROM (VALUES ...)} statements of up
+ * to {@value #ROWS_PER_STATEMENT} rows, in ascending SKU id order so concurrent imports
+ * lock rows in the same order. Each row is only written while its {@code version} still
+ * matches the one read by {@link #findBySkuCodes}, and the version is bumped like a JPA
+ * save would: an admin edit made in between wins and the SKU is reported back as a
+ * conflict, and an admin edit racing the import fails its own optimistic lock.
+ */
+@Component
+public class BulkPriceStockAdapter implements BulkPriceStockPort {
+
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbc;
+
+    public BulkPriceStockAdapter(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public List<CurrentSku> findBySkuCodes(Collection<String> skuCodes) {
+        if (skuCodes.isEmpty()) return List.of();
+        String sql = "SELECT id, sku_code, listing_variant_id, original_price, stock_quantity, version "
+                + "FROM skus WHERE sku_code IN (" + placeholders(skuCodes.size(), "?") + ")";
+        return jdbc.query(sql, (rs, i) -> new CurrentSku(
+                rs.getLong("id"),
+                rs.getString("sku_code"),
+                rs.getLong("listing_variant_id"),
+                rs.getBigDecimal("original_price"),
+                rs.getInt("stock_quantity"),
+                rs.getLong("version")), skuCodes.toArray());
+    }
+
+    @Override
+    @Transactional
+    public Set<Long> apply(List<Change> changes) {
+        List<Change> ordered = new ArrayList<>(changes);
+        ordered.sort(Comparator.comparing(Change::skuId));
+        Set<Long> conflicts = new LinkedHashSet<>();
+
+        for (int from = 0; from < ordered.size(); from += ROWS_PER_STATEMENT) {
+            List<Change> chunk = ordered.subList(from, Math.min(ordered.size(), from + ROWS_PER_STATEMENT));
+            String sql = """
+                    UPDATE skus s
+                    SET original_price = v.price,
+                        stock_quantity = v.stock,
+                        version        = s.version + 1,
+                        updated_at     = NOW()
+                    FROM (VALUES %s) AS v(id, price, stock, version)
+                    WHERE s.id = v.id
+                      AND s.version = v.version
+                    RETURNING s.id
+                    """.formatted(placeholders(chunk.size(),
+                    "(CAST(? AS BIGINT), CAST(? AS NUMERIC(12,2)), CAST(? AS INTEGER), CAST(? AS BIGINT))"));
+
+            Object[] args = new Object[chunk.size() * 4];
+            for (int i = 0; i < chunk.size(); i++) {
+                Change c = chunk.get(i);
+                args[i * 4]     = c.skuId();
+                args[i * 4 + 1] = c.price();
+                args[i * 4 + 2] = c.stock();
+                args[i * 4 + 3] = c.version();
+            }
+            Set<Long> written = new HashSet<>(jdbc.queryForList(sql, Long.class, args));
+            for (Change c : chunk) {
+                if (!written.contains(c.skuId())) conflicts.add(c.skuId());
+            }
+        }
+        return conflicts;
+    }
+
+    private static String placeholders(int count, String placeholder) {
+        return String.join(", ", Collections.nCopies(count, placeholder));
+    }
+}
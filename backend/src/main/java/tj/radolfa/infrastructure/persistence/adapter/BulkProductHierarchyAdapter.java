@@ -0,0 +1,172 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tj.radolfa.application.ports.out.BulkSaveProductHierarchyPort;
+import tj.radolfa.domain.model.ListingVariant;
+import tj.radolfa.domain.model.ProductAttribute;
+import tj.radolfa.domain.model.ProductBase;
+import tj.radolfa.domain.model.Sku;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * JDBC batch inserts for {@code BulkCreateProductsService}.
+ *
+ * <p>Ids are drawn up front — one {@code nextval ... FROM generate_series} round trip per
+ * table's sequence, plus one for {@code listing_variant_code_seq} — so parent ids are known
+ * before any row is written and every table is filled with one batched statement
+ * ({@value #BATCH_SIZE} rows per JDBC batch) instead of a save per entity. The sequences
+ * themselves are untouched, so JPA inserts elsewhere keep drawing from them as before.
+ */
+@Component
+public class BulkProductHierarchyAdapter implements BulkSaveProductHierarchyPort {
+
+    static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate         jdbc;
+    private final ProductCodeGenerator codeGenerator;
+
+    public BulkProductHierarchyAdapter(JdbcTemplate jdbc, ProductCodeGenerator codeGenerator) {
+        this.jdbc          = jdbc;
+        this.codeGenerator = codeGenerator;
+    }
+
+    @Override
+    @Transactional
+    public List<SavedProduct> insertAll(List<NewProduct> products) {
+        if (products.isEmpty()) return List.of();
+
+        int variantCount = 0, skuCount = 0, attributeCount = 0;
+        for (NewProduct p : products) {
+            for (NewVariant v : p.variants()) {
+                variantCount++;
+                skuCount       += v.skus().size();
+                attributeCount += v.variant().getAttributes().size();
+            }
+        }
+
+        Iterator<Long>   baseIds      = allocateIds("product_bases", products.size());
+        Iterator<Long>   variantIds   = allocateIds("listing_variants", variantCount);
+        Iterator<Long>   skuIds       = allocateIds("skus", skuCount);
+        Iterator<Long>   attributeIds = allocateIds("listing_variant_attributes", attributeCount);
+        Iterator<String> codes        = codeGenerator.generate(variantCount).iterator();
+
+        List<Object[]> baseRows      = new ArrayList<>();
+        List<Object[]> variantRows   = new ArrayList<>();
+        List<Object[]> imageRows     = new ArrayList<>();
+        List<Object[]> attributeRows = new ArrayList<>();
+        List<Object[]> valueRows     = new ArrayList<>();
+        List<Object[]> skuRows       = new ArrayList<>();
+        List<SavedProduct> saved     = new ArrayList<>(products.size());
+
+        for (NewProduct p : products) {
+            ProductBase b = p.base();
+            Long baseId = baseIds.next();
+            baseRows.add(new Object[]{baseId, b.getExternalRef(), b.getName(),
+                    b.getCategoryId(), b.getCategory(), b.getBrandId()});
+
+            List<SavedVariant> savedVariants = new ArrayList<>(p.variants().size());
+            for (NewVariant nv : p.variants()) {
+                ListingVariant v = nv.variant();
+                Long variantId = variantIds.next();
+                String productCode = codes.next();
+                variantRows.add(new Object[]{variantId, baseId, nv.colorId(), v.getSlug(), v.getWebDescription(),
+                        v.isEnabled(), v.isActive(), productCode,
+                        v.getWeightKg(), v.getWidthCm(), v.getHeightCm(), v.getDepthCm()});
+
+                List<String> images = v.getImages();
+                for (int i = 0; i < images.size(); i++) {
+                    imageRows.add(new Object[]{variantId, images.get(i), i + 1, i == 0});
+                }
+                for (ProductAttribute attr : v.getAttributes()) {
+                    Long attributeId = attributeIds.next();
+                    attributeRows.add(new Object[]{attributeId, variantId, attr.key(), attr.sortOrder()});
+                    for (int i = 0; i < attr.values().size(); i++) {
+                        valueRows.add(new Object[]{attributeId, attr.values().get(i), i});
+                    }
+                }
+
+                List<Sku> savedSkus = new ArrayList<>(nv.skus().size());
+                for (Sku s : nv.skus()) {
+                    Long skuId = skuIds.next();
+                    skuRows.add(new Object[]{skuId, variantId, s.getSkuCode(), s.getSizeLabel(),
+                            s.getStockQuantity() != null ? s.getStockQuantity() : 0,
+                            s.getPrice() != null ? s.getPrice().amount() : null,
+                            s.getBarcode()});
+                    savedSkus.add(new Sku(skuId, variantId, s.getSkuCode(), s.getSizeLabel(),
+                            s.getStockQuantity(), s.getPrice(), s.getBarcode()));
+                }
+
+                savedVariants.add(new SavedVariant(new ListingVariant(
+                        variantId, baseId, v.getColorKey(), v.getSlug(), v.getWebDescription(),
+                        images, v.getAttributes(), v.getTagIds(), v.getLastSyncAt(), productCode,
+                        v.isEnabled(), v.isActive(),
+                        v.getWeightKg(), v.getWidthCm(), v.getHeightCm(), v.getDepthCm()), savedSkus));
+            }
+            saved.add(new SavedProduct(
+                    new ProductBase(baseId, b.getExternalRef(), b.getName(), b.getCategory(),
+                            b.getCategoryId(), b.getBrandId()),
+                    savedVariants));
+        }
+
+        // Parents before children — foreign keys are checked per statement
+        batch("""
+                INSERT INTO product_bases (id, external_ref, name, category_id, category_name, brand_id)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, baseRows,
+                new int[]{Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.BIGINT});
+        batch("""
+                INSERT INTO listing_variants (id, product_base_id, color_id, slug, web_description,
+                                              is_enabled, is_active, product_code,
+                                              weight_kg, width_cm, height_cm, depth_cm)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, variantRows,
+                new int[]{Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR,
+                        Types.BOOLEAN, Types.BOOLEAN, Types.VARCHAR,
+                        Types.DOUBLE, Types.INTEGER, Types.INTEGER, Types.INTEGER});
+        batch("""
+                INSERT INTO listing_variant_images (listing_variant_id, image_url, sort_order, is_primary)
+                VALUES (?, ?, ?, ?)
+                """, imageRows,
+                new int[]{Types.BIGINT, Types.VARCHAR, Types.INTEGER, Types.BOOLEAN});
+        batch("""
+                INSERT INTO listing_variant_attributes (id, listing_variant_id, attr_key, sort_order)
+                VALUES (?, ?, ?, ?)
+                """, attributeRows,
+                new int[]{Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.INTEGER});
+        batch("""
+                INSERT INTO listing_variant_attribute_values (attribute_id, value, sort_order)
+                VALUES (?, ?, ?)
+                """, valueRows,
+                new int[]{Types.BIGINT, Types.VARCHAR, Types.INTEGER});
+        batch("""
+                INSERT INTO skus (id, listing_variant_id, sku_code, size_label, stock_quantity,
+                                  original_price, barcode)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, skuRows,
+                new int[]{Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER,
+                        Types.NUMERIC, Types.VARCHAR});
+
+        return saved;
+    }
+
+    /** Reserves {@code count} values of the table's id sequence in one round trip. */
+    private Iterator<Long> allocateIds(String table, int count) {
+        if (count == 0) return List.<Long>of().iterator();
+        return jdbc.queryForList(
+                        "SELECT NEXTVAL(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)",
+                        Long.class, table, count)
+                .iterator();
+    }
+
+    private void batch(String sql, List<Object[]> rows, int[] types) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbc.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)), types);
+        }
+    }
+}
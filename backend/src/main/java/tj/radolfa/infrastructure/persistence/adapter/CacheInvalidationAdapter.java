@@ -0,0 +1,159 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tj.radolfa.application.ports.out.CacheInvalidationPort;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Cache invalidation log (see {@code V27__cache_invalidations.sql}).
+ *
+ * <p>Inside a transaction, invalidations are collected and written just before it
+ * commits — one row and one {@code pg_notify} per entity type, however many writes
+ * evicted entries of that type. Postgres holds the notification back until the commit,
+ * so no instance reloads an entry before the change is visible to it. The notification
+ * payload is {@code origin|id}, letting the publisher skip its own messages unread.
+ */
+@Component
+public class CacheInvalidationAdapter implements CacheInvalidationPort {
+
+    public static final String CHANNEL = "cache_invalidation";
+
+    private static final String SELECT = """
+            SELECT id, entity_type, ids, origin,
+                   (EXTRACT(EPOCH FROM clock_timestamp() - created_at) * 1000)::BIGINT AS lag_ms
+            FROM cache_invalidations""";
+
+    /** A logged invalidation; {@code lagMillis} is the time since it was written, by the database clock. */
+    public record Received(long id, Invalidation invalidation, String origin, long lagMillis) {}
+
+    private final JdbcTemplate jdbc;
+    private final String       origin;
+
+    public CacheInvalidationAdapter(JdbcTemplate jdbc) {
+        this.jdbc   = jdbc;
+        this.origin = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /** This instance's tag on the messages it publishes. */
+    public String origin() {
+        return origin;
+    }
+
+    @Override
+    public void publish(EntityType type, Collection<Long> ids) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            write(type, Set.copyOf(ids));
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(type, ids);
+    }
+
+    /** The given log entries, for ids received as notifications. */
+    public List<Received> byIds(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        String in = ids.stream().map(id -> "?").collect(Collectors.joining(","));
+        return jdbc.query(SELECT + " WHERE id IN (" + in + ") ORDER BY id", this::map, ids.toArray())
+                .stream().filter(Objects::nonNull).toList();
+    }
+
+    /** Log entries written after {@code since}, for catch-up polling. */
+    public List<Received> createdSince(Instant since) {
+        return jdbc.query(SELECT + " WHERE created_at > ? ORDER BY id", this::map, Timestamp.from(since))
+                .stream().filter(Objects::nonNull).toList();
+    }
+
+    public int purgeOlderThan(Duration age) {
+        return jdbc.update("DELETE FROM cache_invalidations WHERE created_at < NOW() - make_interval(secs => ?)",
+                (double) age.toSeconds());
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    private void write(EntityType type, Set<Long> ids) {
+        String joined = ids.isEmpty() ? null
+                : ids.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+        jdbc.query("""
+                WITH logged AS (
+                    INSERT INTO cache_invalidations (entity_type, ids, origin)
+                    VALUES (?, ?, ?)
+                    RETURNING id
+                )
+                SELECT pg_notify(?, ? || '|' || id) FROM logged
+                """, rs -> null, type.name(), joined, origin, CHANNEL, origin);
+    }
+
+    /** Null for entity types this version does not know (written by a newer instance). */
+    private Received map(ResultSet rs, int row) throws SQLException {
+        EntityType type;
+        try {
+            type = EntityType.valueOf(rs.getString("entity_type"));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        String ids = rs.getString("ids");
+        Set<Long> parsed = ids == null ? Set.of()
+                : Arrays.stream(ids.split(",")).map(Long::valueOf).collect(Collectors.toSet());
+        return new Received(rs.getLong("id"), new Invalidation(type, parsed),
+                rs.getString("origin"), rs.getLong("lag_ms"));
+    }
+
+    /** Invalidations of one transaction, merged per type; an empty set stands for every entry. */
+    private final class Pending implements TransactionSynchronization {
+
+        private final Map<EntityType, Set<Long>> byType = new EnumMap<>(EntityType.class);
+
+        void add(EntityType type, Collection<Long> ids) {
+            Set<Long> merged = byType.get(type);
+            if (merged == null) {
+                byType.put(type, ids.isEmpty() ? Set.of() : new HashSet<>(ids));
+            } else if (!merged.isEmpty()) {
+                if (ids.isEmpty()) byType.put(type, Set.of());
+                else merged.addAll(ids);
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            byType.forEach(CacheInvalidationAdapter.this::write);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationAdapter.this);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import tj.radolfa.application.ports.out.LoadCartLinePort;
+import tj.radolfa.domain.model.Money;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-query cart line projection: SKU → variant → product / colour, plus the
+ * variant's first image, without hydrating any entity graph.
+ */
+@Component
+public class CartLineReadAdapter implements LoadCartLinePort {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Map<Long, CartLine> findBySkuIds(Collection<Long> skuIds) {
+        if (skuIds.isEmpty()) return Map.of();
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery("""
+                        SELECT s.id, s.sku_code, lv.id, pb.name, c.color_key, s.size_label,
+                               (SELECT i.image_url
+                                FROM listing_variant_images i
+                                WHERE i.listing_variant_id = lv.id
+                                ORDER BY i.sort_order, i.id
+                                LIMIT 1),
+                               s.stock_quantity, s.original_price
+                        FROM skus s
+                        JOIN listing_variants lv ON lv.id = s.listing_variant_id
+                        JOIN product_bases pb    ON pb.id = lv.product_base_id
+                        JOIN colors c            ON c.id  = lv.color_id
+                        WHERE s.id IN (:ids)
+                        """)
+                .setParameter("ids", skuIds)
+                .getResultList();
+
+        Map<Long, CartLine> lines = new HashMap<>();
+        for (Object[] r : rows) {
+            CartLine line = new CartLine(
+                    ((Number) r[0]).longValue(),
+                    (String) r[1],
+                    ((Number) r[2]).longValue(),
+                    (String) r[3],
+                    (String) r[4],
+                    (String) r[5],
+                    (String) r[6],
+                    r[7] != null ? ((Number) r[7]).intValue() : 0,
+                    Money.of((BigDecimal) r[8]));
+            lines.put(line.skuId(), line);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,130 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Maintains the {@code discount_daily_metrics} rollup behind the campaign analytics
+ * endpoints (see {@code V20__discount_daily_metrics.sql}).
+ *
+ * <p>Each completed UTC day is compacted once from {@code discount_application} and the
+ * watermark in {@code discount_daily_metrics_state} advances; {@link QueryDiscountMetricsAdapter}
+ * reads days up to the watermark from here and only the days after it from raw rows.
+ * Compacting a day replaces its rows, so re-running it is always safe.
+ */
+@Slf4j
+@Component
+public class DiscountMetricsRollup {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    /** Last UTC day folded into the rollup. */
+    public LocalDate compactedThrough() {
+        Object value = em.createNativeQuery(
+                        "SELECT compacted_through FROM discount_daily_metrics_state WHERE id = 1")
+                .getSingleResult();
+        return ((Date) value).toLocalDate();
+    }
+
+    /**
+     * Compacts every day after the watermark up to and including {@code lastDay},
+     * then advances the watermark.
+     *
+     * @return number of days compacted
+     */
+    @Transactional
+    public int compactThrough(LocalDate lastDay) {
+        LocalDate day = compactedThrough().plusDays(1);
+        int compacted = 0;
+        while (!day.isAfter(lastDay)) {
+            compactDay(day);
+            day = day.plusDays(1);
+            compacted++;
+        }
+        if (compacted > 0) {
+            em.createNativeQuery("UPDATE discount_daily_metrics_state SET compacted_through = :day WHERE id = 1")
+                    .setParameter("day", lastDay)
+                    .executeUpdate();
+            log.info("[DISCOUNT-METRICS] Compacted {} day(s) through {}", compacted, lastDay);
+        }
+        return compacted;
+    }
+
+    /** Rebuilds one day's rows from {@code discount_application}. */
+    @Transactional
+    public void compactDay(LocalDate day) {
+        em.createNativeQuery("DELETE FROM discount_daily_metrics WHERE metric_date = :day")
+                .setParameter("day", day)
+                .executeUpdate();
+        em.createNativeQuery("""
+                        INSERT INTO discount_daily_metrics
+                               (discount_id, metric_date, orders_using, units_moved, revenue_uplift, compacted_at)
+                        SELECT da.discount_id, :day,
+                               COUNT(DISTINCT da.order_id),
+                               SUM(da.quantity),
+                               SUM(da.discount_amount),
+                               NOW()
+                        FROM discount_application da
+                        WHERE da.applied_at >= :start AND da.applied_at < :end
+                        GROUP BY da.discount_id
+                        """)
+                .setParameter("day", day)
+                .setParameter("start", startOf(day))
+                .setParameter("end", startOf(day.plusDays(1)))
+                .executeUpdate();
+    }
+
+    /**
+     * Consistency check: days in {@code [from, to]} where any campaign's rollup row
+     * differs from what the raw application rows add up to (including rows missing
+     * on either side).
+     */
+    public List<LocalDate> findInconsistentDays(LocalDate from, LocalDate to) {
+        @SuppressWarnings("unchecked")
+        List<Object> rows = em.createNativeQuery("""
+                        WITH raw AS (
+                          SELECT da.discount_id,
+                                 (da.applied_at AT TIME ZONE 'UTC')::date AS metric_date,
+                                 COUNT(DISTINCT da.order_id) AS orders_using,
+                                 SUM(da.quantity)            AS units_moved,
+                                 SUM(da.discount_amount)     AS revenue_uplift
+                          FROM discount_application da
+                          WHERE da.applied_at >= :start AND da.applied_at < :end
+                          GROUP BY 1, 2
+                        ), rollup AS (
+                          SELECT discount_id, metric_date, orders_using, units_moved, revenue_uplift
+                          FROM discount_daily_metrics
+                          WHERE metric_date BETWEEN :from AND :to
+                        )
+                        SELECT DISTINCT COALESCE(r.metric_date, m.metric_date) AS day
+                        FROM raw r
+                        FULL OUTER JOIN rollup m
+                          ON m.discount_id = r.discount_id AND m.metric_date = r.metric_date
+                        WHERE r.discount_id IS NULL OR m.discount_id IS NULL
+                           OR r.orders_using   <> m.orders_using
+                           OR r.units_moved    <> m.units_moved
+                           OR r.revenue_uplift <> m.revenue_uplift
+                        ORDER BY day
+                        """)
+                .setParameter("start", startOf(from))
+                .setParameter("end", startOf(to.plusDays(1)))
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+        return rows.stream().map(r -> ((Date) r).toLocalDate()).toList();
+    }
+
+    static OffsetDateTime startOf(LocalDate day) {
+        return day.atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+}
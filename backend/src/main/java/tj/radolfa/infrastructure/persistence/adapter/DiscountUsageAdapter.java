@@ -1,28 +1,85 @@
 package tj.radolfa.infrastructure.persistence.adapter;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Component;
+import tj.radolfa.application.ports.out.ClaimDiscountUsagePort;
 import tj.radolfa.application.ports.out.QueryDiscountUsagePort;
-import tj.radolfa.infrastructure.persistence.repository.DiscountApplicationRepository;
+import tj.radolfa.application.support.AfterCommit;
+import tj.radolfa.domain.model.Discount;
+import tj.radolfa.infrastructure.persistence.routing.PrimaryReads;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Discount usage counters (see {@code V22__discount_usage_counters.sql}).
+ *
+ * <p>Claims are conditional upserts on the counter rows, so caps hold exactly under
+ * concurrent checkouts. Total counts for resolution are read from an in-memory copy
+ * that is advanced after every committed claim. Claims made by other instances show up
+ * once the copy is older than {@link #TTL} — a claim publishes nothing, so checkouts never
+ * queue behind the cluster-wide invalidation log. Expired totals are reloaded from the
+ * primary; per-customer counts come from the user's {@link UserDiscountSnapshotCache} snapshot.
+ */
 @Component
-public class DiscountUsageAdapter implements QueryDiscountUsagePort {
+public class DiscountUsageAdapter implements QueryDiscountUsagePort, ClaimDiscountUsagePort {
 
-    private final DiscountApplicationRepository repository;
+    static final Duration TTL = Duration.ofSeconds(30);
 
-    public DiscountUsageAdapter(DiscountApplicationRepository repository) {
-        this.repository = repository;
+    @PersistenceContext
+    private EntityManager em;
+
+    private final UserDiscountSnapshotCache snapshotCache;
+    private final PrimaryReads              primaryReads;
+    private final Clock                     clock;
+    private final Map<Long, Counter>        totals = new ConcurrentHashMap<>();
+
+    public DiscountUsageAdapter(UserDiscountSnapshotCache snapshotCache, PrimaryReads primaryReads) {
+        this(snapshotCache, primaryReads, Clock.systemUTC());
+    }
+
+    DiscountUsageAdapter(UserDiscountSnapshotCache snapshotCache, PrimaryReads primaryReads, Clock clock) {
+        this.snapshotCache = snapshotCache;
+        this.primaryReads  = primaryReads;
+        this.clock         = clock;
     }
 
     @Override
     public Map<Long, Long> countByDiscountIds(Collection<Long> discountIds) {
         if (discountIds.isEmpty()) return Map.of();
+        Instant now = clock.instant();
         Map<Long, Long> result = new HashMap<>();
-        for (Object[] row : repository.countByDiscountIds(discountIds)) {
-            result.put((Long) row[0], (Long) row[1]);
+        List<Long> stale = discountIds.stream()
+                .distinct()
+                .filter(id -> {
+                    Counter c = totals.get(id);
+                    if (c == null || !c.loadedAt().plus(TTL).isAfter(now)) return true;
+                    if (c.uses() > 0) result.put(id, c.uses());
+                    return false;
+                })
+                .toList();
+        if (stale.isEmpty()) return result;
+
+        Map<Long, Long> loaded = new HashMap<>();
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = primaryReads.read(() -> em.createNativeQuery(
+                        "SELECT discount_id, uses FROM discount_usage WHERE discount_id IN (:ids)")
+                .setParameter("ids", stale)
+                .getResultList());
+        for (Object[] r : rows) {
+            loaded.put(((Number) r[0]).longValue(), ((Number) r[1]).longValue());
+        }
+        for (Long id : stale) {
+            long uses = loaded.getOrDefault(id, 0L);
+            totals.merge(id, new Counter(uses, now), Counter::newer);
+            if (uses > 0) result.put(id, uses);
         }
         return result;
     }
@@ -30,10 +87,64 @@ public class DiscountUsageAdapter implements QueryDiscountUsagePort {
     @Override
     public Map<Long, Long> countByDiscountIdsForUser(Collection<Long> discountIds, Long userId) {
         if (discountIds.isEmpty()) return Map.of();
+        Map<Long, Long> usage = snapshotCache.usage(userId);
         Map<Long, Long> result = new HashMap<>();
-        for (Object[] row : repository.countByDiscountIdsForUser(discountIds, userId)) {
-            result.put((Long) row[0], (Long) row[1]);
+        for (Long id : discountIds) {
+            Long count = usage.get(id);
+            if (count != null) result.put(id, count);
         }
         return result;
     }
+
+    @Override
+    public boolean tryClaim(Discount discount, Long userId) {
+        if (exhausted(discount.usageCapTotal()) || exhausted(discount.usageCapPerCustomer())) return false;
+
+        // Row lock on the counter serialises concurrent claims of the same campaign
+        List<?> total = em.createNativeQuery("""
+                        INSERT INTO discount_usage AS u (discount_id, uses)
+                        VALUES (:discountId, 1)
+                        ON CONFLICT (discount_id) DO UPDATE SET uses = u.uses + 1
+                        WHERE u.uses < :cap
+                        RETURNING uses
+                        """)
+                .setParameter("discountId", discount.id())
+                .setParameter("cap", capOf(discount.usageCapTotal()))
+                .getResultList();
+        if (total.isEmpty()) return false;
+
+        List<?> perUser = em.createNativeQuery("""
+                        INSERT INTO discount_user_usage AS u (discount_id, user_id, uses)
+                        VALUES (:discountId, :userId, 1)
+                        ON CONFLICT (discount_id, user_id) DO UPDATE SET uses = u.uses + 1
+                        WHERE u.uses < :cap
+                        RETURNING uses
+                        """)
+                .setParameter("discountId", discount.id())
+                .setParameter("userId", userId)
+                .setParameter("cap", capOf(discount.usageCapPerCustomer()))
+                .getResultList();
+        if (perUser.isEmpty()) return false;
+
+        long uses = ((Number) total.get(0)).longValue();
+        AfterCommit.run(() -> totals.merge(discount.id(), new Counter(uses, clock.instant()), Counter::newer));
+        return true;
+    }
+
+    private static long capOf(Integer cap) {
+        return cap != null ? cap : Long.MAX_VALUE;
+    }
+
+    /** A cap of zero rejects even the first use, which the insert branch would accept. */
+    private static boolean exhausted(Integer cap) {
+        return cap != null && cap <= 0;
+    }
+
+    /** Cached total; counters only grow, so the larger value is the more recent one. */
+    record Counter(long uses, Instant loadedAt) {
+
+        static Counter newer(Counter a, Counter b) {
+            return a.uses() > b.uses() ? new Counter(a.uses(), b.loadedAt()) : b;
+        }
+    }
 }
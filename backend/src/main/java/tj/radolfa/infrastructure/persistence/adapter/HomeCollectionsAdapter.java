@@ -12,6 +12,7 @@ import tj.radolfa.infrastructure.persistence.repository.SkuRepository;
 import tj.radolfa.application.readmodel.ListingVariantDto;
 import tj.radolfa.application.readmodel.ListingVariantDto.TagView;
 import tj.radolfa.application.readmodel.SkuDto;
+import tj.radolfa.infrastructure.persistence.routing.ReadReplica;
 
 import java.util.List;
 import java.util.Map;
@@ -24,6 +25,7 @@ import java.util.Map;
  * Discounts are resolved from the discounts table post-query.
  */
 @Component
+@ReadReplica
 public class HomeCollectionsAdapter implements LoadHomeCollectionsPort {
 
     private static final String FEATURED_TAG_NAME = "featured";
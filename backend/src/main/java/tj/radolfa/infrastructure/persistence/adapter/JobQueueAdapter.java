@@ -0,0 +1,136 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tj.radolfa.application.ports.out.JobQueuePort;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job queue table (see {@code V24__job_queue.sql}).
+ *
+ * <p>{@link #claim} leases due jobs with {@code FOR UPDATE SKIP LOCKED} and commits the
+ * lease at once, so concurrent workers never receive the same job and a worker that
+ * dies mid-job only delays it until the lease runs out. {@link #complete} must run in
+ * the transaction of the job's own work.
+ *
+ * <p>{@link #enqueue} revives a job parked as DEAD under the same key with a fresh set of
+ * attempts, so a redelivered callback (or an operator re-posting it) retries the stage.
+ */
+@Component
+public class JobQueueAdapter implements JobQueuePort {
+
+    /** A leased job; {@code attempts} includes the current one. */
+    public record ClaimedJob(long id, Stage stage, String key, String payload, int attempts, Instant createdAt) {}
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public boolean enqueue(Stage stage, String key, String payload) {
+        return em.createNativeQuery("""
+                        INSERT INTO job_queue (stage, job_key, payload)
+                        VALUES (:stage, :key, NULLIF(:payload, ''))
+                        ON CONFLICT (stage, job_key) DO UPDATE
+                        SET status       = 'PENDING',
+                            attempts     = 0,
+                            run_after    = NOW(),
+                            locked_until = NULL,
+                            updated_at   = NOW()
+                        WHERE job_queue.status = 'DEAD'
+                        """)
+                .setParameter("stage", stage.name())
+                .setParameter("key", key)
+                .setParameter("payload", payload == null ? "" : payload)
+                .executeUpdate() == 1;
+    }
+
+    @Transactional
+    public List<ClaimedJob> claim(int limit, Duration lease) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery("""
+                        UPDATE job_queue j
+                        SET status       = 'RUNNING',
+                            attempts     = j.attempts + 1,
+                            locked_until = NOW() + make_interval(secs => :leaseSeconds),
+                            updated_at   = NOW()
+                        WHERE j.id IN (SELECT id FROM job_queue
+                                       WHERE (status = 'PENDING' AND run_after <= NOW())
+                                          OR (status = 'RUNNING' AND locked_until < NOW())
+                                       ORDER BY run_after
+                                       LIMIT :limit
+                                       FOR UPDATE SKIP LOCKED)
+                        RETURNING j.id, j.stage, j.job_key, j.payload, j.attempts, j.created_at
+                        """)
+                .setParameter("leaseSeconds", lease.toSeconds())
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(r -> new ClaimedJob(
+                        ((Number) r[0]).longValue(),
+                        Stage.valueOf((String) r[1]),
+                        (String) r[2],
+                        (String) r[3],
+                        ((Number) r[4]).intValue(),
+                        toInstant(r[5])))
+                .toList();
+    }
+
+    /** Marks the job done; joins the caller's transaction. */
+    public void complete(long jobId) {
+        em.createNativeQuery("""
+                        UPDATE job_queue
+                        SET status = 'DONE', locked_until = NULL, last_error = NULL, updated_at = NOW()
+                        WHERE id = :id
+                        """)
+                .setParameter("id", jobId)
+                .executeUpdate();
+    }
+
+    /** Records a failed attempt: the job runs again after {@code retryIn}, or is parked as DEAD when null. */
+    @Transactional
+    public void fail(long jobId, String error, Duration retryIn) {
+        em.createNativeQuery("""
+                        UPDATE job_queue
+                        SET status       = :status,
+                            run_after    = NOW() + make_interval(secs => :retrySeconds),
+                            locked_until = NULL,
+                            last_error   = :error,
+                            updated_at   = NOW()
+                        WHERE id = :id
+                        """)
+                .setParameter("status", retryIn == null ? "DEAD" : "PENDING")
+                .setParameter("retrySeconds", retryIn == null ? 0 : retryIn.toSeconds())
+                .setParameter("error", error == null ? "" : error)
+                .setParameter("id", jobId)
+                .executeUpdate();
+    }
+
+    /** PENDING jobs per stage, for the backlog gauges. */
+    @Transactional(readOnly = true)
+    public Map<Stage, Long> pendingByStage() {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery(
+                        "SELECT stage, COUNT(*) FROM job_queue WHERE status = 'PENDING' GROUP BY stage")
+                .getResultList();
+        Map<Stage, Long> pending = new EnumMap<>(Stage.class);
+        for (Object[] r : rows) {
+            pending.put(Stage.valueOf((String) r[0]), ((Number) r[1]).longValue());
+        }
+        return pending;
+    }
+
+    private static Instant toInstant(Object val) {
+        if (val instanceof Timestamp ts)     return ts.toInstant();
+        if (val instanceof OffsetDateTime o) return o.toInstant();
+        return (Instant) val;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import tj.radolfa.application.ports.out.DiscountedProductFilter;
 import tj.radolfa.application.ports.out.ListDiscountedProductsPort;
 import tj.radolfa.application.ports.out.LoadDiscountPort;
@@ -23,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
@@ -37,6 +39,32 @@ public class ListDiscountedProductsAdapter implements ListDiscountedProductsPort
             "stockQuantity", "s.stock_quantity"
     );
 
+    private static final String SELECT_COLUMNS = """
+            SELECT s.id AS sku_id,
+                   s.sku_code,
+                   s.size_label,
+                   s.stock_quantity,
+                   s.original_price,
+                   s.original_price * (100 - w.amount_value) / 100 AS final_price,
+                   w.amount_value AS delta_percent,
+                   w.id AS winner_id,
+                   w.amount_value AS winner_value,
+                   w.title AS winner_title,
+                   w.color_hex AS winner_color_hex,
+                   w.rank AS winner_rank,
+                   w.type_id AS winner_type_id,
+                   w.type_name AS winner_type_name,
+                   lv.id AS variant_id,
+                   lv.product_code,
+                   pb.id AS product_base_id,
+                   pb.name AS product_name,
+                   (SELECT lvi.image_url
+                    FROM listing_variant_images lvi
+                    WHERE lvi.listing_variant_id = lv.id
+                    ORDER BY lvi.is_primary DESC NULLS LAST, lvi.sort_order ASC
+                    LIMIT 1) AS image_url
+            """;
+
     @PersistenceContext
     private EntityManager em;
 
@@ -48,56 +76,9 @@ public class ListDiscountedProductsAdapter implements ListDiscountedProductsPort
 
     @Override
     public Page<DiscountedProductRow> findDiscountedProducts(DiscountedProductFilter filter, Pageable pageable) {
-        String whereClause = buildWhereClause(filter);
-        String orderClause = buildOrderClause(pageable);
-
-        String baseSql = """
-                FROM skus s
-                JOIN listing_variants lv ON lv.id = s.listing_variant_id
-                JOIN product_bases pb ON pb.id = lv.product_base_id
-                JOIN LATERAL (
-                    SELECT d.id, d.amount_value, dt.rank,
-                           d.title, d.color_hex, dt.id AS type_id, dt.name AS type_name
-                    FROM discounts d
-                    JOIN discount_types dt ON dt.id = d.discount_type_id
-                    JOIN discount_items di ON di.discount_id = d.id
-                    WHERE di.item_code = s.sku_code
-                      AND d.is_disabled = FALSE
-                      AND d.valid_from <= NOW()
-                      AND d.valid_upto >= NOW()
-                      AND d.amount_type = 'PERCENT'
-                    ORDER BY dt.rank ASC, d.id ASC
-                    LIMIT 1
-                ) w ON TRUE
-                """ + whereClause;
-
-        String selectSql = """
-                SELECT s.id AS sku_id,
-                       s.sku_code,
-                       s.size_label,
-                       s.stock_quantity,
-                       s.original_price,
-                       s.original_price * (100 - w.amount_value) / 100 AS final_price,
-                       w.amount_value AS delta_percent,
-                       w.id AS winner_id,
-                       w.amount_value AS winner_value,
-                       w.title AS winner_title,
-                       w.color_hex AS winner_color_hex,
-                       w.rank AS winner_rank,
-                       w.type_id AS winner_type_id,
-                       w.type_name AS winner_type_name,
-                       lv.id AS variant_id,
-                       lv.product_code,
-                       pb.id AS product_base_id,
-                       pb.name AS product_name,
-                       (SELECT lvi.image_url
-                        FROM listing_variant_images lvi
-                        WHERE lvi.listing_variant_id = lv.id
-                        ORDER BY lvi.is_primary DESC NULLS LAST, lvi.sort_order ASC
-                        LIMIT 1) AS image_url
-                """ + baseSql + " " + orderClause;
-
-        String countSql = "SELECT COUNT(*) " + baseSql;
+        String baseSql   = buildBaseSql(filter);
+        String selectSql = SELECT_COLUMNS + baseSql + " " + buildOrderClause(pageable.getSort());
+        String countSql  = "SELECT COUNT(*) " + baseSql;
 
         Query selectQuery = em.createNativeQuery(selectSql);
         Query countQuery = em.createNativeQuery(countSql);
@@ -131,6 +112,16 @@ public class ListDiscountedProductsAdapter implements ListDiscountedProductsPort
         return new PageImpl<>(content, pageable, total);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamDiscountedProducts(DiscountedProductFilter filter, Sort sort,
+                                         Consumer<DiscountedProductRow> sink) {
+        Query query = em.createNativeQuery(
+                SELECT_COLUMNS + buildBaseSql(filter) + " " + buildOrderClause(sort));
+        bindParams(filter, query);
+        AdminExportAdapter.stream(query, r -> sink.accept(toRow(r, Map.of())));
+    }
+
     private Map<String, List<DiscountSummary>> buildOthersMap(List<Discount> allActive,
                                                                Set<Long> winnerIds,
                                                                List<String> skuCodes) {
@@ -188,6 +179,28 @@ public class ListDiscountedProductsAdapter implements ListDiscountedProductsPort
         );
     }
 
+    private String buildBaseSql(DiscountedProductFilter filter) {
+        return """
+                FROM skus s
+                JOIN listing_variants lv ON lv.id = s.listing_variant_id
+                JOIN product_bases pb ON pb.id = lv.product_base_id
+                JOIN LATERAL (
+                    SELECT d.id, d.amount_value, dt.rank,
+                           d.title, d.color_hex, dt.id AS type_id, dt.name AS type_name
+                    FROM discounts d
+                    JOIN discount_types dt ON dt.id = d.discount_type_id
+                    JOIN discount_items di ON di.discount_id = d.id
+                    WHERE di.item_code = s.sku_code
+                      AND d.is_disabled = FALSE
+                      AND d.valid_from <= NOW()
+                      AND d.valid_upto >= NOW()
+                      AND d.amount_type = 'PERCENT'
+                    ORDER BY dt.rank ASC, d.id ASC
+                    LIMIT 1
+                ) w ON TRUE
+                """ + buildWhereClause(filter);
+    }
+
     private String buildWhereClause(DiscountedProductFilter filter) {
         List<String> conditions = new ArrayList<>();
 
@@ -207,12 +220,12 @@ public class ListDiscountedProductsAdapter implements ListDiscountedProductsPort
         return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
     }
 
-    private String buildOrderClause(Pageable pageable) {
-        if (pageable.getSort().isUnsorted()) {
+    private String buildOrderClause(Sort sort) {
+        if (sort.isUnsorted()) {
             return "ORDER BY s.sku_code ASC";
         }
         List<String> parts = new ArrayList<>();
-        for (Sort.Order order : pageable.getSort()) {
+        for (Sort.Order order : sort) {
             String col = SORT_COLUMN_WHITELIST.get(order.getProperty());
             if (col == null) continue;
             parts.add(col + (order.isAscending() ? " ASC" : " DESC"));
@@ -3,6 +3,7 @@ package tj.radolfa.infrastructure.persistence.adapter;
 import tj.radolfa.application.readmodel.ListingVariantDto;
 import tj.radolfa.application.readmodel.ListingVariantDto.TagView;
 import tj.radolfa.application.readmodel.SkuDto;
+import tj.radolfa.domain.model.ImageRendition;
 import tj.radolfa.infrastructure.persistence.adapter.DiscountEnrichmentAdapter.DiscountInfo;
 import tj.radolfa.infrastructure.persistence.repository.ListingVariantRepository;
 import tj.radolfa.infrastructure.persistence.repository.SkuRepository;
@@ -71,7 +72,8 @@ final class ListingGridRowMapper {
         return variantRepo.findImagesByVariantIds(variantIds).stream()
                 .collect(Collectors.groupingBy(
                         row -> (Long) row[0],
-                        Collectors.mapping(row -> (String) row[1], Collectors.toList())));
+                        Collectors.mapping(row -> ImageRendition.url((String) row[1], ImageRendition.CARD),
+                                Collectors.toList())));
     }
 
     static Map<Long, List<TagView>> loadTagMap(List<Long> variantIds,
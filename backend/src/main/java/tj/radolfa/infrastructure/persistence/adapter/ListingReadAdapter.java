@@ -6,6 +6,7 @@ import org.springframework.stereotype.Component;
 
 import tj.radolfa.application.ports.out.LoadListingPort;
 import tj.radolfa.application.readmodel.ReviewTraitView;
+import tj.radolfa.domain.model.ImageRendition;
 import tj.radolfa.domain.model.PageResult;
 import tj.radolfa.domain.model.ReviewTrait;
 import tj.radolfa.infrastructure.persistence.entity.CategoryEntity;
@@ -24,6 +25,7 @@ import tj.radolfa.application.readmodel.SkuDto;
 import tj.radolfa.domain.model.AppliedDiscount;
 import tj.radolfa.domain.model.Discount;
 import tj.radolfa.infrastructure.persistence.entity.ListingVariantAttributeEntity;
+import tj.radolfa.infrastructure.persistence.routing.ReadReplica;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -42,6 +44,7 @@ import java.util.Optional;
  * Discounts are resolved from the discounts table post-query.
  */
 @Component
+@ReadReplica
 public class ListingReadAdapter implements LoadListingPort {
 
         private final ListingVariantRepository variantRepo;
@@ -191,7 +194,8 @@ public class ListingReadAdapter implements LoadListingPort {
                                 .map(row -> {
                                         Long sibId = (Long) row[0];
                                         List<String> sibImages = siblingImageMap.getOrDefault(sibId, List.of());
-                                        String thumbnail = sibImages.isEmpty() ? null : sibImages.get(0);
+                                        String thumbnail = sibImages.isEmpty() ? null
+                                                        : ImageRendition.url(sibImages.get(0), ImageRendition.THUMB);
                                         return new ListingVariantDetailDto.SiblingVariant(
                                                         (String) row[1],   // slug
                                                         (String) row[2],   // colorKey
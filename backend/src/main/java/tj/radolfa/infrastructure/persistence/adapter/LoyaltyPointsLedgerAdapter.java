@@ -0,0 +1,175 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loyalty points ledger (see {@code V23__loyalty_points_ledger.sql}).
+ *
+ * <p>A balance is the user's {@code loyalty_point_balances} snapshot plus the ledger rows
+ * after it. Every movement first locks that snapshot row, which serialises one user's
+ * movements (so a debit is conditional on the balance it read) without touching the
+ * {@code users} row. {@link #snapshot} folds ledger tails into the snapshots, skipping
+ * users with a movement in flight.
+ */
+@Component
+public class LoyaltyPointsLedgerAdapter implements LoyaltyPointsLedgerPort {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public int balance(Long userId) {
+        Number balance = (Number) em.createNativeQuery("""
+                        SELECT COALESCE(b.balance, 0) + COALESCE((
+                                   SELECT SUM(l.delta)
+                                   FROM loyalty_point_ledger l
+                                   WHERE l.user_id = :userId
+                                     AND l.id > COALESCE(b.last_entry_id, 0)), 0)
+                        FROM (SELECT 1) one
+                        LEFT JOIN loyalty_point_balances b ON b.user_id = :userId
+                        """)
+                .setParameter("userId", userId)
+                .getSingleResult();
+        return balance.intValue();
+    }
+
+    @Override
+    public Map<Long, Integer> balances(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+        Map<Long, Integer> result = new HashMap<>();
+        for (Long id : userIds) {
+            result.put(id, 0);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery("""
+                        SELECT b.user_id, b.balance + COALESCE(SUM(l.delta), 0)
+                        FROM loyalty_point_balances b
+                        LEFT JOIN loyalty_point_ledger l
+                               ON l.user_id = b.user_id AND l.id > b.last_entry_id
+                        WHERE b.user_id IN (:ids)
+                        GROUP BY b.user_id, b.balance
+                        """)
+                .setParameter("ids", result.keySet())
+                .getResultList();
+        for (Object[] r : rows) {
+            result.put(((Number) r[0]).longValue(), ((Number) r[1]).intValue());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean credit(Long userId, int points, Reason reason, Long orderId) {
+        requirePositive(points);
+        lockBalance(userId);
+        return append(userId, points, reason, orderId);
+    }
+
+    @Override
+    public boolean tryDebit(Long userId, int points, Reason reason, Long orderId) {
+        requirePositive(points);
+        if (lockBalance(userId) < points) return false;
+        return append(userId, -points, reason, orderId);
+    }
+
+    @Override
+    public int debitUpTo(Long userId, int points, Reason reason, Long orderId) {
+        requirePositive(points);
+        int debited = Math.min(points, lockBalance(userId));
+        if (debited == 0 || !append(userId, -debited, reason, orderId)) return 0;
+        return debited;
+    }
+
+    /**
+     * Folds the ledger tails of up to {@code limit} users into their snapshots.
+     *
+     * @return the number of users whose snapshot advanced
+     */
+    @Transactional
+    public int snapshot(int limit) {
+        // Users mid-movement hold their row until commit — they are picked up next run
+        @SuppressWarnings("unchecked")
+        List<Number> locked = em.createNativeQuery("""
+                        SELECT b.user_id
+                        FROM loyalty_point_balances b
+                        WHERE EXISTS (SELECT 1 FROM loyalty_point_ledger l
+                                      WHERE l.user_id = b.user_id AND l.id > b.last_entry_id)
+                        ORDER BY b.user_id
+                        LIMIT :limit
+                        FOR UPDATE SKIP LOCKED
+                        """)
+                .setParameter("limit", limit)
+                .getResultList();
+        if (locked.isEmpty()) return 0;
+
+        return em.createNativeQuery("""
+                        UPDATE loyalty_point_balances b
+                        SET balance       = b.balance + t.delta,
+                            last_entry_id = t.last_id,
+                            snapshot_at   = NOW()
+                        FROM (SELECT l.user_id, SUM(l.delta) AS delta, MAX(l.id) AS last_id
+                              FROM loyalty_point_ledger l
+                              JOIN loyalty_point_balances cur ON cur.user_id = l.user_id
+                              WHERE l.user_id IN (:ids) AND l.id > cur.last_entry_id
+                              GROUP BY l.user_id) t
+                        WHERE b.user_id = t.user_id
+                        """)
+                .setParameter("ids", locked.stream().map(Number::longValue).toList())
+                .executeUpdate();
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    /** Locks the user's snapshot row (creating it on first use) and returns the balance. */
+    private int lockBalance(Long userId) {
+        em.createNativeQuery("""
+                        INSERT INTO loyalty_point_balances (user_id)
+                        VALUES (:userId)
+                        ON CONFLICT (user_id) DO NOTHING
+                        """)
+                .setParameter("userId", userId)
+                .executeUpdate();
+        em.createNativeQuery("SELECT user_id FROM loyalty_point_balances WHERE user_id = :userId FOR UPDATE")
+                .setParameter("userId", userId)
+                .getSingleResult();
+        return balance(userId);
+    }
+
+    private boolean append(Long userId, int delta, Reason reason, Long orderId) {
+        if (orderId == null) {
+            return em.createNativeQuery("""
+                            INSERT INTO loyalty_point_ledger (user_id, delta, reason)
+                            VALUES (:userId, :delta, :reason)
+                            """)
+                    .setParameter("userId", userId)
+                    .setParameter("delta", delta)
+                    .setParameter("reason", reason.name())
+                    .executeUpdate() == 1;
+        }
+        return em.createNativeQuery("""
+                        INSERT INTO loyalty_point_ledger (user_id, delta, reason, order_id)
+                        VALUES (:userId, :delta, :reason, :orderId)
+                        ON CONFLICT (order_id, reason) WHERE order_id IS NOT NULL DO NOTHING
+                        """)
+                .setParameter("userId", userId)
+                .setParameter("delta", delta)
+                .setParameter("reason", reason.name())
+                .setParameter("orderId", orderId)
+                .executeUpdate() == 1;
+    }
+
+    private static void requirePositive(int points) {
+        if (points <= 0) {
+            throw new IllegalArgumentException("points must be positive, got: " + points);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import tj.radolfa.domain.model.LoyaltyTier;
 import tj.radolfa.infrastructure.persistence.entity.LoyaltyTierEntity;
 import tj.radolfa.infrastructure.persistence.mappers.LoyaltyTierMapper;
 import tj.radolfa.infrastructure.persistence.repository.LoyaltyTierRepository;
+import tj.radolfa.infrastructure.persistence.routing.PrimaryReads;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,11 +19,14 @@ public class LoyaltyTierRepositoryAdapter implements LoadLoyaltyTierPort, SaveLo
 
     private final LoyaltyTierRepository repository;
     private final LoyaltyTierMapper mapper;
+    private final PrimaryReads primaryReads;
 
     public LoyaltyTierRepositoryAdapter(LoyaltyTierRepository repository,
-                                        LoyaltyTierMapper mapper) {
+                                        LoyaltyTierMapper mapper,
+                                        PrimaryReads primaryReads) {
         this.repository = repository;
         this.mapper = mapper;
+        this.primaryReads = primaryReads;
     }
 
     @Override
@@ -37,10 +41,11 @@ public class LoyaltyTierRepositoryAdapter implements LoadLoyaltyTierPort, SaveLo
 
     @Override
     public List<LoyaltyTier> findAll() {
-        return repository.findAllByOrderByDisplayOrderAsc()
+        // Loads the LoyaltyTierCache tier table, which must not be refilled from a lagging replica
+        return primaryReads.read(() -> repository.findAllByOrderByDisplayOrderAsc()
                 .stream()
                 .map(mapper::toDomain)
-                .toList();
+                .toList());
     }
 
     @Override
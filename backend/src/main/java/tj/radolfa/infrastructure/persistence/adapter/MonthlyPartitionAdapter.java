@@ -0,0 +1,80 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Month partitions of tables range-partitioned by a UTC timestamp (see
+ * {@code V28__monthly_partitions.sql}).
+ *
+ * <p>Partitions are named {@code <parent>_pYYYYMM}. Creating one moves any rows of its
+ * month out of the parent's default partition first, so it is safe whether or not rows
+ * for that month already arrived. Archiving detaches a partition and moves it into the
+ * {@code archive} schema: queries on the parent no longer see it, but nothing is deleted.
+ */
+@Slf4j
+@Component
+public class MonthlyPartitionAdapter {
+
+    public static final String ARCHIVE_SCHEMA = "archive";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern           NAME   = Pattern.compile("[a-z_]+_p\\d{6}");
+
+    /** An attached month partition. */
+    public record Partition(String name, YearMonth month) {}
+
+    private final JdbcTemplate jdbc;
+
+    public MonthlyPartitionAdapter(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Creates the partition of {@code parent} for {@code month} unless it exists.
+     *
+     * @return the new partition's name; empty when it already existed
+     */
+    public Optional<String> ensure(String parent, String keyColumn, YearMonth month) {
+        String created = jdbc.queryForObject("SELECT create_monthly_partition(?, ?, ?)", String.class,
+                parent, keyColumn, Date.valueOf(month.atDay(1)));
+        return Optional.ofNullable(created);
+    }
+
+    /** Month partitions currently attached to {@code parent}, oldest first. */
+    public List<Partition> list(String parent) {
+        return jdbc.query("""
+                        SELECT c.relname
+                        FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        WHERE i.inhparent = ?::regclass
+                          AND c.relname ~ '_p[0-9]{6}$'
+                        ORDER BY c.relname
+                        """,
+                (rs, n) -> {
+                    String name = rs.getString(1);
+                    return new Partition(name, YearMonth.parse(name.substring(name.length() - 6), SUFFIX));
+                },
+                parent);
+    }
+
+    /** Detaches {@code partition} from {@code parent} and moves it into the archive schema. */
+    @Transactional
+    public void archive(String parent, String partition) {
+        if (!NAME.matcher(partition).matches() || !partition.startsWith(parent + "_p")) {
+            throw new IllegalArgumentException("Not a month partition of " + parent + ": " + partition);
+        }
+        jdbc.execute("ALTER TABLE " + parent + " DETACH PARTITION " + partition);
+        jdbc.execute("ALTER TABLE " + partition + " SET SCHEMA " + ARCHIVE_SCHEMA);
+        log.info("[PARTITIONS] Archived {} to {}.{}", partition, ARCHIVE_SCHEMA, partition);
+    }
+}
@@ -0,0 +1,156 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tj.radolfa.application.ports.out.NotificationPort;
+import tj.radolfa.domain.model.OrderStatus;
+import tj.radolfa.infrastructure.notification.OutboundNotification;
+import tj.radolfa.infrastructure.notification.OutboundNotification.Kind;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Notification outbox (see {@code V25__notification_outbox.sql}).
+ *
+ * <p>The {@link NotificationPort} methods only insert a row, joining the caller's
+ * transaction. Rows are leased, delivered and settled by
+ * {@link tj.radolfa.infrastructure.scheduling.NotificationDispatcher}.
+ */
+@Component
+public class NotificationOutboxAdapter implements NotificationPort {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional
+    public void sendOrderConfirmation(Long userId, Long orderId) {
+        record(Kind.ORDER_CONFIRMATION, userId, orderId, null);
+    }
+
+    @Override
+    @Transactional
+    public void sendOrderStatusUpdate(Long userId, Long orderId, OrderStatus newStatus) {
+        record(Kind.ORDER_STATUS_UPDATE, userId, orderId, newStatus.name());
+    }
+
+    @Override
+    @Transactional
+    public void sendReviewApprovedNotification(Long userId, Long reviewId) {
+        record(Kind.REVIEW_APPROVED, userId, reviewId, null);
+    }
+
+    @Override
+    @Transactional
+    public void sendReviewReplyNotification(Long userId, Long reviewId) {
+        record(Kind.REVIEW_REPLY, userId, reviewId, null);
+    }
+
+    /** Leases up to {@code limit} due messages, oldest first. */
+    @Transactional
+    public List<OutboundNotification> claim(int limit, Duration lease) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery("""
+                        UPDATE notification_outbox n
+                        SET attempts     = n.attempts + 1,
+                            locked_until = NOW() + make_interval(secs => :leaseSeconds)
+                        WHERE n.id IN (SELECT id FROM notification_outbox
+                                       WHERE status = 'PENDING'
+                                         AND next_attempt_at <= NOW()
+                                         AND (locked_until IS NULL OR locked_until < NOW())
+                                       ORDER BY next_attempt_at, id
+                                       LIMIT :limit
+                                       FOR UPDATE SKIP LOCKED)
+                        RETURNING n.id, n.kind, n.user_id, n.ref_id, n.detail, n.attempts, n.created_at
+                        """)
+                .setParameter("leaseSeconds", lease.toSeconds())
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(r -> new OutboundNotification(
+                        ((Number) r[0]).longValue(),
+                        Kind.valueOf((String) r[1]),
+                        ((Number) r[2]).longValue(),
+                        ((Number) r[3]).longValue(),
+                        (String) r[4],
+                        ((Number) r[5]).intValue(),
+                        toInstant(r[6])))
+                .toList();
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        em.createNativeQuery("""
+                        UPDATE notification_outbox
+                        SET status = 'SENT', sent_at = NOW(), locked_until = NULL, last_error = NULL
+                        WHERE id IN (:ids)
+                        """)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    /** Reschedules the messages after {@code retryIn}, or parks them as DEAD when null. */
+    @Transactional
+    public void markFailed(Collection<Long> ids, String error, Duration retryIn) {
+        if (ids.isEmpty()) return;
+        em.createNativeQuery("""
+                        UPDATE notification_outbox
+                        SET status          = :status,
+                            next_attempt_at = NOW() + make_interval(secs => :retrySeconds),
+                            locked_until    = NULL,
+                            last_error      = :error
+                        WHERE id IN (:ids)
+                        """)
+                .setParameter("status", retryIn == null ? "DEAD" : "PENDING")
+                .setParameter("retrySeconds", retryIn == null ? 0 : retryIn.toSeconds())
+                .setParameter("error", error == null ? "" : error)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    @Transactional(readOnly = true)
+    public long backlog() {
+        return ((Number) em.createNativeQuery(
+                        "SELECT COUNT(*) FROM notification_outbox WHERE status = 'PENDING'")
+                .getSingleResult()).longValue();
+    }
+
+    /** Deletes SENT messages older than {@code retention}; returns the number deleted. */
+    @Transactional
+    public int purgeSent(Duration retention) {
+        return em.createNativeQuery("""
+                        DELETE FROM notification_outbox
+                        WHERE status = 'SENT' AND sent_at < NOW() - make_interval(secs => :retentionSeconds)
+                        """)
+                .setParameter("retentionSeconds", retention.toSeconds())
+                .executeUpdate();
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    private void record(Kind kind, Long userId, Long refId, String detail) {
+        em.createNativeQuery("""
+                        INSERT INTO notification_outbox (kind, user_id, ref_id, detail)
+                        VALUES (:kind, :userId, :refId, NULLIF(:detail, ''))
+                        """)
+                .setParameter("kind", kind.name())
+                .setParameter("userId", userId)
+                .setParameter("refId", refId)
+                .setParameter("detail", detail == null ? "" : detail)
+                .executeUpdate();
+    }
+
+    private static Instant toInstant(Object val) {
+        if (val instanceof Timestamp ts)     return ts.toInstant();
+        if (val instanceof OffsetDateTime o) return o.toInstant();
+        return (Instant) val;
+    }
+}
@@ -27,13 +27,16 @@ public class OrderRepositoryAdapter implements LoadOrderPort, SaveOrderPort, Loa
     private final OrderRepository repository;
     private final OrderMapper mapper;
     private final EntityManager em;
+    private final UserDiscountSnapshotCache snapshotCache;
 
     public OrderRepositoryAdapter(OrderRepository repository,
                                   OrderMapper mapper,
-                                  EntityManager em) {
+                                  EntityManager em,
+                                  UserDiscountSnapshotCache snapshotCache) {
         this.repository = repository;
         this.mapper = mapper;
         this.em = em;
+        this.snapshotCache = snapshotCache;
     }
 
     @Override
@@ -114,6 +117,8 @@ public class OrderRepositoryAdapter implements LoadOrderPort, SaveOrderPort, Loa
         }
 
         var saved = repository.save(entity);
+        // New order or status change: new-customer flag and campaign usage may differ
+        snapshotCache.invalidate(order.userId());
         return mapper.toOrder(saved);
     }
 }
@@ -18,6 +18,7 @@ import tj.radolfa.infrastructure.persistence.entity.SkuEntity;
 import tj.radolfa.infrastructure.persistence.repository.ListingVariantRepository;
 import tj.radolfa.infrastructure.persistence.repository.ProductBaseRepository;
 import tj.radolfa.infrastructure.persistence.repository.SkuRepository;
+import tj.radolfa.infrastructure.persistence.routing.ReadReplica;
 
 import java.util.List;
 import java.util.Map;
@@ -37,6 +38,7 @@ import java.util.stream.Collectors;
  * Expected cardinality is small (≤ 10 variants × ≤ 20 SKUs), so this is appropriate.
  */
 @Component
+@ReadReplica
 public class ProductCardReadAdapter implements LoadProductCardPort {
 
     private final ProductBaseRepository productBaseRepo;
@@ -3,6 +3,8 @@ package tj.radolfa.infrastructure.persistence.adapter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Generates human-friendly product codes for new listing variants.
  *
@@ -24,6 +26,20 @@ class ProductCodeGenerator {
     String generate() {
         Long seq = jdbc.queryForObject(
                 "SELECT NEXTVAL('listing_variant_code_seq')", Long.class);
+        return format(seq);
+    }
+
+    /** Draws {@code count} codes from the sequence in one round trip. */
+    List<String> generate(int count) {
+        if (count == 0) return List.of();
+        return jdbc.queryForList(
+                        "SELECT NEXTVAL('listing_variant_code_seq') FROM generate_series(1, ?)", Long.class, count)
+                .stream()
+                .map(ProductCodeGenerator::format)
+                .toList();
+    }
+
+    private static String format(Long seq) {
         return "RD-" + String.format("%05d", seq);
     }
 }
@@ -15,6 +15,7 @@ import tj.radolfa.domain.model.QuestionStatus;
 import tj.radolfa.infrastructure.persistence.entity.ProductQuestionEntity;
 import tj.radolfa.infrastructure.persistence.mappers.ProductQuestionMapper;
 import tj.radolfa.infrastructure.persistence.repository.ProductQuestionRepository;
+import tj.radolfa.infrastructure.persistence.routing.ReadReplica;
 
 import java.sql.Timestamp;
 import java.time.Instant;
@@ -99,6 +100,7 @@ public class ProductQuestionAdapter implements LoadProductQuestionPort, SaveProd
     }
 
     @Override
+    @ReadReplica
     public Page<ProductQuestion> findPublishedByProductBase(Long productBaseId, Pageable pageable) {
         return repository
                 .findByProductBaseIdAndStatus(productBaseId, QuestionStatus.PUBLISHED, pageable)
@@ -11,95 +11,124 @@ import tj.radolfa.domain.model.DiscountMetrics;
 import tj.radolfa.domain.model.DiscountSummary;
 import tj.radolfa.domain.model.DiscountType;
 import tj.radolfa.domain.model.TopCampaignRow;
+import tj.radolfa.infrastructure.persistence.routing.ReadReplica;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.sql.Date;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Campaign analytics over the {@code discount_daily_metrics} rollup.
+ *
+ * <p>A requested window is split at the rollup watermark: completed days come from
+ * the rollup, the remainder (normally just today) from {@code discount_application}
+ * using a plain {@code applied_at} range so the {@code (discount_id, applied_at)} index
+ * applies. Orders are summed across days — every application row of an order shares
+ * the checkout transaction's timestamp, so an order never spans two days.
+ */
 @Component
+@ReadReplica
 public class QueryDiscountMetricsAdapter implements QueryDiscountMetricsPort {
 
     private static final Map<String, String> ORDER_WHITELIST = Map.of(
-            "revenue", "SUM(da.discount_amount)",
-            "units",   "SUM(da.quantity)"
+            "revenue", "COALESCE(a.revenue_uplift, 0)",
+            "units",   "COALESCE(a.units_moved, 0)"
     );
 
     @PersistenceContext
     private EntityManager em;
 
-    @Override
-    public DiscountMetrics findMetrics(Long discountId, LocalDate from, LocalDate to) {
-        String kpiSql = """
-                SELECT COUNT(DISTINCT da.order_id),
-                       COALESCE(SUM(da.quantity), 0),
-                       COALESCE(SUM(da.discount_amount), 0.00)
-                FROM discount_application da
-                WHERE da.discount_id = :id
-                  AND da.applied_at::date BETWEEN :from AND :to
-                """;
+    private final DiscountMetricsRollup rollup;
 
-        Query kpiQuery = em.createNativeQuery(kpiSql);
-        kpiQuery.setParameter("id", discountId);
-        kpiQuery.setParameter("from", from);
-        kpiQuery.setParameter("to", to);
+    public QueryDiscountMetricsAdapter(DiscountMetricsRollup rollup) {
+        this.rollup = rollup;
+    }
 
-        Object[] kpi = (Object[]) kpiQuery.getSingleResult();
-        long ordersUsing  = ((Number) kpi[0]).longValue();
-        long unitsMoved   = ((Number) kpi[1]).longValue();
-        BigDecimal uplift = (BigDecimal) kpi[2];
-        BigDecimal avg    = ordersUsing == 0
-                ? BigDecimal.ZERO
-                : uplift.divide(BigDecimal.valueOf(ordersUsing), 2, java.math.RoundingMode.HALF_UP);
+    @Override
+    public DiscountMetrics findMetrics(Long discountId, LocalDate from, LocalDate to) {
+        Window window = split(from, to);
 
         String dailySql = """
-                WITH series AS (
-                  SELECT generate_series(:from::date, :to::date, '1 day'::interval)::date AS day
-                ), daily AS (
-                  SELECT da.applied_at::date AS day,
-                         COUNT(DISTINCT da.order_id) AS orders,
-                         SUM(da.quantity)            AS units,
-                         SUM(da.discount_amount)     AS uplift
-                  FROM discount_application da
-                  WHERE da.discount_id = :id
-                    AND da.applied_at::date BETWEEN :from AND :to
-                  GROUP BY da.applied_at::date
-                )
-                SELECT s.day,
-                       COALESCE(d.orders, 0),
-                       COALESCE(d.units, 0),
-                       COALESCE(d.uplift, 0.00)
-                FROM series s
-                LEFT JOIN daily d ON s.day = d.day
-                ORDER BY s.day
+                SELECT metric_date, orders_using, units_moved, revenue_uplift
+                FROM discount_daily_metrics
+                WHERE discount_id = :id
+                  AND metric_date BETWEEN :from AND :rollupTo
+                UNION ALL
+                SELECT (da.applied_at AT TIME ZONE 'UTC')::date,
+                       COUNT(DISTINCT da.order_id),
+                       SUM(da.quantity),
+                       SUM(da.discount_amount)
+                FROM discount_application da
+                WHERE da.discount_id = :id
+                  AND da.applied_at >= :rawStart AND da.applied_at < :rawEnd
+                GROUP BY 1
                 """;
 
         Query dailyQuery = em.createNativeQuery(dailySql);
         dailyQuery.setParameter("id", discountId);
-        dailyQuery.setParameter("from", from);
-        dailyQuery.setParameter("to", to);
+        bind(dailyQuery, window);
 
         @SuppressWarnings("unchecked")
         List<Object[]> rows = dailyQuery.getResultList();
-        List<DailyMetric> series = rows.stream()
-                .map(r -> new DailyMetric(
-                        ((Date) r[0]).toLocalDate(),
-                        ((Number) r[1]).longValue(),
-                        ((Number) r[2]).longValue(),
-                        (BigDecimal) r[3]
-                ))
-                .toList();
+        Map<LocalDate, DailyMetric> byDay = new HashMap<>();
+        for (Object[] r : rows) {
+            LocalDate day = ((Date) r[0]).toLocalDate();
+            byDay.put(day, new DailyMetric(day,
+                    ((Number) r[1]).longValue(),
+                    ((Number) r[2]).longValue(),
+                    (BigDecimal) r[3]));
+        }
+
+        long ordersUsing  = 0;
+        long unitsMoved   = 0;
+        BigDecimal uplift = BigDecimal.ZERO;
+        List<DailyMetric> series = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            DailyMetric m = byDay.getOrDefault(day, new DailyMetric(day, 0, 0, BigDecimal.ZERO));
+            ordersUsing += m.orders();
+            unitsMoved  += m.units();
+            uplift       = uplift.add(m.uplift());
+            series.add(m);
+        }
+        BigDecimal avg = ordersUsing == 0
+                ? BigDecimal.ZERO
+                : uplift.divide(BigDecimal.valueOf(ordersUsing), 2, RoundingMode.HALF_UP);
 
         return new DiscountMetrics(ordersUsing, unitsMoved, uplift, avg, from, to, series);
     }
 
     @Override
     public List<TopCampaignRow> findTop(String by, LocalDate from, LocalDate to, int limit) {
-        String orderExpr = ORDER_WHITELIST.getOrDefault(by, "SUM(da.discount_amount)");
+        String orderExpr = ORDER_WHITELIST.getOrDefault(by, ORDER_WHITELIST.get("revenue"));
+        Window window = split(from, to);
 
         String sql = """
+                WITH usage AS (
+                  SELECT discount_id, orders_using, units_moved, revenue_uplift
+                  FROM discount_daily_metrics
+                  WHERE metric_date BETWEEN :from AND :rollupTo
+                  UNION ALL
+                  SELECT da.discount_id,
+                         COUNT(DISTINCT da.order_id),
+                         SUM(da.quantity),
+                         SUM(da.discount_amount)
+                  FROM discount_application da
+                  WHERE da.applied_at >= :rawStart AND da.applied_at < :rawEnd
+                  GROUP BY da.discount_id
+                ), a AS (
+                  SELECT discount_id,
+                         SUM(orders_using)   AS orders_using,
+                         SUM(units_moved)    AS units_moved,
+                         SUM(revenue_uplift) AS revenue_uplift
+                  FROM usage
+                  GROUP BY discount_id
+                )
                 SELECT d.id,
                        d.title,
                        d.color_hex,
@@ -108,20 +137,16 @@ public class QueryDiscountMetricsAdapter implements QueryDiscountMetricsPort {
                        dt.id   AS type_id,
                        dt.name AS type_name,
                        dt.rank AS type_rank,
-                       COUNT(DISTINCT da.order_id) AS orders_using,
-                       COALESCE(SUM(da.quantity), 0)        AS units_moved,
-                       COALESCE(SUM(da.discount_amount), 0.00) AS revenue_uplift
+                       COALESCE(a.orders_using, 0)      AS orders_using,
+                       COALESCE(a.units_moved, 0)       AS units_moved,
+                       COALESCE(a.revenue_uplift, 0.00) AS revenue_uplift
                 FROM discounts d
                 JOIN discount_types dt ON dt.id = d.discount_type_id
-                LEFT JOIN discount_application da ON da.discount_id = d.id
-                  AND da.applied_at::date BETWEEN :from AND :to
-                GROUP BY d.id, d.title, d.color_hex, d.amount_value, d.amount_type,
-                         dt.id, dt.name, dt.rank
+                LEFT JOIN a ON a.discount_id = d.id
                 ORDER BY """ + orderExpr + " DESC, d.id ASC LIMIT :limit";
 
         Query query = em.createNativeQuery(sql);
-        query.setParameter("from", from);
-        query.setParameter("to", to);
+        bind(query, window);
         query.setParameter("limit", limit);
 
         @SuppressWarnings("unchecked")
@@ -145,4 +170,32 @@ public class QueryDiscountMetricsAdapter implements QueryDiscountMetricsPort {
         }
         return result;
     }
+
+    // ---- Private -------------------------------------------------------
+
+    /**
+     * Days {@code [from, rollupTo]} are read from the rollup, {@code [rawStart, rawEnd)}
+     * from raw rows. Either part may be empty.
+     */
+    record Window(LocalDate from, LocalDate rollupTo, OffsetDateTime rawStart, OffsetDateTime rawEnd) {}
+
+    private Window split(LocalDate from, LocalDate to) {
+        return split(rollup.compactedThrough(), from, to);
+    }
+
+    /** Splits {@code [from, to]} at {@code watermark}, the last day the rollup holds. */
+    static Window split(LocalDate watermark, LocalDate from, LocalDate to) {
+        LocalDate rollupTo = watermark.isBefore(to) ? watermark : to;
+        LocalDate rawFrom  = rollupTo.plusDays(1).isAfter(from) ? rollupTo.plusDays(1) : from;
+        return new Window(from, rollupTo,
+                DiscountMetricsRollup.startOf(rawFrom),
+                DiscountMetricsRollup.startOf(to.plusDays(1)));
+    }
+
+    private static void bind(Query query, Window window) {
+        query.setParameter("from", window.from());
+        query.setParameter("rollupTo", window.rollupTo());
+        query.setParameter("rawStart", window.rawStart());
+        query.setParameter("rawEnd", window.rawEnd());
+    }
 }
@@ -3,6 +3,7 @@ package tj.radolfa.infrastructure.persistence.adapter;
 import org.springframework.stereotype.Component;
 import tj.radolfa.application.ports.out.LoadRatingSummaryPort;
 import tj.radolfa.application.ports.out.SaveRatingSummaryPort;
+import tj.radolfa.domain.model.RatingTotals;
 import tj.radolfa.domain.model.ReviewTraitInputType;
 import tj.radolfa.infrastructure.persistence.entity.ProductRatingSummaryEntity;
 import tj.radolfa.infrastructure.persistence.repository.ProductRatingSummaryRepository;
@@ -10,6 +11,7 @@ import tj.radolfa.infrastructure.persistence.repository.ProductRatingSummaryRepo
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,16 +33,21 @@ public class RatingSummaryAdapter implements LoadRatingSummaryPort, SaveRatingSu
         return repository.findById(listingVariantId).map(this::toView);
     }
 
+    @Override
+    public Optional<RatingTotals> findTotalsForUpdate(Long listingVariantId) {
+        return repository.findByIdForUpdate(listingVariantId).map(this::toTotals);
+    }
+
+    @Override
+    public List<Long> findAllRatedVariantIds() {
+        return repository.findAllRatedVariantIds();
+    }
+
     // ---- SaveRatingSummaryPort -----------------------------------------
 
     @Override
     public void upsert(Long listingVariantId,
-                       BigDecimal averageRating,
-                       int reviewCount,
-                       Map<Integer, Integer> distribution,
-                       int sizeAccurate,
-                       int sizeRunsSmall,
-                       int sizeRunsLarge,
+                       RatingTotals totals,
                        List<TraitAggregateView> traitAggregates) {
 
         ProductRatingSummaryEntity entity = repository.findById(listingVariantId)
@@ -50,20 +57,22 @@ public class RatingSummaryAdapter implements LoadRatingSummaryPort, SaveRatingSu
                     return e;
                 });
 
-        entity.setAverageRating(averageRating);
-        entity.setReviewCount(reviewCount);
-        entity.setCount5(distribution.getOrDefault(5, 0));
-        entity.setCount4(distribution.getOrDefault(4, 0));
-        entity.setCount3(distribution.getOrDefault(3, 0));
-        entity.setCount2(distribution.getOrDefault(2, 0));
-        entity.setCount1(distribution.getOrDefault(1, 0));
-        entity.setSizeAccurate(sizeAccurate);
-        entity.setSizeRunsSmall(sizeRunsSmall);
-        entity.setSizeRunsLarge(sizeRunsLarge);
+        entity.setAverageRating(totals.averageRating());
+        entity.setReviewCount(totals.reviewCount());
+        entity.setRatingSum(totals.ratingSum());
+        entity.setCount5(totals.count5());
+        entity.setCount4(totals.count4());
+        entity.setCount3(totals.count3());
+        entity.setCount2(totals.count2());
+        entity.setCount1(totals.count1());
+        entity.setSizeAccurate(totals.sizeAccurate());
+        entity.setSizeRunsSmall(totals.sizeRunsSmall());
+        entity.setSizeRunsLarge(totals.sizeRunsLarge());
         entity.setTraitAggregates(toRawMaps(traitAggregates));
+        entity.setTraitTotals(toRawTotals(totals.traitTotals()));
         entity.setLastCalculatedAt(Instant.now());
 
-        repository.saveAndFlush(entity);
+        repository.save(entity);
     }
 
     // ---- Private -------------------------------------------------------
@@ -88,6 +97,48 @@ public class RatingSummaryAdapter implements LoadRatingSummaryPort, SaveRatingSu
         );
     }
 
+    private RatingTotals toTotals(ProductRatingSummaryEntity e) {
+        return new RatingTotals(
+                e.getReviewCount(),
+                e.getRatingSum(),
+                e.getCount1(),
+                e.getCount2(),
+                e.getCount3(),
+                e.getCount4(),
+                e.getCount5(),
+                e.getSizeAccurate(),
+                e.getSizeRunsSmall(),
+                e.getSizeRunsLarge(),
+                fromRawTotals(e.getTraitTotals())
+        );
+    }
+
+    private Map<String, RatingTotals.TraitTotal> fromRawTotals(Map<String, Map<String, Object>> raw) {
+        if (raw == null) return Map.of();
+        Map<String, RatingTotals.TraitTotal> result = new HashMap<>();
+        raw.forEach((key, m) -> {
+            try {
+                result.put(key, new RatingTotals.TraitTotal(
+                        new BigDecimal(m.get("sum").toString()),
+                        ((Number) m.get("count")).intValue()));
+            } catch (Exception ignored) {
+                // Malformed entry: the next full rebuild rewrites it
+            }
+        });
+        return result;
+    }
+
+    private Map<String, Map<String, Object>> toRawTotals(Map<String, RatingTotals.TraitTotal> totals) {
+        Map<String, Map<String, Object>> result = new HashMap<>();
+        totals.forEach((key, t) -> {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("sum",   t.sum());
+            m.put("count", t.count());
+            result.put(key, m);
+        });
+        return result;
+    }
+
     private List<TraitAggregateView> fromRawMaps(List<Map<String, Object>> raw) {
         if (raw == null) return List.of();
         List<TraitAggregateView> result = new ArrayList<>(raw.size());
@@ -4,7 +4,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
-import tj.radolfa.application.ports.out.AdjustReviewUpvotesPort;
 import tj.radolfa.application.ports.out.LoadReviewPort;
 import tj.radolfa.application.ports.out.ReviewFilter;
 import tj.radolfa.application.ports.out.SaveReviewPort;
@@ -14,12 +13,13 @@ import tj.radolfa.infrastructure.persistence.entity.ReviewEntity;
 import tj.radolfa.infrastructure.persistence.entity.ReviewPhotoEntity;
 import tj.radolfa.infrastructure.persistence.mappers.ReviewMapper;
 import tj.radolfa.infrastructure.persistence.repository.ReviewRepository;
+import tj.radolfa.infrastructure.persistence.routing.ReadReplica;
 
 import java.util.List;
 import java.util.Optional;
 
 @Component
-public class ReviewAdapter implements LoadReviewPort, SaveReviewPort, AdjustReviewUpvotesPort {
+public class ReviewAdapter implements LoadReviewPort, SaveReviewPort {
 
     private final ReviewRepository reviewRepository;
     private final ReviewMapper mapper;
@@ -51,6 +51,7 @@ public class ReviewAdapter implements LoadReviewPort, SaveReviewPort, AdjustRevi
     }
 
     @Override
+    @ReadReplica
     public Page<Review> findApprovedByVariant(Long listingVariantId, ReviewFilter filter, Pageable pageable) {
         String search = (filter.search() == null || filter.search().isBlank()) ? null : filter.search().trim();
         return reviewRepository
@@ -74,15 +75,6 @@ public class ReviewAdapter implements LoadReviewPort, SaveReviewPort, AdjustRevi
         return reviewRepository.findAllForAdmin(status, pageable).map(mapper::toReview);
     }
 
-    // ---- AdjustReviewUpvotesPort ---------------------------------------
-
-    @Override
-    public void adjust(Long reviewId, int delta) {
-        if (delta != 0) {
-            reviewRepository.adjustUpvotes(reviewId, delta);
-        }
-    }
-
     // ---- SaveReviewPort ------------------------------------------------
 
     @Override
@@ -0,0 +1,150 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tj.radolfa.application.ports.out.AdjustReviewUpvotesPort;
+import tj.radolfa.application.support.AfterCommit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Write-behind implementation of {@link AdjustReviewUpvotesPort}.
+ *
+ * <p>Votes on a popular review used to update the same {@code reviews} row on every
+ * click. Deltas are now summed in memory and written in one JDBC batch per
+ * {@link #flush()} (driven by {@code ReviewUpvoteFlushJob}), so a review receiving
+ * hundreds of votes between flushes costs a single row update.
+ *
+ * <h3>Concurrency</h3>
+ * The pending map is split into {@value #STRIPES} stripes by review id; recording
+ * a delta only locks its stripe, and a flush swaps each stripe out under that lock.
+ * Each batch is one transaction, updating rows in ascending id order so concurrent
+ * flushes from several instances cannot deadlock.
+ *
+ * <h3>Durability</h3>
+ * A delta is buffered only after the voting transaction commits. A failed batch rolls
+ * back as a whole, so merging it back and retrying never applies a delta twice.
+ * Pending deltas are flushed on shutdown, after which adjustments go straight to the
+ * database. A hard crash loses at most one flush interval of counter updates —
+ * {@code review_votes} remains the source of truth.
+ */
+@Slf4j
+@Component
+public class ReviewUpvoteBuffer implements AdjustReviewUpvotesPort {
+
+    static final int STRIPES = 16;
+
+    private static final String UPDATE_SQL = "UPDATE reviews SET upvotes = upvotes + ? WHERE id = ?";
+
+    private final JdbcTemplate        jdbc;
+    private final TransactionTemplate tx;
+    private final Stripe[]            stripes = new Stripe[STRIPES];
+    private volatile boolean          closed;
+
+    public ReviewUpvoteBuffer(JdbcTemplate jdbc, PlatformTransactionManager transactionManager) {
+        this.jdbc = jdbc;
+        // Its own transaction even when flushed from another transaction's afterCommit
+        this.tx   = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public void adjust(Long reviewId, int delta) {
+        if (delta == 0) return;
+
+        AfterCommit.run(() -> buffer(reviewId, delta));
+    }
+
+    /**
+     * Writes every pending delta in one batch.
+     *
+     * @return number of review rows updated
+     */
+    public synchronized int flush() {
+        Map<Long, Integer> batch = new TreeMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.drainInto(batch);
+        }
+        batch.values().removeIf(d -> d == 0);
+        if (batch.isEmpty()) return 0;
+
+        try {
+            write(batch);
+        } catch (RuntimeException e) {
+            batch.forEach(this::bufferUnchecked);
+            log.warn("[REVIEW] Upvote flush of {} reviews failed, will retry: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+        log.debug("[REVIEW] Flushed upvote deltas for {} reviews", batch.size());
+        return batch.size();
+    }
+
+    /** Total number of reviews with an unflushed delta. */
+    public int pendingCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            count += stripe.size();
+        }
+        return count;
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        closed = true;
+        int flushed = flush();
+        if (flushed > 0) {
+            log.info("[REVIEW] Flushed upvote deltas for {} reviews before shutdown", flushed);
+        }
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    private void buffer(Long reviewId, int delta) {
+        bufferUnchecked(reviewId, delta);
+        // Shut down (possibly while we were buffering): nothing will flush later
+        if (closed) {
+            flush();
+        }
+    }
+
+    private void bufferUnchecked(Long reviewId, int delta) {
+        stripes[Math.floorMod(reviewId.hashCode(), STRIPES)].add(reviewId, delta);
+    }
+
+    private void write(Map<Long, Integer> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[]{delta, id}));
+        tx.executeWithoutResult(status -> jdbc.batchUpdate(UPDATE_SQL, args));
+    }
+
+    private static final class Stripe {
+
+        private Map<Long, Integer> pending = new HashMap<>();
+
+        synchronized void add(Long reviewId, int delta) {
+            pending.merge(reviewId, delta, Integer::sum);
+        }
+
+        synchronized void drainInto(Map<Long, Integer> target) {
+            if (pending.isEmpty()) return;
+            target.putAll(pending);
+            pending = new HashMap<>();
+        }
+
+        synchronized int size() {
+            return pending.size();
+        }
+    }
+}
@@ -27,7 +27,7 @@ public class ReviewVoteAdapter implements SaveReviewVotePort, LoadReviewVoteCoun
     @Override
     @Transactional
     public Optional<VoteType> saveVote(Long reviewId, Long userId, VoteType vote) {
-        Optional<ReviewVoteEntity> existing = reviewVoteRepository.findByReviewIdAndUserId(reviewId, userId);
+        Optional<ReviewVoteEntity> existing = reviewVoteRepository.findByReviewIdAndUserIdForUpdate(reviewId, userId);
         Optional<VoteType> previous = existing.map(ReviewVoteEntity::getVote);
 
         ReviewVoteEntity entity = existing.orElse(new ReviewVoteEntity(null, reviewId, userId, vote, null));
@@ -0,0 +1,126 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler leases in the {@code scheduler_locks} table (see {@code V26__scheduler_locks.sql}).
+ *
+ * <p>Every statement commits on its own, outside any caller transaction, so a lease is
+ * visible to other instances as soon as it is taken. Held leases are renewed every third
+ * of their TTL by a single daemon thread.
+ */
+@Slf4j
+@Component
+public class SchedulerLockAdapter implements SchedulerLockPort {
+
+    private final JdbcTemplate              jdbc;
+    private final TransactionTemplate       tx;
+    private final String                    owner;
+    private final ScheduledExecutorService  heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "scheduler-lock-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SchedulerLockAdapter(JdbcTemplate jdbc, PlatformTransactionManager transactionManager) {
+        this.jdbc  = jdbc;
+        this.tx    = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Override
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        Integer taken = tx.execute(s -> jdbc.update("""
+                INSERT INTO scheduler_locks AS l (name, owner, locked_until)
+                VALUES (?, ?, NOW() + make_interval(secs => ?))
+                ON CONFLICT (name) DO UPDATE
+                SET owner        = EXCLUDED.owner,
+                    locked_until = EXCLUDED.locked_until,
+                    acquired_at  = NOW(),
+                    heartbeat_at = NOW()
+                WHERE l.locked_until < NOW()
+                """, name, owner, (double) ttl.toSeconds()));
+        if (taken == null || taken == 0) return Optional.empty();
+
+        log.debug("[SCHEDULER] {} acquired lease {}", owner, name);
+        return Optional.of(new HeldLease(name, ttl));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    private final class HeldLease implements Lease {
+
+        private final String                name;
+        private volatile ScheduledFuture<?> renewal;
+        private volatile boolean            held = true;
+
+        HeldLease(String name, Duration ttl) {
+            this.name = name;
+            long period = Math.max(1, ttl.toMillis() / 3);
+            this.renewal = heartbeat.scheduleAtFixedRate(() -> renew(ttl), period, period, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public boolean isHeld() {
+            return held;
+        }
+
+        @Override
+        public void close() {
+            renewal.cancel(false);
+            if (!held) return;
+            held = false;
+            tx.executeWithoutResult(s -> jdbc.update(
+                    "DELETE FROM scheduler_locks WHERE name = ? AND owner = ?", name, owner));
+        }
+
+        private void renew(Duration ttl) {
+            try {
+                Integer renewed = tx.execute(s -> jdbc.update("""
+                        UPDATE scheduler_locks
+                        SET locked_until = NOW() + make_interval(secs => ?), heartbeat_at = NOW()
+                        WHERE name = ? AND owner = ?
+                        """, (double) ttl.toSeconds(), name, owner));
+                if (renewed == null || renewed == 0) {
+                    held = false;
+                    if (renewal != null) renewal.cancel(false);
+                    log.warn("[SCHEDULER] Lease {} was taken over — holder must stop", name);
+                }
+            } catch (RuntimeException e) {
+                // Keep the lease; the next beat retries well before it expires
+                log.warn("[SCHEDULER] Renewing lease {} failed: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
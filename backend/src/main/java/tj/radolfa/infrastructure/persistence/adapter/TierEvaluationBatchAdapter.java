@@ -0,0 +1,237 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tj.radolfa.application.ports.out.TierEvaluationBatchPort;
+import tj.radolfa.application.support.AfterCommit;
+import tj.radolfa.infrastructure.persistence.entity.UserEntity;
+import tj.radolfa.infrastructure.persistence.mappers.UserMapper;
+import tj.radolfa.infrastructure.persistence.repository.UserRepository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checkpoint tables of the monthly tier evaluation batch
+ * (see {@code V21__tier_evaluation_runs.sql}).
+ *
+ * <p>Progress is exported as {@code radolfa.loyalty.tier_evaluation.users} counters
+ * (tagged by outcome, counted once a chunk commits) and a
+ * {@code radolfa.loyalty.tier_evaluation.partitions.pending} gauge.
+ */
+@Slf4j
+@Component
+public class TierEvaluationBatchAdapter implements TierEvaluationBatchPort {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final UserRepository userRepository;
+    private final UserMapper     userMapper;
+    private final Counter        promoted;
+    private final Counter        demoted;
+    private final Counter        unchanged;
+    private final Counter        failed;
+    private final AtomicInteger  pendingPartitions = new AtomicInteger();
+
+    public TierEvaluationBatchAdapter(UserRepository userRepository,
+                                      UserMapper userMapper,
+                                      MeterRegistry registry) {
+        this.userRepository = userRepository;
+        this.userMapper     = userMapper;
+        this.promoted       = usersCounter(registry, "promoted");
+        this.demoted        = usersCounter(registry, "demoted");
+        this.unchanged      = usersCounter(registry, "unchanged");
+        this.failed         = usersCounter(registry, "failed");
+        Gauge.builder("radolfa.loyalty.tier_evaluation.partitions.pending", pendingPartitions, AtomicInteger::get)
+                .description("Tier evaluation partitions not yet finished in the current run")
+                .register(registry);
+    }
+
+    @Override
+    public Optional<RunStatus> findRunStatus(YearMonth period) {
+        List<?> rows = em.createNativeQuery("SELECT status FROM tier_evaluation_runs WHERE period = :period")
+                .setParameter("period", period.toString())
+                .getResultList();
+        return rows.stream().findFirst().map(s -> RunStatus.valueOf((String) s));
+    }
+
+    @Override
+    @Transactional
+    public void createRun(YearMonth period, Instant from, Instant to, int partitions) {
+        int created = em.createNativeQuery("""
+                        INSERT INTO tier_evaluation_runs (period, status, partitions)
+                        VALUES (:period, 'RUNNING', :partitions)
+                        ON CONFLICT (period) DO NOTHING
+                        """)
+                .setParameter("period", period.toString())
+                .setParameter("partitions", partitions)
+                .executeUpdate();
+        if (created == 0) return;
+
+        // Balanced id ranges: NTILE over the non-permanent users in id order
+        int ranges = em.createNativeQuery("""
+                        INSERT INTO tier_evaluation_partitions (period, partition_no, last_user_id, to_user_id)
+                        SELECT :period, bucket - 1, MIN(id) - 1, MAX(id)
+                        FROM (SELECT id, NTILE(:partitions) OVER (ORDER BY id) AS bucket
+                              FROM users
+                              WHERE loyalty_permanent = FALSE) u
+                        GROUP BY bucket
+                        """)
+                .setParameter("period", period.toString())
+                .setParameter("partitions", partitions)
+                .executeUpdate();
+
+        // Same net-spending rule as before, for every user at once
+        int spenders = em.createNativeQuery("""
+                        INSERT INTO tier_evaluation_spending (period, user_id, net_spending)
+                        SELECT :period, o.user_id,
+                               COALESCE(SUM(CASE WHEN p.status = 'COMPLETED' THEN p.amount ELSE 0 END), 0)
+                             - COALESCE(SUM(CASE WHEN p.status = 'REFUNDED'  THEN p.amount ELSE 0 END), 0)
+                        FROM payments p
+                        JOIN orders o ON p.order_id = o.id
+                        WHERE p.completed_at >= :from
+                          AND p.completed_at < :to
+                          AND p.status IN ('COMPLETED', 'REFUNDED')
+                        GROUP BY o.user_id
+                        """)
+                .setParameter("period", period.toString())
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+
+        log.info("[TIER-EVAL] Created run {}: {} partitions, {} users with spending", period, ranges, spenders);
+    }
+
+    @Override
+    public List<Partition> findPartitions(YearMonth period) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery("""
+                        SELECT partition_no, last_user_id, to_user_id, completed_at IS NOT NULL
+                        FROM tier_evaluation_partitions
+                        WHERE period = :period
+                        ORDER BY partition_no
+                        """)
+                .setParameter("period", period.toString())
+                .getResultList();
+        List<Partition> partitions = rows.stream()
+                .map(r -> new Partition(
+                        ((Number) r[0]).intValue(),
+                        ((Number) r[1]).longValue(),
+                        ((Number) r[2]).longValue(),
+                        (Boolean) r[3]))
+                .toList();
+        pendingPartitions.set((int) partitions.stream().filter(p -> !p.completed()).count());
+        return partitions;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Candidate> loadChunk(YearMonth period, Partition partition, long afterUserId, int limit) {
+        List<UserEntity> users = userRepository.findNonPermanentInRange(
+                afterUserId, partition.toUserId(), PageRequest.of(0, limit));
+        if (users.isEmpty()) return List.of();
+
+        List<Long> ids = users.stream().map(UserEntity::getId).toList();
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery("""
+                        SELECT user_id, net_spending
+                        FROM tier_evaluation_spending
+                        WHERE period = :period AND user_id IN (:ids)
+                        """)
+                .setParameter("period", period.toString())
+                .setParameter("ids", ids)
+                .getResultList();
+        Map<Long, BigDecimal> spending = new HashMap<>();
+        for (Object[] r : rows) {
+            spending.put(((Number) r[0]).longValue(), (BigDecimal) r[1]);
+        }
+
+        return users.stream()
+                .map(u -> new Candidate(userMapper.toUser(u), spending.getOrDefault(u.getId(), BigDecimal.ZERO)))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void checkpoint(YearMonth period, int partition, long lastUserId, Progress progress) {
+        em.createNativeQuery("""
+                        UPDATE tier_evaluation_partitions
+                        SET last_user_id = GREATEST(last_user_id, :lastUserId),
+                            promoted     = promoted  + :promoted,
+                            demoted      = demoted   + :demoted,
+                            unchanged    = unchanged + :unchanged,
+                            failed       = failed    + :failed,
+                            updated_at   = NOW()
+                        WHERE period = :period AND partition_no = :partition
+                        """)
+                .setParameter("lastUserId", lastUserId)
+                .setParameter("promoted", progress.promoted())
+                .setParameter("demoted", progress.demoted())
+                .setParameter("unchanged", progress.unchanged())
+                .setParameter("failed", progress.failed())
+                .setParameter("period", period.toString())
+                .setParameter("partition", partition)
+                .executeUpdate();
+
+        Runnable count = () -> {
+            promoted.increment(progress.promoted());
+            demoted.increment(progress.demoted());
+            unchanged.increment(progress.unchanged());
+            failed.increment(progress.failed());
+        };
+        AfterCommit.run(count);
+    }
+
+    @Override
+    @Transactional
+    public void completePartition(YearMonth period, int partition) {
+        int updated = em.createNativeQuery("""
+                        UPDATE tier_evaluation_partitions
+                        SET completed_at = NOW(), updated_at = NOW()
+                        WHERE period = :period AND partition_no = :partition AND completed_at IS NULL
+                        """)
+                .setParameter("period", period.toString())
+                .setParameter("partition", partition)
+                .executeUpdate();
+        if (updated > 0) {
+            pendingPartitions.updateAndGet(n -> Math.max(0, n - 1));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void completeRun(YearMonth period) {
+        em.createNativeQuery("""
+                        UPDATE tier_evaluation_runs
+                        SET status = 'COMPLETED', completed_at = NOW()
+                        WHERE period = :period
+                        """)
+                .setParameter("period", period.toString())
+                .executeUpdate();
+        em.createNativeQuery("DELETE FROM tier_evaluation_spending WHERE period = :period")
+                .setParameter("period", period.toString())
+                .executeUpdate();
+        pendingPartitions.set(0);
+    }
+
+    private static Counter usersCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("radolfa.loyalty.tier_evaluation.users")
+                .description("Users evaluated by the monthly tier evaluation batch")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
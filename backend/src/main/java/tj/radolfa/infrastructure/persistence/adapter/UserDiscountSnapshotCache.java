@@ -0,0 +1,172 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tj.radolfa.application.ports.out.CacheInvalidationPort;
+import tj.radolfa.application.ports.out.CacheInvalidationPort.EntityType;
+import tj.radolfa.application.ports.out.CacheInvalidationPort.Invalidation;
+import tj.radolfa.application.ports.out.LoadUserSegmentContextPort.UserSegmentContext;
+import tj.radolfa.application.support.AfterCommit;
+import tj.radolfa.domain.model.OrderStatus;
+import tj.radolfa.infrastructure.persistence.repository.DiscountApplicationRepository;
+import tj.radolfa.infrastructure.persistence.repository.OrderRepository;
+import tj.radolfa.infrastructure.persistence.repository.UserRepository;
+import tj.radolfa.infrastructure.persistence.routing.PrimaryReads;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user snapshot of what discount resolution needs to know about a shopper: the
+ * segment context (tier, new-customer flag) and how often they have used each campaign.
+ *
+ * <p>Both only change when the user's orders or profile change, so a snapshot is loaded
+ * once (user fetch, an order count and the usage counters) and reused for every
+ * storefront request of that user until one of those writes evicts it —
+ * {@link #invalidate} is called by the order and user adapters on every save, and again
+ * once the writing transaction commits. Snapshots are loaded from the primary, so one
+ * reloaded right after an eviction already sees the write behind it.
+ *
+ * <p>That eviction is local, by design: orders publish nothing, so checkouts and status
+ * changes never queue behind the cluster-wide invalidation log. Other instances keep
+ * serving the old snapshot — e.g. the new-customer flag after a first paid order — for
+ * up to {@code radolfa.discount.snapshot-ttl-seconds}. Only a tier change reaches them
+ * at once, published through {@code LoyaltyTierCache}.
+ *
+ * <p>Read-write transactions (checkout, coupon application) bypass the snapshot and query
+ * the database, so decisions that are persisted never rest on cached counts.
+ */
+@Component
+public class UserDiscountSnapshotCache implements CacheInvalidationPort.Subscriber {
+
+    static final int MAX_ENTRIES = 50_000;
+
+    private static final List<OrderStatus> EXCLUDED_STATUSES =
+            List.of(OrderStatus.PENDING, OrderStatus.CANCELLED);
+
+    private final UserRepository                userRepository;
+    private final OrderRepository               orderRepository;
+    private final DiscountApplicationRepository applicationRepository;
+    private final PrimaryReads                  primaryReads;
+    private final Clock                         clock;
+    private final Duration                      ttl;
+    private final Map<Long, Snapshot>           snapshots     = new ConcurrentHashMap<>();
+    private final AtomicLong                    invalidations = new AtomicLong();
+
+    public UserDiscountSnapshotCache(UserRepository userRepository,
+                                     OrderRepository orderRepository,
+                                     DiscountApplicationRepository applicationRepository,
+                                     PrimaryReads primaryReads,
+                                     @Value("${radolfa.discount.snapshot-ttl-seconds:120}") long ttlSeconds) {
+        this(userRepository, orderRepository, applicationRepository, primaryReads, Clock.systemUTC(),
+                Duration.ofSeconds(ttlSeconds));
+    }
+
+    UserDiscountSnapshotCache(UserRepository userRepository,
+                              OrderRepository orderRepository,
+                              DiscountApplicationRepository applicationRepository,
+                              PrimaryReads primaryReads,
+                              Clock clock,
+                              Duration ttl) {
+        this.userRepository        = userRepository;
+        this.orderRepository       = orderRepository;
+        this.applicationRepository = applicationRepository;
+        this.primaryReads          = primaryReads;
+        this.clock                 = clock;
+        this.ttl                   = ttl;
+    }
+
+    public Optional<UserSegmentContext> segment(Long userId) {
+        return inWriteTransaction() ? loadSegment(userId) : snapshot(userId).segment();
+    }
+
+    /** Usage count of every campaign applied to the user's orders, keyed by discountId. */
+    public Map<Long, Long> usage(Long userId) {
+        return inWriteTransaction() ? loadUsage(userId) : snapshot(userId).usage();
+    }
+
+    /**
+     * Drops the user's snapshot on this instance now and, inside a transaction, again
+     * after it commits.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) return;
+        evict(userId);
+        AfterCommit.run(() -> evict(userId));
+    }
+
+    @Override
+    public void evict(Invalidation invalidation) {
+        if (invalidation.type() != EntityType.USER) return;
+        if (invalidation.all()) {
+            invalidations.incrementAndGet();
+            snapshots.clear();
+        } else {
+            invalidation.ids().forEach(this::evict);
+        }
+    }
+
+    int size() {
+        return snapshots.size();
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    private Snapshot snapshot(Long userId) {
+        Instant now = clock.instant();
+        Snapshot cached = snapshots.get(userId);
+        if (cached != null && cached.loadedAt().plus(ttl).isAfter(now)) {
+            return cached;
+        }
+
+        // A snapshot loaded while some user was being invalidated may already be stale
+        long generation = invalidations.get();
+        Snapshot fresh = primaryReads.read(() -> new Snapshot(loadSegment(userId), loadUsage(userId), now));
+        if (invalidations.get() == generation && hasRoom(now)) {
+            snapshots.put(userId, fresh);
+        }
+        return fresh;
+    }
+
+    private boolean hasRoom(Instant now) {
+        if (snapshots.size() < MAX_ENTRIES) return true;
+        snapshots.values().removeIf(s -> !s.loadedAt().plus(ttl).isAfter(now));
+        return snapshots.size() < MAX_ENTRIES;
+    }
+
+    private void evict(Long userId) {
+        invalidations.incrementAndGet();
+        snapshots.remove(userId);
+    }
+
+    private Optional<UserSegmentContext> loadSegment(Long userId) {
+        return userRepository.findByIdWithTier(userId).map(user -> {
+            Long tierId = user.getTier() != null ? user.getTier().getId() : null;
+            long confirmedOrderCount = orderRepository.countConfirmedOrdersByUserId(userId, EXCLUDED_STATUSES);
+            return new UserSegmentContext(userId, tierId, confirmedOrderCount == 0);
+        });
+    }
+
+    private Map<Long, Long> loadUsage(Long userId) {
+        Map<Long, Long> usage = new HashMap<>();
+        for (Object[] row : applicationRepository.findUsageByUser(userId)) {
+            usage.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return Map.copyOf(usage);
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    record Snapshot(Optional<UserSegmentContext> segment, Map<Long, Long> usage, Instant loadedAt) {}
+}
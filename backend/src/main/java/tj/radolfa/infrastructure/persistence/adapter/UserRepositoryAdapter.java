@@ -6,72 +6,102 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import tj.radolfa.application.ports.out.LoadUserPort;
+import tj.radolfa.application.ports.out.LoadUserTierPort;
 import tj.radolfa.application.ports.out.SaveUserPort;
 import tj.radolfa.application.ports.out.SearchUsersPort;
+import tj.radolfa.domain.model.LoyaltyProfile;
 import tj.radolfa.domain.model.PageResult;
 import tj.radolfa.domain.model.User;
 import tj.radolfa.infrastructure.persistence.entity.UserEntity;
 import tj.radolfa.infrastructure.persistence.mappers.UserMapper;
 import tj.radolfa.infrastructure.persistence.repository.UserRepository;
+import tj.radolfa.infrastructure.persistence.routing.PrimaryReads;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
- * Hexagonal adapter that bridges {@link LoadUserPort}, {@link SaveUserPort},
- * and {@link SearchUsersPort} to the Spring Data {@link UserRepository}.
+ * Hexagonal adapter that bridges {@link LoadUserPort}, {@link LoadUserTierPort},
+ * {@link SaveUserPort}, and {@link SearchUsersPort} to the Spring Data {@link UserRepository}.
+ *
+ * <p>Loyalty points are read from the {@link LoyaltyPointsLedgerAdapter ledger}; the points
+ * of a saved {@link User} are ignored, as every movement goes through the ledger.
  */
 @Component
-public class UserRepositoryAdapter implements LoadUserPort, SaveUserPort, SearchUsersPort {
+public class UserRepositoryAdapter implements LoadUserPort, LoadUserTierPort, SaveUserPort, SearchUsersPort {
 
     private final UserRepository repository;
     private final UserMapper mapper;
+    private final UserDiscountSnapshotCache snapshotCache;
+    private final LoyaltyPointsLedgerAdapter ledger;
+    private final PrimaryReads primaryReads;
 
     public UserRepositoryAdapter(UserRepository repository,
-            UserMapper mapper) {
+            UserMapper mapper,
+            UserDiscountSnapshotCache snapshotCache,
+            LoyaltyPointsLedgerAdapter ledger,
+            PrimaryReads primaryReads) {
         this.repository = repository;
         this.mapper = mapper;
+        this.snapshotCache = snapshotCache;
+        this.ledger = ledger;
+        this.primaryReads = primaryReads;
     }
 
     @Override
     public Optional<User> loadByPhone(String phone) {
         return repository.findByPhone(phone)
-                .map(mapper::toUser);
+                .map(this::toUser);
     }
 
     @Override
     public Optional<User> loadById(Long id) {
         return repository.findByIdWithTier(id)
-                .map(mapper::toUser);
+                .map(this::toUser);
+    }
+
+    @Override
+    public Optional<Long> findTierId(Long userId) {
+        // Loads LoyaltyTierCache entries, which must not be refilled from a lagging replica
+        return primaryReads.read(() -> repository.findTierIdById(userId));
     }
 
     @Override
     public User save(User user) {
         UserEntity entity = mapper.toEntity(user);
         UserEntity saved = repository.save(entity);
+        // Tier may have changed — drop the cached segment context
+        snapshotCache.invalidate(saved.getId());
         // Reload with tier eagerly fetched to avoid LazyInitializationException
         return repository.findByIdWithTier(saved.getId())
-                .map(mapper::toUser)
+                .map(this::toUser)
                 .orElseThrow();
     }
 
-    @Override
-    public List<User> findAllNonPermanent() {
-        return repository.findAllNonPermanent().stream()
-                .map(mapper::toUser)
-                .toList();
-    }
-
     @Override
     public PageResult<User> searchUsers(String query, int page, int size) {
         PageRequest pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "id"));
         Page<UserEntity> result = repository.searchUsers(query, pageable);
+        Map<Long, Integer> points = ledger.balances(
+                result.getContent().stream().map(UserEntity::getId).toList());
 
         return new PageResult<>(
-                result.getContent().stream().map(mapper::toUser).toList(),
+                result.getContent().stream()
+                        .map(e -> withPoints(mapper.toUser(e), points.getOrDefault(e.getId(), 0)))
+                        .toList(),
                 result.getTotalElements(),
                 page,
                 size,
                 !result.hasNext());
     }
+
+    private User toUser(UserEntity entity) {
+        return withPoints(mapper.toUser(entity), ledger.balance(entity.getId()));
+    }
+
+    private static User withPoints(User user, int points) {
+        LoyaltyProfile loyalty = user.loyalty() != null ? user.loyalty() : LoyaltyProfile.empty();
+        return new User(user.id(), user.phone(), user.role(), user.name(), user.email(),
+                loyalty.withPoints(points), user.enabled(), user.version());
+    }
 }
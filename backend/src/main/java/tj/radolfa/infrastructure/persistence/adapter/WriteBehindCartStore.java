@@ -0,0 +1,362 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tj.radolfa.application.ports.out.LoadCartPort;
+import tj.radolfa.application.ports.out.SaveCartPort;
+import tj.radolfa.application.support.AfterCommit;
+import tj.radolfa.domain.model.Cart;
+import tj.radolfa.domain.model.CartItem;
+import tj.radolfa.domain.model.CartStatus;
+import tj.radolfa.domain.model.Money;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind cart store, enabled with {@code radolfa.cart.write-behind.enabled=true}.
+ *
+ * <p>Quantity stepper clicks used to cost a full aggregate load plus a
+ * {@link CartRepositoryAdapter#save} that re-fetches and reconciles every line.
+ * Active carts are now kept in a bounded in-memory map and only the difference
+ * against the last written state is sent to Postgres — a header update, deleted
+ * lines and {@code INSERT … ON CONFLICT} upserts of changed lines.
+ *
+ * <h3>Per-user serialization</h3>
+ * Loading a cart inside a read-write transaction takes that user's lock until the
+ * transaction completes, so concurrent add / update / checkout requests of one user
+ * run one after the other instead of overwriting each other's lines. Locks are
+ * striped by user id ({@value #LOCK_STRIPES} stripes) so the lock table stays bounded.
+ * Read-only callers get a copy without locking.
+ *
+ * <h3>Durability</h3>
+ * <ul>
+ *   <li>{@code WRITE_THROUGH} — the diff is written in the caller's transaction.</li>
+ *   <li>{@code ASYNC} — the diff is written by {@code CartFlushJob}; a hard crash
+ *       loses at most one flush interval of cart edits.</li>
+ * </ul>
+ * In both modes a new cart is inserted immediately, and a cart leaving
+ * {@link CartStatus#ACTIVE} (checkout, abandonment) is written in the caller's
+ * transaction and dropped from the map. State is instance-local: run a single
+ * instance or route each user to the same one.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "radolfa.cart.write-behind", name = "enabled", havingValue = "true")
+public class WriteBehindCartStore implements LoadCartPort, SaveCartPort {
+
+    public enum Durability { WRITE_THROUGH, ASYNC }
+
+    static final Duration LOCK_TIMEOUT = Duration.ofSeconds(5);
+    static final int      LOCK_STRIPES = 256;
+
+    private static final String UPDATE_HEADER_SQL = """
+            UPDATE carts SET status = ?, coupon_code = ?, updated_at = ?
+            WHERE id = ? AND status = 'ACTIVE'
+            """;
+    private static final String DELETE_ITEM_SQL = "DELETE FROM cart_items WHERE cart_id = ? AND sku_id = ?";
+    private static final String UPSERT_ITEM_SQL = """
+            INSERT INTO cart_items (cart_id, sku_id, quantity, unit_price_snapshot)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (cart_id, sku_id) DO UPDATE
+            SET quantity = EXCLUDED.quantity, unit_price_snapshot = EXCLUDED.unit_price_snapshot
+            """;
+
+    private final CartRepositoryAdapter       delegate;
+    private final JdbcTemplate                jdbc;
+    private final TransactionTemplate         tx;
+    private final Durability                  durability;
+    private final int                         maxEntries;
+    private final Duration                    idleTimeout;
+    private final Map<Long, Entry>            entries = new ConcurrentHashMap<>();
+    private final ReentrantLock[]             locks   = new ReentrantLock[LOCK_STRIPES];
+    private volatile boolean                  closed;
+
+    public WriteBehindCartStore(CartRepositoryAdapter delegate,
+                                JdbcTemplate jdbc,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${radolfa.cart.write-behind.durability:ASYNC}") Durability durability,
+                                @Value("${radolfa.cart.write-behind.max-entries:10000}") int maxEntries,
+                                @Value("${radolfa.cart.write-behind.idle-timeout-minutes:30}") long idleTimeoutMinutes) {
+        this.delegate    = delegate;
+        this.jdbc        = jdbc;
+        this.tx          = new TransactionTemplate(transactionManager);
+        this.durability  = durability;
+        this.maxEntries  = maxEntries;
+        this.idleTimeout = Duration.ofMinutes(idleTimeoutMinutes);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // ---- LoadCartPort ----
+
+    @Override
+    public Optional<Cart> findActiveByUserId(Long userId) {
+        lockForTransaction(userId);
+
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            entry.lastAccess = Instant.now();
+            return Optional.of(entry.current.toCart());
+        }
+
+        Optional<Cart> loaded = delegate.findActiveByUserId(userId);
+        loaded.ifPresent(cart -> cache(CartState.of(cart)));
+        return loaded;
+    }
+
+    @Override
+    public Optional<Cart> findById(Long cartId) {
+        for (Entry entry : entries.values()) {
+            if (cartId.equals(entry.current.id())) {
+                return Optional.of(entry.current.toCart());
+            }
+        }
+        return delegate.findById(cartId);
+    }
+
+    // ---- SaveCartPort ----
+
+    @Override
+    public Cart save(Cart cart) {
+        if (cart.getId() == null || closed) {
+            // New carts need their id now; after shutdown there is nothing left to flush
+            Cart saved = delegate.save(cart);
+            AfterCommit.run(() -> {
+                evict(saved.getUserId());
+                if (saved.getStatus() == CartStatus.ACTIVE && !closed) cache(CartState.of(saved));
+            });
+            return saved;
+        }
+
+        CartState next  = CartState.of(cart);
+        Entry     entry = entries.get(cart.getUserId());
+        if (entry == null || !cart.getId().equals(entry.current.id())) {
+            // Not cached (map full, or evicted meanwhile): reconcile the whole aggregate
+            Cart saved = delegate.save(cart);
+            AfterCommit.run(() -> evict(saved.getUserId()));
+            return saved;
+        }
+
+        if (next.status() != CartStatus.ACTIVE) {
+            write(List.of(new Diff(entry.persisted, next)));
+            AfterCommit.run(() -> evict(cart.getUserId()));
+        } else if (durability == Durability.WRITE_THROUGH) {
+            write(List.of(new Diff(entry.persisted, next)));
+            AfterCommit.run(() -> {
+                entry.persisted = next;
+                entry.current   = next;
+            });
+        } else {
+            AfterCommit.run(() -> entry.current = next);
+        }
+        return next.toCart();
+    }
+
+    // ---- Flushing ----
+
+    /**
+     * Writes the pending diff of every dirty cart whose user is not mid-request.
+     *
+     * @return number of carts written
+     */
+    public synchronized int flush() {
+        List<Diff>          diffs  = new ArrayList<>();
+        List<Entry>         dirty  = new ArrayList<>();
+        List<ReentrantLock> held   = new ArrayList<>();
+        try {
+            for (Entry entry : entries.values()) {
+                if (entry.current.equals(entry.persisted)) continue;
+                ReentrantLock lock = lockOf(entry.current.userId());
+                if (!lock.tryLock()) continue; // a request holds it; its changes land next round
+                held.add(lock);
+                dirty.add(entry);
+                diffs.add(new Diff(entry.persisted, entry.current));
+            }
+            if (diffs.isEmpty()) return 0;
+
+            try {
+                tx.executeWithoutResult(status -> write(diffs));
+            } catch (RuntimeException e) {
+                log.warn("[CART] Flush of {} carts failed, will retry: {}", diffs.size(), e.getMessage());
+                return 0;
+            }
+            for (int i = 0; i < dirty.size(); i++) {
+                dirty.get(i).persisted = diffs.get(i).to();
+            }
+            log.debug("[CART] Flushed {} carts", diffs.size());
+            return diffs.size();
+        } finally {
+            held.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    /** Flushes, then drops clean carts nobody has touched for the idle timeout. */
+    public int flushAndEvictIdle() {
+        int flushed = flush();
+        Instant cutoff = Instant.now().minus(idleTimeout);
+        entries.values().removeIf(e -> e.lastAccess.isBefore(cutoff) && e.current.equals(e.persisted));
+        return flushed;
+    }
+
+    /** Number of cached carts with changes not yet written to the database. */
+    public int dirtyCount() {
+        return (int) entries.values().stream().filter(e -> !e.current.equals(e.persisted)).count();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        closed = true;
+        int flushed = flush();
+        if (flushed > 0) {
+            log.info("[CART] Flushed {} carts before shutdown", flushed);
+        }
+        if (dirtyCount() > 0) {
+            log.warn("[CART] {} carts still had unwritten changes at shutdown", dirtyCount());
+        }
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    private void lockForTransaction(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        ReentrantLock lock = lockOf(userId);
+        try {
+            if (!lock.tryLock(LOCK_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Cart is busy for user: " + userId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for cart of user: " + userId, e);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private ReentrantLock lockOf(Long userId) {
+        return locks[Math.floorMod(userId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private void cache(CartState state) {
+        if (entries.size() >= maxEntries && !makeRoom()) return;
+        entries.putIfAbsent(state.userId(), new Entry(state));
+    }
+
+    /** Drops the least recently used clean carts; dirty ones are never dropped unwritten. */
+    private boolean makeRoom() {
+        List<Map.Entry<Long, Entry>> clean = entries.entrySet().stream()
+                .filter(e -> e.getValue().current.equals(e.getValue().persisted))
+                .sorted(Comparator.comparing(e -> e.getValue().lastAccess))
+                .limit(Math.max(1, maxEntries / 10))
+                .toList();
+        clean.forEach(e -> entries.remove(e.getKey(), e.getValue()));
+        return entries.size() < maxEntries;
+    }
+
+    private void evict(Long userId) {
+        entries.remove(userId);
+    }
+
+    private void write(List<Diff> diffs) {
+        List<Object[]> headers = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        List<Object[]> upserts = new ArrayList<>();
+        for (Diff diff : diffs) {
+            CartState from = diff.from();
+            CartState to   = diff.to();
+            Long cartId    = to.id();
+            if (from.status() != to.status() || !Objects.equals(from.couponCode(), to.couponCode())
+                    || !from.updatedAt().equals(to.updatedAt())) {
+                headers.add(new Object[]{to.status().name(), to.couponCode(), Timestamp.from(to.updatedAt()), cartId});
+            }
+            from.items().keySet().stream()
+                    .filter(skuId -> !to.items().containsKey(skuId))
+                    .forEach(skuId -> deletes.add(new Object[]{cartId, skuId}));
+            to.items().forEach((skuId, line) -> {
+                if (!line.equals(from.items().get(skuId))) {
+                    upserts.add(new Object[]{cartId, skuId, line.quantity(), line.price()});
+                }
+            });
+        }
+        // Deletes before upserts, same reason the JPA adapter never clears and rebuilds
+        if (!headers.isEmpty()) jdbc.batchUpdate(UPDATE_HEADER_SQL, headers);
+        if (!deletes.isEmpty()) jdbc.batchUpdate(DELETE_ITEM_SQL, deletes);
+        if (!upserts.isEmpty()) jdbc.batchUpdate(UPSERT_ITEM_SQL, upserts);
+    }
+
+    private static final class Entry {
+
+        volatile CartState persisted;
+        volatile CartState current;
+        volatile Instant   lastAccess = Instant.now();
+
+        Entry(CartState loaded) {
+            this.persisted = loaded;
+            this.current   = loaded;
+        }
+    }
+
+    record Diff(CartState from, CartState to) {}
+
+    record Line(int quantity, BigDecimal price) {}
+
+    /** Immutable copy of a cart; {@link Cart} itself is mutable and handed to callers. */
+    record CartState(Long id,
+                     Long userId,
+                     CartStatus status,
+                     String couponCode,
+                     Instant createdAt,
+                     Instant updatedAt,
+                     Map<Long, Line> items) {
+
+        static CartState of(Cart cart) {
+            Map<Long, Line> items = new LinkedHashMap<>();
+            for (CartItem item : cart.getItems()) {
+                items.put(item.getSkuId(), new Line(item.getQuantity(), item.getUnitPriceSnapshot().amount()));
+            }
+            return new CartState(cart.getId(), cart.getUserId(), cart.getStatus(), cart.getCouponCode(),
+                    cart.getCreatedAt(), cart.getUpdatedAt(), Collections.unmodifiableMap(items));
+        }
+
+        Cart toCart() {
+            List<CartItem> lines = new ArrayList<>(items.size());
+            items.forEach((skuId, line) -> lines.add(new CartItem(skuId, line.quantity(), new Money(line.price()))));
+            return new Cart(id, userId, status, lines, createdAt, updatedAt, couponCode);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package tj.radolfa.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * One stripe of one UTC day of the admin dashboard rollup; a day's figures are the sum
+ * of its stripes. Written only through {@code OrderDailyStatsRepository.recordPlaced}
+ * (atomic upsert).
+ */
+@Entity
+@Table(name = "order_daily_stats")
+@IdClass(OrderDailyStatsEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDailyStatsEntity {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "stripe")
+    private short stripe;
+
+    @Column(name = "orders_placed", nullable = false)
+    private long ordersPlaced;
+
+    @Column(name = "revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private short     stripe;
+    }
+}
@@ -10,6 +10,7 @@ import org.hibernate.type.SqlTypes;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +31,9 @@ public class ProductRatingSummaryEntity {
     @Column(name = "review_count", nullable = false, columnDefinition = "integer default 0")
     private int reviewCount;
 
+    @Column(name = "rating_sum", nullable = false, columnDefinition = "bigint default 0")
+    private long ratingSum;
+
     @Column(name = "count_5", nullable = false, columnDefinition = "integer default 0")
     private int count5;
 
@@ -60,4 +64,9 @@ public class ProductRatingSummaryEntity {
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "trait_aggregates", columnDefinition = "jsonb")
     private List<Map<String, Object>> traitAggregates = new ArrayList<>();
+
+    /** traitKey → { "sum": numeric, "count": int } over every numeric answer. */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "trait_totals", nullable = false, columnDefinition = "jsonb")
+    private Map<String, Map<String, Object>> traitTotals = new HashMap<>();
 }
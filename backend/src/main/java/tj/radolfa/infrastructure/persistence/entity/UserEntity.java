@@ -39,7 +39,8 @@ public class UserEntity extends BaseAuditEntity {
     @Column(name = "email", unique = true, length = 255)
     private String email;
 
-    @Column(name = "loyalty_points", nullable = false)
+    // Pre-ledger balance; points live in loyalty_point_ledger (V23)
+    @Column(name = "loyalty_points", nullable = false, insertable = false, updatable = false)
     private int loyaltyPoints;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,12 +1,27 @@
 package tj.radolfa.infrastructure.persistence.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import tj.radolfa.domain.model.CartStatus;
 import tj.radolfa.infrastructure.persistence.entity.CartEntity;
 
+import java.time.Instant;
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<CartEntity, Long> {
 
     Optional<CartEntity> findByUserIdAndStatus(Long userId, CartStatus status);
+
+    /** Deletes checked-out and abandoned carts untouched since {@code before}; their lines cascade. */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM carts
+            WHERE status IN ('CHECKED_OUT', 'ABANDONED')
+              AND updated_at < :before
+            """, nativeQuery = true)
+    int deleteClosedBefore(@Param("before") Instant before);
 }
@@ -5,26 +5,15 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import tj.radolfa.infrastructure.persistence.entity.DiscountApplicationEntity;
 
-import java.util.Collection;
 import java.util.List;
 
 public interface DiscountApplicationRepository extends JpaRepository<DiscountApplicationEntity, Long> {
 
-    @Query("""
-        SELECT da.discount.id, COUNT(da)
-        FROM DiscountApplicationEntity da
-        WHERE da.discount.id IN :discountIds
-        GROUP BY da.discount.id
-    """)
-    List<Object[]> countByDiscountIds(@Param("discountIds") Collection<Long> discountIds);
-
-    @Query("""
-        SELECT da.discount.id, COUNT(da)
-        FROM DiscountApplicationEntity da
-        WHERE da.discount.id IN :discountIds
-          AND da.order.user.id = :userId
-        GROUP BY da.discount.id
-    """)
-    List<Object[]> countByDiscountIdsForUser(@Param("discountIds") Collection<Long> discountIds,
-                                             @Param("userId") Long userId);
+    /** Per-customer usage counters of one user (see V22), as (discountId, uses) pairs. */
+    @Query(value = """
+        SELECT discount_id, uses
+        FROM discount_user_usage
+        WHERE user_id = :userId
+    """, nativeQuery = true)
+    List<Object[]> findUsageByUser(@Param("userId") Long userId);
 }
@@ -0,0 +1,41 @@
+package tj.radolfa.infrastructure.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import tj.radolfa.infrastructure.persistence.entity.OrderDailyStatsEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface OrderDailyStatsRepository extends JpaRepository<OrderDailyStatsEntity, OrderDailyStatsEntity.Key> {
+
+    /** Adds one placed order to a stripe of the day, creating the row on first use. */
+    @Modifying
+    @Query(value = """
+            INSERT INTO order_daily_stats (stat_date, stripe, orders_placed, revenue, updated_at)
+            VALUES (:day, :stripe, 1, :amount, NOW())
+            ON CONFLICT (stat_date, stripe) DO UPDATE
+            SET orders_placed = order_daily_stats.orders_placed + 1,
+                revenue       = order_daily_stats.revenue + EXCLUDED.revenue,
+                updated_at    = NOW()
+            """, nativeQuery = true)
+    void recordPlaced(@Param("day") LocalDate day, @Param("stripe") int stripe, @Param("amount") BigDecimal amount);
+
+    /** The day's (orders, revenue) summed over its stripes; a single row, zeros for a day without orders. */
+    @Query(value = """
+            SELECT COALESCE(SUM(orders_placed), 0), COALESCE(SUM(revenue), 0)
+            FROM order_daily_stats
+            WHERE stat_date = :day
+            """, nativeQuery = true)
+    List<Object[]> sumDay(@Param("day") LocalDate day);
+
+    /** A few rows per day of history, so this stays small however many orders exist. */
+    @Query("SELECT COALESCE(SUM(s.ordersPlaced), 0) FROM OrderDailyStatsEntity s")
+    long sumOrdersPlaced();
+
+    @Query("SELECT COALESCE(SUM(s.revenue), 0) FROM OrderDailyStatsEntity s WHERE s.statDate >= :from")
+    BigDecimal sumRevenueFrom(@Param("from") LocalDate from);
+}
@@ -10,8 +10,6 @@ import tj.radolfa.infrastructure.persistence.entity.OrderEntity;
 
 import java.util.Collection;
 
-import java.math.BigDecimal;
-import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,15 +25,6 @@ public interface OrderRepository extends JpaRepository<OrderEntity, Long>,
 
     // ── Admin summary queries ──────────────────────────────────────────────────
 
-    @Query("SELECT COUNT(o) FROM OrderEntity o")
-    long countAllOrders();
-
-    @Query("SELECT COUNT(o) FROM OrderEntity o WHERE o.createdAt >= :since")
-    long countOrdersSince(@Param("since") Instant since);
-
-    @Query("SELECT COALESCE(SUM(o.totalAmount), 0) FROM OrderEntity o WHERE o.createdAt >= :from")
-    BigDecimal sumRevenueSince(@Param("from") Instant from);
-
     @Query("SELECT o FROM OrderEntity o JOIN FETCH o.user ORDER BY o.createdAt DESC")
     List<OrderEntity> findMostRecent(Pageable pageable);
 
@@ -1,7 +1,30 @@
 package tj.radolfa.infrastructure.persistence.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import tj.radolfa.infrastructure.persistence.entity.ProductRatingSummaryEntity;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface ProductRatingSummaryRepository extends JpaRepository<ProductRatingSummaryEntity, Long> {
+
+    /** {@code SELECT … FOR UPDATE} on the summary row so concurrent deltas serialise. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductRatingSummaryEntity s WHERE s.listingVariantId = :id")
+    Optional<ProductRatingSummaryEntity> findByIdForUpdate(@Param("id") Long listingVariantId);
+
+    /**
+     * Variants with a summary row or at least one approved review — the latter
+     * catches variants whose first approval was never flushed.
+     */
+    @Query(value = """
+            SELECT listing_variant_id FROM product_rating_summaries
+            UNION
+            SELECT DISTINCT listing_variant_id FROM reviews WHERE status = 'APPROVED'
+            """, nativeQuery = true)
+    List<Long> findAllRatedVariantIds();
 }
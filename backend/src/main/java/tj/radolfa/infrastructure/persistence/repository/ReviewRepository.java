@@ -3,7 +3,6 @@ package tj.radolfa.infrastructure.persistence.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import tj.radolfa.domain.model.ReviewStatus;
@@ -19,11 +18,6 @@ public interface ReviewRepository extends JpaRepository<ReviewEntity, Long> {
 
     Page<ReviewEntity> findByStatusOrderByCreatedAtAsc(ReviewStatus status, Pageable pageable);
 
-    /** Atomically increments or decrements the upvotes counter by {@code delta}. */
-    @Modifying
-    @Query("UPDATE ReviewEntity r SET r.upvotes = r.upvotes + :delta WHERE r.id = :id")
-    void adjustUpvotes(@Param("id") Long id, @Param("delta") int delta);
-
     /** All reviews with an optional status filter — null status returns all statuses. */
     @Query("SELECT r FROM ReviewEntity r WHERE (:status IS NULL OR r.status = :status)")
     Page<ReviewEntity> findAllForAdmin(@Param("status") ReviewStatus status, Pageable pageable);
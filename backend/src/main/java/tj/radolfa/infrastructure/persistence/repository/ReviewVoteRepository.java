@@ -1,6 +1,8 @@
 package tj.radolfa.infrastructure.persistence.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import tj.radolfa.infrastructure.persistence.entity.ReviewVoteEntity;
@@ -10,7 +12,14 @@ import java.util.Optional;
 
 public interface ReviewVoteRepository extends JpaRepository<ReviewVoteEntity, Long> {
 
-    Optional<ReviewVoteEntity> findByReviewIdAndUserId(Long reviewId, Long userId);
+    /**
+     * The user's existing vote, row-locked so two concurrent re-votes by one user read
+     * the previous vote one after the other and cannot apply the same delta twice.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM ReviewVoteEntity v WHERE v.reviewId = :reviewId AND v.userId = :userId")
+    Optional<ReviewVoteEntity> findByReviewIdAndUserIdForUpdate(@Param("reviewId") Long reviewId,
+                                                                @Param("userId") Long userId);
 
     /**
      * Batch-loads helpful / not-helpful counts for a list of review IDs.
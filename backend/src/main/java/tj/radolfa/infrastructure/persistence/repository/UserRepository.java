@@ -22,8 +22,14 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.tier LEFT JOIN FETCH u.lowestTierEver WHERE u.id = :id")
     Optional<UserEntity> findByIdWithTier(@Param("id") Long id);
 
-    @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.tier LEFT JOIN FETCH u.lowestTierEver WHERE u.loyaltyPermanent = false")
-    List<UserEntity> findAllNonPermanent();
+    @Query("SELECT u.tier.id FROM UserEntity u WHERE u.id = :id AND u.tier IS NOT NULL")
+    Optional<Long> findTierIdById(@Param("id") Long id);
+
+    @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.tier LEFT JOIN FETCH u.lowestTierEver " +
+            "WHERE u.loyaltyPermanent = false AND u.id > :afterId AND u.id <= :toId ORDER BY u.id")
+    List<UserEntity> findNonPermanentInRange(@Param("afterId") Long afterId,
+                                             @Param("toId") Long toId,
+                                             Pageable pageable);
 
     @Query(value = "SELECT u FROM UserEntity u LEFT JOIN FETCH u.tier WHERE " +
             "(:query IS NULL OR :query = '' OR " +
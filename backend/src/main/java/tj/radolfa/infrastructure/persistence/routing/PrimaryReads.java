@@ -0,0 +1,61 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs cache loads against the primary, so an entry reloaded right after an invalidation
+ * never comes from a replica that has not replayed the write behind it yet.
+ *
+ * <p>Inside a read-only transaction — whose connection may already be on the replica —
+ * the load gets a read-only transaction of its own; anywhere else it runs as it is. Without
+ * a replica configured every load runs as it is.
+ */
+@Component
+public class PrimaryReads {
+
+    private final TransactionTemplate ownTransaction;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager,
+                        @Value("${radolfa.datasource.replica.url:}") String replicaUrl) {
+        this(replicaUrl.isBlank() ? null : transactionManager);
+    }
+
+    PrimaryReads(PlatformTransactionManager transactionManager) {
+        if (transactionManager == null) {
+            this.ownTransaction = null;
+        } else {
+            this.ownTransaction = new TransactionTemplate(transactionManager);
+            this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            this.ownTransaction.setReadOnly(true);
+        }
+    }
+
+    /** Loads as they are, for setups without a replica and for tests. */
+    public static PrimaryReads direct() {
+        return new PrimaryReads(null);
+    }
+
+    public <T> T read(Supplier<T> load) {
+        boolean previous = ReplicaReads.set(false);
+        try {
+            if (ownTransaction == null || !inReadOnlyTransaction()) {
+                return load.get();
+            }
+            return ownTransaction.execute(status -> load.get());
+        } finally {
+            ReplicaReads.restore(previous);
+        }
+    }
+
+    private static boolean inReadOnlyTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
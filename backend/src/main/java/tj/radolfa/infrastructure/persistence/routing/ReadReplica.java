@@ -0,0 +1,22 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read adapter (or single read method) whose results may be served by the read
+ * replica, a few seconds behind the primary.
+ *
+ * <p>Only these methods read from the replica; other read-only transactions stay on the
+ * primary. Called outside a transaction, the method runs in a read-only one; inside an
+ * existing transaction it joins it, and reads from the replica only when that transaction
+ * is read-only and takes its connection here. Has no effect unless a replica is configured.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ReadReplica {
+}
@@ -0,0 +1,60 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs {@link ReadReplica} methods inside a {@link ReplicaReads} scope, so
+ * {@link ReplicaRoutingDataSource} may send them to the replica. Called outside a
+ * transaction they get a read-only one; calls inside a transaction join it unchanged.
+ */
+@Aspect
+public class ReadReplicaAspect {
+
+    private final TransactionTemplate readOnly;
+
+    public ReadReplicaAspect(PlatformTransactionManager transactionManager) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @Around("@within(tj.radolfa.infrastructure.persistence.routing.ReadReplica)"
+            + " || @annotation(tj.radolfa.infrastructure.persistence.routing.ReadReplica)")
+    public Object route(ProceedingJoinPoint pjp) throws Throwable {
+        boolean previous = ReplicaReads.set(true);
+        try {
+            return proceed(pjp);
+        } finally {
+            ReplicaReads.restore(previous);
+        }
+    }
+
+    private Object proceed(ProceedingJoinPoint pjp) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return pjp.proceed();
+        }
+        try {
+            return readOnly.execute(status -> {
+                try {
+                    return pjp.proceed();
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new CheckedException(ex);
+                }
+            });
+        } catch (CheckedException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static final class CheckedException extends RuntimeException {
+        CheckedException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
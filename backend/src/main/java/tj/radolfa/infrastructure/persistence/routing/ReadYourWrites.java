@@ -0,0 +1,36 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+/**
+ * Request-scoped pin to the primary, so a client never reads a replica that has not yet
+ * caught up with its own writes.
+ *
+ * <p>{@link ReadYourWritesFilter} opens the scope — already pinned when the client wrote
+ * within the sticky window — and {@link ReplicaRoutingDataSource} pins it for the rest
+ * of the request as soon as a read-write transaction takes a connection. Threads without
+ * a scope (schedulers, job workers) are never pinned; they only reach the replica through
+ * {@link ReadReplica} adapters.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<boolean[]> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {}
+
+    static void begin(boolean pinned) {
+        PINNED.set(new boolean[]{pinned});
+    }
+
+    static void end() {
+        PINNED.remove();
+    }
+
+    static boolean pinned() {
+        boolean[] scope = PINNED.get();
+        return scope != null && scope[0];
+    }
+
+    static void pin() {
+        boolean[] scope = PINNED.get();
+        if (scope != null) scope[0] = true;
+    }
+}
@@ -0,0 +1,68 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a client on the primary for {@code sticky} after each of its mutating requests.
+ *
+ * <p>The mark is a short-lived cookie rather than server state, so it holds whichever
+ * instance serves the client's next request. It is set before the request runs — the
+ * response may be committed by the time the handler returns — on every
+ * {@code POST}/{@code PUT}/{@code PATCH}/{@code DELETE}.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "radolfa_primary";
+
+    private static final Set<String> MUTATING = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final Duration sticky;
+
+    public ReadYourWritesFilter(Duration sticky) {
+        this.sticky = sticky;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean mutating = MUTATING.contains(request.getMethod());
+        if (mutating) {
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE_NAME, "1")
+                    .httpOnly(true)
+                    .secure(request.isSecure())
+                    .sameSite("Lax")
+                    .path("/")
+                    .maxAge(sticky)
+                    .build()
+                    .toString());
+        }
+
+        ReadYourWrites.begin(mutating || hasCookie(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    private static boolean hasCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return false;
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) return true;
+        }
+        return false;
+    }
+}
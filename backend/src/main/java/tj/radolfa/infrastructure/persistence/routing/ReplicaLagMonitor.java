@@ -0,0 +1,85 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Measures replication lag on the replica and decides whether reads may go there.
+ *
+ * <p>The replica is usable while its last measured lag is at most {@code maxLag} and that
+ * measurement is recent — a check that fails or stops running takes the replica out of
+ * rotation within {@link #STALE_AFTER_CHECKS} intervals. A server that is not in recovery
+ * (a plain second database, e.g. in local tests) reports no lag.
+ *
+ * <p>Exposes {@code radolfa.datasource.replica.lag} in seconds; {@code NaN} when unknown.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements BooleanSupplier {
+
+    static final int STALE_AFTER_CHECKS = 3;
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END""";
+
+    private final JdbcTemplate replica;
+    private final Clock        clock;
+    private final Duration     maxLag;
+    private final Duration     staleAfter;
+
+    private volatile double  lagSeconds = Double.NaN;
+    private volatile Instant checkedAt;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(JdbcTemplate replica, MeterRegistry registry, Duration maxLag, Duration checkInterval) {
+        this(replica, registry, Clock.systemUTC(), maxLag, checkInterval);
+    }
+
+    ReplicaLagMonitor(JdbcTemplate replica, MeterRegistry registry, Clock clock, Duration maxLag, Duration checkInterval) {
+        this.replica    = replica;
+        this.clock      = clock;
+        this.maxLag     = maxLag;
+        this.staleAfter = checkInterval.multipliedBy(STALE_AFTER_CHECKS);
+        Gauge.builder("radolfa.datasource.replica.lag", this, m -> m.lagSeconds)
+                .description("Replication lag of the read replica")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${radolfa.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            Double lag = replica.queryForObject(LAG_SQL, Double.class);
+            lagSeconds = lag != null ? lag : Double.NaN;
+            usable     = lag != null && lag <= maxLag.toMillis() / 1000.0;
+        } catch (RuntimeException ex) {
+            lagSeconds = Double.NaN;
+            usable     = false;
+            if (wasUsable) log.warn("[REPLICA] Lag check failed: {}", ex.getMessage());
+        }
+        checkedAt = clock.instant();
+
+        if (wasUsable != usable) {
+            if (usable) log.info("[REPLICA] Replica back in rotation (lag {}s)", lagSeconds);
+            else        log.warn("[REPLICA] Replica out of rotation (lag {}s) — reads go to the primary", lagSeconds);
+        }
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        Instant at = checkedAt;
+        return usable && at != null && at.plus(staleAfter).isAfter(clock.instant());
+    }
+}
@@ -0,0 +1,26 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the read replica.
+ * Bound to {@code radolfa.datasource.replica.*} in application.yml.
+ *
+ * @param url                  JDBC URL of the replica; routing is off while blank
+ * @param username             defaults to {@code spring.datasource.username}
+ * @param password             defaults to {@code spring.datasource.password}
+ * @param poolSize             replica connection pool size
+ * @param maxLagSeconds        replication lag above which reads fall back to the primary
+ * @param lagCheckIntervalMs   how often the lag is measured
+ * @param stickySeconds        how long a client reads from the primary after a mutating request
+ */
+@ConfigurationProperties(prefix = "radolfa.datasource.replica")
+public record ReplicaProperties(
+        String url,
+        String username,
+        String password,
+        int poolSize,
+        long maxLagSeconds,
+        long lagCheckIntervalMs,
+        long stickySeconds
+) {}
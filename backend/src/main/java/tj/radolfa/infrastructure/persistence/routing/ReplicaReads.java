@@ -0,0 +1,33 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+/**
+ * Marks the code that may read from the replica: the body of a {@link ReadReplica} method.
+ *
+ * <p>{@link ReadReplicaAspect} opens the scope, {@link PrimaryReads} closes it again for
+ * loads that must see the latest writes, and {@link ReplicaRoutingDataSource} only sends a
+ * read-only transaction to the replica when its connection is taken inside the scope.
+ * Everything else — schedulers, batch jobs, plain {@code @Transactional(readOnly = true)}
+ * services — reads from the primary.
+ */
+final class ReplicaReads {
+
+    private static final ThreadLocal<Boolean> ALLOWED = new ThreadLocal<>();
+
+    private ReplicaReads() {}
+
+    static boolean allowed() {
+        return Boolean.TRUE.equals(ALLOWED.get());
+    }
+
+    /** Opens or closes the scope; returns the previous state for {@link #restore}. */
+    static boolean set(boolean allowed) {
+        boolean previous = allowed();
+        if (allowed) ALLOWED.set(Boolean.TRUE);
+        else ALLOWED.remove();
+        return previous;
+    }
+
+    static void restore(boolean previous) {
+        set(previous);
+    }
+}
@@ -0,0 +1,92 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Sends the connections of read-only transactions opened for {@link ReadReplica} reads to
+ * the replica, everything else to the primary.
+ *
+ * <p>Must sit behind a {@code LazyConnectionDataSourceProxy}: transaction managers fetch
+ * the connection before they mark the transaction read-only, the proxy defers the fetch
+ * to the first statement. A read-only transaction still goes to the primary when
+ * <ul>
+ *   <li>its first statement runs outside a {@link ReplicaReads} scope — batch jobs and
+ *       plain read-only services must not act on a replica that is behind, or</li>
+ *   <li>the request is pinned by {@link ReadYourWrites}, or</li>
+ *   <li>the replica is lagging or unreachable, as reported by {@code replicaUsable}.</li>
+ * </ul>
+ *
+ * <p>Each decision is counted as {@code radolfa.datasource.route}, tagged with the
+ * {@code target} and the {@code reason} for it.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final BooleanSupplier replicaUsable;
+    private final Counter         readOnly;
+    private final Counter         readWrite;
+    private final Counter         noTransaction;
+    private final Counter         unmarked;
+    private final Counter         sticky;
+    private final Counter         lagging;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    BooleanSupplier replicaUsable,
+                                    MeterRegistry registry) {
+        this.replicaUsable = replicaUsable;
+        this.readOnly      = route(registry, Target.REPLICA, "read-only");
+        this.readWrite     = route(registry, Target.PRIMARY, "read-write");
+        this.noTransaction = route(registry, Target.PRIMARY, "no-transaction");
+        this.unmarked      = route(registry, Target.PRIMARY, "read-only-unmarked");
+        this.sticky        = route(registry, Target.PRIMARY, "sticky");
+        this.lagging       = route(registry, Target.PRIMARY, "lagging");
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            noTransaction.increment();
+            return Target.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Whatever this request reads from now on must see the write
+            ReadYourWrites.pin();
+            readWrite.increment();
+            return Target.PRIMARY;
+        }
+        if (!ReplicaReads.allowed()) {
+            unmarked.increment();
+            return Target.PRIMARY;
+        }
+        if (ReadYourWrites.pinned()) {
+            sticky.increment();
+            return Target.PRIMARY;
+        }
+        if (!replicaUsable.getAsBoolean()) {
+            lagging.increment();
+            return Target.PRIMARY;
+        }
+        readOnly.increment();
+        return Target.REPLICA;
+    }
+
+    private static Counter route(MeterRegistry registry, Target target, String reason) {
+        return Counter.builder("radolfa.datasource.route")
+                .description("Connections handed out, by target and routing reason")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
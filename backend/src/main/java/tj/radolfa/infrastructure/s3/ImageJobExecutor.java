@@ -0,0 +1,116 @@
+package tj.radolfa.infrastructure.s3;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tj.radolfa.application.ports.out.ImageJobPort;
+import tj.radolfa.domain.exception.ImageProcessingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs image jobs in this JVM and buffers raw uploads in temporary files.
+ *
+ * <p>Rendering runs on a bounded CPU pool ({@code radolfa.images.processing-threads}
+ * workers, {@code radolfa.images.queue-capacity} waiting jobs). When the queue is full the
+ * submitting thread renders the job itself, which slows uploaders down instead of piling
+ * decoded images up in memory. Uploads run on virtual threads, so slow storage never
+ * holds a CPU worker.
+ */
+@Slf4j
+@Component
+public class ImageJobExecutor implements ImageJobPort {
+
+    private final ThreadPoolExecutor renderPool;
+    private final ExecutorService    uploadPool;
+
+    public ImageJobExecutor(@Value("${radolfa.images.processing-threads:0}") int processingThreads,
+                            @Value("${radolfa.images.queue-capacity:32}") int queueCapacity) {
+        int threads = processingThreads > 0
+                ? processingThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger seq = new AtomicInteger();
+        this.renderPool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-render-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.uploadPool = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Override
+    public SpooledImage spool(InputStream source, String originalFilename) {
+        Path file = null;
+        try (source) {
+            file = Files.createTempFile("radolfa-image-", ".upload");
+            Files.copy(source, file, StandardCopyOption.REPLACE_EXISTING);
+            return new SpooledFile(file);
+        } catch (IOException e) {
+            if (file != null) deleteQuietly(file);
+            throw new ImageProcessingException("Failed to buffer uploaded image: " + originalFilename, e);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> render(Supplier<T> job) {
+        return CompletableFuture.supplyAsync(job, renderPool);
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(Runnable job) {
+        return CompletableFuture.runAsync(job, uploadPool);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renderPool.shutdown();
+        uploadPool.shutdown();
+        try {
+            if (!renderPool.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("[IMAGE] {} image jobs still queued at shutdown", renderPool.getQueue().size());
+            }
+            uploadPool.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    private record SpooledFile(Path file) implements SpooledImage {
+
+        @Override
+        public InputStream open() throws IOException {
+            return Files.newInputStream(file);
+        }
+
+        @Override
+        public void close() {
+            deleteQuietly(file);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[IMAGE] Could not delete temporary file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -13,7 +13,6 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import tj.radolfa.application.ports.out.ImageUploadPort;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 
@@ -60,25 +59,29 @@ public class S3ImageUploader implements ImageUploadPort {
                 .build();
     }
 
+    /**
+     * Streams the image to S3 as a single PUT read straight from the stream, so it is
+     * never held on the heap. The length must be known up front.
+     */
     @Override
-    public String upload(InputStream imageStream, String objectKey, String contentType) {
-        byte[] bytes;
-        try {
-            bytes = imageStream.readAllBytes();
-        } catch (IOException ex) {
-            throw new RuntimeException("Failed to read image stream for upload", ex);
+    public String upload(InputStream imageStream, long contentLength, String objectKey, String contentType) {
+        if (contentLength < 0) {
+            throw new IllegalArgumentException("Content length required for " + objectKey);
         }
-
         PutObjectRequest request = PutObjectRequest.builder()
                 .bucket(bucket)
                 .key(objectKey)
                 .contentType(contentType)
+                .contentLength(contentLength)
                 .build();
+        s3.putObject(request, RequestBody.fromInputStream(imageStream, contentLength));
+        return publicUrl(objectKey);
+    }
 
-        s3.putObject(request, RequestBody.fromBytes(bytes));
-
+    @Override
+    public String publicUrl(String objectKey) {
         // Virtual-hosted-style public URL: https://{bucket}.{endpoint-host}/{key}
-        // e.g. https://my-bucket.s3.twcstorage.ru/products/slug/uuid.webp
+        // e.g. https://my-bucket.s3.twcstorage.ru/products/slug/uuid/detail.webp
         return "https://" + bucket + "." + endpointHost + "/" + objectKey;
     }
 }
@@ -11,6 +11,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Development / test stub for {@link ImageUploadPort}.
@@ -34,23 +35,27 @@ public class S3ImageUploaderStub implements ImageUploadPort {
     private static final Path UPLOADS_ROOT = Path.of("uploads");
 
     @Override
-    public String upload(InputStream imageStream, String objectKey, String contentType) {
+    public String upload(InputStream imageStream, long contentLength, String objectKey, String contentType) {
         try {
             // Ensure the full directory tree exists (e.g. uploads/products/SKU-001/)
             Path target = UPLOADS_ROOT.resolve(objectKey);
             Files.createDirectories(target.getParent());
 
-            // Write bytes to disk
-            byte[] bytes = imageStream.readAllBytes();
-            Files.write(target, bytes);
+            // Stream bytes to disk
+            long written = Files.copy(imageStream, target, StandardCopyOption.REPLACE_EXISTING);
 
-            LOG.info("[S3-STUB] Wrote {} bytes to {}", bytes.length, target.toAbsolutePath());
+            LOG.info("[S3-STUB] Wrote {} bytes to {}", written, target.toAbsolutePath());
 
-            // Return a localhost URL that mirrors what a real S3 public URL would look like
-            return "http://localhost:8080/uploads/" + objectKey;
+            return publicUrl(objectKey);
 
         } catch (IOException ex) {
             throw new RuntimeException("S3 stub: failed to write image to local filesystem", ex);
         }
     }
+
+    @Override
+    public String publicUrl(String objectKey) {
+        // A localhost URL that mirrors what a real S3 public URL would look like
+        return "http://localhost:8080/uploads/" + objectKey;
+    }
 }
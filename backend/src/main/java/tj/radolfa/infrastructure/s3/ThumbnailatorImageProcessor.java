@@ -8,19 +8,30 @@ import org.springframework.stereotype.Component;
 import tj.radolfa.application.ports.out.ImageProcessingPort;
 import tj.radolfa.application.ports.out.ProcessedImage;
 import tj.radolfa.domain.exception.ImageProcessingException;
+import tj.radolfa.domain.model.ImageRendition;
 
 import javax.imageio.ImageIO;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Infrastructure adapter: resize and compress images using Thumbnailator.
  *
  * Rules enforced here:
- *   - Maximum width is 1920 px.  Images narrower than that are NOT upscaled.
+ *   - The source is decoded once; every {@link ImageRendition} is scaled from
+ *     the next larger one, largest first.  Images smaller than a rendition are
+ *     NOT upscaled.
  *   - Target format is WebP at quality 0.8.
+ *   - Encoded output is written to a temporary file rather than held on the
+ *     heap; the returned stream deletes the file when closed.
  *   - WebP availability is probed once at construction time via
  *     {@link ImageIO#getImageWritersByFormatName}.  If the JVM does not ship
  *     a WebP codec (standard OpenJDK 17 does not), the processor falls back
@@ -31,9 +42,11 @@ import java.io.InputStream;
 @Component
 public class ThumbnailatorImageProcessor implements ImageProcessingPort {
 
-    private static final Logger LOG       = LoggerFactory.getLogger(ThumbnailatorImageProcessor.class);
-    private static final int    MAX_WIDTH = 1920;
-    private static final float  QUALITY   = 0.8f;
+    private static final Logger LOG     = LoggerFactory.getLogger(ThumbnailatorImageProcessor.class);
+    private static final float  QUALITY = 0.8f;
+
+    private static final List<ImageRendition> LARGEST_FIRST =
+            List.of(ImageRendition.ZOOM, ImageRendition.DETAIL, ImageRendition.CARD, ImageRendition.THUMB);
 
     /** Cached on first construction -- format availability does not change at runtime. */
     private final boolean webpSupported;
@@ -46,27 +59,69 @@ public class ThumbnailatorImageProcessor implements ImageProcessingPort {
     }
 
     @Override
-    public ProcessedImage process(InputStream source, String originalFilename) {
+    public Map<ImageRendition, ProcessedImage> renditions(InputStream source, String originalFilename) {
         try {
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            // Decoding through Thumbnailator applies the EXIF orientation
+            BufferedImage current = Thumbnails.of(source).scale(1.0).asBufferedImage();
 
-            String format = webpSupported ? "webp" : "jpg";
-            String mime   = webpSupported ? "image/webp" : "image/jpeg";
+            Map<ImageRendition, ProcessedImage> result = new EnumMap<>(ImageRendition.class);
+            try {
+                for (ImageRendition rendition : LARGEST_FIRST) {
+                    current = fit(current, rendition.maxSize());
+                    result.put(rendition, encode(current));
+                }
+            } catch (IOException | RuntimeException ex) {
+                result.values().forEach(ThumbnailatorImageProcessor::discard);
+                throw ex;
+            }
+            return result;
+        } catch (IOException ex) {
+            throw new ImageProcessingException("Failed to process image: " + originalFilename, ex);
+        }
+    }
 
-            Thumbnails.of(source)
-                    .size(MAX_WIDTH, MAX_WIDTH)
-                    .keepAspectRatio(true)
-                    .outputFormat(format)
-                    .outputQuality(QUALITY)
-                    .toOutputStream(out);
+    @Override
+    public String extension() {
+        return webpSupported ? "webp" : "jpg";
+    }
 
+    private static BufferedImage fit(BufferedImage image, int maxSize) throws IOException {
+        if (image.getWidth() <= maxSize && image.getHeight() <= maxSize) {
+            return image;
+        }
+        return Thumbnails.of(image)
+                .size(maxSize, maxSize)
+                .keepAspectRatio(true)
+                .asBufferedImage();
+    }
+
+    private ProcessedImage encode(BufferedImage image) throws IOException {
+        String format = extension();
+        String mime   = webpSupported ? "image/webp" : "image/jpeg";
+
+        Path file = Files.createTempFile("radolfa-rendition-", "." + format);
+        try {
+            try (OutputStream out = Files.newOutputStream(file)) {
+                Thumbnails.of(image)
+                        .scale(1.0)
+                        .outputFormat(format)
+                        .outputQuality(QUALITY)
+                        .toOutputStream(out);
+            }
+            long size = Files.size(file);
             return new ProcessedImage(
-                    new ByteArrayInputStream(out.toByteArray()),
-                    mime,
-                    format.equals("webp") ? "webp" : "jpg"
-            );
+                    Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE), size, mime, format);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+    }
+
+    private static void discard(ProcessedImage image) {
+        try {
+            image.data().close();
         } catch (IOException ex) {
-            throw new ImageProcessingException("Failed to process image: " + originalFilename, ex);
+            LOG.warn("[IMAGE] Failed to discard rendition: {}", ex.getMessage());
         }
     }
 }
@@ -0,0 +1,25 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tj.radolfa.infrastructure.persistence.adapter.WriteBehindCartStore;
+
+/**
+ * Writes pending cart diffs of the write-behind cart store and drops idle carts.
+ */
+@Component
+@ConditionalOnProperty(prefix = "radolfa.cart.write-behind", name = "enabled", havingValue = "true")
+public class CartFlushJob {
+
+    private final WriteBehindCartStore cartStore;
+
+    public CartFlushJob(WriteBehindCartStore cartStore) {
+        this.cartStore = cartStore;
+    }
+
+    @Scheduled(fixedDelayString = "${radolfa.cart.write-behind.flush-interval-ms:2000}")
+    public void flush() {
+        cartStore.flushAndEvictIdle();
+    }
+}
@@ -0,0 +1,60 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+import tj.radolfa.infrastructure.persistence.adapter.DiscountMetricsRollup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Nightly maintenance of the {@code discount_daily_metrics} rollup.
+ *
+ * <p>Runs at 00:15 UTC: folds every completed day into the rollup, then compares the
+ * last {@value #CHECK_DAYS} compacted days against the raw {@code discount_application}
+ * rows and recompacts any day that disagrees. Runs on one instance at a time.
+ */
+@Slf4j
+@Component
+public class DiscountMetricsCompactionJob {
+
+    static final int      CHECK_DAYS = 7;
+    static final Duration LEASE      = Duration.ofMinutes(10);
+
+    private final DiscountMetricsRollup rollup;
+    private final SchedulerLockPort     schedulerLockPort;
+    private final Clock                 clock;
+
+    public DiscountMetricsCompactionJob(DiscountMetricsRollup rollup, SchedulerLockPort schedulerLockPort) {
+        this(rollup, schedulerLockPort, Clock.systemUTC());
+    }
+
+    DiscountMetricsCompactionJob(DiscountMetricsRollup rollup, SchedulerLockPort schedulerLockPort, Clock clock) {
+        this.rollup            = rollup;
+        this.schedulerLockPort = schedulerLockPort;
+        this.clock             = clock;
+    }
+
+    @Scheduled(cron = "0 15 0 * * *", zone = "UTC")
+    public void run() {
+        schedulerLockPort.runExclusively("discount-metrics-compaction", LEASE, this::compact);
+    }
+
+    void compact() {
+        // Only completed UTC days; today keeps being read from raw rows
+        LocalDate yesterday = LocalDate.now(clock.withZone(ZoneOffset.UTC)).minusDays(1);
+        rollup.compactThrough(yesterday);
+
+        LocalDate checkTo = rollup.compactedThrough();
+        List<LocalDate> drifted = rollup.findInconsistentDays(checkTo.minusDays(CHECK_DAYS - 1), checkTo);
+        for (LocalDate day : drifted) {
+            log.warn("[DISCOUNT-METRICS] Rollup for {} disagrees with raw rows — recompacting", day);
+            rollup.compactDay(day);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import tj.radolfa.application.ports.out.JobQueuePort.Stage;
+
+/**
+ * Runs the jobs of one {@link Stage} for the {@link JobWorker}.
+ *
+ * <p>{@link #handle} runs inside a transaction that also marks the job done; throwing
+ * rolls both back and schedules a retry.
+ */
+public interface JobHandler {
+
+    Stage stage();
+
+    void handle(String key, String payload);
+}
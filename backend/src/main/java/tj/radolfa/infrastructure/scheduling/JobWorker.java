@@ -0,0 +1,157 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tj.radolfa.application.ports.out.JobQueuePort.Stage;
+import tj.radolfa.infrastructure.persistence.adapter.JobQueueAdapter;
+import tj.radolfa.infrastructure.persistence.adapter.JobQueueAdapter.ClaimedJob;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs jobs from the durable {@code job_queue}.
+ *
+ * <p>Each poll leases a batch and runs every job in its own transaction together with
+ * marking it done. A failed job is retried with exponential backoff and parked as DEAD
+ * after {@code radolfa.jobs.max-attempts}.
+ *
+ * <p>Metrics, all tagged by {@code stage}:
+ * <ul>
+ *   <li>{@code radolfa.jobs.run} — timer per attempt, tagged {@code outcome=done|retry|dead}</li>
+ *   <li>{@code radolfa.jobs.start.lag} — enqueue to first attempt</li>
+ *   <li>{@code radolfa.jobs.pending} — gauge of jobs waiting to run</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class JobWorker {
+
+    static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final JobQueueAdapter         queue;
+    private final Map<Stage, JobHandler>  handlers = new EnumMap<>(Stage.class);
+    private final TransactionTemplate     tx;
+    private final MeterRegistry           registry;
+    private final Clock                   clock;
+    private final int                     batchSize;
+    private final Duration                lease;
+    private final int                     maxAttempts;
+    private final Duration                retryBase;
+    private final Map<Stage, AtomicLong>  pending  = new EnumMap<>(Stage.class);
+
+    public JobWorker(JobQueueAdapter queue,
+                     List<JobHandler> handlers,
+                     PlatformTransactionManager transactionManager,
+                     MeterRegistry registry,
+                     @Value("${radolfa.jobs.batch-size:20}") int batchSize,
+                     @Value("${radolfa.jobs.lease-seconds:120}") long leaseSeconds,
+                     @Value("${radolfa.jobs.max-attempts:8}") int maxAttempts,
+                     @Value("${radolfa.jobs.retry-base-seconds:5}") long retryBaseSeconds) {
+        this(queue, handlers, new TransactionTemplate(transactionManager), registry, Clock.systemUTC(),
+                batchSize, Duration.ofSeconds(leaseSeconds), maxAttempts, Duration.ofSeconds(retryBaseSeconds));
+    }
+
+    JobWorker(JobQueueAdapter queue,
+              List<JobHandler> handlers,
+              TransactionTemplate tx,
+              MeterRegistry registry,
+              Clock clock,
+              int batchSize,
+              Duration lease,
+              int maxAttempts,
+              Duration retryBase) {
+        this.queue       = queue;
+        this.tx          = tx;
+        this.registry    = registry;
+        this.clock       = clock;
+        this.batchSize   = batchSize;
+        this.lease       = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryBase   = retryBase;
+        for (JobHandler handler : handlers) {
+            if (this.handlers.put(handler.stage(), handler) != null) {
+                throw new IllegalStateException("Two job handlers for stage " + handler.stage());
+            }
+        }
+        for (Stage stage : Stage.values()) {
+            AtomicLong count = new AtomicLong();
+            pending.put(stage, count);
+            Gauge.builder("radolfa.jobs.pending", count, AtomicLong::get)
+                    .description("Jobs waiting to run")
+                    .tag("stage", stage.name())
+                    .register(registry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${radolfa.jobs.poll-interval-ms:500}")
+    public void poll() {
+        List<ClaimedJob> jobs;
+        do {
+            jobs = queue.claim(batchSize, lease);
+            jobs.forEach(this::run);
+        } while (jobs.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${radolfa.jobs.backlog-refresh-ms:15000}")
+    public void refreshBacklog() {
+        Map<Stage, Long> counts = queue.pendingByStage();
+        pending.forEach((stage, count) -> count.set(counts.getOrDefault(stage, 0L)));
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    void run(ClaimedJob job) {
+        if (job.attempts() == 1 && job.createdAt() != null) {
+            Timer.builder("radolfa.jobs.start.lag")
+                    .tag("stage", job.stage().name())
+                    .register(registry)
+                    .record(Duration.between(job.createdAt(), clock.instant()));
+        }
+
+        JobHandler handler = handlers.get(job.stage());
+        Timer.Sample sample = Timer.start(registry);
+        String outcome;
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("No handler for stage " + job.stage());
+            }
+            tx.executeWithoutResult(status -> {
+                handler.handle(job.key(), job.payload());
+                queue.complete(job.id());
+            });
+            outcome = "done";
+        } catch (RuntimeException ex) {
+            Duration retryIn = job.attempts() >= maxAttempts ? null : backoff(job.attempts());
+            queue.fail(job.id(), ex.toString(), retryIn);
+            if (retryIn == null) {
+                outcome = "dead";
+                log.error("[JOBS] {} key={} failed {} times — parked as DEAD", job.stage(), job.key(), job.attempts(), ex);
+            } else {
+                outcome = "retry";
+                log.warn("[JOBS] {} key={} attempt {} failed, retrying in {}s: {}",
+                        job.stage(), job.key(), job.attempts(), retryIn.toSeconds(), ex.getMessage());
+            }
+        }
+        sample.stop(Timer.builder("radolfa.jobs.run")
+                .tag("stage", job.stage().name())
+                .tag("outcome", outcome)
+                .register(registry));
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = retryBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
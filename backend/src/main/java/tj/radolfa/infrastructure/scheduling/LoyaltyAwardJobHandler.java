@@ -0,0 +1,26 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import org.springframework.stereotype.Component;
+import tj.radolfa.application.ports.in.loyalty.AwardLoyaltyPointsUseCase;
+import tj.radolfa.application.ports.out.JobQueuePort.Stage;
+
+/** Awards cashback for a paid order; the key is the order ID, the payload the user ID. */
+@Component
+public class LoyaltyAwardJobHandler implements JobHandler {
+
+    private final AwardLoyaltyPointsUseCase awardLoyaltyPointsUseCase;
+
+    public LoyaltyAwardJobHandler(AwardLoyaltyPointsUseCase awardLoyaltyPointsUseCase) {
+        this.awardLoyaltyPointsUseCase = awardLoyaltyPointsUseCase;
+    }
+
+    @Override
+    public Stage stage() {
+        return Stage.LOYALTY_AWARD;
+    }
+
+    @Override
+    public void handle(String key, String payload) {
+        awardLoyaltyPointsUseCase.execute(Long.valueOf(payload), Long.valueOf(key));
+    }
+}
@@ -0,0 +1,39 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tj.radolfa.infrastructure.persistence.adapter.LoyaltyPointsLedgerAdapter;
+
+/**
+ * Keeps loyalty balance reads short by folding ledger rows into the per-user snapshots.
+ *
+ * <p>Each run folds batches until no user with a pending tail is left unlocked.
+ */
+@Slf4j
+@Component
+public class LoyaltyLedgerSnapshotJob {
+
+    private final LoyaltyPointsLedgerAdapter ledger;
+    private final int                        batchSize;
+
+    public LoyaltyLedgerSnapshotJob(LoyaltyPointsLedgerAdapter ledger,
+                                    @Value("${radolfa.loyalty.ledger.snapshot-batch-size:500}") int batchSize) {
+        this.ledger    = ledger;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${radolfa.loyalty.ledger.snapshot-interval-ms:60000}")
+    public void run() {
+        int total = 0;
+        int folded;
+        do {
+            folded = ledger.snapshot(batchSize);
+            total += folded;
+        } while (folded == batchSize);
+        if (total > 0) {
+            log.debug("[LOYALTY] Folded ledger tails of {} users into balance snapshots", total);
+        }
+    }
+}
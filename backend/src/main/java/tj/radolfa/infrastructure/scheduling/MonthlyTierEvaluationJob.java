@@ -8,9 +8,11 @@ import tj.radolfa.application.services.MonthlyTierEvaluationService;
 /**
  * Scheduled job that triggers monthly loyalty tier evaluation.
  *
- * <p>Runs at 02:00 UTC on the 1st of each month. Evaluates the completed
- * previous calendar month's net spending for all non-permanent users and
- * promotes or demotes tiers accordingly.
+ * <p>Starts at 02:00 UTC on the 1st of each month and evaluates the completed
+ * previous calendar month's net spending for all non-permanent users, promoting
+ * or demoting tiers accordingly. It fires again every hour that day: a run that
+ * was interrupted resumes from its checkpoints, a completed one is skipped.
+ * Every instance fires it; partitions are split between them by lease.
  */
 @Slf4j
 @Component
@@ -22,7 +24,7 @@ public class MonthlyTierEvaluationJob {
         this.evaluationService = evaluationService;
     }
 
-    @Scheduled(cron = "0 0 2 1 * *", zone = "UTC")
+    @Scheduled(cron = "${radolfa.loyalty.tier-evaluation.cron:0 0 2-23 1 * *}", zone = "UTC")
     public void run() {
         log.info("MonthlyTierEvaluationJob triggered");
         evaluationService.evaluatePreviousMonth();
@@ -0,0 +1,243 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+import tj.radolfa.application.ports.out.SchedulerLockPort.Lease;
+import tj.radolfa.infrastructure.notification.NotificationSink;
+import tj.radolfa.infrastructure.notification.OutboundNotification;
+import tj.radolfa.infrastructure.persistence.adapter.NotificationOutboxAdapter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the notification outbox into the {@link NotificationSink}.
+ *
+ * <p>Each tick leases as many messages as the send-rate budget allows, in batches of
+ * {@link NotificationSink#maxBatchSize()} — one provider call per batch. The budget is a
+ * token bucket refilled at {@code radolfa.notifications.rate-per-second} that holds at
+ * most one second of sends (at least one message). Failed messages are retried with
+ * exponential backoff and parked as DEAD after {@code radolfa.notifications.max-attempts}.
+ *
+ * <p>The rate is the provider's quota for the whole cluster, so only one instance sends:
+ * the holder of the {@value #LEADER_LOCK} lease, kept across ticks and renewed while it
+ * lives. The others only refresh the backlog gauge, and take over within
+ * {@link #LEADER_TTL} once the holder dies.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code radolfa.notifications.backlog} — gauge of undelivered messages</li>
+ *   <li>{@code radolfa.notifications.latency} — commit of the message to its delivery</li>
+ *   <li>{@code radolfa.notifications.batch} — provider call timer</li>
+ *   <li>{@code radolfa.notifications.messages} — counter tagged {@code outcome=sent|retry|dead}</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    static final String   LEADER_LOCK = "notification-dispatch";
+    static final Duration LEADER_TTL  = Duration.ofSeconds(30);
+
+    private final NotificationOutboxAdapter outbox;
+    private final NotificationSink          sink;
+    private final SchedulerLockPort         schedulerLockPort;
+    private final Clock                     clock;
+    private final double                    ratePerSecond;
+    private final double                    burst;
+    private final Duration                  lease;
+    private final int                       maxAttempts;
+    private final Duration                  retryBase;
+    private final Duration                  retention;
+    private final AtomicLong                backlog = new AtomicLong();
+    private final Timer                     latency;
+    private final Timer                     batchTimer;
+    private final Counter                   sent;
+    private final Counter                   retried;
+    private final Counter                   dead;
+
+    private double  tokens;
+    private Instant refilledAt;
+    private Lease   leadership;
+
+    public NotificationDispatcher(NotificationOutboxAdapter outbox,
+                                  NotificationSink sink,
+                                  SchedulerLockPort schedulerLockPort,
+                                  MeterRegistry registry,
+                                  @Value("${radolfa.notifications.rate-per-second:20}") double ratePerSecond,
+                                  @Value("${radolfa.notifications.lease-seconds:60}") long leaseSeconds,
+                                  @Value("${radolfa.notifications.max-attempts:6}") int maxAttempts,
+                                  @Value("${radolfa.notifications.retry-base-seconds:30}") long retryBaseSeconds,
+                                  @Value("${radolfa.notifications.retention-days:14}") long retentionDays) {
+        this(outbox, sink, schedulerLockPort, registry, Clock.systemUTC(), ratePerSecond, Duration.ofSeconds(leaseSeconds),
+                maxAttempts, Duration.ofSeconds(retryBaseSeconds), Duration.ofDays(retentionDays));
+    }
+
+    NotificationDispatcher(NotificationOutboxAdapter outbox,
+                           NotificationSink sink,
+                           SchedulerLockPort schedulerLockPort,
+                           MeterRegistry registry,
+                           Clock clock,
+                           double ratePerSecond,
+                           Duration lease,
+                           int maxAttempts,
+                           Duration retryBase,
+                           Duration retention) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("rate-per-second must be positive, got: " + ratePerSecond);
+        }
+        this.outbox            = outbox;
+        this.sink              = sink;
+        this.schedulerLockPort = schedulerLockPort;
+        this.clock             = clock;
+        this.ratePerSecond     = ratePerSecond;
+        this.burst             = Math.max(ratePerSecond, 1);
+        this.lease             = lease;
+        this.maxAttempts       = maxAttempts;
+        this.retryBase         = retryBase;
+        this.retention         = retention;
+        this.tokens            = burst;
+        this.refilledAt        = clock.instant();
+        this.latency           = Timer.builder("radolfa.notifications.latency")
+                .description("Time from a notification's commit to its delivery")
+                .register(registry);
+        this.batchTimer        = Timer.builder("radolfa.notifications.batch")
+                .description("Provider calls delivering one outbox batch")
+                .register(registry);
+        this.sent              = messages(registry, "sent");
+        this.retried           = messages(registry, "retry");
+        this.dead              = messages(registry, "dead");
+        Gauge.builder("radolfa.notifications.backlog", backlog, AtomicLong::get)
+                .description("Notifications waiting for delivery")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${radolfa.notifications.dispatch-interval-ms:1000}")
+    public synchronized void dispatch() {
+        if (leading()) drain();
+        backlog.set(outbox.backlog());
+    }
+
+    @PreDestroy
+    public synchronized void stepDown() {
+        if (leadership != null) {
+            leadership.close();
+            leadership = null;
+        }
+    }
+
+    @Scheduled(cron = "${radolfa.notifications.purge-cron:0 45 4 * * *}", zone = "UTC")
+    public void purge() {
+        int purged = outbox.purgeSent(retention);
+        if (purged > 0) {
+            log.info("[NOTIFICATIONS] Purged {} delivered outbox rows", purged);
+        }
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    /** Holds on to the sender lease, or tries to take it over. */
+    private boolean leading() {
+        if (leadership != null && leadership.isHeld()) return true;
+        if (leadership != null) {
+            log.warn("[NOTIFICATIONS] Lost the {} lease — another instance sends now", LEADER_LOCK);
+            leadership.close();
+        }
+        leadership = schedulerLockPort.tryAcquire(LEADER_LOCK, LEADER_TTL).orElse(null);
+        if (leadership != null) {
+            log.info("[NOTIFICATIONS] Took the {} lease — this instance sends", LEADER_LOCK);
+        }
+        return leadership != null;
+    }
+
+    private void drain() {
+        while (true) {
+            int budget = (int) Math.min(available(), sink.maxBatchSize());
+            if (budget == 0) break;
+
+            List<OutboundNotification> batch = outbox.claim(budget, lease);
+            tokens -= batch.size();
+            if (!batch.isEmpty()) deliver(batch);
+            if (batch.size() < budget) break;
+        }
+    }
+
+    private void deliver(List<OutboundNotification> batch) {
+        Set<Long> rejected;
+        String error;
+        Timer.Sample sample = Timer.start();
+        try {
+            rejected = sink.deliver(batch);
+            error    = "rejected by provider";
+        } catch (RuntimeException ex) {
+            rejected = batch.stream().map(OutboundNotification::id).collect(Collectors.toSet());
+            error    = ex.toString();
+            log.warn("[NOTIFICATIONS] Batch of {} failed: {}", batch.size(), ex.getMessage());
+        }
+        sample.stop(batchTimer);
+
+        Instant now = clock.instant();
+        List<Long> delivered = new ArrayList<>();
+        List<Long> retry     = new ArrayList<>();
+        List<Long> giveUp    = new ArrayList<>();
+        int maxFailedAttempt = 0;
+        for (OutboundNotification n : batch) {
+            if (!rejected.contains(n.id())) {
+                delivered.add(n.id());
+                latency.record(Duration.between(n.createdAt(), now));
+            } else if (n.attempts() >= maxAttempts) {
+                giveUp.add(n.id());
+            } else {
+                retry.add(n.id());
+                maxFailedAttempt = Math.max(maxFailedAttempt, n.attempts());
+            }
+        }
+
+        outbox.markSent(delivered);
+        outbox.markFailed(retry, error, backoff(Math.max(maxFailedAttempt, 1)));
+        outbox.markFailed(giveUp, error, null);
+        if (!giveUp.isEmpty()) {
+            log.error("[NOTIFICATIONS] {} message(s) failed {} times — parked as DEAD: {}",
+                    giveUp.size(), maxAttempts, giveUp);
+        }
+        sent.increment(delivered.size());
+        retried.increment(retry.size());
+        dead.increment(giveUp.size());
+    }
+
+    /** Whole messages the token bucket allows right now. */
+    private double available() {
+        Instant now = clock.instant();
+        double elapsed = Duration.between(refilledAt, now).toNanos() / 1e9;
+        tokens     = Math.min(burst, tokens + elapsed * ratePerSecond);
+        refilledAt = now;
+        return Math.floor(tokens);
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = retryBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private static Counter messages(MeterRegistry registry, String outcome) {
+        return Counter.builder("radolfa.notifications.messages")
+                .description("Outbox messages settled by the dispatcher")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
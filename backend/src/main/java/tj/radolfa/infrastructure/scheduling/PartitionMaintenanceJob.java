@@ -0,0 +1,113 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+import tj.radolfa.infrastructure.persistence.adapter.DiscountMetricsRollup;
+import tj.radolfa.infrastructure.persistence.adapter.MonthlyPartitionAdapter;
+import tj.radolfa.infrastructure.persistence.repository.CartRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Nightly partition upkeep and retention.
+ *
+ * <p>Runs at 00:30 UTC, after {@link DiscountMetricsCompactionJob}, on one instance at a time:
+ * <ul>
+ *   <li>creates the {@code discount_application} partitions of the current month and the
+ *       next {@code monthsAhead}, so inserts never land in the default partition;</li>
+ *   <li>archives months older than {@code retentionMonths} — only once the rollup's
+ *       watermark has passed the month's last day, so the campaign metrics keep its totals;</li>
+ *   <li>deletes checked-out and abandoned carts not touched for {@code cartRetention}.</li>
+ * </ul>
+ * A retention of zero keeps everything.
+ */
+@Slf4j
+@Component
+public class PartitionMaintenanceJob {
+
+    static final String   DISCOUNT_APPLICATION = "discount_application";
+    static final Duration LEASE                = Duration.ofMinutes(10);
+
+    private final MonthlyPartitionAdapter partitions;
+    private final DiscountMetricsRollup   rollup;
+    private final CartRepository          cartRepository;
+    private final SchedulerLockPort       schedulerLockPort;
+    private final Clock                   clock;
+    private final int                     monthsAhead;
+    private final int                     retentionMonths;
+    private final Duration                cartRetention;
+
+    public PartitionMaintenanceJob(MonthlyPartitionAdapter partitions,
+                                   DiscountMetricsRollup rollup,
+                                   CartRepository cartRepository,
+                                   SchedulerLockPort schedulerLockPort,
+                                   @Value("${radolfa.partitions.months-ahead:3}") int monthsAhead,
+                                   @Value("${radolfa.partitions.retention-months:24}") int retentionMonths,
+                                   @Value("${radolfa.partitions.cart-retention-days:90}") long cartRetentionDays) {
+        this(partitions, rollup, cartRepository, schedulerLockPort, Clock.systemUTC(),
+                monthsAhead, retentionMonths, Duration.ofDays(cartRetentionDays));
+    }
+
+    PartitionMaintenanceJob(MonthlyPartitionAdapter partitions,
+                            DiscountMetricsRollup rollup,
+                            CartRepository cartRepository,
+                            SchedulerLockPort schedulerLockPort,
+                            Clock clock,
+                            int monthsAhead,
+                            int retentionMonths,
+                            Duration cartRetention) {
+        this.partitions        = partitions;
+        this.rollup            = rollup;
+        this.cartRepository    = cartRepository;
+        this.schedulerLockPort = schedulerLockPort;
+        this.clock             = clock;
+        this.monthsAhead       = monthsAhead;
+        this.retentionMonths   = retentionMonths;
+        this.cartRetention     = cartRetention;
+    }
+
+    @Scheduled(cron = "${radolfa.partitions.cron:0 30 0 * * *}", zone = "UTC")
+    public void run() {
+        schedulerLockPort.runExclusively("partition-maintenance", LEASE, this::maintain);
+    }
+
+    void maintain() {
+        YearMonth current = YearMonth.now(clock);
+        for (int i = 0; i <= monthsAhead; i++) {
+            partitions.ensure(DISCOUNT_APPLICATION, "applied_at", current.plusMonths(i))
+                    .ifPresent(name -> log.info("[PARTITIONS] Created {}", name));
+        }
+
+        if (retentionMonths > 0) {
+            archiveBefore(current.minusMonths(retentionMonths));
+        }
+
+        if (!cartRetention.isZero()) {
+            int purged = cartRepository.deleteClosedBefore(clock.instant().minus(cartRetention));
+            if (purged > 0) {
+                log.info("[PARTITIONS] Purged {} closed carts", purged);
+            }
+        }
+    }
+
+    // ---- Private -------------------------------------------------------
+
+    private void archiveBefore(YearMonth oldestKept) {
+        LocalDate compactedThrough = rollup.compactedThrough();
+        for (MonthlyPartitionAdapter.Partition partition : partitions.list(DISCOUNT_APPLICATION)) {
+            if (!partition.month().isBefore(oldestKept)) break;
+            if (partition.month().atEndOfMonth().isAfter(compactedThrough)) {
+                log.warn("[PARTITIONS] {} is past retention but the rollup only reaches {} — kept",
+                        partition.name(), compactedThrough);
+                break;
+            }
+            partitions.archive(DISCOUNT_APPLICATION, partition.name());
+        }
+    }
+}
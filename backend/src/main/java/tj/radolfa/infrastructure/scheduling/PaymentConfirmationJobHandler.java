@@ -0,0 +1,26 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import org.springframework.stereotype.Component;
+import tj.radolfa.application.ports.in.payment.ConfirmPaymentUseCase;
+import tj.radolfa.application.ports.out.JobQueuePort.Stage;
+
+/** Confirms a recorded payment callback; the key is the provider transaction ID. */
+@Component
+public class PaymentConfirmationJobHandler implements JobHandler {
+
+    private final ConfirmPaymentUseCase confirmPaymentUseCase;
+
+    public PaymentConfirmationJobHandler(ConfirmPaymentUseCase confirmPaymentUseCase) {
+        this.confirmPaymentUseCase = confirmPaymentUseCase;
+    }
+
+    @Override
+    public Stage stage() {
+        return Stage.PAYMENT_CONFIRMATION;
+    }
+
+    @Override
+    public void handle(String key, String payload) {
+        confirmPaymentUseCase.execute(key);
+    }
+}
@@ -0,0 +1,77 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tj.radolfa.application.ports.in.review.RecalculateRatingSummaryUseCase;
+import tj.radolfa.application.ports.out.LoadRatingSummaryPort;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+import tj.radolfa.application.services.RatingSummaryUpdateQueue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Drives the rating summary pipeline.
+ *
+ * <p>Every couple of seconds the coalesced moderation deltas are written out.
+ * Once a week every rated variant is rebuilt from its reviews to correct any
+ * drift (deltas lost to a crash, manual SQL edits). Every instance flushes its
+ * own queue; the rebuild runs on one instance at a time, one transaction per
+ * variant, and a failing variant does not stop the rest.
+ */
+@Slf4j
+@Component
+public class RatingSummaryFlushJob {
+
+    static final Duration REBUILD_LEASE = Duration.ofMinutes(10);
+
+    private final RatingSummaryUpdateQueue        updateQueue;
+    private final RecalculateRatingSummaryUseCase recalcUseCase;
+    private final LoadRatingSummaryPort           loadRatingSummaryPort;
+    private final SchedulerLockPort               schedulerLockPort;
+
+    public RatingSummaryFlushJob(RatingSummaryUpdateQueue updateQueue,
+                                 RecalculateRatingSummaryUseCase recalcUseCase,
+                                 LoadRatingSummaryPort loadRatingSummaryPort,
+                                 SchedulerLockPort schedulerLockPort) {
+        this.updateQueue           = updateQueue;
+        this.recalcUseCase         = recalcUseCase;
+        this.loadRatingSummaryPort = loadRatingSummaryPort;
+        this.schedulerLockPort     = schedulerLockPort;
+    }
+
+    @Scheduled(fixedDelayString = "${radolfa.reviews.rating-summary.flush-interval-ms:2000}")
+    public void flush() {
+        updateQueue.flush();
+    }
+
+    @Scheduled(cron = "${radolfa.reviews.rating-summary.rebuild-cron:0 30 3 * * SUN}", zone = "UTC")
+    public void rebuild() {
+        updateQueue.flush();
+        schedulerLockPort.runExclusively("rating-summary-rebuild", REBUILD_LEASE, () -> {
+            log.info("RatingSummaryFlushJob rebuild triggered");
+            rebuildAll();
+        });
+    }
+
+    /**
+     * Rebuilds every rated variant through the use case, so each runs in its own transaction.
+     *
+     * @return number of variants rebuilt
+     */
+    int rebuildAll() {
+        List<Long> variantIds = loadRatingSummaryPort.findAllRatedVariantIds();
+        int rebuilt = 0;
+        for (Long variantId : variantIds) {
+            try {
+                recalcUseCase.execute(variantId);
+                rebuilt++;
+            } catch (Exception e) {
+                log.error("[RATING] Rebuild failed for variantId={}: {}", variantId, e.getMessage(), e);
+            }
+        }
+        log.info("[RATING] Rebuilt {}/{} rating summaries", rebuilt, variantIds.size());
+        return rebuilt;
+    }
+}
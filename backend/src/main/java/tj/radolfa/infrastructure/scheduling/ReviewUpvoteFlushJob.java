@@ -0,0 +1,23 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tj.radolfa.infrastructure.persistence.adapter.ReviewUpvoteBuffer;
+
+/**
+ * Writes buffered review upvote deltas to the {@code reviews} table every few seconds.
+ */
+@Component
+public class ReviewUpvoteFlushJob {
+
+    private final ReviewUpvoteBuffer upvoteBuffer;
+
+    public ReviewUpvoteFlushJob(ReviewUpvoteBuffer upvoteBuffer) {
+        this.upvoteBuffer = upvoteBuffer;
+    }
+
+    @Scheduled(fixedDelayString = "${radolfa.reviews.upvotes.flush-interval-ms:3000}")
+    public void flush() {
+        upvoteBuffer.flush();
+    }
+}
@@ -0,0 +1,116 @@
+package tj.radolfa.infrastructure.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tj.radolfa.application.ports.out.ListingIndexPort;
+import tj.radolfa.application.ports.out.ListingVariantChangedPort;
+import tj.radolfa.infrastructure.persistence.entity.ListingVariantEntity;
+import tj.radolfa.infrastructure.persistence.entity.ListingVariantImageEntity;
+import tj.radolfa.infrastructure.persistence.entity.SkuEntity;
+import tj.radolfa.infrastructure.persistence.repository.ListingVariantRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Rebuilds search documents of listing variants from PostgreSQL.
+ *
+ * <p>Used by the full reindex endpoint and, as {@link ListingVariantChangedPort},
+ * to refresh price and stock of variants touched by bulk imports.
+ */
+@Component
+public class ListingReindexAdapter implements ListingVariantChangedPort {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListingReindexAdapter.class);
+
+    private static final int PAGE_SIZE = 200;
+
+    private final ListingVariantRepository variantRepo;
+    private final ListingIndexPort         indexPort;
+
+    public ListingReindexAdapter(ListingVariantRepository variantRepo,
+                                 ListingIndexPort indexPort) {
+        this.variantRepo = variantRepo;
+        this.indexPort   = indexPort;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void variantsChanged(Collection<Long> variantIds) {
+        List<Long> ids = new ArrayList<>(variantIds);
+        int indexed = 0;
+        for (int from = 0; from < ids.size(); from += PAGE_SIZE) {
+            List<Long> page = ids.subList(from, Math.min(ids.size(), from + PAGE_SIZE));
+            for (ListingVariantEntity variant : variantRepo.findAllById(page)) {
+                if (index(variant)) indexed++;
+            }
+        }
+        LOG.info("[REINDEX] Refreshed {}/{} changed variants", indexed, ids.size());
+    }
+
+    /**
+     * Indexes one variant; must run with its lazy associations loadable.
+     *
+     * @return {@code false} when indexing failed (already logged)
+     */
+    public boolean index(ListingVariantEntity variant) {
+        try {
+            List<SkuEntity> skus = variant.getSkus();
+
+            // ES stores original price only; discounts are enriched at read time
+            BigDecimal price = skus.stream()
+                    .map(SkuEntity::getOriginalPrice)
+                    .filter(Objects::nonNull)
+                    .min(BigDecimal::compareTo)
+                    .orElse(null);
+
+            int totalStock = skus.stream()
+                    .mapToInt(s -> s.getStockQuantity() != null ? s.getStockQuantity() : 0)
+                    .sum();
+
+            List<String> images = variant.getImages().stream()
+                    .map(ListingVariantImageEntity::getImageUrl)
+                    .toList();
+
+            String category = variant.getProductBase().getCategory() != null
+                    ? variant.getProductBase().getCategory().getName()
+                    : null;
+            String colorKey = variant.getColor() != null
+                    ? variant.getColor().getColorKey() : null;
+            String colorHexCode = variant.getColor() != null
+                    ? variant.getColor().getHexCode() : null;
+
+            List<String> skuCodes = skus.stream()
+                    .map(SkuEntity::getSkuCode)
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            indexPort.index(
+                    variant.getId(),
+                    variant.getProductBase().getId(),
+                    variant.getSlug(),
+                    variant.getProductBase().getName(),
+                    category,
+                    colorKey,
+                    colorHexCode,
+                    variant.getWebDescription(),
+                    images,
+                    price != null ? price.doubleValue() : null,
+                    totalStock,
+                    variant.getLastSyncAt(),
+                    variant.getProductCode(),
+                    skuCodes
+            );
+            return true;
+        } catch (Exception e) {
+            LOG.warn("[REINDEX] Failed to index variant id={}: {}",
+                    variant.getId(), e.getMessage());
+            return false;
+        }
+    }
+}
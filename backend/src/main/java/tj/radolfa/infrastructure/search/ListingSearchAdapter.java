@@ -14,6 +14,7 @@ import org.springframework.stereotype.Component;
 
 import tj.radolfa.application.ports.out.ListingIndexPort;
 import tj.radolfa.application.ports.out.SearchListingPort;
+import tj.radolfa.domain.model.ImageRendition;
 import tj.radolfa.domain.model.PageResult;
 import tj.radolfa.infrastructure.persistence.adapter.DiscountEnrichmentAdapter;
 import tj.radolfa.infrastructure.persistence.adapter.DiscountEnrichmentAdapter.DiscountInfo;
@@ -45,6 +46,8 @@ public class ListingSearchAdapter implements ListingIndexPort, SearchListingPort
 
         private static final Logger LOG = LoggerFactory.getLogger(ListingSearchAdapter.class);
 
+        private static final int BULK_SIZE = 500;
+
         private final ListingSearchRepository repository;
         private final ElasticsearchOperations operations;
         private final DiscountEnrichmentAdapter discountEnrichment;
@@ -88,6 +91,30 @@ public class ListingSearchAdapter implements ListingIndexPort, SearchListingPort
                 }
         }
 
+        /** Sends documents in bulk requests of {@link #BULK_SIZE}; a failed chunk is logged and skipped. */
+        @Override
+        public void indexAll(List<Document> documents) {
+                for (int from = 0; from < documents.size(); from += BULK_SIZE) {
+                        List<Document> chunk = documents.subList(from, Math.min(documents.size(), from + BULK_SIZE));
+                        try {
+                                repository.saveAll(chunk.stream()
+                                                .map(d -> new ListingDocument(
+                                                                d.variantId(), d.slug(), d.name(), d.category(),
+                                                                d.colorKey(), d.colorHexCode(), d.description(),
+                                                                d.images(), d.price(), d.totalStock(),
+                                                                d.lastSyncAt(),
+                                                                d.productCode(),
+                                                                d.skuCodes() != null ? d.skuCodes() : List.of(),
+                                                                d.productBaseId()))
+                                                .toList());
+                                LOG.debug("Bulk indexed {} listing variant(s)", chunk.size());
+                        } catch (Exception e) {
+                                LOG.warn("Failed to bulk index {} listing variant(s) starting at id={}: {}",
+                                                chunk.size(), chunk.get(0).variantId(), e.getMessage());
+                        }
+                }
+        }
+
         @Override
         public void delete(String slug) {
                 try {
@@ -218,7 +245,9 @@ public class ListingSearchAdapter implements ListingIndexPort, SearchListingPort
                                 doc.getColorKey(),
                                 doc.getColorHexCode(),   // colorHex
                                 doc.getWebDescription(),
-                                doc.getImages() != null ? doc.getImages() : List.of(),
+                                doc.getImages() != null
+                                                ? doc.getImages().stream().map(u -> ImageRendition.url(u, ImageRendition.CARD)).toList()
+                                                : List.of(),
                                 price,   // originalPrice — discount fields enriched post-query
                                 null,    // discountPrice
                                 null,    // discountPercentage
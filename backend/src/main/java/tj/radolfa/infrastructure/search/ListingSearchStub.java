@@ -34,6 +34,11 @@ public class ListingSearchStub implements ListingIndexPort, SearchListingPort {
         LOG.info("[LISTING-ES-STUB] Would index variant id={}, slug={}", variantId, slug);
     }
 
+    @Override
+    public void indexAll(List<Document> documents) {
+        LOG.info("[LISTING-ES-STUB] Would bulk index {} variant(s)", documents.size());
+    }
+
     @Override
     public void delete(String slug) {
         LOG.info("[LISTING-ES-STUB] Would delete slug={}", slug);
@@ -93,7 +93,8 @@ public class OtpStore implements OtpPort {
 
     /**
      * Clears expired OTPs from the store.
-     * Runs automatically every 10 minutes to prevent memory growth.
+     * Runs automatically every 10 minutes to prevent memory growth, on every
+     * instance (not under a scheduler lease) — the store is per-instance.
      */
     @Scheduled(fixedRate = 600_000)
     public void cleanupExpired() {
@@ -68,6 +68,7 @@ public class RateLimiterService {
 
     /**
      * Evicts expired windows every 5 minutes to prevent unbounded memory growth.
+     * Runs on every instance (not under a scheduler lease) — the windows are per-instance.
      */
     @Scheduled(fixedRate = 300_000)
     void evictExpiredWindows() {
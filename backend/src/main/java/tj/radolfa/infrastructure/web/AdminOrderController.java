@@ -2,15 +2,19 @@ package tj.radolfa.infrastructure.web;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import tj.radolfa.application.ports.in.order.GetAdminOrderDetailUseCase;
 import tj.radolfa.application.ports.in.order.GetAdminOrderSummaryUseCase;
 import tj.radolfa.application.ports.in.order.ListAdminOrdersUseCase;
 import tj.radolfa.application.ports.in.order.RefundOrderUseCase;
 import tj.radolfa.application.ports.out.AdminOrderSummary;
+import tj.radolfa.application.ports.out.ExportAdminOrdersPort;
+import tj.radolfa.application.ports.out.ExportAdminOrdersPort.OrderExportRow;
 import tj.radolfa.application.ports.out.LoadAdminOrdersPort;
 import tj.radolfa.application.ports.out.LoadListingVariantPort;
 import tj.radolfa.application.ports.out.LoadReviewPort;
@@ -45,6 +49,17 @@ public class AdminOrderController {
     private final LoadListingVariantPort      loadListingVariantPort;
     private final LoadSkuPort                 loadSkuPort;
     private final LoadReviewPort              loadReviewPort;
+    private final ExportAdminOrdersPort       exportAdminOrdersPort;
+
+    private static final TabularExport<OrderExportRow> ORDER_EXPORT = new TabularExport<>(List.of(
+            new TabularExport.Column<>("id",           OrderExportRow::id),
+            new TabularExport.Column<>("createdAt",    OrderExportRow::createdAt),
+            new TabularExport.Column<>("status",       OrderExportRow::status),
+            new TabularExport.Column<>("totalAmount",  OrderExportRow::totalAmount),
+            new TabularExport.Column<>("deliveryType", OrderExportRow::deliveryType),
+            new TabularExport.Column<>("itemCount",    OrderExportRow::itemCount),
+            new TabularExport.Column<>("userPhone",    OrderExportRow::userPhone),
+            new TabularExport.Column<>("userName",     OrderExportRow::userName)));
 
     public AdminOrderController(GetAdminOrderSummaryUseCase getAdminOrderSummaryUseCase,
                                 ListAdminOrdersUseCase listAdminOrdersUseCase,
@@ -52,7 +67,8 @@ public class AdminOrderController {
                                 RefundOrderUseCase refundOrderUseCase,
                                 LoadListingVariantPort loadListingVariantPort,
                                 LoadSkuPort loadSkuPort,
-                                LoadReviewPort loadReviewPort) {
+                                LoadReviewPort loadReviewPort,
+                                ExportAdminOrdersPort exportAdminOrdersPort) {
         this.getAdminOrderSummaryUseCase = getAdminOrderSummaryUseCase;
         this.listAdminOrdersUseCase      = listAdminOrdersUseCase;
         this.getAdminOrderDetailUseCase  = getAdminOrderDetailUseCase;
@@ -60,6 +76,7 @@ public class AdminOrderController {
         this.loadListingVariantPort      = loadListingVariantPort;
         this.loadSkuPort                 = loadSkuPort;
         this.loadReviewPort              = loadReviewPort;
+        this.exportAdminOrdersPort       = exportAdminOrdersPort;
     }
 
     @GetMapping("/summary")
@@ -96,6 +113,19 @@ public class AdminOrderController {
         return ResponseEntity.ok(PageResponse.from(dtoPage));
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream every order matching the list filters as CSV or NDJSON, gzip if accepted (ADMIN only)")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "")    String search,
+            @RequestParam(required = false)     OrderStatus status,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        return ORDER_EXPORT.respond("orders", TabularExport.Format.parse(format), acceptEncoding,
+                sink -> exportAdminOrdersPort.streamOrders(search, status, sink));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get full order detail including delivery info and items (ADMIN only)")
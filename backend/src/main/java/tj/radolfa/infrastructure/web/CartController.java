@@ -9,6 +9,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import tj.radolfa.application.ports.in.cart.*;
 import tj.radolfa.infrastructure.security.JwtAuthenticationFilter.JwtAuthenticatedUser;
+import tj.radolfa.infrastructure.observability.QueryBudget;
 import tj.radolfa.infrastructure.web.dto.AddToCartRequestDto;
 import tj.radolfa.infrastructure.web.dto.ApplyCouponRequestDto;
 import tj.radolfa.infrastructure.web.dto.ApplyCouponResponseDto;
@@ -48,6 +49,7 @@ public class CartController {
     }
 
     @GetMapping
+    @QueryBudget(15)
     @Operation(summary = "Get my active cart")
     public ResponseEntity<CartDto> getCart(@AuthenticationPrincipal JwtAuthenticatedUser user) {
         return ResponseEntity.ok(CartDto.fromView(getCartUseCase.execute(user.userId())));
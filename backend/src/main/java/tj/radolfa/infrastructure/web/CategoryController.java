@@ -14,6 +14,7 @@ import tj.radolfa.application.readmodel.CategoryView;
 import tj.radolfa.application.readmodel.ListingVariantDto;
 import tj.radolfa.domain.model.PageResult;
 import tj.radolfa.infrastructure.web.dto.CategoryTreeDto;
+import tj.radolfa.infrastructure.observability.QueryBudget;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -42,6 +43,7 @@ public class CategoryController {
 
     @Operation(summary = "Category tree", description = "Returns the full category hierarchy as a nested tree (roots with children).")
     @GetMapping
+    @QueryBudget(3)
     public ResponseEntity<List<CategoryTreeDto>> getCategoryTree() {
         List<CategoryView> all = getCategoryUseCase.findAll();
         List<CategoryTreeDto> tree = buildTree(all);
@@ -50,6 +52,7 @@ public class CategoryController {
 
     @Operation(summary = "Products by category", description = "Paginated listing grid filtered by category slug (includes all descendant categories).")
     @GetMapping("/{slug}/products")
+    @QueryBudget(15)
     public ResponseEntity<PageResponse<ListingVariantDto>> getProductsByCategory(
             @Parameter(description = "Category slug") @PathVariable String slug,
             @Parameter(description = "Page number (1-based)") @RequestParam(defaultValue = "1") int page,
@@ -9,13 +9,20 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import tj.radolfa.application.ports.in.discount.*;
 import tj.radolfa.application.ports.out.DiscountFilter;
 import tj.radolfa.application.ports.out.DiscountedProductFilter;
+import tj.radolfa.application.ports.out.ExportDiscountsPort;
+import tj.radolfa.application.ports.out.ExportDiscountsPort.DiscountExportRow;
+import tj.radolfa.application.ports.out.ListDiscountedProductsPort;
 import tj.radolfa.application.ports.out.LoadDiscountPort;
+import tj.radolfa.domain.model.DiscountedProductRow;
 import tj.radolfa.domain.exception.ResourceNotFoundException;
 import tj.radolfa.infrastructure.web.dto.*;
 
@@ -41,6 +48,8 @@ public class DiscountController {
     private final GetDiscountMetricsUseCase getDiscountMetricsUseCase;
     private final GetTopCampaignsUseCase getTopCampaignsUseCase;
     private final CheckCouponAvailabilityUseCase checkCouponAvailabilityUseCase;
+    private final ExportDiscountsPort exportDiscountsPort;
+    private final ListDiscountedProductsPort listDiscountedProductsPort;
     private final LocalDate analyticsStartDate;
     private final boolean couponsEnabled;
 
@@ -56,6 +65,8 @@ public class DiscountController {
                               GetDiscountMetricsUseCase getDiscountMetricsUseCase,
                               GetTopCampaignsUseCase getTopCampaignsUseCase,
                               CheckCouponAvailabilityUseCase checkCouponAvailabilityUseCase,
+                              ExportDiscountsPort exportDiscountsPort,
+                              ListDiscountedProductsPort listDiscountedProductsPort,
                               @Value("${radolfa.analytics.start-date}") LocalDate analyticsStartDate,
                               @Value("${radolfa.discount.coupons.enabled:true}") boolean couponsEnabled) {
         this.loadDiscountPort = loadDiscountPort;
@@ -70,10 +81,42 @@ public class DiscountController {
         this.getDiscountMetricsUseCase = getDiscountMetricsUseCase;
         this.getTopCampaignsUseCase = getTopCampaignsUseCase;
         this.checkCouponAvailabilityUseCase = checkCouponAvailabilityUseCase;
+        this.exportDiscountsPort = exportDiscountsPort;
+        this.listDiscountedProductsPort = listDiscountedProductsPort;
         this.analyticsStartDate = analyticsStartDate;
         this.couponsEnabled = couponsEnabled;
     }
 
+    private static final TabularExport<DiscountExportRow> DISCOUNT_EXPORT = new TabularExport<>(List.of(
+            new TabularExport.Column<>("id", DiscountExportRow::id),
+            new TabularExport.Column<>("title", DiscountExportRow::title),
+            new TabularExport.Column<>("type", DiscountExportRow::typeName),
+            new TabularExport.Column<>("amountType", DiscountExportRow::amountType),
+            new TabularExport.Column<>("amountValue", DiscountExportRow::amountValue),
+            new TabularExport.Column<>("validFrom", DiscountExportRow::validFrom),
+            new TabularExport.Column<>("validUpto", DiscountExportRow::validUpto),
+            new TabularExport.Column<>("disabled", DiscountExportRow::disabled),
+            new TabularExport.Column<>("couponCode", DiscountExportRow::couponCode),
+            new TabularExport.Column<>("minBasketAmount", DiscountExportRow::minBasketAmount),
+            new TabularExport.Column<>("usageCapTotal", DiscountExportRow::usageCapTotal),
+            new TabularExport.Column<>("usageCapPerCustomer", DiscountExportRow::usageCapPerCustomer),
+            new TabularExport.Column<>("targetCount", DiscountExportRow::targetCount)));
+
+    private static final TabularExport<DiscountedProductRow> DISCOUNTED_PRODUCT_EXPORT = new TabularExport<>(List.of(
+            new TabularExport.Column<>("skuId", DiscountedProductRow::skuId),
+            new TabularExport.Column<>("skuCode", DiscountedProductRow::skuCode),
+            new TabularExport.Column<>("sizeLabel", DiscountedProductRow::sizeLabel),
+            new TabularExport.Column<>("stockQuantity", DiscountedProductRow::stockQuantity),
+            new TabularExport.Column<>("originalPrice", DiscountedProductRow::originalPrice),
+            new TabularExport.Column<>("finalPrice", DiscountedProductRow::finalPrice),
+            new TabularExport.Column<>("deltaPercent", DiscountedProductRow::deltaPercent),
+            new TabularExport.Column<>("campaignId", r -> r.winningCampaign().id()),
+            new TabularExport.Column<>("campaignTitle", r -> r.winningCampaign().title()),
+            new TabularExport.Column<>("productBaseId", DiscountedProductRow::productBaseId),
+            new TabularExport.Column<>("productName", DiscountedProductRow::productName),
+            new TabularExport.Column<>("variantId", DiscountedProductRow::variantId),
+            new TabularExport.Column<>("productCode", DiscountedProductRow::productCode)));
+
     private static final Set<String> ALLOWED_SORT = Set.of(
             "id", "title", "amountValue", "validFrom", "validUpto");
 
@@ -101,6 +144,22 @@ public class DiscountController {
         return loadDiscountPort.findAll(filter, sanitize(pageable)).map(DiscountResponse::fromDomain);
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) Long typeId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        DiscountFilter filter = new DiscountFilter(typeId, status, from, to, search);
+        return DISCOUNT_EXPORT.respond("discounts", TabularExport.Format.parse(format), acceptEncoding,
+                sink -> exportDiscountsPort.streamDiscounts(filter, sink));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
     public DiscountResponse getById(@PathVariable Long id) {
@@ -171,6 +230,22 @@ public class DiscountController {
                 .map(DiscountedProductRowResponse::fromDomain);
     }
 
+    @GetMapping("/products/export")
+    @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportDiscountedProducts(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Long campaignId,
+            @RequestParam(required = false) BigDecimal minDeltaPercent,
+            @RequestParam(required = false) BigDecimal maxDeltaPercent,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            Sort sort) {
+
+        DiscountedProductFilter filter = new DiscountedProductFilter(search, campaignId, minDeltaPercent, maxDeltaPercent);
+        return DISCOUNTED_PRODUCT_EXPORT.respond("discounted-products", TabularExport.Format.parse(format), acceptEncoding,
+                sink -> listDiscountedProductsPort.streamDiscountedProducts(filter, sort, sink));
+    }
+
     @GetMapping("/{id}/skus")
     @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
     public Page<DiscountedProductRowResponse> getCampaignSkus(
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 import tj.radolfa.application.ports.in.GetHomeCollectionsUseCase;
 import tj.radolfa.application.readmodel.CollectionPageDto;
 import tj.radolfa.application.readmodel.HomeSectionDto;
+import tj.radolfa.infrastructure.observability.QueryBudget;
 
 import java.util.List;
 
@@ -34,6 +35,7 @@ public class HomeController {
     }
 
     @GetMapping("/collections")
+    @QueryBudget(20)
     @Operation(summary = "Homepage collections",
                description = "Returns ordered sections (Featured, New Arrivals, Deals) for the homepage")
     public ResponseEntity<List<HomeSectionDto>> collections() {
@@ -41,6 +43,7 @@ public class HomeController {
     }
 
     @GetMapping("/collections/{key}")
+    @QueryBudget(12)
     @Operation(summary = "Paginated collection",
                description = "Returns a paginated list for a single collection (e.g. new_arrivals, on_sale, featured)")
     public ResponseEntity<CollectionPageDto> collectionByKey(
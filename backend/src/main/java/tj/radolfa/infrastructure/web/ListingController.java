@@ -29,6 +29,7 @@ import tj.radolfa.domain.exception.ImageProcessingException;
 import tj.radolfa.domain.model.ProductAttribute;
 import tj.radolfa.application.readmodel.ListingVariantDetailDto;
 import tj.radolfa.application.readmodel.ListingVariantDto;
+import tj.radolfa.infrastructure.observability.QueryBudget;
 import tj.radolfa.infrastructure.web.dto.ProductAttributeDto;
 import tj.radolfa.infrastructure.web.dto.RatingSummaryResponseDto;
 
@@ -69,6 +70,7 @@ public class ListingController {
     }
 
     @GetMapping
+    @QueryBudget(12)
     @Operation(summary = "Paginated listing grid", description = "Returns colour cards with aggregated price/stock")
     public ResponseEntity<PageResponse<ListingVariantDto>> grid(
             @Parameter(description = "Page number (1-based)") @RequestParam(defaultValue = "1") int page,
@@ -78,6 +80,7 @@ public class ListingController {
     }
 
     @GetMapping("/{slug}")
+    @QueryBudget(20)
     @Operation(summary = "Listing detail", description = "Full variant detail with SKUs and sibling colour swatches")
     public ResponseEntity<ListingVariantDetailDto> detail(@PathVariable String slug) {
         return getListingUseCase.getBySlug(slug)
@@ -153,7 +156,8 @@ public class ListingController {
 
     @PostMapping(value = "/{slug}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
-    @Operation(summary = "Upload image to listing", description = "Processes and uploads an image file to S3, then appends the URL to the gallery")
+    @Operation(summary = "Upload image to listing", description = "Accepts an image file; its renditions are processed and uploaded to S3 in the background, "
+            + "then the returned URL is appended to the gallery")
     public ResponseEntity<Map<String, String>> addImage(
             @PathVariable String slug,
             @RequestParam("image") MultipartFile file) {
@@ -163,7 +167,7 @@ public class ListingController {
         }
         try {
             String url = uploadImageUseCase.upload(slug, file.getInputStream(), file.getOriginalFilename());
-            return ResponseEntity.ok(Map.of("url", url));
+            return ResponseEntity.accepted().body(Map.of("url", url));
         } catch (IOException e) {
             throw new ImageProcessingException("Failed to read uploaded file", e);
         }
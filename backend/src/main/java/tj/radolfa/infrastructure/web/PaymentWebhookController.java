@@ -4,7 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import tj.radolfa.application.ports.in.payment.ConfirmPaymentUseCase;
+import tj.radolfa.application.ports.in.payment.RecordPaymentCallbackUseCase;
 import tj.radolfa.infrastructure.security.WebhookSignatureValidator;
 
 import java.nio.charset.StandardCharsets;
@@ -16,19 +16,21 @@ import java.nio.charset.StandardCharsets;
  * here using HMAC-SHA256 before the payload is handed to the application layer.
  * Requests with a missing or invalid {@code X-Webhook-Signature} header are
  * rejected with {@code 401 Unauthorized}.
+ *
+ * <p>A valid callback is only recorded; order processing runs on a background worker.
  */
 @RestController
 @RequestMapping("/api/v1/webhooks")
 @Tag(name = "Webhooks", description = "Payment provider callback endpoints")
 public class PaymentWebhookController {
 
-    private final ConfirmPaymentUseCase        confirmPaymentUseCase;
+    private final RecordPaymentCallbackUseCase recordPaymentCallbackUseCase;
     private final WebhookSignatureValidator    signatureValidator;
 
-    public PaymentWebhookController(ConfirmPaymentUseCase confirmPaymentUseCase,
+    public PaymentWebhookController(RecordPaymentCallbackUseCase recordPaymentCallbackUseCase,
                                     WebhookSignatureValidator signatureValidator) {
-        this.confirmPaymentUseCase = confirmPaymentUseCase;
-        this.signatureValidator    = signatureValidator;
+        this.recordPaymentCallbackUseCase = recordPaymentCallbackUseCase;
+        this.signatureValidator           = signatureValidator;
     }
 
     @PostMapping("/payment")
@@ -47,7 +49,7 @@ public class PaymentWebhookController {
             return ResponseEntity.status(401).build();
         }
 
-        confirmPaymentUseCase.execute(transactionId);
+        recordPaymentCallbackUseCase.execute(transactionId);
         return ResponseEntity.ok().build();
     }
 }
@@ -0,0 +1,183 @@
+package tj.radolfa.infrastructure.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import tj.radolfa.application.ports.in.product.ImportPriceStockUseCase.Row;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily parses a price/stock feed line by line, so an import never holds the
+ * whole file in memory.
+ *
+ * <ul>
+ *   <li>CSV — {@code skuCode,price,stock}; an optional header row may reorder the
+ *       columns. Empty cells leave the value unchanged.</li>
+ *   <li>NDJSON — one {@code {"skuCode":..,"price":..,"stock":..}} object per line;
+ *       absent or null fields leave the value unchanged.</li>
+ * </ul>
+ *
+ * Unparseable lines are yielded as {@link Row#malformed} rows; blank lines are skipped.
+ */
+final class PriceStockImportReader implements Iterator<Row> {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final BufferedReader     reader;
+    private final TabularExport.Format format;
+    private long  lineNo;
+    private Row   next;
+    private int[] columns = {0, 1, 2}; // CSV positions of skuCode, price, stock
+
+    PriceStockImportReader(InputStream in, TabularExport.Format format) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) next = advance();
+        return next != null;
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Row row = next;
+        next = null;
+        return row;
+    }
+
+    private Row advance() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo == 1 && line.startsWith("\uFEFF")) line = line.substring(1);
+                if (line.isBlank()) continue;
+                if (format == TabularExport.Format.NDJSON) return parseJson(line);
+                if (lineNo == 1 && readHeader(line)) continue;
+                return parseCsv(line);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ---- CSV ----
+
+    private boolean readHeader(String line) {
+        List<String> cells = splitCsv(line);
+        if (cells.stream().noneMatch(c -> c.trim().equalsIgnoreCase("skuCode"))) return false;
+        int[] positions = {-1, -1, -1};
+        for (int i = 0; i < cells.size(); i++) {
+            switch (cells.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "skucode" -> positions[0] = i;
+                case "price"   -> positions[1] = i;
+                case "stock"   -> positions[2] = i;
+                default        -> { }
+            }
+        }
+        columns = positions;
+        return true;
+    }
+
+    private Row parseCsv(String line) {
+        List<String> cells = splitCsv(line);
+        try {
+            return Row.of(lineNo,
+                    blankToNull(cell(cells, columns[0])),
+                    decimal(cell(cells, columns[1])),
+                    integer(cell(cells, columns[2])));
+        } catch (NumberFormatException e) {
+            return Row.malformed(lineNo, "not a number: " + e.getMessage());
+        }
+    }
+
+    /** RFC 4180 fields of one physical line (quoted fields may not span lines). */
+    static List<String> splitCsv(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private static String cell(List<String> cells, int index) {
+        return index >= 0 && index < cells.size() ? cells.get(index) : null;
+    }
+
+    // ---- NDJSON ----
+
+    private Row parseJson(String line) {
+        try {
+            JsonNode node = JSON.readTree(line);
+            if (!node.isObject()) return Row.malformed(lineNo, "expected a JSON object");
+            return Row.of(lineNo,
+                    blankToNull(text(node.get("skuCode"))),
+                    decimal(text(node.get("price"))),
+                    integer(text(node.get("stock"))));
+        } catch (IOException e) {
+            return Row.malformed(lineNo, "invalid JSON");
+        } catch (NumberFormatException e) {
+            return Row.malformed(lineNo, "not a number: " + e.getMessage());
+        }
+    }
+
+    private static String text(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+    // ---- Values ----
+
+    private static String blankToNull(String s) {
+        return s == null || s.isBlank() ? null : s.trim();
+    }
+
+    private static BigDecimal decimal(String s) {
+        String v = blankToNull(s);
+        if (v == null) return null;
+        try {
+            return new BigDecimal(v);
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException(v);
+        }
+    }
+
+    private static Integer integer(String s) {
+        String v = blankToNull(s);
+        return v == null ? null : Integer.valueOf(v);
+    }
+}
@@ -15,8 +15,10 @@ import tj.radolfa.application.ports.in.GenericUploadImageUseCase;
 import tj.radolfa.application.ports.in.discount.FindCampaignsByProductUseCase;
 import tj.radolfa.application.ports.in.product.AddSkuToVariantUseCase;
 import tj.radolfa.application.ports.in.product.AddVariantToProductUseCase;
+import tj.radolfa.application.ports.in.product.BulkCreateProductsUseCase;
 import tj.radolfa.application.ports.in.product.CreateProductUseCase;
 import tj.radolfa.application.ports.in.product.GetProductCardUseCase;
+import tj.radolfa.application.ports.in.product.ImportPriceStockUseCase;
 import tj.radolfa.application.ports.in.product.ReorderVariantImagesUseCase;
 import tj.radolfa.domain.model.ProductAttribute;
 import tj.radolfa.application.ports.in.product.UpdateProductCategoryUseCase;
@@ -39,6 +41,7 @@ import tj.radolfa.infrastructure.web.dto.UpdateSkuSizeLabelRequestDto;
 import tj.radolfa.infrastructure.web.dto.UpdateStockRequestDto;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -64,6 +67,8 @@ public class ProductManagementController {
     private final UpdateProductCategoryUseCase updateProductCategoryUseCase;
     private final GenericUploadImageUseCase genericUploadImageUseCase;
     private final FindCampaignsByProductUseCase findCampaignsByProductUseCase;
+    private final ImportPriceStockUseCase importPriceStockUseCase;
+    private final BulkCreateProductsUseCase bulkCreateProductsUseCase;
 
     public ProductManagementController(CreateProductUseCase createProductUseCase,
             GetProductCardUseCase getProductCardUseCase,
@@ -76,7 +81,9 @@ public class ProductManagementController {
             UpdateSkuSizeLabelUseCase updateSkuSizeLabelUseCase,
             UpdateProductCategoryUseCase updateProductCategoryUseCase,
             GenericUploadImageUseCase genericUploadImageUseCase,
-            FindCampaignsByProductUseCase findCampaignsByProductUseCase) {
+            FindCampaignsByProductUseCase findCampaignsByProductUseCase,
+            ImportPriceStockUseCase importPriceStockUseCase,
+            BulkCreateProductsUseCase bulkCreateProductsUseCase) {
         this.createProductUseCase = createProductUseCase;
         this.getProductCardUseCase = getProductCardUseCase;
         this.reorderVariantImagesUseCase = reorderVariantImagesUseCase;
@@ -89,6 +96,8 @@ public class ProductManagementController {
         this.updateProductCategoryUseCase = updateProductCategoryUseCase;
         this.genericUploadImageUseCase = genericUploadImageUseCase;
         this.findCampaignsByProductUseCase = findCampaignsByProductUseCase;
+        this.importPriceStockUseCase = importPriceStockUseCase;
+        this.bulkCreateProductsUseCase = bulkCreateProductsUseCase;
     }
 
     /**
@@ -142,38 +151,35 @@ public class ProductManagementController {
     public ResponseEntity<Map<String, Long>> createProduct(
             @Valid @RequestBody CreateProductRequestDto request) {
 
-        var command = new CreateProductUseCase.Command(
-                request.name(),
-                request.categoryId(),
-                request.brandId(),
-                request.variants().stream()
-                        .map(v -> new CreateProductUseCase.Command.VariantDefinition(
-                                v.colorId(),
-                                v.webDescription(),
-                                v.attributes() == null ? List.of()
-                                        : v.attributes().stream()
-                                                .map(a -> new ProductAttribute(a.key(), a.values(), a.sortOrder()))
-                                                .toList(),
-                                v.images() == null ? List.of() : v.images(),
-                                v.skus().stream()
-                                        .map(s -> new CreateProductUseCase.Command.SkuDefinition(
-                                                s.sizeLabel(),
-                                                new Money(s.price()),
-                                                s.stockQuantity()))
-                                        .toList(),
-                                v.isEnabled() != null && v.isEnabled(),
-                                v.isActive() == null || v.isActive(),
-                                v.weightKg(),
-                                v.widthCm(),
-                                v.heightCm(),
-                                v.depthCm()))
-                        .toList());
-
-        Long productBaseId = createProductUseCase.execute(command);
+        Long productBaseId = createProductUseCase.execute(toCommand(request));
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(Map.of("productBaseId", productBaseId));
     }
 
+    /**
+     * POST /api/v1/admin/products/bulk
+     * Create many products in one all-or-nothing request. MANAGER + ADMIN.
+     */
+    @Operation(summary = "Bulk create products", description = "Creates up to "
+            + BulkCreateProductsUseCase.MAX_PRODUCTS + " products with the same rules as POST /admin/products. "
+            +
+            "Everything is validated before anything is written; one invalid product rejects the whole request.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Products created; body contains {productBaseIds, variants, skus}"),
+            @ApiResponse(responseCode = "400", description = "Validation failed or referenced entity not found (category, brand, color)"),
+            @ApiResponse(responseCode = "403", description = "Insufficient role"),
+            @ApiResponse(responseCode = "409", description = "Duplicate barcode or other unique constraint violation")
+    })
+    @PostMapping("/products/bulk")
+    @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
+    public ResponseEntity<BulkCreateProductsUseCase.Result> createProducts(
+            @RequestBody List<@Valid CreateProductRequestDto> requests) {
+
+        var commands = requests.stream().map(ProductManagementController::toCommand).toList();
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(bulkCreateProductsUseCase.execute(commands));
+    }
+
     /**
      * GET /api/v1/admin/products/{productBaseId}
      * Retrieve the full admin product card (base + all variants + SKUs). MANAGER + ADMIN.
@@ -320,6 +326,29 @@ public class ProductManagementController {
         return ResponseEntity.ok(MessageResponseDto.success("Stock updated successfully."));
     }
 
+    /**
+     * POST /api/v1/admin/skus/import?format=csv|ndjson
+     * Bulk price/stock update from a streamed feed file. ADMIN only.
+     * Only SKUs whose values differ are written; each affected variant is re-indexed once.
+     */
+    @Operation(summary = "Bulk import SKU price and stock", description = "Streams a CSV (skuCode,price,stock) or NDJSON feed as the request body. "
+            +
+            "Empty price or stock leaves that value unchanged. Returns per-row counts and the first rejected rows. ADMIN only.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import finished; body contains counts and errors"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format"),
+            @ApiResponse(responseCode = "403", description = "Insufficient role")
+    })
+    @PostMapping("/skus/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportPriceStockUseCase.Result> importPriceStock(
+            @RequestParam(defaultValue = "csv") String format,
+            InputStream body) {
+
+        TabularExport.Format parsed = TabularExport.Format.parse(format);
+        return ResponseEntity.ok(importPriceStockUseCase.execute(new PriceStockImportReader(body, parsed)));
+    }
+
     /**
      * PATCH /api/v1/admin/products/{productBaseId}/name
      * Rename a product. MANAGER + ADMIN.
@@ -398,4 +427,33 @@ public class ProductManagementController {
                         .toList()
         );
     }
+
+    private static CreateProductUseCase.Command toCommand(CreateProductRequestDto request) {
+        return new CreateProductUseCase.Command(
+                request.name(),
+                request.categoryId(),
+                request.brandId(),
+                request.variants().stream()
+                        .map(v -> new CreateProductUseCase.Command.VariantDefinition(
+                                v.colorId(),
+                                v.webDescription(),
+                                v.attributes() == null ? List.of()
+                                        : v.attributes().stream()
+                                                .map(a -> new ProductAttribute(a.key(), a.values(), a.sortOrder()))
+                                                .toList(),
+                                v.images() == null ? List.of() : v.images(),
+                                v.skus().stream()
+                                        .map(s -> new CreateProductUseCase.Command.SkuDefinition(
+                                                s.sizeLabel(),
+                                                new Money(s.price()),
+                                                s.stockQuantity()))
+                                        .toList(),
+                                v.isEnabled() != null && v.isEnabled(),
+                                v.isActive() == null || v.isActive(),
+                                v.weightKg(),
+                                v.widthCm(),
+                                v.heightCm(),
+                                v.depthCm()))
+                        .toList());
+    }
 }
@@ -9,18 +9,13 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import tj.radolfa.application.ports.out.ListingIndexPort;
 import tj.radolfa.infrastructure.persistence.entity.ListingVariantEntity;
-import tj.radolfa.infrastructure.persistence.entity.ListingVariantImageEntity;
-import tj.radolfa.infrastructure.persistence.entity.SkuEntity;
 import tj.radolfa.infrastructure.persistence.repository.ListingVariantRepository;
+import tj.radolfa.infrastructure.search.ListingReindexAdapter;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
-import java.math.BigDecimal;
-import java.util.List;
-import java.util.Objects;
 
 /**
  * Admin endpoint for Elasticsearch index management.
@@ -33,12 +28,12 @@ public class SearchController {
     private static final Logger LOG = LoggerFactory.getLogger(SearchController.class);
 
     private final ListingVariantRepository variantRepo;
-    private final ListingIndexPort indexPort;
+    private final ListingReindexAdapter reindexer;
 
     public SearchController(ListingVariantRepository variantRepo,
-                            ListingIndexPort indexPort) {
+                            ListingReindexAdapter reindexer) {
         this.variantRepo = variantRepo;
-        this.indexPort   = indexPort;
+        this.reindexer   = reindexer;
     }
 
     /**
@@ -60,62 +55,10 @@ public class SearchController {
         do {
             page = variantRepo.findAll(PageRequest.of(pageNum++, pageSize));
 
-        for (ListingVariantEntity variant : page.getContent()) {
-            try {
-                List<SkuEntity> skus = variant.getSkus();
-
-                // ES stores original price only; discounts are enriched at read time
-                BigDecimal price = skus.stream()
-                        .map(SkuEntity::getOriginalPrice)
-                        .filter(Objects::nonNull)
-                        .min(BigDecimal::compareTo)
-                        .orElse(null);
-
-                int totalStock = skus.stream()
-                        .mapToInt(s -> s.getStockQuantity() != null ? s.getStockQuantity() : 0)
-                        .sum();
-
-                List<String> images = variant.getImages().stream()
-                        .map(ListingVariantImageEntity::getImageUrl)
-                        .toList();
-
-                String category = variant.getProductBase().getCategory() != null
-                        ? variant.getProductBase().getCategory().getName()
-                        : null;
-                String colorKey = variant.getColor() != null
-                        ? variant.getColor().getColorKey() : null;
-                String colorHexCode = variant.getColor() != null
-                        ? variant.getColor().getHexCode() : null;
-
-                List<String> skuCodes = skus.stream()
-                        .map(SkuEntity::getSkuCode)
-                        .filter(Objects::nonNull)
-                        .toList();
-
-                indexPort.index(
-                        variant.getId(),
-                        variant.getProductBase().getId(),
-                        variant.getSlug(),
-                        variant.getProductBase().getName(),
-                        category,
-                        colorKey,
-                        colorHexCode,
-                        variant.getWebDescription(),
-                        images,
-                        price != null ? price.doubleValue() : null,
-                        totalStock,
-                        variant.getLastSyncAt(),
-                        variant.getProductCode(),
-                        skuCodes
-                );
-                indexed++;
-            } catch (Exception e) {
-                LOG.warn("[REINDEX] Failed to index variant id={}: {}",
-                        variant.getId(), e.getMessage());
-                errors++;
+            for (ListingVariantEntity variant : page.getContent()) {
+                if (reindexer.index(variant)) indexed++;
+                else errors++;
             }
-        }
-
         } while (page.hasNext());
 
         LOG.info("[REINDEX] Completed -- indexed={}, errors={}", indexed, errors);
@@ -1,5 +1,6 @@
 package tj.radolfa.infrastructure.web;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -93,6 +94,10 @@ public class SecurityConfig {
 
                                 // Authorization rules
                                 .authorizeHttpRequests(requests -> requests
+                                                // Async re-dispatch of a streamed response (exports) — the
+                                                // original request was already authorized
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                                                 // ============================================================
                                                 // Public endpoints (no authentication required)
                                                 // ============================================================
@@ -0,0 +1,197 @@
+package tj.radolfa.infrastructure.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams an admin list as a CSV or NDJSON download.
+ *
+ * <p>Rows are pushed by an export port straight from its database cursor into the
+ * response body, one at a time, so memory use does not depend on the size of the export.
+ * The body is gzip-compressed on the fly when the client accepts it.
+ *
+ * @param <T> row type produced by the export port
+ */
+final class TabularExport<T> {
+
+    enum Format {
+        CSV("csv", "text/csv"),
+        NDJSON("ndjson", "application/x-ndjson");
+
+        final String extension;
+        final String contentType;
+
+        Format(String extension, String contentType) {
+            this.extension   = extension;
+            this.contentType = contentType;
+        }
+
+        static Format parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported format: " + value + " (expected csv or ndjson)");
+            }
+        }
+    }
+
+    record Column<T>(String name, Function<T, Object> value) {}
+
+    private static final JsonFactory JSON = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .enable(StreamWriteFeature.WRITE_BIGDECIMAL_AS_PLAIN)
+            .build();
+
+    private static final Pattern PHONE_NUMBER = Pattern.compile("\\+\\d+");
+
+    private final List<Column<T>> columns;
+
+    TabularExport(List<Column<T>> columns) {
+        this.columns = List.copyOf(columns);
+    }
+
+    /**
+     * Builds the download response. {@code producer} is invoked on the async request thread
+     * once the client starts reading, and must feed every row to the sink it is given.
+     */
+    ResponseEntity<StreamingResponseBody> respond(String baseName,
+                                                  Format format,
+                                                  String acceptEncoding,
+                                                  Consumer<Consumer<T>> producer) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + baseName + "." + format.extension + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return response.body(out -> {
+            if (gzip) {
+                GZIPOutputStream zipped = new GZIPOutputStream(out, 8192);
+                write(format, zipped, producer);
+                zipped.finish();
+            } else {
+                write(format, out, producer);
+            }
+        });
+    }
+
+    /** Writes the header (CSV only) and every produced row to {@code out}; does not close it. */
+    void write(Format format, OutputStream out, Consumer<Consumer<T>> producer) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        try {
+            if (format == Format.CSV) {
+                writeCsv(writer, producer);
+            } else {
+                writeNdjson(writer, producer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    // ---- CSV -----------------------------------------------------------
+
+    private void writeCsv(Writer writer, Consumer<Consumer<T>> producer) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) writer.write(',');
+            writer.write(csvCell(columns.get(i).name()));
+        }
+        writer.write("\r\n");
+
+        producer.accept(row -> {
+            try {
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0) writer.write(',');
+                    writer.write(csvCell(columns.get(i).value().apply(row)));
+                }
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * RFC 4180 quoting. Text starting with a formula trigger is prefixed with a quote so
+     * spreadsheet apps do not evaluate user-supplied values such as names or titles.
+     * Phone numbers ({@code +} and digits only) are left as they are: they cannot carry a
+     * formula, and the orders export has one in every row.
+     */
+    static String csvCell(Object value) {
+        if (value == null) return "";
+        if (value instanceof BigDecimal bd) return bd.toPlainString();
+        if (value instanceof Number || value instanceof Boolean) return value.toString();
+
+        String text = format(value).toString();
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0
+                && !PHONE_NUMBER.matcher(text).matches()) {
+            text = "'" + text;
+        }
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        return quote ? "\"" + text.replace("\"", "\"\"") + "\"" : text;
+    }
+
+    // ---- NDJSON --------------------------------------------------------
+
+    private void writeNdjson(Writer writer, Consumer<Consumer<T>> producer) throws IOException {
+        try (JsonGenerator json = JSON.createGenerator(writer)) {
+            json.setRootValueSeparator(null);
+            producer.accept(row -> {
+                try {
+                    json.writeStartObject();
+                    for (Column<T> column : columns) {
+                        json.writeFieldName(column.name());
+                        writeJsonValue(json, format(column.value().apply(row)));
+                    }
+                    json.writeEndObject();
+                    json.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private static void writeJsonValue(JsonGenerator json, Object value) throws IOException {
+        if (value == null)                       json.writeNull();
+        else if (value instanceof BigDecimal bd) json.writeNumber(bd);
+        else if (value instanceof Long l)        json.writeNumber(l);
+        else if (value instanceof Integer i)     json.writeNumber(i);
+        else if (value instanceof Boolean b)     json.writeBoolean(b);
+        else                                     json.writeString(value.toString());
+    }
+
+    private static Object format(Object value) {
+        if (value instanceof Instant instant) return instant.toString();
+        if (value instanceof Enum<?> e) return e.name();
+        return value;
+    }
+}
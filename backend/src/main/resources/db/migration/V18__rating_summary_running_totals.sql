@@ -0,0 +1,48 @@
+-- ================================================================
+-- V18__rating_summary_running_totals.sql
+--
+-- Running sums behind product_rating_summaries so moderation can apply
+-- a single review's contribution instead of re-reading every approved
+-- review of the variant.
+--
+--   rating_sum    SUM(rating) of approved reviews (average = rating_sum / review_count)
+--   trait_totals  { "<trait_key>": { "sum": <numeric>, "count": <int> } }
+--                 for every numeric trait answer, SLIDER or not
+-- ================================================================
+
+ALTER TABLE product_rating_summaries
+    ADD COLUMN rating_sum   BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN trait_totals JSONB  NOT NULL DEFAULT '{}'::jsonb;
+
+-- Backfill from the approved reviews the existing rows were computed from
+UPDATE product_rating_summaries s
+SET rating_sum = agg.rating_sum
+FROM (
+    SELECT listing_variant_id, SUM(rating) AS rating_sum
+    FROM reviews
+    WHERE status = 'APPROVED'
+    GROUP BY listing_variant_id
+) agg
+WHERE agg.listing_variant_id = s.listing_variant_id;
+
+UPDATE product_rating_summaries s
+SET trait_totals = agg.trait_totals
+FROM (
+    SELECT t.listing_variant_id,
+           jsonb_object_agg(t.trait_key, jsonb_build_object('sum', t.total, 'count', t.answers)) AS trait_totals
+    FROM (
+        SELECT r.listing_variant_id,
+               a.key                     AS trait_key,
+               SUM((a.value #>> '{}')::numeric) AS total,
+               COUNT(*)                  AS answers
+        FROM reviews r
+        CROSS JOIN LATERAL jsonb_each(r.trait_answers) a
+        WHERE r.status = 'APPROVED'
+          AND r.trait_answers IS NOT NULL
+          AND jsonb_typeof(r.trait_answers) = 'object'
+          AND (a.value #>> '{}') ~ '^-?[0-9]+(\.[0-9]+)?$'
+        GROUP BY r.listing_variant_id, a.key
+    ) t
+    GROUP BY t.listing_variant_id
+) agg
+WHERE agg.listing_variant_id = s.listing_variant_id;
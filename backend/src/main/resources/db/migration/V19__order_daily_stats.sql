@@ -0,0 +1,25 @@
+-- ================================================================
+-- V19__order_daily_stats.sql
+--
+-- Per-day rollup of placed orders for the admin dashboard, so the
+-- summary reads a few rows instead of aggregating the orders table.
+--
+-- One row per UTC calendar day (orders.created_at). Checkout upserts
+-- the row of the day the order is placed; every order counts,
+-- whatever its later status — same semantics as the live aggregates
+-- this replaces.
+-- ================================================================
+
+CREATE TABLE order_daily_stats (
+    stat_date      DATE           PRIMARY KEY,
+    orders_placed  BIGINT         NOT NULL DEFAULT 0,
+    revenue        NUMERIC(14,2)  NOT NULL DEFAULT 0,
+    updated_at     TIMESTAMPTZ    NOT NULL DEFAULT NOW()
+);
+
+INSERT INTO order_daily_stats (stat_date, orders_placed, revenue)
+SELECT (created_at AT TIME ZONE 'UTC')::date,
+       COUNT(*),
+       COALESCE(SUM(total_amount), 0)
+FROM orders
+GROUP BY 1;
@@ -0,0 +1,48 @@
+-- ================================================================
+-- V20__discount_daily_metrics.sql
+--
+-- Per-campaign, per-UTC-day rollup of discount_application for the
+-- campaign metrics and top-campaign endpoints.
+--
+--   discount_daily_metrics        one row per (discount, day) with usage
+--   discount_daily_metrics_state  single row: last day folded into the rollup
+--
+-- Days up to compacted_through are read from the rollup; later days
+-- (normally just today) are aggregated from raw rows with a range
+-- predicate on applied_at. A nightly job compacts the previous day and
+-- re-checks recent days against the raw rows.
+--
+-- orders_using can be summed across days: every application row of an
+-- order is written in the checkout transaction and shares its NOW().
+-- ================================================================
+
+CREATE TABLE discount_daily_metrics (
+    discount_id     BIGINT         NOT NULL REFERENCES discounts(id) ON DELETE CASCADE,
+    metric_date     DATE           NOT NULL,
+    orders_using    BIGINT         NOT NULL DEFAULT 0,
+    units_moved     BIGINT         NOT NULL DEFAULT 0,
+    revenue_uplift  NUMERIC(14,2)  NOT NULL DEFAULT 0,
+    compacted_at    TIMESTAMPTZ    NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (discount_id, metric_date)
+);
+
+CREATE INDEX idx_discount_daily_metrics_date ON discount_daily_metrics (metric_date);
+
+CREATE TABLE discount_daily_metrics_state (
+    id                 SMALLINT  PRIMARY KEY CHECK (id = 1),
+    compacted_through  DATE      NOT NULL
+);
+
+-- Backfill every completed UTC day
+INSERT INTO discount_daily_metrics (discount_id, metric_date, orders_using, units_moved, revenue_uplift)
+SELECT discount_id,
+       (applied_at AT TIME ZONE 'UTC')::date,
+       COUNT(DISTINCT order_id),
+       SUM(quantity),
+       SUM(discount_amount)
+FROM discount_application
+WHERE applied_at < date_trunc('day', NOW() AT TIME ZONE 'UTC') AT TIME ZONE 'UTC'
+GROUP BY 1, 2;
+
+INSERT INTO discount_daily_metrics_state (id, compacted_through)
+VALUES (1, (NOW() AT TIME ZONE 'UTC')::date - 1);
@@ -0,0 +1,43 @@
+-- ================================================================
+-- V21__tier_evaluation_runs.sql
+--
+-- Checkpoint state for the monthly loyalty tier evaluation batch.
+--
+--   tier_evaluation_runs        one row per evaluated month ('YYYY-MM');
+--                               the primary key is the run's idempotency key
+--   tier_evaluation_partitions  contiguous user-id ranges worked in parallel;
+--                               last_user_id is advanced in the same
+--                               transaction as each chunk's tier updates
+--   tier_evaluation_spending    net spending of every user for the month,
+--                               staged once by a single grouped aggregate
+--                               and dropped when the run completes
+-- ================================================================
+
+CREATE TABLE tier_evaluation_runs (
+    period        VARCHAR(7)  PRIMARY KEY,
+    status        VARCHAR(16) NOT NULL,
+    partitions    INTEGER     NOT NULL,
+    started_at    TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    completed_at  TIMESTAMPTZ
+);
+
+CREATE TABLE tier_evaluation_partitions (
+    period        VARCHAR(7)  NOT NULL REFERENCES tier_evaluation_runs(period) ON DELETE CASCADE,
+    partition_no  INTEGER     NOT NULL,
+    last_user_id  BIGINT      NOT NULL,
+    to_user_id    BIGINT      NOT NULL,
+    promoted      INTEGER     NOT NULL DEFAULT 0,
+    demoted       INTEGER     NOT NULL DEFAULT 0,
+    unchanged     INTEGER     NOT NULL DEFAULT 0,
+    failed        INTEGER     NOT NULL DEFAULT 0,
+    completed_at  TIMESTAMPTZ,
+    updated_at    TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (period, partition_no)
+);
+
+CREATE TABLE tier_evaluation_spending (
+    period        VARCHAR(7)    NOT NULL REFERENCES tier_evaluation_runs(period) ON DELETE CASCADE,
+    user_id       BIGINT        NOT NULL,
+    net_spending  NUMERIC(14,2) NOT NULL,
+    PRIMARY KEY (period, user_id)
+);
@@ -0,0 +1,41 @@
+-- ================================================================
+-- V22__discount_usage_counters.sql
+--
+-- Running usage counters for discount usage caps, replacing the
+-- COUNT over discount_application on every discount resolution.
+--
+--   discount_usage       orders each campaign was applied to
+--   discount_user_usage  the same, per customer
+--
+-- One use is one order, however many of its lines the campaign
+-- priced. CheckoutService claims a use inside the checkout
+-- transaction with a conditional upsert, so usage_cap_total and
+-- usage_cap_per_customer hold exactly under concurrent checkouts.
+-- ================================================================
+
+CREATE TABLE discount_usage (
+    discount_id  BIGINT PRIMARY KEY REFERENCES discounts(id) ON DELETE CASCADE,
+    uses         BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE discount_user_usage (
+    discount_id  BIGINT NOT NULL REFERENCES discounts(id) ON DELETE CASCADE,
+    user_id      BIGINT NOT NULL REFERENCES users(id)     ON DELETE CASCADE,
+    uses         BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_discount_user_usage PRIMARY KEY (discount_id, user_id)
+);
+
+-- Segment snapshot loads all counters of one user
+CREATE INDEX idx_discount_user_usage_user ON discount_user_usage (user_id);
+
+-- Backfill from the applications recorded so far
+INSERT INTO discount_usage (discount_id, uses)
+SELECT discount_id, COUNT(DISTINCT order_id)
+FROM discount_application
+GROUP BY discount_id;
+
+INSERT INTO discount_user_usage (discount_id, user_id, uses)
+SELECT da.discount_id, o.user_id, COUNT(DISTINCT da.order_id)
+FROM discount_application da
+JOIN orders o ON o.id = da.order_id
+GROUP BY da.discount_id, o.user_id;
@@ -0,0 +1,47 @@
+-- ================================================================
+-- V23__loyalty_points_ledger.sql
+--
+-- Loyalty points move out of users.loyalty_points into an
+-- append-only ledger, so awarding or redeeming points no longer
+-- rewrites (and optimistically locks) the user row.
+--
+--   loyalty_point_ledger    one signed row per point movement
+--   loyalty_point_balances  per-user snapshot: balance of every
+--                           ledger row up to last_entry_id
+--
+-- balance = snapshot.balance + SUM(delta) of rows after
+-- last_entry_id. Every movement locks the user's snapshot row
+-- first, so debits are conditional on the balance they read, and
+-- the snapshot job folds tails without racing an uncommitted row.
+--
+-- users.loyalty_points keeps its pre-ledger value and is no longer
+-- written; it seeds the snapshots below.
+-- ================================================================
+
+CREATE TABLE loyalty_point_ledger (
+    id          BIGSERIAL    PRIMARY KEY,
+    user_id     BIGINT       NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    delta       INTEGER      NOT NULL CHECK (delta <> 0),
+    reason      VARCHAR(16)  NOT NULL,
+    order_id    BIGINT       REFERENCES orders(id) ON DELETE SET NULL,
+    created_at  TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+
+-- Balance reads scan one user's tail
+CREATE INDEX idx_loyalty_point_ledger_user ON loyalty_point_ledger (user_id, id);
+
+-- At most one award per order, whatever retries the payment flow makes
+CREATE UNIQUE INDEX uq_loyalty_point_ledger_order_reason
+    ON loyalty_point_ledger (order_id, reason)
+    WHERE order_id IS NOT NULL;
+
+CREATE TABLE loyalty_point_balances (
+    user_id        BIGINT       PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    balance        INTEGER      NOT NULL DEFAULT 0 CHECK (balance >= 0),
+    last_entry_id  BIGINT       NOT NULL DEFAULT 0,
+    snapshot_at    TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+
+INSERT INTO loyalty_point_balances (user_id, balance)
+SELECT id, loyalty_points
+FROM users;
@@ -0,0 +1,38 @@
+-- ================================================================
+-- V24__job_queue.sql
+--
+-- Durable in-process job queue. Work that does not have to finish
+-- inside a request (payment confirmation after the provider's
+-- webhook, the loyalty award that follows it) is recorded here and
+-- run by background workers.
+--
+--   (stage, job_key)  idempotency key; a redelivered webhook or a
+--                     retried stage enqueues nothing new
+--   run_after         earliest start; pushed back on each retry
+--   locked_until      lease of the worker running the job; a
+--                     RUNNING job past its lease is claimed again
+--
+-- Workers claim with FOR UPDATE SKIP LOCKED, so any number of
+-- instances poll the same table without blocking each other.
+-- ================================================================
+
+CREATE TABLE job_queue (
+    id            BIGSERIAL    PRIMARY KEY,
+    stage         VARCHAR(32)  NOT NULL,
+    job_key       VARCHAR(128) NOT NULL,
+    payload       VARCHAR(255),
+    status        VARCHAR(16)  NOT NULL DEFAULT 'PENDING',
+    attempts      INTEGER      NOT NULL DEFAULT 0,
+    run_after     TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    locked_until  TIMESTAMPTZ,
+    last_error    TEXT,
+    created_at    TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    updated_at    TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT uq_job_queue_stage_key UNIQUE (stage, job_key),
+    CONSTRAINT chk_job_queue_status   CHECK (status IN ('PENDING', 'RUNNING', 'DONE', 'DEAD'))
+);
+
+-- Claim scans: due pending jobs and expired leases
+CREATE INDEX idx_job_queue_pending ON job_queue (run_after)    WHERE status = 'PENDING';
+CREATE INDEX idx_job_queue_running ON job_queue (locked_until) WHERE status = 'RUNNING';
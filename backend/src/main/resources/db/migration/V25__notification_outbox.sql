@@ -0,0 +1,39 @@
+-- ================================================================
+-- V25__notification_outbox.sql
+--
+-- Outbox for customer notifications. NotificationPort calls insert
+-- a row in the caller's transaction, so a notification exists
+-- exactly when the change it announces commits, and the request
+-- never waits on the SMS/push provider.
+--
+-- NotificationDispatcher leases PENDING rows (FOR UPDATE SKIP
+-- LOCKED + locked_until), delivers them in provider-sized batches
+-- under a send-rate limit, then marks them SENT or reschedules
+-- them through next_attempt_at. Rows that keep failing end as DEAD.
+-- SENT rows are purged after a retention period.
+-- ================================================================
+
+CREATE TABLE notification_outbox (
+    id               BIGSERIAL    PRIMARY KEY,
+    kind             VARCHAR(32)  NOT NULL,
+    user_id          BIGINT       NOT NULL,
+    ref_id           BIGINT       NOT NULL,
+    detail           VARCHAR(32),
+    status           VARCHAR(16)  NOT NULL DEFAULT 'PENDING',
+    attempts         INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    locked_until     TIMESTAMPTZ,
+    last_error       TEXT,
+    created_at       TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    sent_at          TIMESTAMPTZ,
+
+    CONSTRAINT chk_notification_outbox_status CHECK (status IN ('PENDING', 'SENT', 'DEAD'))
+);
+
+-- Dispatcher scan, oldest first
+CREATE INDEX idx_notification_outbox_pending ON notification_outbox (next_attempt_at, id)
+    WHERE status = 'PENDING';
+
+-- Retention purge
+CREATE INDEX idx_notification_outbox_sent ON notification_outbox (sent_at)
+    WHERE status = 'SENT';
@@ -0,0 +1,21 @@
+-- ================================================================
+-- V26__scheduler_locks.sql
+--
+-- Leases that let scheduled work run on one backend instance at a
+-- time. A node takes a lock by inserting its row, or by taking over
+-- one whose locked_until has passed. It keeps the lock by pushing
+-- locked_until forward on a heartbeat and gives it up by deleting
+-- the row. A node that dies loses its locks when the lease expires.
+--
+-- Names are free-form: one per singleton job ('discount-metrics-
+-- compaction') or one per unit of partitioned work
+-- ('tier-evaluation:2026-09:3').
+-- ================================================================
+
+CREATE TABLE scheduler_locks (
+    name          VARCHAR(128) PRIMARY KEY,
+    owner         VARCHAR(128) NOT NULL,
+    locked_until  TIMESTAMPTZ  NOT NULL,
+    acquired_at   TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    heartbeat_at  TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,25 @@
+-- ================================================================
+-- V27__cache_invalidations.sql
+--
+-- Cluster-wide invalidation log for the in-process caches. Every
+-- write that evicts a cache entry also records a row here in the
+-- writing transaction and calls pg_notify('cache_invalidation', id).
+-- Postgres delivers the notification only when that transaction
+-- commits. Other instances LISTEN on the channel, read the row and
+-- evict locally. While an instance has no listening connection, it
+-- polls this table by created_at instead.
+--
+-- ids holds comma-separated entity ids. NULL means every entry of
+-- entity_type. Rows are only needed for catch-up polling and are
+-- purged after a day.
+-- ================================================================
+
+CREATE TABLE cache_invalidations (
+    id           BIGSERIAL    PRIMARY KEY,
+    entity_type  VARCHAR(32)  NOT NULL,
+    ids          TEXT,
+    origin       VARCHAR(128) NOT NULL,
+    created_at   TIMESTAMPTZ  NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX idx_cache_invalidations_created ON cache_invalidations (created_at);
@@ -0,0 +1,120 @@
+-- ================================================================
+-- V28__monthly_partitions.sql
+--
+-- discount_application becomes a table range-partitioned by UTC month
+-- of applied_at. The analytics queries already select by applied_at
+-- range, so they only touch the months they ask for. Old months can
+-- then be detached whole instead of deleted row by row.
+--
+--   discount_application_pYYYYMM  one partition per UTC month
+--   discount_application_default  catches rows no month partition
+--                                 covers; emptied as partitions appear
+--
+-- The primary key has to include the partition key. ids still come
+-- from the original sequence, so they stay unique on their own.
+--
+-- create_monthly_partition() adds one month partition to any table
+-- partitioned this way. PartitionMaintenanceJob calls it every night
+-- to keep a few months ready ahead, and detaches months past
+-- retention into the archive schema once discount_daily_metrics
+-- holds their totals.
+-- ================================================================
+
+CREATE SCHEMA IF NOT EXISTS archive;
+
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent TEXT, key_column TEXT, for_month DATE)
+RETURNS TEXT
+LANGUAGE plpgsql AS $$
+DECLARE
+    first_day  DATE        := date_trunc('month', for_month)::date;
+    lower_ts   TIMESTAMPTZ := first_day::timestamp AT TIME ZONE 'UTC';
+    upper_ts   TIMESTAMPTZ := (first_day + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC';
+    child      TEXT        := format('%s_p%s', parent, to_char(first_day, 'YYYYMM'));
+    fallback   TEXT        := parent || '_default';
+BEGIN
+    IF to_regclass(child) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', child, parent);
+
+    -- Attaching fails while the default partition holds rows of the new range
+    IF to_regclass(fallback) IS NOT NULL THEN
+        EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= $1 AND %I < $2 RETURNING *) '
+                       'INSERT INTO %I SELECT * FROM moved',
+                       fallback, key_column, key_column, child)
+            USING lower_ts, upper_ts;
+    END IF;
+
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   parent, child, lower_ts, upper_ts);
+    RETURN child;
+END
+$$;
+
+-- ── Rebuild discount_application as a partitioned table ─────────────
+
+ALTER TABLE discount_application RENAME TO discount_application_legacy;
+ALTER TABLE discount_application_legacy RENAME CONSTRAINT discount_application_pkey TO discount_application_legacy_pkey;
+DROP INDEX idx_discount_app_discount_time;
+DROP INDEX idx_discount_app_order;
+ALTER SEQUENCE discount_application_id_seq OWNED BY NONE;
+
+CREATE TABLE discount_application (
+    id                   BIGINT        NOT NULL DEFAULT nextval('discount_application_id_seq'),
+    discount_id          BIGINT        NOT NULL REFERENCES discounts(id),
+    order_id             BIGINT        NOT NULL REFERENCES orders(id)      ON DELETE CASCADE,
+    order_line_id        BIGINT        NOT NULL REFERENCES order_items(id) ON DELETE CASCADE,
+    sku_item_code        VARCHAR(128)  NOT NULL,
+    quantity             INT           NOT NULL CHECK (quantity > 0),
+    original_unit_price  NUMERIC(12,2) NOT NULL,
+    applied_unit_price   NUMERIC(12,2) NOT NULL,
+    discount_amount      NUMERIC(12,2) NOT NULL,
+    applied_at           TIMESTAMPTZ   NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (id, applied_at)
+) PARTITION BY RANGE (applied_at);
+
+CREATE INDEX idx_discount_app_discount_time ON discount_application (discount_id, applied_at);
+CREATE INDEX idx_discount_app_order         ON discount_application (order_id);
+
+CREATE TABLE discount_application_default PARTITION OF discount_application DEFAULT;
+
+-- One partition per month from the oldest row through three months ahead
+DO $$
+DECLARE
+    m DATE;
+BEGIN
+    FOR m IN
+        SELECT generate_series(
+                   date_trunc('month', COALESCE((SELECT MIN(applied_at) FROM discount_application_legacy), NOW())
+                                       AT TIME ZONE 'UTC'),
+                   date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '3 months',
+                   INTERVAL '1 month')::date
+    LOOP
+        PERFORM create_monthly_partition('discount_application', 'applied_at', m);
+    END LOOP;
+END
+$$;
+
+INSERT INTO discount_application
+       (id, discount_id, order_id, order_line_id, sku_item_code, quantity,
+        original_unit_price, applied_unit_price, discount_amount, applied_at)
+SELECT id, discount_id, order_id, order_line_id, sku_item_code, quantity,
+       original_unit_price, applied_unit_price, discount_amount, applied_at
+FROM discount_application_legacy;
+
+DROP TABLE discount_application_legacy;
+ALTER SEQUENCE discount_application_id_seq OWNED BY discount_application.id;
+
+-- ── Payments: covering index for the monthly spending aggregate ─────
+-- Tier evaluation sums settled payments by completed_at range; this
+-- index answers it without touching PENDING/FAILED rows or the heap.
+
+CREATE INDEX idx_payments_settled_completed_at ON payments (completed_at)
+    INCLUDE (order_id, amount, status)
+    WHERE status IN ('COMPLETED', 'REFUNDED');
+
+-- ── Carts: closed carts are purged by PartitionMaintenanceJob ──────
+
+CREATE INDEX idx_carts_closed_updated_at ON carts (updated_at)
+    WHERE status IN ('CHECKED_OUT', 'ABANDONED');
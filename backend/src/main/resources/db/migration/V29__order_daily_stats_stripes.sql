@@ -0,0 +1,16 @@
+-- ================================================================
+-- V29__order_daily_stats_stripes.sql
+--
+-- Spreads each day of order_daily_stats over several rows. With one
+-- row per day, every checkout upserted the same row and held its lock
+-- until commit, so concurrent checkouts queued behind each other.
+-- Checkout now picks one of the day's stripes at random; readers sum
+-- the stripes of a day.
+--
+-- Existing rows become stripe 0 of their day.
+-- ================================================================
+
+ALTER TABLE order_daily_stats ADD COLUMN stripe SMALLINT NOT NULL DEFAULT 0;
+
+ALTER TABLE order_daily_stats DROP CONSTRAINT order_daily_stats_pkey;
+ALTER TABLE order_daily_stats ADD PRIMARY KEY (stat_date, stripe);
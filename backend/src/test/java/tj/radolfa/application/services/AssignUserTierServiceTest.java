@@ -34,6 +34,7 @@ class AssignUserTierServiceTest {
     @Mock LoadLoyaltyTierPort   loadLoyaltyTierPort;
     @Mock SaveUserPort          saveUserPort;
     @Mock LoyaltySpendCalculator loyaltySpendCalculator;
+    @Mock LoyaltyTierCache      loyaltyTierCache;
 
     AssignUserTierService service;
 
@@ -43,7 +44,8 @@ class AssignUserTierServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new AssignUserTierService(loadUserPort, loadLoyaltyTierPort, saveUserPort, loyaltySpendCalculator);
+        service = new AssignUserTierService(loadUserPort, loadLoyaltyTierPort, saveUserPort,
+                loyaltySpendCalculator, loyaltyTierCache);
 
         gold     = new LoyaltyTier(1L, "Gold",     new BigDecimal("5"),  new BigDecimal("5"),  new BigDecimal("10000"), 1, "#FFD700");
         platinum = new LoyaltyTier(2L, "Platinum", new BigDecimal("15"), new BigDecimal("7.5"), new BigDecimal("50000"), 2, "#E5E4E2");
@@ -69,6 +71,8 @@ class AssignUserTierServiceTest {
         assertThat(loyalty.tier()).isEqualTo(platinum);
         // floor should be Gold (displayOrder = 1, the minimum)
         assertThat(loyalty.lowestTierEver()).isEqualTo(gold);
+        // storefront tier pricing must not keep serving the old tier
+        verify(loyaltyTierCache).invalidateUser(42L);
     }
 
     @Test
@@ -0,0 +1,115 @@
+package tj.radolfa.application.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tj.radolfa.application.ports.out.LoadLoyaltyTierPort;
+import tj.radolfa.application.ports.out.LoadOrderPort;
+import tj.radolfa.application.ports.out.LoadUserPort;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort.Reason;
+import tj.radolfa.application.ports.out.SaveOrderPort;
+import tj.radolfa.application.ports.out.SaveUserPort;
+import tj.radolfa.domain.model.LoyaltyProfile;
+import tj.radolfa.domain.model.LoyaltyTier;
+import tj.radolfa.domain.model.Money;
+import tj.radolfa.domain.model.Order;
+import tj.radolfa.domain.model.OrderStatus;
+import tj.radolfa.domain.model.User;
+import tj.radolfa.domain.model.UserRole;
+import tj.radolfa.domain.service.LoyaltyCalculator;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AwardLoyaltyPointsServiceTest {
+
+    @Mock LoadUserPort            loadUserPort;
+    @Mock LoadOrderPort           loadOrderPort;
+    @Mock LoadLoyaltyTierPort     loadLoyaltyTierPort;
+    @Mock SaveUserPort            saveUserPort;
+    @Mock SaveOrderPort           saveOrderPort;
+    @Mock LoyaltyPointsLedgerPort ledger;
+    @Mock LoyaltyCalculator       loyaltyCalculator;
+    @Mock LoyaltyTierCache        loyaltyTierCache;
+
+    AwardLoyaltyPointsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AwardLoyaltyPointsService(loadUserPort, loadOrderPort, loadLoyaltyTierPort,
+                saveUserPort, saveOrderPort, ledger, loyaltyCalculator, loyaltyTierCache);
+
+        when(loadUserPort.loadById(1L)).thenReturn(Optional.of(user()));
+        when(loadOrderPort.loadById(10L)).thenReturn(Optional.of(order()));
+        when(loadLoyaltyTierPort.findAll()).thenReturn(List.of());
+        when(loyaltyCalculator.computeEarnedPoints(any(), any())).thenReturn(25);
+        lenient().when(loyaltyCalculator.awardPoints(any(), any(), any())).thenReturn(LoyaltyProfile.empty());
+    }
+
+    @Test
+    @DisplayName("Points are credited before the spend and tier are saved")
+    void award_creditsBeforeSavingUser() {
+        when(ledger.credit(1L, 25, Reason.AWARD, 10L)).thenReturn(true);
+
+        service.execute(1L, 10L);
+
+        InOrder order = inOrder(ledger, saveUserPort, saveOrderPort);
+        order.verify(ledger).credit(1L, 25, Reason.AWARD, 10L);
+        order.verify(saveUserPort).save(any());
+        order.verify(saveOrderPort).save(any());
+        verify(loyaltyTierCache, never()).invalidateUser(any());
+    }
+
+    @Test
+    @DisplayName("An award that upgrades the tier drops the user's cached tier")
+    void award_upgrade_invalidatesCachedTier() {
+        LoyaltyTier gold = new LoyaltyTier(1L, "Gold", new BigDecimal("5"), new BigDecimal("5"),
+                new BigDecimal("10000"), 1, "#FFD700");
+        when(loyaltyCalculator.awardPoints(any(), any(), any()))
+                .thenReturn(new LoyaltyProfile(gold, 0, null, null, null, false, gold));
+        when(ledger.credit(1L, 25, Reason.AWARD, 10L)).thenReturn(true);
+
+        service.execute(1L, 10L);
+
+        verify(loyaltyTierCache).invalidateUser(1L);
+    }
+
+    @Test
+    @DisplayName("An order the ledger already credited leaves the spend and the order untouched")
+    void award_alreadyCredited_skipsSpendUpdate() {
+        when(ledger.credit(1L, 25, Reason.AWARD, 10L)).thenReturn(false);
+
+        service.execute(1L, 10L);
+
+        verify(saveUserPort, never()).save(any());
+        verify(saveOrderPort, never()).save(any());
+        verify(loyaltyTierCache, never()).invalidateUser(any());
+    }
+
+    // ── helpers ──
+
+    private static User user() {
+        return new User(1L, null, UserRole.USER, "Test", null, LoyaltyProfile.empty(), true, 0L);
+    }
+
+    private static Order order() {
+        return new Order(10L, 1L, null, OrderStatus.PAID, Money.of(new BigDecimal("250.00")), List.of(),
+                Instant.parse("2026-10-01T12:00:00Z"), 0, 0,
+                null, null, null, null, null, null, null, null, null, null, null);
+    }
+}
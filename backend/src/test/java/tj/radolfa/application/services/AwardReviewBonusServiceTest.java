@@ -4,14 +4,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import tj.radolfa.application.ports.out.LoadUserPort;
-import tj.radolfa.application.ports.out.SaveUserPort;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort;
 import tj.radolfa.domain.model.LoyaltyProfile;
 import tj.radolfa.domain.model.PhoneNumber;
 import tj.radolfa.domain.model.User;
 import tj.radolfa.domain.model.UserRole;
 import tj.radolfa.infrastructure.config.LoyaltyRewardProperties;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,27 +23,27 @@ import static org.junit.jupiter.api.Assertions.*;
 class AwardReviewBonusServiceTest {
 
     private FakeLoadUserPort fakeLoad;
-    private FakeSaveUserPort fakeSave;
+    private FakeLedger fakeLedger;
     private AwardReviewBonusService service;
 
     private static final int REWARD = 50;
 
     @BeforeEach
     void setUp() {
-        fakeLoad = new FakeLoadUserPort();
-        fakeSave = new FakeSaveUserPort();
-        service  = new AwardReviewBonusService(fakeLoad, fakeSave, new LoyaltyRewardProperties(REWARD));
+        fakeLoad   = new FakeLoadUserPort();
+        fakeLedger = new FakeLedger();
+        service    = new AwardReviewBonusService(fakeLoad, fakeLedger, new LoyaltyRewardProperties(REWARD));
     }
 
     @Test
     @DisplayName("Increments user loyalty points by the configured review reward amount")
     void execute_incrementsPointsByConfiguredAmount() {
         fakeLoad.user = userWithPoints(100);
+        fakeLedger.balances.put(1L, 100);
 
         service.execute(1L);
 
-        assertNotNull(fakeSave.saved);
-        assertEquals(150, fakeSave.saved.loyalty().points());
+        assertEquals(150, fakeLedger.balance(1L));
     }
 
     @Test
@@ -49,20 +53,17 @@ class AwardReviewBonusServiceTest {
 
         service.execute(1L);
 
-        assertEquals(REWARD, fakeSave.saved.loyalty().points());
+        assertEquals(REWARD, fakeLedger.balance(1L));
     }
 
     @Test
-    @DisplayName("All other loyalty profile fields are preserved after award")
-    void execute_preservesOtherLoyaltyFields() {
+    @DisplayName("The bonus is recorded as one review-bonus ledger movement")
+    void execute_recordsReviewBonusMovement() {
         fakeLoad.user = userWithPoints(200);
 
         service.execute(1L);
 
-        User saved = fakeSave.saved;
-        assertNull(saved.loyalty().tier());
-        assertNull(saved.loyalty().spendToNextTier());
-        assertFalse(saved.loyalty().permanent());
+        assertEquals(List.of(LoyaltyPointsLedgerPort.Reason.REVIEW_BONUS), fakeLedger.reasons);
     }
 
     @Test
@@ -71,7 +72,7 @@ class AwardReviewBonusServiceTest {
         fakeLoad.user = null; // no user
 
         assertThrows(IllegalStateException.class, () -> service.execute(99L));
-        assertNull(fakeSave.saved);
+        assertTrue(fakeLedger.reasons.isEmpty());
     }
 
     // =========================================================
@@ -98,16 +99,48 @@ class AwardReviewBonusServiceTest {
         }
 
         @Override public Optional<User> loadByPhone(String phone) { return Optional.empty(); }
-        @Override public List<User> findAllNonPermanent() { return List.of(); }
     }
 
-    static class FakeSaveUserPort implements SaveUserPort {
-        User saved;
+    /** Ledger keeping balances in a map; shared with {@link RedeemLoyaltyPointsServiceTest}. */
+    static class FakeLedger implements LoyaltyPointsLedgerPort {
+        final Map<Long, Integer> balances = new HashMap<>();
+        final List<Reason>       reasons  = new ArrayList<>();
 
         @Override
-        public User save(User user) {
-            saved = user;
-            return user;
+        public int balance(Long userId) {
+            return balances.getOrDefault(userId, 0);
+        }
+
+        @Override
+        public Map<Long, Integer> balances(Collection<Long> userIds) {
+            Map<Long, Integer> result = new HashMap<>();
+            userIds.forEach(id -> result.put(id, balance(id)));
+            return result;
+        }
+
+        @Override
+        public boolean credit(Long userId, int points, Reason reason, Long orderId) {
+            balances.merge(userId, points, Integer::sum);
+            reasons.add(reason);
+            return true;
+        }
+
+        @Override
+        public boolean tryDebit(Long userId, int points, Reason reason, Long orderId) {
+            if (balance(userId) < points) return false;
+            balances.merge(userId, -points, Integer::sum);
+            reasons.add(reason);
+            return true;
+        }
+
+        @Override
+        public int debitUpTo(Long userId, int points, Reason reason, Long orderId) {
+            int debited = Math.min(points, balance(userId));
+            if (debited > 0) {
+                balances.merge(userId, -debited, Integer::sum);
+                reasons.add(reason);
+            }
+            return debited;
         }
     }
 }
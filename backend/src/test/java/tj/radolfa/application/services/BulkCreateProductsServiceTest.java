@@ -0,0 +1,259 @@
+package tj.radolfa.application.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tj.radolfa.application.ports.in.product.BulkCreateProductsUseCase;
+import tj.radolfa.application.ports.in.product.CreateProductUseCase.Command;
+import tj.radolfa.application.ports.in.product.CreateProductUseCase.Command.SkuDefinition;
+import tj.radolfa.application.ports.in.product.CreateProductUseCase.Command.VariantDefinition;
+import tj.radolfa.application.ports.out.BulkSaveProductHierarchyPort;
+import tj.radolfa.application.ports.out.ListingIndexPort;
+import tj.radolfa.application.ports.out.LoadColorPort.ColorView;
+import tj.radolfa.application.ports.out.LoadCategoryBlueprintPort.BlueprintEntry;
+import tj.radolfa.application.readmodel.CategoryView;
+import tj.radolfa.application.services.CreateProductServiceTest.FakeListingIndexPort;
+import tj.radolfa.application.services.CreateProductServiceTest.FakeLoadBlueprintPort;
+import tj.radolfa.application.services.CreateProductServiceTest.FakeLoadBrandPort;
+import tj.radolfa.application.services.CreateProductServiceTest.FakeLoadCategoryPort;
+import tj.radolfa.application.services.CreateProductServiceTest.FakeLoadColorPort;
+import tj.radolfa.domain.exception.ResourceNotFoundException;
+import tj.radolfa.domain.model.ListingVariant;
+import tj.radolfa.domain.model.Money;
+import tj.radolfa.domain.model.ProductAttribute;
+import tj.radolfa.domain.model.ProductBase;
+import tj.radolfa.domain.model.Sku;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BulkCreateProductsService}, reusing the in-memory fakes of
+ * {@link CreateProductServiceTest}.
+ */
+class BulkCreateProductsServiceTest {
+
+    private CountingCategoryPort      fakeCategory;
+    private CountingColorPort         fakeColor;
+    private CountingBlueprintPort     fakeBlueprint;
+    private FakeBulkSavePort          fakeSave;
+    private FakeBulkIndexPort         fakeIndex;
+    private BulkCreateProductsService service;
+
+    @BeforeEach
+    void setUp() {
+        fakeCategory  = new CountingCategoryPort();
+        fakeColor     = new CountingColorPort();
+        fakeBlueprint = new CountingBlueprintPort();
+        fakeSave      = new FakeBulkSavePort();
+        fakeIndex     = new FakeBulkIndexPort();
+
+        service = new BulkCreateProductsService(
+                fakeCategory, fakeColor, new FakeLoadBrandPort(),
+                fakeBlueprint, fakeSave, fakeIndex);
+
+        fakeCategory.store(new CategoryView(1L, "Clothing", "clothing", null, List.of()));
+        fakeColor.store(new ColorView(10L, "red", "Red", "#FF0000"));
+        fakeColor.store(new ColorView(20L, "blue", "Blue", "#0000FF"));
+    }
+
+    @Test
+    @DisplayName("All products are inserted in one call and indexed in one bulk call")
+    void execute_insertsAndIndexesInBulk() {
+        BulkCreateProductsUseCase.Result result = service.execute(List.of(
+                command("Shirt", variantDef(10L, skuDef("S", "29.99", 5), skuDef("M", "29.99", 3))),
+                command("Dress", variantDef(10L, skuDef("S", "59.99", 1)), variantDef(20L, skuDef("S", "49.99", 2)))));
+
+        assertEquals(1, fakeSave.insertCalls);
+        assertEquals(List.of(100L, 101L), result.productBaseIds());
+        assertEquals(3, result.variants());
+        assertEquals(4, result.skus());
+
+        assertEquals(1, fakeIndex.bulkCalls);
+        assertEquals(0, fakeIndex.indexCallCount);
+        assertEquals(3, fakeIndex.documents.size());
+        ListingIndexPort.Document blue = fakeIndex.documents.get(2);
+        assertEquals("Dress", blue.name());
+        assertEquals("#0000FF", blue.colorHexCode());
+        assertEquals(49.99, blue.price());
+        assertNotNull(blue.productCode());
+    }
+
+    @Test
+    @DisplayName("Generated codes, slugs and references follow single-product creation")
+    void execute_buildsHierarchyLikeSingleCreate() {
+        service.execute(List.of(command("Shirt", variantDef(10L, skuDef("S", "29.99", 5)))));
+
+        BulkSaveProductHierarchyPort.NewProduct product = fakeSave.inserted.get(0);
+        assertTrue(product.base().getExternalRef().startsWith("INTERNAL-"));
+        assertEquals("Clothing", product.base().getCategory());
+
+        BulkSaveProductHierarchyPort.NewVariant variant = product.variants().get(0);
+        assertEquals(10L, variant.colorId());
+        assertEquals(product.base().getExternalRef().toLowerCase() + "-red", variant.variant().getSlug());
+        assertTrue(variant.skus().get(0).getSkuCode().startsWith("SKU-"));
+        assertTrue(variant.skus().get(0).getBarcode().startsWith("BC-"));
+    }
+
+    @Test
+    @DisplayName("Category, blueprint and color lookups happen once per distinct id")
+    void execute_lookupsOncePerDistinctId() {
+        List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            commands.add(command("P" + i, variantDef(10L, skuDef("S", "10.00", 1)),
+                    variantDef(20L, skuDef("S", "10.00", 1))));
+        }
+
+        service.execute(commands);
+
+        assertEquals(1, fakeCategory.lookups);
+        assertEquals(1, fakeBlueprint.lookups);
+        assertEquals(2, fakeColor.lookups);
+    }
+
+    @Test
+    @DisplayName("One invalid product rejects the whole batch before anything is written")
+    void execute_invalidProduct_nothingWritten() {
+        fakeBlueprint.storeRequired(1L, "Material");
+        VariantDefinition valid = new VariantDefinition(10L, null,
+                List.of(new ProductAttribute("Material", List.of("Cotton"), 1)), List.of(),
+                List.of(skuDef("S", "10.00", 1)), false, true, null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> service.execute(List.of(
+                command("Valid", valid),
+                command("Missing material", variantDef(10L, skuDef("S", "10.00", 1))))));
+
+        assertEquals(0, fakeSave.insertCalls);
+        assertEquals(0, fakeIndex.bulkCalls);
+    }
+
+    @Test
+    @DisplayName("Unknown color rejects the batch")
+    void execute_unknownColor_throws() {
+        assertThrows(ResourceNotFoundException.class, () -> service.execute(List.of(
+                command("Shirt", variantDef(99L, skuDef("S", "10.00", 1))))));
+
+        assertEquals(0, fakeSave.insertCalls);
+    }
+
+    @Test
+    @DisplayName("Indexing failure does not fail the request")
+    void execute_indexFailure_stillReturnsIds() {
+        fakeIndex.throwOnIndex = true;
+
+        BulkCreateProductsUseCase.Result result = service.execute(List.of(
+                command("Shirt", variantDef(10L, skuDef("S", "10.00", 1)))));
+
+        assertEquals(1, result.productBaseIds().size());
+    }
+
+    @Test
+    @DisplayName("Empty and oversized batches are rejected")
+    void execute_sizeLimits() {
+        assertThrows(IllegalArgumentException.class, () -> service.execute(List.of()));
+
+        Command one = command("P", variantDef(10L, skuDef("S", "10.00", 1)));
+        assertThrows(IllegalArgumentException.class, () -> service.execute(
+                Collections.nCopies(BulkCreateProductsUseCase.MAX_PRODUCTS + 1, one)));
+        assertEquals(0, fakeSave.insertCalls);
+    }
+
+    // ── helpers ──
+
+    private Command command(String name, VariantDefinition... variants) {
+        return new Command(name, 1L, null, List.of(variants));
+    }
+
+    private VariantDefinition variantDef(Long colorId, SkuDefinition... skus) {
+        return new VariantDefinition(colorId, null, List.of(), List.of(), List.of(skus),
+                false, true, null, null, null, null);
+    }
+
+    private SkuDefinition skuDef(String size, String price, int stock) {
+        return new SkuDefinition(size, new Money(new BigDecimal(price)), stock);
+    }
+
+    static class CountingCategoryPort extends FakeLoadCategoryPort {
+        int lookups;
+
+        @Override
+        public Optional<CategoryView> findById(Long id) {
+            lookups++;
+            return super.findById(id);
+        }
+    }
+
+    static class CountingColorPort extends FakeLoadColorPort {
+        int lookups;
+
+        @Override
+        public Optional<ColorView> findById(Long id) {
+            lookups++;
+            return super.findById(id);
+        }
+    }
+
+    static class CountingBlueprintPort extends FakeLoadBlueprintPort {
+        int lookups;
+
+        @Override
+        public List<BlueprintEntry> findByCategoryId(Long categoryId) {
+            lookups++;
+            return super.findByCategoryId(categoryId);
+        }
+    }
+
+    /** Assigns ids and codes the way the JDBC adapter does: bases first, then variants, then SKUs. */
+    static class FakeBulkSavePort implements BulkSaveProductHierarchyPort {
+        private final AtomicLong baseIds = new AtomicLong(100);
+        private final AtomicLong ids     = new AtomicLong(1_000);
+        final List<NewProduct> inserted = new ArrayList<>();
+        int insertCalls;
+
+        @Override
+        public List<SavedProduct> insertAll(List<NewProduct> products) {
+            insertCalls++;
+            inserted.addAll(products);
+            List<SavedProduct> saved = new ArrayList<>();
+            for (NewProduct p : products) {
+                ProductBase b = p.base();
+                Long baseId = baseIds.getAndIncrement();
+                List<SavedVariant> variants = new ArrayList<>();
+                for (NewVariant nv : p.variants()) {
+                    ListingVariant v = nv.variant();
+                    Long variantId = ids.getAndIncrement();
+                    List<Sku> skus = nv.skus().stream()
+                            .map(s -> new Sku(ids.getAndIncrement(), variantId, s.getSkuCode(), s.getSizeLabel(),
+                                    s.getStockQuantity(), s.getPrice(), s.getBarcode()))
+                            .toList();
+                    variants.add(new SavedVariant(new ListingVariant(
+                            variantId, baseId, v.getColorKey(), v.getSlug(), v.getWebDescription(),
+                            v.getImages(), v.getAttributes(), v.getTagIds(), v.getLastSyncAt(),
+                            "RD-" + variantId, v.isEnabled(), v.isActive(),
+                            v.getWeightKg(), v.getWidthCm(), v.getHeightCm(), v.getDepthCm()), skus));
+                }
+                saved.add(new SavedProduct(new ProductBase(baseId, b.getExternalRef(), b.getName(),
+                        b.getCategory(), b.getCategoryId(), b.getBrandId()), variants));
+            }
+            return saved;
+        }
+    }
+
+    static class FakeBulkIndexPort extends FakeListingIndexPort {
+        final List<Document> documents = new ArrayList<>();
+        int bulkCalls;
+
+        @Override
+        public void indexAll(List<Document> documents) {
+            if (throwOnIndex) throw new RuntimeException("ES unavailable");
+            bulkCalls++;
+            this.documents.addAll(documents);
+        }
+    }
+}
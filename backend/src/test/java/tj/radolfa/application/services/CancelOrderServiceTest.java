@@ -62,7 +62,6 @@ class CancelOrderServiceTest {
                 return user != null && user.id().equals(id) ? Optional.of(user) : Optional.empty();
             }
             @Override public Optional<User> loadByPhone(String p) { return Optional.empty(); }
-            @Override public List<User> findAllNonPermanent() { return List.of(); }
         };
     }
 
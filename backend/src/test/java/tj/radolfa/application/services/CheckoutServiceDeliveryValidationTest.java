@@ -5,11 +5,9 @@ import org.junit.jupiter.api.Test;
 import tj.radolfa.application.ports.in.discount.RecordDiscountApplicationUseCase;
 import tj.radolfa.application.ports.in.discount.ResolveDiscountsUseCase;
 import tj.radolfa.application.ports.in.order.CheckoutUseCase;
+import tj.radolfa.application.ports.out.LoadCartLinePort;
 import tj.radolfa.application.ports.out.LoadCartPort;
-import tj.radolfa.application.ports.out.LoadListingVariantPort;
 import tj.radolfa.application.ports.out.LoadPickpointPort;
-import tj.radolfa.application.ports.out.LoadProductBasePort;
-import tj.radolfa.application.ports.out.LoadSkuPort;
 import tj.radolfa.application.ports.out.LoadUserPort;
 import tj.radolfa.application.ports.out.SaveCartPort;
 import tj.radolfa.application.ports.out.SaveDiscountApplicationPort;
@@ -19,7 +17,6 @@ import tj.radolfa.domain.model.Cart;
 import tj.radolfa.domain.model.CartStatus;
 import tj.radolfa.domain.model.DeliveryType;
 import tj.radolfa.domain.model.DiscountApplication;
-import tj.radolfa.domain.model.ListingVariant;
 import tj.radolfa.domain.model.LoyaltyProfile;
 import tj.radolfa.domain.model.Money;
 import tj.radolfa.domain.model.Order;
@@ -27,8 +24,6 @@ import tj.radolfa.domain.model.OrderItem;
 import tj.radolfa.domain.model.OrderStatus;
 import tj.radolfa.domain.model.PhoneNumber;
 import tj.radolfa.domain.model.Pickpoint;
-import tj.radolfa.domain.model.ProductBase;
-import tj.radolfa.domain.model.Sku;
 import tj.radolfa.domain.model.User;
 import tj.radolfa.domain.model.UserRole;
 import tj.radolfa.domain.service.LoyaltyCalculator;
@@ -36,7 +31,6 @@ import tj.radolfa.domain.service.LoyaltyCalculator;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -66,7 +60,6 @@ class CheckoutServiceDeliveryValidationTest {
                     UserRole.USER, "Test", null, LoyaltyProfile.empty(), true, 1L));
         }
         @Override public Optional<User> loadByPhone(String p) { return Optional.empty(); }
-        @Override public List<User> findAllNonPermanent() { return List.of(); }
     };
 
     static final LoadCartPort FAKE_CART = new LoadCartPort() {
@@ -78,32 +71,9 @@ class CheckoutServiceDeliveryValidationTest {
         @Override public Optional<Cart> findById(Long id) { return Optional.empty(); }
     };
 
-    static final LoadSkuPort FAKE_SKU = new LoadSkuPort() {
-        @Override public List<Sku> findAllByIds(Collection<Long> ids) {
-            return List.of(new Sku(SKU_ID, VARIANT_ID, SKU_CODE, "M", 10, new Money(PRICE)));
-        }
-        @Override public Optional<Sku> findBySkuCode(String c) { return Optional.empty(); }
-        @Override public Optional<Sku> findSkuById(Long id) { return Optional.empty(); }
-        @Override public List<Sku> findSkusByVariantId(Long id) { return List.of(); }
-    };
-
-    static final LoadListingVariantPort FAKE_VARIANT = new LoadListingVariantPort() {
-        @Override public Optional<ListingVariant> findVariantById(Long id) {
-            return Optional.of(new ListingVariant(VARIANT_ID, PRODUCT_ID, "RED", "slug", null,
-                    null, null, null, null, "RD-001", true, true, null, null, null, null));
-        }
-        @Override public Optional<ListingVariant> findByProductBaseIdAndColorKey(Long p, String c) { return Optional.empty(); }
-        @Override public Optional<ListingVariant> findBySlug(String s) { return Optional.empty(); }
-        @Override public List<ListingVariant> findAllByProductBaseId(Long id) { return List.of(); }
-        @Override public Map<Long, ListingVariant> findVariantsByIds(Collection<Long> ids) { return Map.of(); }
-    };
-
-    static final LoadProductBasePort FAKE_PRODUCT = new LoadProductBasePort() {
-        @Override public Optional<ProductBase> findById(Long id) {
-            return Optional.of(new ProductBase(PRODUCT_ID, "EXT-001", "Test Product", null, null, null));
-        }
-        @Override public Optional<ProductBase> findByExternalRef(String ref) { return Optional.empty(); }
-    };
+    static final LoadCartLinePort FAKE_LINES = ids -> Map.of(SKU_ID,
+            new LoadCartLinePort.CartLine(SKU_ID, SKU_CODE, VARIANT_ID, "Test Product", "RED", "M", null,
+                    10, new Money(PRICE)));
 
     static final SaveOrderPort SAVE_ORDER = order -> {
         List<OrderItem> itemsWithIds = order.items().stream()
@@ -137,9 +107,7 @@ class CheckoutServiceDeliveryValidationTest {
         return new CheckoutService(
                 FAKE_CART,
                 SAVE_CART,
-                FAKE_SKU,
-                FAKE_VARIANT,
-                FAKE_PRODUCT,
+                FAKE_LINES,
                 FAKE_USER,
                 SAVE_ORDER,
                 NO_STOCK,
@@ -147,7 +115,9 @@ class CheckoutServiceDeliveryValidationTest {
                 (userId, pts) -> Money.ZERO,
                 query -> Map.of(),
                 recordService,
-                loadPickpointPort
+                loadPickpointPort,
+                (placedAt, amount) -> {},
+                (discount, userId) -> true
         );
     }
 
@@ -5,15 +5,15 @@ import org.junit.jupiter.api.Test;
 import tj.radolfa.application.ports.in.discount.RecordDiscountApplicationUseCase;
 import tj.radolfa.application.ports.in.discount.ResolveDiscountsUseCase;
 import tj.radolfa.application.ports.in.order.CheckoutUseCase;
+import tj.radolfa.application.ports.out.ClaimDiscountUsagePort;
+import tj.radolfa.application.ports.out.LoadCartLinePort;
 import tj.radolfa.application.ports.out.LoadCartPort;
-import tj.radolfa.application.ports.out.LoadListingVariantPort;
 import tj.radolfa.application.ports.out.LoadPickpointPort;
-import tj.radolfa.application.ports.out.LoadProductBasePort;
-import tj.radolfa.application.ports.out.LoadSkuPort;
 import tj.radolfa.application.ports.out.LoadUserPort;
 import tj.radolfa.application.ports.out.SaveDiscountApplicationPort;
 import tj.radolfa.application.ports.out.SaveOrderPort;
 import tj.radolfa.application.ports.out.StockAdjustmentPort;
+import tj.radolfa.domain.exception.DiscountConflictException;
 import tj.radolfa.domain.model.AmountType;
 import tj.radolfa.domain.model.Cart;
 import tj.radolfa.domain.model.CartStatus;
@@ -21,7 +21,6 @@ import tj.radolfa.domain.model.DeliveryType;
 import tj.radolfa.domain.model.Discount;
 import tj.radolfa.domain.model.DiscountApplication;
 import tj.radolfa.domain.model.DiscountType;
-import tj.radolfa.domain.model.ListingVariant;
 import tj.radolfa.domain.model.LoyaltyProfile;
 import tj.radolfa.domain.model.Money;
 import tj.radolfa.domain.model.Order;
@@ -29,8 +28,6 @@ import tj.radolfa.domain.model.OrderItem;
 import tj.radolfa.domain.model.OrderStatus;
 import tj.radolfa.domain.model.PhoneNumber;
 import tj.radolfa.domain.model.Pickpoint;
-import tj.radolfa.domain.model.ProductBase;
-import tj.radolfa.domain.model.Sku;
 import tj.radolfa.domain.model.SkuTarget;
 import tj.radolfa.domain.model.StackingPolicy;
 import tj.radolfa.domain.model.User;
@@ -40,12 +37,12 @@ import tj.radolfa.domain.service.LoyaltyCalculator;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class CheckoutServiceStackingTest {
 
@@ -67,7 +64,6 @@ class CheckoutServiceStackingTest {
                     UserRole.USER, "Test", null, LoyaltyProfile.empty(), true, 1L));
         }
         @Override public Optional<User> loadByPhone(String p) { return Optional.empty(); }
-        @Override public List<User> findAllNonPermanent() { return List.of(); }
     };
 
     static final LoadCartPort FAKE_CART = new LoadCartPort() {
@@ -79,32 +75,9 @@ class CheckoutServiceStackingTest {
         @Override public Optional<Cart> findById(Long id) { return Optional.empty(); }
     };
 
-    static final LoadSkuPort FAKE_SKU = new LoadSkuPort() {
-        @Override public List<Sku> findAllByIds(Collection<Long> ids) {
-            return List.of(new Sku(SKU_ID, VARIANT_ID, SKU_CODE, "M", 10, new Money(ORIGINAL)));
-        }
-        @Override public Optional<Sku> findBySkuCode(String c) { return Optional.empty(); }
-        @Override public Optional<Sku> findSkuById(Long id) { return Optional.empty(); }
-        @Override public List<Sku> findSkusByVariantId(Long id) { return List.of(); }
-    };
-
-    static final LoadListingVariantPort FAKE_VARIANT = new LoadListingVariantPort() {
-        @Override public Optional<ListingVariant> findVariantById(Long id) {
-            return Optional.of(new ListingVariant(VARIANT_ID, PRODUCT_ID, "RED", "slug", null,
-                    null, null, null, null, "RD-001", true, true, null, null, null, null));
-        }
-        @Override public Optional<ListingVariant> findByProductBaseIdAndColorKey(Long p, String c) { return Optional.empty(); }
-        @Override public Optional<ListingVariant> findBySlug(String s) { return Optional.empty(); }
-        @Override public List<ListingVariant> findAllByProductBaseId(Long id) { return List.of(); }
-        @Override public Map<Long, ListingVariant> findVariantsByIds(Collection<Long> ids) { return Map.of(); }
-    };
-
-    static final LoadProductBasePort FAKE_PRODUCT = new LoadProductBasePort() {
-        @Override public Optional<ProductBase> findById(Long id) {
-            return Optional.of(new ProductBase(PRODUCT_ID, "EXT-001", "Test Product", null, null, null));
-        }
-        @Override public Optional<ProductBase> findByExternalRef(String ref) { return Optional.empty(); }
-    };
+    static final LoadCartLinePort FAKE_LINES = ids -> Map.of(SKU_ID,
+            new LoadCartLinePort.CartLine(SKU_ID, SKU_CODE, VARIANT_ID, "Test Product", "RED", "M", null,
+                    10, new Money(ORIGINAL)));
 
     static final SaveOrderPort SAVE_ORDER = order -> {
         List<OrderItem> itemsWithIds = order.items().stream()
@@ -142,14 +115,18 @@ class CheckoutServiceStackingTest {
 
     CheckoutService buildService(Map<String, List<Discount>> resolvedMap,
                                   FakeSaveDiscountApplicationPort fakeAppPort) {
+        return buildService(resolvedMap, fakeAppPort, (discount, userId) -> true);
+    }
+
+    CheckoutService buildService(Map<String, List<Discount>> resolvedMap,
+                                  FakeSaveDiscountApplicationPort fakeAppPort,
+                                  ClaimDiscountUsagePort claimPort) {
         RecordDiscountApplicationService recordService =
                 new RecordDiscountApplicationService(fakeAppPort);
         return new CheckoutService(
                 FAKE_CART,
                 cart -> cart,
-                FAKE_SKU,
-                FAKE_VARIANT,
-                FAKE_PRODUCT,
+                FAKE_LINES,
                 FAKE_USER,
                 SAVE_ORDER,
                 NO_STOCK,
@@ -157,7 +134,9 @@ class CheckoutServiceStackingTest {
                 (userId, pts) -> Money.ZERO,
                 query -> resolvedMap,
                 recordService,
-                FAKE_LOAD_PICKPOINT
+                FAKE_LOAD_PICKPOINT,
+                (placedAt, amount) -> {},
+                claimPort
         );
     }
 
@@ -206,4 +185,33 @@ class CheckoutServiceStackingTest {
 
         assertEquals(0, fakeAppPort.stored.size());
     }
+
+    @Test
+    @DisplayName("Each applied campaign claims one use, in ascending discount id order")
+    void appliedCampaigns_claimedOnceInIdOrder() {
+        Discount s1 = stackableDiscount(1L, 1, new BigDecimal("20"));
+        Discount s2 = stackableDiscount(2L, 2, new BigDecimal("10"));
+        List<Long> claimed = new ArrayList<>();
+
+        CheckoutService service = buildService(Map.of(SKU_CODE, List.of(s2, s1)),
+                new FakeSaveDiscountApplicationPort(),
+                (discount, userId) -> claimed.add(discount.id()));
+
+        service.execute(new CheckoutUseCase.Command(USER_ID, 0, null, DeliveryType.HOME, "123 Test St", null, null));
+
+        assertEquals(List.of(1L, 2L), claimed);
+    }
+
+    @Test
+    @DisplayName("Campaign whose usage cap was reached concurrently: checkout is rejected")
+    void claimRejected_checkoutFails() {
+        Discount s1 = stackableDiscount(1L, 1, new BigDecimal("20"));
+
+        CheckoutService service = buildService(Map.of(SKU_CODE, List.of(s1)),
+                new FakeSaveDiscountApplicationPort(),
+                (discount, userId) -> false);
+
+        assertThrows(DiscountConflictException.class, () -> service.execute(
+                new CheckoutUseCase.Command(USER_ID, 0, null, DeliveryType.HOME, "123 Test St", null, null)));
+    }
 }
@@ -65,7 +65,6 @@ class GetAdminOrderDetailServiceTest {
         return new LoadUserPort() {
             @Override public Optional<User> loadById(Long id) { return Optional.of(FAKE_USER); }
             @Override public Optional<User> loadByPhone(String p) { return Optional.empty(); }
-            @Override public List<User> findAllNonPermanent() { return List.of(); }
         };
     }
 
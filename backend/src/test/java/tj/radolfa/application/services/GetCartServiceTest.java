@@ -0,0 +1,89 @@
+package tj.radolfa.application.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tj.radolfa.application.ports.out.LoadCartLinePort;
+import tj.radolfa.application.ports.out.LoadCartLinePort.CartLine;
+import tj.radolfa.application.ports.out.LoadCartPort;
+import tj.radolfa.application.readmodel.CartView;
+import tj.radolfa.domain.model.Cart;
+import tj.radolfa.domain.model.CartStatus;
+import tj.radolfa.domain.model.Money;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetCartServiceTest {
+
+    @Mock LoadCartPort     loadCartPort;
+    @Mock LoadCartLinePort loadCartLinePort;
+
+    GetCartService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GetCartService(loadCartPort, loadCartLinePort);
+    }
+
+    @Test
+    @DisplayName("Every line is rendered from a single projection lookup")
+    void execute_loadsAllLinesAtOnce() {
+        Cart cart = cart();
+        cart.addItem(1L, 2, new Money(new BigDecimal("100")));
+        cart.addItem(2L, 1, new Money(new BigDecimal("50")));
+        cart.addItem(3L, 1, new Money(new BigDecimal("75")));
+        when(loadCartPort.findActiveByUserId(42L)).thenReturn(Optional.of(cart));
+        when(loadCartLinePort.findBySkuIds(any())).thenReturn(Map.of(
+                1L, line(1L, "https://cdn/products/a/detail.webp", 5),
+                2L, line(2L, null, 0),
+                3L, line(3L, "https://cdn/legacy.jpg", 1)));
+
+        CartView view = service.execute(42L);
+
+        verify(loadCartLinePort, times(1)).findBySkuIds(any());
+        assertThat(view.items()).extracting(CartView.ItemView::skuId).containsExactly(1L, 2L, 3L);
+        assertThat(view.items()).extracting(CartView.ItemView::imageUrl).containsExactly(
+                "https://cdn/products/a/thumb.webp", null, "https://cdn/legacy.jpg");
+        assertThat(view.items().get(1).inStock()).isFalse();
+        assertThat(view.itemCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("A line whose SKU no longer exists fails the render")
+    void execute_missingSku_throws() {
+        Cart cart = cart();
+        cart.addItem(9L, 1, new Money(new BigDecimal("10")));
+        when(loadCartPort.findActiveByUserId(42L)).thenReturn(Optional.of(cart));
+        when(loadCartLinePort.findBySkuIds(any())).thenReturn(Map.of());
+
+        assertThatThrownBy(() -> service.execute(42L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("SKU not found: 9");
+    }
+
+    // ── helpers ──
+
+    private static Cart cart() {
+        return new Cart(1L, 42L, CartStatus.ACTIVE, List.of(), Instant.now(), Instant.now(), null);
+    }
+
+    private static CartLine line(Long skuId, String imageUrl, int stock) {
+        return new CartLine(skuId, "SKU-" + skuId, 10L, "Shirt", "RED", "M", imageUrl,
+                stock, new Money(new BigDecimal("100")));
+    }
+}
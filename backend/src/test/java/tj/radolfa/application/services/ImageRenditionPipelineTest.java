@@ -0,0 +1,180 @@
+package tj.radolfa.application.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tj.radolfa.application.ports.out.ImageJobPort;
+import tj.radolfa.application.ports.out.ImageProcessingPort;
+import tj.radolfa.application.ports.out.ImageUploadPort;
+import tj.radolfa.application.ports.out.ProcessedImage;
+import tj.radolfa.domain.exception.ImageProcessingException;
+import tj.radolfa.domain.model.ImageRendition;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageRenditionPipelineTest {
+
+    FakeProcessor processor = new FakeProcessor();
+    FakeUploader  uploader  = new FakeUploader();
+    InlineJobs    jobs      = new InlineJobs();
+    ImageRenditionPipeline pipeline = new ImageRenditionPipeline(processor, uploader, jobs);
+
+    @Test
+    @DisplayName("Every rendition is uploaded under the key prefix and the primary URL is returned")
+    void submit_uploadsAllRenditions() throws Exception {
+        String url = pipeline.submit("products/shirt/abc", source("pixels"), "shirt.png")
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(url).isEqualTo("https://cdn.test/products/shirt/abc/detail.webp");
+        assertThat(url).isEqualTo(pipeline.primaryUrl("products/shirt/abc"));
+        assertThat(uploader.keys).containsExactlyInAnyOrder(
+                "products/shirt/abc/thumb.webp", "products/shirt/abc/card.webp",
+                "products/shirt/abc/detail.webp", "products/shirt/abc/zoom.webp");
+        assertThat(processor.decodes.get()).isEqualTo(1);
+        assertThat(jobs.uploads.get()).isEqualTo(ImageRendition.values().length);
+    }
+
+    @Test
+    @DisplayName("The source is buffered before submit returns, so the caller may close it")
+    void submit_sourceBufferedUpFront() throws Exception {
+        InputStream closedAfterReturn = source("pixels");
+        CompletableFuture<String> job = pipeline.submit("uploads/media/x", closedAfterReturn, "a.png");
+        closedAfterReturn.close();
+
+        job.get(5, TimeUnit.SECONDS);
+        assertThat(processor.lastBytes).isEqualTo("pixels");
+        assertThat(jobs.discarded.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A processing failure fails the job and uploads nothing")
+    void submit_processingFailure() {
+        processor.fail = true;
+
+        CompletableFuture<String> job = pipeline.submit("products/shirt/abc", source("bad"), "bad.png");
+
+        assertThatThrownBy(() -> job.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ImageProcessingException.class);
+        assertThat(uploader.keys).isEmpty();
+        assertThat(jobs.discarded.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("process() waits and rethrows the original exception")
+    void process_unwrapsFailure() {
+        processor.fail = true;
+
+        assertThatThrownBy(() -> pipeline.process("uploads/media/x", source("bad"), "bad.png"))
+                .isInstanceOf(ImageProcessingException.class);
+    }
+
+    // ── helpers ──
+
+    private static InputStream source(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static class FakeProcessor implements ImageProcessingPort {
+        final AtomicInteger decodes = new AtomicInteger();
+        volatile boolean fail;
+        volatile String lastBytes;
+
+        @Override
+        public Map<ImageRendition, ProcessedImage> renditions(InputStream source, String originalFilename) {
+            if (fail) throw new ImageProcessingException("corrupt: " + originalFilename, new IOException());
+            decodes.incrementAndGet();
+            try {
+                lastBytes = new String(source.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Map<ImageRendition, ProcessedImage> out = new EnumMap<>(ImageRendition.class);
+            for (ImageRendition r : ImageRendition.values()) {
+                out.put(r, new ProcessedImage(new ByteArrayInputStream(new byte[r.maxSize()]), r.maxSize(),
+                        "image/webp", "webp"));
+            }
+            return out;
+        }
+
+        @Override
+        public String extension() {
+            return "webp";
+        }
+    }
+
+    static class FakeUploader implements ImageUploadPort {
+        final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public String upload(InputStream imageStream, long contentLength, String objectKey, String contentType) {
+            keys.add(objectKey);
+            return publicUrl(objectKey);
+        }
+
+        @Override
+        public String publicUrl(String objectKey) {
+            return "https://cdn.test/" + objectKey;
+        }
+    }
+
+    /** Spools into memory and runs every job on the calling thread. */
+    static class InlineJobs implements ImageJobPort {
+        final AtomicInteger uploads   = new AtomicInteger();
+        final AtomicInteger discarded = new AtomicInteger();
+
+        @Override
+        public SpooledImage spool(InputStream source, String originalFilename) {
+            byte[] bytes;
+            try (source) {
+                bytes = source.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new SpooledImage() {
+                @Override
+                public InputStream open() {
+                    return new ByteArrayInputStream(bytes);
+                }
+
+                @Override
+                public void close() {
+                    discarded.incrementAndGet();
+                }
+            };
+        }
+
+        @Override
+        public <T> CompletableFuture<T> render(Supplier<T> job) {
+            try {
+                return CompletableFuture.completedFuture(job.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        @Override
+        public CompletableFuture<Void> upload(Runnable job) {
+            uploads.incrementAndGet();
+            return render(() -> {
+                job.run();
+                return null;
+            });
+        }
+    }
+}
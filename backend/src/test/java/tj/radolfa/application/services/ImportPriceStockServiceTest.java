@@ -0,0 +1,171 @@
+package tj.radolfa.application.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tj.radolfa.application.ports.in.product.ImportPriceStockUseCase.Result;
+import tj.radolfa.application.ports.in.product.ImportPriceStockUseCase.Row;
+import tj.radolfa.application.ports.out.BulkPriceStockPort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportPriceStockServiceTest {
+
+    private FakeBulkPort          bulkPort;
+    private List<Collection<Long>> variantEvents;
+    private ImportPriceStockService service;
+
+    @BeforeEach
+    void setUp() {
+        bulkPort      = new FakeBulkPort();
+        variantEvents = new ArrayList<>();
+        service       = new ImportPriceStockService(bulkPort, ids -> variantEvents.add(List.copyOf(ids)));
+
+        bulkPort.add(1L, "A-S", 100L, "10.00", 5);
+        bulkPort.add(2L, "A-M", 100L, "10.00", 5);
+        bulkPort.add(3L, "B-S", 200L, "20.00", 0);
+    }
+
+    @Test
+    @DisplayName("Only rows that differ from stored values are written")
+    void unchangedRows_notWritten() {
+        Result result = service.execute(List.of(
+                Row.of(1, "A-S", new BigDecimal("10"), 5),      // same price at another scale
+                Row.of(2, "A-M", new BigDecimal("12.00"), null), // price only
+                Row.of(3, "B-S", null, 0)).iterator());          // same stock
+
+        assertEquals(1, result.updated());
+        assertEquals(2, result.unchanged());
+        assertEquals(1, bulkPort.applied.size());
+        assertEquals(new BulkPriceStockPort.Change(2L, new BigDecimal("12.00"), 5, 0L), bulkPort.applied.get(0).get(0));
+    }
+
+    @Test
+    @DisplayName("A variant with several changed SKUs is reported once")
+    void variantEvent_coalesced() {
+        Result result = service.execute(List.of(
+                Row.of(1, "A-S", null, 1),
+                Row.of(2, "A-M", null, 2),
+                Row.of(3, "B-S", null, 3)).iterator());
+
+        assertEquals(2, result.variantsChanged());
+        assertEquals(List.of(List.of(100L, 200L)), variantEvents);
+    }
+
+    @Test
+    @DisplayName("No changes — nothing written and no variant event")
+    void nothingChanged_noEvent() {
+        service.execute(List.of(Row.of(1, "A-S", new BigDecimal("10.00"), 5)).iterator());
+
+        assertTrue(bulkPort.applied.isEmpty());
+        assertTrue(variantEvents.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Unknown SKUs and invalid rows are counted, not applied")
+    void unknownAndInvalid_counted() {
+        Result result = service.execute(List.of(
+                Row.of(1, "NOPE", BigDecimal.ONE, 1),
+                Row.of(2, "A-S", new BigDecimal("-1"), null),
+                Row.of(3, "A-S", null, null),
+                Row.malformed(4, "not a number: x")).iterator());
+
+        assertEquals(4, result.rows());
+        assertEquals(1, result.unknown());
+        assertEquals(3, result.rejected());
+        assertEquals(List.of("line 2: price must be ≥ 0", "line 3: price or stock is required", "line 4: not a number: x"),
+                result.errors());
+        assertTrue(bulkPort.applied.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A SKU listed twice takes its last row")
+    void duplicateSku_lastWins() {
+        service.execute(List.of(
+                Row.of(1, "A-S", null, 7),
+                Row.of(2, "A-S", null, 8)).iterator());
+
+        assertEquals(List.of(new BulkPriceStockPort.Change(1L, new BigDecimal("10.00"), 8, 0L)), bulkPort.applied.get(0));
+    }
+
+    @Test
+    @DisplayName("Large feeds are diffed and written batch by batch")
+    void largeFeed_batched() {
+        int n = ImportPriceStockService.BATCH_SIZE * 2 + 1;
+        IntStream.range(0, n).forEach(i -> bulkPort.add(1000L + i, "X-" + i, 9L, "1.00", 0));
+
+        Result result = service.execute(IntStream.range(0, n)
+                .mapToObj(i -> Row.of(i + 1, "X-" + i, null, 1))
+                .iterator());
+
+        assertEquals(n, result.updated());
+        assertEquals(3, bulkPort.lookups);
+        assertEquals(3, bulkPort.applied.size());
+        assertEquals(List.of(List.of(9L)), variantEvents);
+    }
+
+    @Test
+    @DisplayName("A SKU edited since it was read is reported as a conflict, not counted as updated")
+    void versionMoved_reportedAsConflict() {
+        bulkPort.conflicts.add(2L);
+
+        Result result = service.execute(List.of(
+                Row.of(1, "A-S", null, 1),
+                Row.of(2, "A-M", null, 2),
+                Row.of(3, "B-S", null, 3)).iterator());
+
+        assertEquals(2, result.updated());
+        assertEquals(1, result.conflicts());
+        assertEquals(List.of("line 2: SKU was edited during the import, skipped"), result.errors());
+        assertEquals(List.of(List.of(100L, 200L)), variantEvents);
+    }
+
+    @Test
+    @DisplayName("A variant whose only changed SKU conflicted is not reported")
+    void allConflicted_noVariantEvent() {
+        bulkPort.conflicts.add(3L);
+
+        Result result = service.execute(List.of(Row.of(1, "B-S", null, 3)).iterator());
+
+        assertEquals(0, result.updated());
+        assertEquals(1, result.conflicts());
+        assertTrue(variantEvents.isEmpty());
+    }
+
+    // ── helpers ──
+
+    static class FakeBulkPort implements BulkPriceStockPort {
+
+        final Map<String, CurrentSku> skus    = new LinkedHashMap<>();
+        final List<List<Change>>      applied = new ArrayList<>();
+        final Set<Long>               conflicts = new HashSet<>();
+        int lookups;
+
+        void add(Long id, String code, Long variantId, String price, int stock) {
+            skus.put(code, new CurrentSku(id, code, variantId, new BigDecimal(price), stock, 0L));
+        }
+
+        @Override
+        public List<CurrentSku> findBySkuCodes(Collection<String> skuCodes) {
+            lookups++;
+            return skuCodes.stream().map(skus::get).filter(java.util.Objects::nonNull).toList();
+        }
+
+        @Override
+        public Set<Long> apply(List<Change> changes) {
+            applied.add(List.copyOf(changes));
+            return changes.stream().map(Change::skuId).filter(conflicts::contains).collect(Collectors.toSet());
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import tj.radolfa.application.ports.out.DiscountedProductFilter;
 import tj.radolfa.application.ports.out.ListDiscountedProductsPort;
 import tj.radolfa.domain.model.AmountType;
@@ -16,6 +17,7 @@ import tj.radolfa.domain.model.DiscountedProductRow;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -75,5 +77,11 @@ class ListDiscountedProductsServiceTest {
             capturedPageable = pageable;
             return page;
         }
+
+        @Override
+        public void streamDiscountedProducts(DiscountedProductFilter filter, Sort sort,
+                                             Consumer<DiscountedProductRow> sink) {
+            page.forEach(sink);
+        }
     }
 }
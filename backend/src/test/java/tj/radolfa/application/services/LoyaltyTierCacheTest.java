@@ -0,0 +1,127 @@
+package tj.radolfa.application.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tj.radolfa.application.ports.out.CacheInvalidationPort;
+import tj.radolfa.application.ports.out.CacheInvalidationPort.EntityType;
+import tj.radolfa.application.ports.out.CacheInvalidationPort.Invalidation;
+import tj.radolfa.application.ports.out.LoadLoyaltyTierPort;
+import tj.radolfa.application.ports.out.LoadUserTierPort;
+import tj.radolfa.domain.model.LoyaltyTier;
+import tj.radolfa.testsupport.MutableClock;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoyaltyTierCacheTest {
+
+    @Mock LoadLoyaltyTierPort loadLoyaltyTierPort;
+    @Mock LoadUserTierPort    loadUserTierPort;
+    @Mock CacheInvalidationPort cacheInvalidationPort;
+
+    MutableClock     clock;
+    LoyaltyTierCache cache;
+
+    LoyaltyTier gold;
+    LoyaltyTier platinum;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-10-01T12:00:00Z"));
+        cache = new LoyaltyTierCache(loadLoyaltyTierPort, loadUserTierPort, cacheInvalidationPort, clock);
+
+        gold     = new LoyaltyTier(1L, "Gold",     new BigDecimal("5"),  new BigDecimal("5"),   new BigDecimal("10000"), 1, "#FFD700");
+        platinum = new LoyaltyTier(2L, "Platinum", new BigDecimal("15"), new BigDecimal("7.5"), new BigDecimal("50000"), 2, "#E5E4E2");
+        lenient().when(loadLoyaltyTierPort.findAll()).thenReturn(List.of(gold, platinum));
+        lenient().when(loadUserTierPort.findTierId(42L)).thenReturn(Optional.of(1L));
+    }
+
+    @Test
+    @DisplayName("Repeated lookups load the tier table and the user's tier once")
+    void repeatedLookups_loadOnce() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.tierOf(42L)).contains(gold);
+        }
+
+        verify(loadLoyaltyTierPort, times(1)).findAll();
+        verify(loadUserTierPort, times(1)).findTierId(42L);
+    }
+
+    @Test
+    @DisplayName("A user without a tier is cached as such")
+    void noTier_cachedAsEmpty() {
+        when(loadUserTierPort.findTierId(7L)).thenReturn(Optional.empty());
+
+        assertThat(cache.tierOf(7L)).isEmpty();
+        assertThat(cache.tierOf(7L)).isEmpty();
+
+        verify(loadUserTierPort, times(1)).findTierId(7L);
+    }
+
+    @Test
+    @DisplayName("User invalidation picks up a reassigned tier")
+    void invalidateUser_reloadsTierId() {
+        cache.tierOf(42L);
+        when(loadUserTierPort.findTierId(42L)).thenReturn(Optional.of(2L));
+
+        cache.invalidateUser(42L);
+
+        assertThat(cache.tierOf(42L)).contains(platinum);
+        verify(loadLoyaltyTierPort, times(1)).findAll();
+        verify(cacheInvalidationPort).publish(EntityType.USER, List.of(42L));
+    }
+
+    @Test
+    @DisplayName("Invalidation from another instance evicts the user without publishing again")
+    void remoteInvalidation_evictsLocally() {
+        cache.tierOf(42L);
+        when(loadUserTierPort.findTierId(42L)).thenReturn(Optional.of(2L));
+
+        cache.evict(new Invalidation(EntityType.USER, Set.of(42L)));
+
+        assertThat(cache.tierOf(42L)).contains(platinum);
+        verify(cacheInvalidationPort, never()).publish(any(), any());
+    }
+
+    @Test
+    @DisplayName("Tier invalidation reloads the tier table but keeps user entries")
+    void invalidateTiers_reloadsTable() {
+        cache.tierOf(42L);
+        LoyaltyTier richerGold = new LoyaltyTier(1L, "Gold", new BigDecimal("8"), new BigDecimal("5"),
+                new BigDecimal("10000"), 1, "#FFD700");
+        when(loadLoyaltyTierPort.findAll()).thenReturn(List.of(richerGold, platinum));
+
+        cache.invalidateTiers();
+
+        assertThat(cache.tierOf(42L).map(LoyaltyTier::discountPercentage)).contains(new BigDecimal("8"));
+        verify(loadUserTierPort, times(1)).findTierId(42L);
+    }
+
+    @Test
+    @DisplayName("Entries expire after the TTL")
+    void ttl_expires() {
+        cache.tierOf(42L);
+
+        clock.advance(LoyaltyTierCache.TTL.plusSeconds(1));
+        cache.tierOf(42L);
+
+        verify(loadUserTierPort, times(2)).findTierId(42L);
+        verify(loadLoyaltyTierPort, times(2)).findAll();
+    }
+}
@@ -6,7 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import tj.radolfa.application.ports.in.loyalty.AwardReviewBonusUseCase;
-import tj.radolfa.application.ports.in.review.RecalculateRatingSummaryUseCase;
+import tj.radolfa.application.ports.in.review.RecordRatingChangeUseCase;
 import tj.radolfa.application.ports.out.LoadReviewPort;
 import tj.radolfa.application.ports.out.NotificationPort;
 import tj.radolfa.application.ports.out.ReviewFilter;
@@ -14,6 +14,7 @@ import tj.radolfa.application.ports.out.SaveReviewPort;
 import tj.radolfa.domain.exception.ResourceNotFoundException;
 import tj.radolfa.domain.model.MatchingSize;
 import tj.radolfa.domain.model.OrderStatus;
+import tj.radolfa.domain.model.RatingTotals;
 import tj.radolfa.domain.model.Review;
 import tj.radolfa.domain.model.ReviewStatus;
 
@@ -28,7 +29,7 @@ class ModerateReviewServiceTest {
 
     private FakeLoadReviewPort     fakeLoad;
     private FakeSaveReviewPort     fakeSave;
-    private FakeRecalcUseCase      fakeRecalc;
+    private FakeRatingChange       fakeRating;
     private FakeAwardBonus         fakeAward;
     private FakeNotificationPort   fakeNotify;
     private ModerateReviewService  service;
@@ -37,10 +38,10 @@ class ModerateReviewServiceTest {
     void setUp() {
         fakeLoad   = new FakeLoadReviewPort();
         fakeSave   = new FakeSaveReviewPort();
-        fakeRecalc = new FakeRecalcUseCase();
+        fakeRating = new FakeRatingChange();
         fakeAward  = new FakeAwardBonus();
         fakeNotify = new FakeNotificationPort();
-        service    = new ModerateReviewService(fakeLoad, fakeSave, fakeRecalc, fakeAward, fakeNotify);
+        service    = new ModerateReviewService(fakeLoad, fakeSave, fakeRating, fakeAward, fakeNotify);
     }
 
     // =========================================================
@@ -56,7 +57,9 @@ class ModerateReviewServiceTest {
 
         assertEquals(ReviewStatus.APPROVED, fakeSave.saved.getStatus());
         assertNotNull(fakeSave.saved.getPointsAwardedAt());
-        assertTrue(fakeRecalc.executed);
+        assertEquals(1, fakeRating.recorded.size());
+        assertEquals(1, fakeRating.recorded.get(0).reviewCount());
+        assertEquals(5, fakeRating.recorded.get(0).ratingSum());
         assertEquals(1, fakeAward.calls);
         assertEquals(1, fakeNotify.approvedNotifications.size());
         assertEquals(0, fakeNotify.replyNotifications.size());
@@ -70,7 +73,7 @@ class ModerateReviewServiceTest {
         service.approve(1L);
 
         assertNull(fakeSave.saved);
-        assertFalse(fakeRecalc.executed);
+        assertTrue(fakeRating.recorded.isEmpty());
         assertEquals(0, fakeAward.calls);
         assertEquals(0, fakeNotify.approvedNotifications.size());
     }
@@ -85,6 +88,22 @@ class ModerateReviewServiceTest {
         assertEquals(ReviewStatus.REJECTED, fakeSave.saved.getStatus());
         assertEquals(0, fakeAward.calls);
         assertEquals(0, fakeNotify.approvedNotifications.size());
+        assertTrue(fakeRating.recorded.isEmpty(), "Pending review never counted — nothing to remove");
+    }
+
+    @Test
+    @DisplayName("reject on an APPROVED review records a negative rating delta")
+    void reject_approvedReview_removesContribution() {
+        fakeLoad.review = approvedReview(1L);
+
+        service.reject(1L);
+
+        assertEquals(1, fakeRating.recorded.size());
+        RatingTotals delta = fakeRating.recorded.get(0);
+        assertEquals(-1, delta.reviewCount());
+        assertEquals(-5, delta.ratingSum());
+        assertEquals(-1, delta.count5());
+        assertEquals(-1, delta.sizeAccurate());
     }
 
     @Test
@@ -144,11 +163,11 @@ class ModerateReviewServiceTest {
         }
     }
 
-    static class FakeRecalcUseCase implements RecalculateRatingSummaryUseCase {
-        boolean executed;
+    static class FakeRatingChange implements RecordRatingChangeUseCase {
+        List<RatingTotals> recorded = new ArrayList<>();
 
         @Override
-        public void execute(Long variantId) { executed = true; }
+        public void record(Long listingVariantId, RatingTotals delta) { recorded.add(delta); }
     }
 
     static class FakeAwardBonus implements AwardReviewBonusUseCase {
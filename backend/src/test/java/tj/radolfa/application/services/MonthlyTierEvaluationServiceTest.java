@@ -8,9 +8,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tj.radolfa.application.ports.out.LoadLoyaltyTierPort;
-import tj.radolfa.application.ports.out.LoadMonthlySpendingPort;
 import tj.radolfa.application.ports.out.LoadUserPort;
 import tj.radolfa.application.ports.out.SaveUserPort;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+import tj.radolfa.application.ports.out.TierEvaluationBatchPort;
 import tj.radolfa.domain.model.LoyaltyProfile;
 import tj.radolfa.domain.model.LoyaltyTier;
 import tj.radolfa.domain.model.PhoneNumber;
@@ -19,12 +20,22 @@ import tj.radolfa.domain.model.UserRole;
 import tj.radolfa.domain.service.LoyaltyCalculator;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -33,11 +44,15 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class MonthlyTierEvaluationServiceTest {
 
-    @Mock LoadUserPort            loadUserPort;
-    @Mock SaveUserPort            saveUserPort;
-    @Mock LoadLoyaltyTierPort     loadLoyaltyTierPort;
-    @Mock LoadMonthlySpendingPort loadMonthlySpendingPort;
+    static final YearMonth PERIOD = YearMonth.of(2026, 9);
 
+    @Mock LoadUserPort        loadUserPort;
+    @Mock SaveUserPort        saveUserPort;
+    @Mock LoadLoyaltyTierPort loadLoyaltyTierPort;
+    @Mock LoyaltyTierCache    loyaltyTierCache;
+
+    FakeBatchPort batchPort;
+    FakeLocks     locks = new FakeLocks();
     MonthlyTierEvaluationService service;
     LoyaltyCalculator calculator = new LoyaltyCalculator();
 
@@ -46,55 +61,62 @@ class MonthlyTierEvaluationServiceTest {
 
     @BeforeEach
     void setUp() {
+        batchPort = new FakeBatchPort();
         service = new MonthlyTierEvaluationService(
-                loadUserPort, loadLoyaltyTierPort,
-                new UserTierEvaluatorService(saveUserPort, loadMonthlySpendingPort, calculator));
+                loadLoyaltyTierPort, batchPort,
+                new UserTierEvaluatorService(loadUserPort, saveUserPort, batchPort, calculator),
+                loyaltyTierCache, locks, 2, 2, 1);
 
         gold     = new LoyaltyTier(1L, "Gold",     new BigDecimal("5"),  new BigDecimal("5"),  new BigDecimal("10000"), 1, "#FFD700");
         platinum = new LoyaltyTier(2L, "Platinum", new BigDecimal("15"), new BigDecimal("7.5"), new BigDecimal("50000"), 2, "#E5E4E2");
+        lenient().when(loadLoyaltyTierPort.findAll()).thenReturn(List.of(gold, platinum));
+        lenient().when(saveUserPort.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        lenient().when(loadUserPort.loadById(anyLong())).thenAnswer(inv ->
+                Optional.ofNullable(batchPort.users.get(inv.<Long>getArgument(0))).map(c -> c.user()));
     }
 
     @Test
-    @DisplayName("Permanent users are skipped — findAllNonPermanent only returns non-permanent users")
-    void evaluatePreviousMonth_permanentUsersAreSkipped() {
-        // permanent=true user is excluded at the query level (findAllNonPermanent)
-        // findAllNonPermanent returns only non-permanent users
-        when(loadLoyaltyTierPort.findAll()).thenReturn(List.of(gold, platinum));
-        when(loadUserPort.findAllNonPermanent()).thenReturn(List.of()); // none returned = permanent was filtered
-
-        service.evaluatePreviousMonth();
+    @DisplayName("No non-permanent users — run completes without saving anyone")
+    void evaluate_noUsers_completes() {
+        boolean done = service.evaluate(PERIOD);
 
+        assertThat(done).isTrue();
+        assertThat(batchPort.status).isEqualTo(TierEvaluationBatchPort.RunStatus.COMPLETED);
         verify(saveUserPort, never()).save(any());
     }
 
     @Test
-    @DisplayName("Non-permanent user is evaluated and saved with updated tier")
-    void evaluatePreviousMonth_evaluatesAndSavesUser() {
-        User user = makeUser(42L, gold, false, gold);
-        when(loadLoyaltyTierPort.findAll()).thenReturn(List.of(gold, platinum));
-        when(loadUserPort.findAllNonPermanent()).thenReturn(List.of(user));
-        when(loadMonthlySpendingPort.calculateNetSpending(eq(42L), any(Instant.class), any(Instant.class)))
-                .thenReturn(new BigDecimal("55000")); // qualifies for Platinum
-        when(saveUserPort.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    @DisplayName("Non-permanent user is evaluated against staged spending and saved with updated tier")
+    void evaluate_evaluatesAndSavesUser() {
+        batchPort.addUser(makeUser(42L, gold, gold), "55000"); // qualifies for Platinum
 
-        service.evaluatePreviousMonth();
+        service.evaluate(PERIOD);
 
         ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
         verify(saveUserPort, times(1)).save(saved.capture());
         assertThat(saved.getValue().loyalty().tier()).isEqualTo(platinum);
+        assertThat(batchPort.progress.promoted()).isEqualTo(1);
+        verify(loyaltyTierCache).invalidateUsers(List.of(42L));
+    }
+
+    @Test
+    @DisplayName("Run is created once for the month with its [first day, next month) window")
+    void evaluate_createsRunForCalendarMonth() {
+        batchPort.addUser(makeUser(1L, gold, gold), "100");
+
+        service.evaluate(PERIOD);
+
+        assertThat(batchPort.createdRuns).isEqualTo(1);
+        assertThat(batchPort.from).isEqualTo(Instant.parse("2026-09-01T00:00:00Z"));
+        assertThat(batchPort.to).isEqualTo(Instant.parse("2026-10-01T00:00:00Z"));
     }
 
     @Test
     @DisplayName("currentMonthSpending is reset to zero after evaluation")
-    void evaluatePreviousMonth_resetsMonthlySpending() {
-        User user = makeUser(1L, platinum, false, gold);
-        when(loadLoyaltyTierPort.findAll()).thenReturn(List.of(gold, platinum));
-        when(loadUserPort.findAllNonPermanent()).thenReturn(List.of(user));
-        when(loadMonthlySpendingPort.calculateNetSpending(eq(1L), any(), any()))
-                .thenReturn(new BigDecimal("60000"));
-        when(saveUserPort.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    void evaluate_resetsMonthlySpending() {
+        batchPort.addUser(makeUser(1L, platinum, gold), "60000");
 
-        service.evaluatePreviousMonth();
+        service.evaluate(PERIOD);
 
         ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
         verify(saveUserPort).save(saved.capture());
@@ -103,15 +125,10 @@ class MonthlyTierEvaluationServiceTest {
 
     @Test
     @DisplayName("User with Platinum and low spending is demoted but not below floor (Gold)")
-    void evaluatePreviousMonth_demotedButNotBelowFloor() {
-        User user = makeUser(5L, platinum, false, gold);
-        when(loadLoyaltyTierPort.findAll()).thenReturn(List.of(gold, platinum));
-        when(loadUserPort.findAllNonPermanent()).thenReturn(List.of(user));
-        when(loadMonthlySpendingPort.calculateNetSpending(eq(5L), any(), any()))
-                .thenReturn(new BigDecimal("100")); // below Gold threshold
-        when(saveUserPort.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    void evaluate_demotedButNotBelowFloor() {
+        batchPort.addUser(makeUser(5L, platinum, gold), "100"); // below Gold threshold
 
-        service.evaluatePreviousMonth();
+        service.evaluate(PERIOD);
 
         ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
         verify(saveUserPort).save(saved.capture());
@@ -120,29 +137,193 @@ class MonthlyTierEvaluationServiceTest {
     }
 
     @Test
-    @DisplayName("Exception during user evaluation is caught and processing continues for other users")
-    void evaluatePreviousMonth_errorOnOneUser_continuesForOthers() {
-        User bad  = makeUser(1L, gold, false, gold);
-        User good = makeUser(2L, gold, false, gold);
-
-        when(loadLoyaltyTierPort.findAll()).thenReturn(List.of(gold, platinum));
-        when(loadUserPort.findAllNonPermanent()).thenReturn(List.of(bad, good));
-        when(loadMonthlySpendingPort.calculateNetSpending(eq(1L), any(), any()))
-                .thenThrow(new RuntimeException("DB error"));
-        when(loadMonthlySpendingPort.calculateNetSpending(eq(2L), any(), any()))
-                .thenReturn(new BigDecimal("15000"));
-        when(saveUserPort.save(any())).thenAnswer(inv -> inv.getArgument(0));
-
-        service.evaluatePreviousMonth(); // should not throw
-
-        verify(saveUserPort, times(1)).save(any()); // only good user saved
+    @DisplayName("Every partition is worked chunk by chunk and its checkpoint advanced")
+    void evaluate_checkpointsEachChunk() {
+        for (long id = 1; id <= 5; id++) {
+            batchPort.addUser(makeUser(id, gold, gold), "15000");
+        }
+
+        service.evaluate(PERIOD);
+
+        verify(saveUserPort, times(5)).save(any());
+        assertThat(batchPort.checkpoints).hasSize(5); // chunk size 1
+        assertThat(batchPort.partitions.values()).allMatch(TierEvaluationBatchPort.Partition::completed);
+        assertThat(batchPort.progress.unchanged()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("A completed month is not evaluated again")
+    void evaluate_completedMonth_isSkipped() {
+        batchPort.addUser(makeUser(1L, gold, gold), "55000");
+        batchPort.status = TierEvaluationBatchPort.RunStatus.COMPLETED;
+
+        boolean done = service.evaluate(PERIOD);
+
+        assertThat(done).isTrue();
+        assertThat(batchPort.createdRuns).isZero();
+        verify(saveUserPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("An interrupted run resumes after each partition's checkpoint")
+    void evaluate_resumesFromCheckpoint() {
+        batchPort.addUser(makeUser(1L, gold, gold), "15000");
+        batchPort.addUser(makeUser(2L, gold, gold), "15000");
+        batchPort.addUser(makeUser(3L, gold, gold), "15000");
+        batchPort.status = TierEvaluationBatchPort.RunStatus.RUNNING;
+        batchPort.partitions.put(0, new TierEvaluationBatchPort.Partition(0, 2, 3, false)); // users 1–2 done
+
+        service.evaluate(PERIOD);
+
+        assertThat(batchPort.createdRuns).isZero();
+        verify(saveUserPort, times(1)).save(argThat(u -> u.id() == 3L));
+        assertThat(batchPort.status).isEqualTo(TierEvaluationBatchPort.RunStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("A failing user is retried alone, counted as failed, and the rest of the chunk still applies")
+    void evaluate_failingUser_doesNotBlockOthers() {
+        service = new MonthlyTierEvaluationService(
+                loadLoyaltyTierPort, batchPort,
+                new UserTierEvaluatorService(loadUserPort, saveUserPort, batchPort, calculator),
+                loyaltyTierCache, locks, 1, 1, 10);
+        batchPort.addUser(makeUser(1L, gold, gold), "15000");
+        batchPort.addUser(makeUser(2L, gold, gold), "15000");
+        when(saveUserPort.save(argThat(u -> u != null && u.id() == 1L))).thenThrow(new RuntimeException("DB error"));
+
+        boolean done = service.evaluate(PERIOD); // should not throw
+
+        assertThat(done).isTrue();
+        verify(saveUserPort, times(1)).save(argThat(u -> u.id() == 2L && u.loyalty() != null));
+        assertThat(batchPort.progress.failed()).isEqualTo(1);
+        assertThat(batchPort.progress.unchanged()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A user saved concurrently is re-read before the retry, so they are evaluated, not skipped")
+    void evaluate_staleUserInChunk_retriedWithFreshCopy() {
+        service = new MonthlyTierEvaluationService(
+                loadLoyaltyTierPort, batchPort,
+                new UserTierEvaluatorService(loadUserPort, saveUserPort, batchPort, calculator),
+                loyaltyTierCache, locks, 1, 1, 10);
+        batchPort.addUser(makeUser(1L, gold, gold), "55000");
+        batchPort.addUser(makeUser(2L, gold, gold), "15000");
+        // A checkout bumped user 1 after the chunk was read
+        User fresh = makeUser(1L, gold, gold);
+        fresh = new User(1L, fresh.phone(), fresh.role(), fresh.name(), null, fresh.loyalty(), true, 1L);
+        when(loadUserPort.loadById(1L)).thenReturn(Optional.of(fresh));
+        when(saveUserPort.save(argThat(u -> u != null && u.id() == 1L && u.version() == 0L)))
+                .thenThrow(new RuntimeException("optimistic lock"));
+
+        boolean done = service.evaluate(PERIOD);
+
+        assertThat(done).isTrue();
+        verify(saveUserPort).save(argThat(u -> u.id() == 1L && u.version() == 1L
+                && platinum.equals(u.loyalty().tier())));
+        assertThat(batchPort.progress.failed()).isZero();
+        assertThat(batchPort.progress.promoted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Partition leased by another instance — skipped, run stays open for that instance to finish")
+    void evaluate_partitionHeldElsewhere_leavesRunOpen() {
+        batchPort.addUser(makeUser(1L, gold, gold), "15000");
+        batchPort.addUser(makeUser(2L, gold, gold), "15000");
+        locks.heldElsewhere.add("tier-evaluation:" + PERIOD + ":1");
+
+        boolean done = service.evaluate(PERIOD);
+
+        assertThat(done).isFalse();
+        assertThat(batchPort.status).isEqualTo(TierEvaluationBatchPort.RunStatus.RUNNING);
+        verify(saveUserPort, times(1)).save(any());
     }
 
     // ── helpers ──
 
-    private User makeUser(Long id, LoyaltyTier tier, boolean permanent, LoyaltyTier floor) {
+    private User makeUser(Long id, LoyaltyTier tier, LoyaltyTier floor) {
         LoyaltyProfile profile = new LoyaltyProfile(
-                tier, 0, null, null, new BigDecimal("5000"), permanent, floor);
+                tier, 0, null, null, new BigDecimal("5000"), false, floor);
         return new User(id, PhoneNumber.of("+79001234567"), UserRole.USER, "Test", null, profile, true, 0L);
     }
+
+    /** In-memory run state; partitions split users into contiguous id ranges like the real adapter. */
+    static class FakeBatchPort implements TierEvaluationBatchPort {
+
+        final TreeMap<Long, Candidate>    users      = new TreeMap<>();
+        final Map<Integer, Partition>     partitions = new ConcurrentHashMap<>();
+        final List<Long>                  checkpoints = new ArrayList<>();
+        volatile RunStatus status;
+        volatile Progress  progress = Progress.NONE;
+        int createdRuns;
+        Instant from, to;
+
+        void addUser(User user, String spending) {
+            users.put(user.id(), new Candidate(user, new BigDecimal(spending)));
+        }
+
+        @Override
+        public Optional<RunStatus> findRunStatus(YearMonth period) {
+            return Optional.ofNullable(status);
+        }
+
+        @Override
+        public void createRun(YearMonth period, Instant from, Instant to, int count) {
+            createdRuns++;
+            this.from = from;
+            this.to   = to;
+            status = RunStatus.RUNNING;
+            List<Long> ids = new ArrayList<>(users.keySet());
+            int size = Math.max(1, (ids.size() + count - 1) / count);
+            for (int i = 0; i * size < ids.size(); i++) {
+                List<Long> range = ids.subList(i * size, Math.min(ids.size(), (i + 1) * size));
+                partitions.put(i, new Partition(i, range.get(0) - 1, range.get(range.size() - 1), false));
+            }
+        }
+
+        @Override
+        public List<Partition> findPartitions(YearMonth period) {
+            return new ArrayList<>(partitions.values());
+        }
+
+        @Override
+        public List<Candidate> loadChunk(YearMonth period, Partition partition, long afterUserId, int limit) {
+            return users.subMap(afterUserId, false, partition.toUserId(), true).values().stream()
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public synchronized void checkpoint(YearMonth period, int partition, long lastUserId, Progress chunk) {
+            checkpoints.add(lastUserId);
+            progress = progress.plus(chunk);
+            partitions.computeIfPresent(partition, (k, p) ->
+                    new Partition(k, Math.max(p.lastUserId(), lastUserId), p.toUserId(), false));
+        }
+
+        @Override
+        public void completePartition(YearMonth period, int partition) {
+            partitions.computeIfPresent(partition, (k, p) ->
+                    new Partition(k, p.lastUserId(), p.toUserId(), true));
+        }
+
+        @Override
+        public void completeRun(YearMonth period) {
+            status = RunStatus.COMPLETED;
+        }
+    }
+
+    /** Leases granted locally unless the name is marked as held by another instance. */
+    static class FakeLocks implements SchedulerLockPort {
+
+        final Set<String> heldElsewhere = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Optional<Lease> tryAcquire(String name, Duration ttl) {
+            if (heldElsewhere.contains(name)) return Optional.empty();
+            return Optional.of(new Lease() {
+                @Override public boolean isHeld() { return true; }
+                @Override public void close() {}
+            });
+        }
+    }
 }
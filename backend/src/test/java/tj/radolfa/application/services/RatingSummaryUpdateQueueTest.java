@@ -0,0 +1,110 @@
+package tj.radolfa.application.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tj.radolfa.application.ports.in.review.RecalculateRatingSummaryUseCase;
+import tj.radolfa.domain.model.RatingTotals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingSummaryUpdateQueueTest {
+
+    private FakeRecalc               fakeRecalc;
+    private RatingSummaryUpdateQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        fakeRecalc = new FakeRecalc();
+        queue      = new RatingSummaryUpdateQueue(fakeRecalc);
+    }
+
+    @Test
+    @DisplayName("A burst of changes to one variant is written once as a single merged delta")
+    void flush_coalescesPerVariant() {
+        queue.record(1L, totals(5));
+        queue.record(1L, totals(4));
+        queue.record(1L, totals(3));
+        queue.record(2L, totals(1));
+
+        assertEquals(2, queue.flush());
+
+        assertEquals(2, fakeRecalc.applied.size());
+        Applied first = fakeRecalc.applied.stream().filter(a -> a.variantId == 1L).findFirst().orElseThrow();
+        assertEquals(3, first.delta.reviewCount());
+        assertEquals(12, first.delta.ratingSum());
+        assertTrue(queue.pendingVariantIds().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Changes that cancel out are not written at all")
+    void flush_cancellingChanges_skipped() {
+        queue.record(1L, totals(5));
+        queue.record(1L, totals(5).negate());
+
+        assertEquals(0, queue.flush());
+        assertTrue(fakeRecalc.applied.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A failed write is kept and retried on the next flush")
+    void flush_failure_requeues() {
+        queue.record(1L, totals(5));
+        fakeRecalc.fail = true;
+
+        assertEquals(0, queue.flush());
+        assertEquals(List.of(1L), queue.pendingVariantIds());
+
+        fakeRecalc.fail = false;
+        assertEquals(1, queue.flush());
+        assertEquals(5, fakeRecalc.applied.get(0).delta.ratingSum());
+    }
+
+    @Test
+    @DisplayName("Inside a transaction the change is only queued after commit")
+    void record_insideTransaction_waitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            queue.record(1L, totals(5));
+            assertTrue(queue.pendingVariantIds().isEmpty());
+
+            for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of(1L), queue.pendingVariantIds());
+    }
+
+    // =========================================================
+    //  Helpers / fakes
+    // =========================================================
+
+    private static RatingTotals totals(int rating) {
+        return new RatingTotals(1, rating,
+                rating == 1 ? 1 : 0, rating == 2 ? 1 : 0, rating == 3 ? 1 : 0,
+                rating == 4 ? 1 : 0, rating == 5 ? 1 : 0,
+                0, 0, 0, null);
+    }
+
+    record Applied(Long variantId, RatingTotals delta) {}
+
+    static class FakeRecalc implements RecalculateRatingSummaryUseCase {
+        List<Applied> applied = new ArrayList<>();
+        boolean fail;
+
+        @Override public void execute(Long listingVariantId) {}
+
+        @Override
+        public void applyDelta(Long listingVariantId, RatingTotals delta) {
+            if (fail) throw new IllegalStateException("db down");
+            applied.add(new Applied(listingVariantId, delta));
+        }
+    }
+}
@@ -10,6 +10,7 @@ import tj.radolfa.application.ports.out.LoadReviewPort;
 import tj.radolfa.application.ports.out.LoadReviewTraitPort;
 import tj.radolfa.application.ports.out.ReviewFilter;
 import tj.radolfa.application.ports.out.SaveRatingSummaryPort;
+import tj.radolfa.domain.model.RatingTotals;
 import tj.radolfa.domain.model.Review;
 import tj.radolfa.domain.model.ReviewStatus;
 import tj.radolfa.domain.model.ReviewTrait;
@@ -30,6 +31,7 @@ class RecalculateRatingSummaryServiceTest {
     private FakeLoadReviewPort      fakeReview;
     private FakeLoadReviewTraitPort fakeTrait;
     private FakeSaveRatingSummaryPort fakeSave;
+    private FakeLoadRatingSummaryPort fakeSummary;
     private RecalculateRatingSummaryService service;
 
     @BeforeEach
@@ -37,7 +39,8 @@ class RecalculateRatingSummaryServiceTest {
         fakeReview = new FakeLoadReviewPort();
         fakeTrait  = new FakeLoadReviewTraitPort();
         fakeSave   = new FakeSaveRatingSummaryPort();
-        service    = new RecalculateRatingSummaryService(fakeReview, fakeTrait, fakeSave);
+        fakeSummary = new FakeLoadRatingSummaryPort();
+        service    = new RecalculateRatingSummaryService(fakeReview, fakeTrait, fakeSummary, fakeSave);
     }
 
     @Test
@@ -121,6 +124,69 @@ class RecalculateRatingSummaryServiceTest {
         assertEquals(1, aggs.get(0).count());
     }
 
+    @Test
+    @DisplayName("Rebuild derives average, distribution and size counts from all approved reviews")
+    void execute_derivesTotals() {
+        fakeReview.reviews = List.of(review(5, Map.of()), review(4, Map.of()), review(4, Map.of()));
+
+        service.execute(1L);
+
+        RatingTotals saved = fakeSave.lastTotals;
+        assertEquals(3, saved.reviewCount());
+        assertEquals(13, saved.ratingSum());
+        assertEquals(new BigDecimal("4.33"), saved.averageRating());
+        assertEquals(2, saved.distribution().get(4));
+        assertEquals(1, saved.distribution().get(5));
+    }
+
+    // =========================================================
+    //  applyDelta
+    // =========================================================
+
+    @Test
+    @DisplayName("applyDelta adds to stored totals without loading any reviews")
+    void applyDelta_addsToStoredTotals() {
+        fakeTrait.traits = List.of(
+                new ReviewTrait(1L, "comfort_level", "Comfort Level",
+                        ReviewTraitInputType.SLIDER, Instant.now(), Instant.now())
+        );
+        fakeSummary.totals = RatingTotals.ofReview(review(5, Map.of("comfort_level", 4)));
+        fakeReview.reviews = null; // any full reload would blow up
+
+        service.applyDelta(1L, RatingTotals.ofReview(review(3, Map.of("comfort_level", 2))));
+
+        RatingTotals saved = fakeSave.lastTotals;
+        assertEquals(2, saved.reviewCount());
+        assertEquals(new BigDecimal("4.00"), saved.averageRating());
+        assertEquals(1, fakeSave.lastTraitAggregates.size());
+        assertEquals(new BigDecimal("3.00"), fakeSave.lastTraitAggregates.get(0).average());
+        assertEquals(2, fakeSave.lastTraitAggregates.get(0).count());
+    }
+
+    @Test
+    @DisplayName("Removing the only review leaves an empty summary")
+    void applyDelta_removeLastReview_emptiesSummary() {
+        Review only = review(5, Map.of());
+        fakeSummary.totals = RatingTotals.ofReview(only);
+
+        service.applyDelta(1L, RatingTotals.ofReview(only).negate());
+
+        assertTrue(fakeSave.lastTotals.isEmpty());
+        assertEquals(BigDecimal.ZERO, fakeSave.lastTotals.averageRating());
+    }
+
+    @Test
+    @DisplayName("applyDelta falls back to a full rebuild when totals would go negative")
+    void applyDelta_negativeResult_rebuildsFromReviews() {
+        fakeSummary.totals = null; // no summary row yet
+        fakeReview.reviews = List.of(review(4, Map.of()));
+
+        service.applyDelta(1L, RatingTotals.ofReview(review(5, Map.of())).negate());
+
+        assertEquals(1, fakeSave.lastTotals.reviewCount());
+        assertEquals(4, fakeSave.lastTotals.ratingSum());
+    }
+
     // =========================================================
     //  Helpers
     // =========================================================
@@ -161,18 +227,23 @@ class RecalculateRatingSummaryServiceTest {
     }
 
     static class FakeSaveRatingSummaryPort implements SaveRatingSummaryPort {
+        RatingTotals lastTotals;
         List<LoadRatingSummaryPort.TraitAggregateView> lastTraitAggregates = List.of();
 
         @Override
         public void upsert(Long listingVariantId,
-                           BigDecimal averageRating,
-                           int reviewCount,
-                           Map<Integer, Integer> distribution,
-                           int sizeAccurate,
-                           int sizeRunsSmall,
-                           int sizeRunsLarge,
+                           RatingTotals totals,
                            List<LoadRatingSummaryPort.TraitAggregateView> traitAggregates) {
+            this.lastTotals = totals;
             this.lastTraitAggregates = traitAggregates;
         }
     }
+
+    static class FakeLoadRatingSummaryPort implements LoadRatingSummaryPort {
+        RatingTotals totals;
+
+        @Override public Optional<RatingSummaryView> findByVariantId(Long listingVariantId) { return Optional.empty(); }
+        @Override public Optional<RatingTotals> findTotalsForUpdate(Long listingVariantId) { return Optional.ofNullable(totals); }
+        @Override public List<Long> findAllRatedVariantIds() { return List.of(1L); }
+    }
 }
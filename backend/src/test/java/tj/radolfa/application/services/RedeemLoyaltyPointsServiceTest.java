@@ -0,0 +1,58 @@
+package tj.radolfa.application.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort.Reason;
+import tj.radolfa.application.services.AwardReviewBonusServiceTest.FakeLedger;
+import tj.radolfa.application.services.AwardReviewBonusServiceTest.FakeLoadUserPort;
+import tj.radolfa.domain.model.LoyaltyProfile;
+import tj.radolfa.domain.model.PhoneNumber;
+import tj.radolfa.domain.model.User;
+import tj.radolfa.domain.model.UserRole;
+import tj.radolfa.domain.service.LoyaltyCalculator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedeemLoyaltyPointsServiceTest {
+
+    private FakeLoadUserPort fakeLoad;
+    private FakeLedger fakeLedger;
+    private RedeemLoyaltyPointsService service;
+
+    @BeforeEach
+    void setUp() {
+        fakeLoad   = new FakeLoadUserPort();
+        fakeLedger = new FakeLedger();
+        service    = new RedeemLoyaltyPointsService(fakeLoad, fakeLedger, new LoyaltyCalculator());
+        fakeLoad.user = new User(1L, new PhoneNumber("992000000000"), UserRole.USER, "Alice", null,
+                LoyaltyProfile.empty(), true, 1L);
+    }
+
+    @Test
+    @DisplayName("Redeeming debits the ledger and returns the money value")
+    void execute_debitsLedger() {
+        fakeLedger.balances.put(1L, 300);
+
+        assertEquals(new LoyaltyCalculator().pointsToMoney(200), service.execute(1L, 200));
+
+        assertEquals(100, fakeLedger.balance(1L));
+        assertEquals(List.of(Reason.REDEEM), fakeLedger.reasons);
+    }
+
+    @Test
+    @DisplayName("A second redemption beyond the balance is rejected and records nothing")
+    void execute_insufficientBalance_throws() {
+        fakeLedger.balances.put(1L, 300);
+        service.execute(1L, 200);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> service.execute(1L, 200));
+
+        assertTrue(ex.getMessage().contains("available=100"));
+        assertEquals(100, fakeLedger.balance(1L));
+        assertEquals(1, fakeLedger.reasons.size());
+    }
+}
@@ -4,11 +4,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import tj.radolfa.application.ports.in.discount.ResolveDiscountsUseCase;
 import tj.radolfa.application.ports.in.order.CheckoutUseCase;
+import tj.radolfa.application.ports.out.LoadCartLinePort;
 import tj.radolfa.application.ports.out.LoadCartPort;
-import tj.radolfa.application.ports.out.LoadListingVariantPort;
 import tj.radolfa.application.ports.out.LoadPickpointPort;
-import tj.radolfa.application.ports.out.LoadProductBasePort;
-import tj.radolfa.application.ports.out.LoadSkuPort;
 import tj.radolfa.application.ports.out.LoadUserPort;
 import tj.radolfa.application.ports.out.SaveDiscountApplicationPort;
 import tj.radolfa.application.ports.out.SaveOrderPort;
@@ -20,7 +18,6 @@ import tj.radolfa.domain.model.DeliveryType;
 import tj.radolfa.domain.model.Discount;
 import tj.radolfa.domain.model.DiscountApplication;
 import tj.radolfa.domain.model.DiscountType;
-import tj.radolfa.domain.model.ListingVariant;
 import tj.radolfa.domain.model.LoyaltyProfile;
 import tj.radolfa.domain.model.LoyaltyTier;
 import tj.radolfa.domain.model.Money;
@@ -29,8 +26,6 @@ import tj.radolfa.domain.model.OrderItem;
 import tj.radolfa.domain.model.OrderStatus;
 import tj.radolfa.domain.model.PhoneNumber;
 import tj.radolfa.domain.model.Pickpoint;
-import tj.radolfa.domain.model.ProductBase;
-import tj.radolfa.domain.model.Sku;
 import tj.radolfa.domain.model.SkuTarget;
 import tj.radolfa.domain.model.StackingPolicy;
 import tj.radolfa.domain.model.User;
@@ -40,7 +35,6 @@ import tj.radolfa.domain.service.LoyaltyCalculator;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -74,7 +68,6 @@ class ResolveDiscountsServiceLoyaltyGuardTest {
                         UserRole.USER, "Guard", null, loyalty, true, 1L));
             }
             @Override public Optional<User> loadByPhone(String p) { return Optional.empty(); }
-            @Override public List<User> findAllNonPermanent() { return List.of(); }
         };
     }
 
@@ -87,32 +80,9 @@ class ResolveDiscountsServiceLoyaltyGuardTest {
         @Override public Optional<Cart> findById(Long id) { return Optional.empty(); }
     };
 
-    static final LoadSkuPort FAKE_SKU = new LoadSkuPort() {
-        @Override public List<Sku> findAllByIds(Collection<Long> ids) {
-            return List.of(new Sku(SKU_ID, VARIANT_ID, SKU_CODE, "M", 5, new Money(ORIGINAL)));
-        }
-        @Override public Optional<Sku> findBySkuCode(String c) { return Optional.empty(); }
-        @Override public Optional<Sku> findSkuById(Long id) { return Optional.empty(); }
-        @Override public List<Sku> findSkusByVariantId(Long id) { return List.of(); }
-    };
-
-    static final LoadListingVariantPort FAKE_VARIANT = new LoadListingVariantPort() {
-        @Override public Optional<ListingVariant> findVariantById(Long id) {
-            return Optional.of(new ListingVariant(VARIANT_ID, PRODUCT_ID, "BLUE", "slug",
-                    null, null, null, null, null, "RD-002", true, true, null, null, null, null));
-        }
-        @Override public Optional<ListingVariant> findByProductBaseIdAndColorKey(Long p, String c) { return Optional.empty(); }
-        @Override public Optional<ListingVariant> findBySlug(String s) { return Optional.empty(); }
-        @Override public List<ListingVariant> findAllByProductBaseId(Long id) { return List.of(); }
-        @Override public Map<Long, ListingVariant> findVariantsByIds(Collection<Long> ids) { return Map.of(); }
-    };
-
-    static final LoadProductBasePort FAKE_PRODUCT = new LoadProductBasePort() {
-        @Override public Optional<ProductBase> findById(Long id) {
-            return Optional.of(new ProductBase(PRODUCT_ID, "EXT-002", "Guard Product", null, null, null));
-        }
-        @Override public Optional<ProductBase> findByExternalRef(String ref) { return Optional.empty(); }
-    };
+    static final LoadCartLinePort FAKE_LINES = ids -> Map.of(SKU_ID,
+            new LoadCartLinePort.CartLine(SKU_ID, SKU_CODE, VARIANT_ID, "Guard Product", "BLUE", "M", null,
+                    5, new Money(ORIGINAL)));
 
     static final SaveOrderPort SAVE_ORDER = order -> {
         List<OrderItem> itemsWithIds = order.items().stream()
@@ -152,13 +122,15 @@ class ResolveDiscountsServiceLoyaltyGuardTest {
         RecordDiscountApplicationService recordService =
                 new RecordDiscountApplicationService(fakeAppPort);
         return new CheckoutService(
-                FAKE_CART, cart -> cart, FAKE_SKU, FAKE_VARIANT, FAKE_PRODUCT,
+                FAKE_CART, cart -> cart, FAKE_LINES,
                 fakeUserWithLoyalty(loyaltyPct),
                 SAVE_ORDER, NO_STOCK, new LoyaltyCalculator(),
                 (userId, pts) -> Money.ZERO,
                 query -> resolvedMap,
                 recordService,
-                FAKE_LOAD_PICKPOINT
+                FAKE_LOAD_PICKPOINT,
+                (placedAt, amount) -> {},
+                (discount, userId) -> true
         );
     }
 
@@ -190,7 +190,6 @@ class SubmitReviewServiceTest {
                     UserRole.USER, "Alice", null, LoyaltyProfile.empty(), true, 1L));
         }
         @Override public Optional<User> loadByPhone(String phone) { return Optional.empty(); }
-        @Override public List<User> findAllNonPermanent() { return List.of(); }
     }
 
     static class FakeVerifyPurchasePort implements VerifyPurchasePort {
@@ -0,0 +1,56 @@
+package tj.radolfa.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageRenditionTest {
+
+    private static final String DETAIL = "https://bucket.s3.example/products/shirt-red/0f3a/detail.webp";
+
+    @Test
+    @DisplayName("Any rendition URL maps to any other rendition of the same upload")
+    void url_mapsBetweenRenditions() {
+        assertEquals("https://bucket.s3.example/products/shirt-red/0f3a/thumb.webp",
+                ImageRendition.url(DETAIL, ImageRendition.THUMB));
+        assertEquals("https://bucket.s3.example/products/shirt-red/0f3a/card.webp",
+                ImageRendition.url(DETAIL, ImageRendition.CARD));
+        assertEquals("https://bucket.s3.example/products/shirt-red/0f3a/zoom.webp",
+                ImageRendition.url("https://bucket.s3.example/products/shirt-red/0f3a/card.webp",
+                        ImageRendition.ZOOM));
+    }
+
+    @Test
+    @DisplayName("URLs from before renditions existed are left unchanged")
+    void url_legacyUnchanged() {
+        String legacy = "https://bucket.s3.example/products/shirt-red/6c1d2e.webp";
+
+        assertEquals(legacy, ImageRendition.url(legacy, ImageRendition.THUMB));
+        assertEquals("https://cdn.example/no-extension",
+                ImageRendition.url("https://cdn.example/no-extension", ImageRendition.CARD));
+        assertNull(ImageRendition.url(null, ImageRendition.CARD));
+    }
+
+    @Test
+    @DisplayName("File names are the lower-case rendition name plus extension")
+    void fileName() {
+        assertEquals("detail.jpg", ImageRendition.PRIMARY.fileName("jpg"));
+    }
+
+    @Test
+    @DisplayName("File names and URLs do not depend on the default locale")
+    void fileName_localeIndependent() {
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            assertEquals("detail.webp", ImageRendition.DETAIL.fileName("webp"));
+            assertEquals("https://bucket.s3.example/products/shirt-red/0f3a/zoom.webp",
+                    ImageRendition.url(DETAIL, ImageRendition.ZOOM));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+}
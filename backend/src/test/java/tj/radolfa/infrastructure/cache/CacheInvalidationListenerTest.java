@@ -0,0 +1,112 @@
+package tj.radolfa.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tj.radolfa.application.ports.out.CacheInvalidationPort.EntityType;
+import tj.radolfa.application.ports.out.CacheInvalidationPort.Invalidation;
+import tj.radolfa.application.ports.out.CacheInvalidationPort.Subscriber;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+import tj.radolfa.infrastructure.persistence.adapter.CacheInvalidationAdapter;
+import tj.radolfa.infrastructure.persistence.adapter.CacheInvalidationAdapter.Received;
+import tj.radolfa.testsupport.MutableClock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationListenerTest {
+
+    static final Instant NOW = Instant.parse("2026-10-01T12:00:00Z");
+
+    @Mock CacheInvalidationAdapter invalidationLog;
+    @Mock SchedulerLockPort        schedulerLockPort;
+
+    SimpleMeterRegistry registry;
+    MutableClock        clock;
+    List<Invalidation>  evicted;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        clock    = new MutableClock(NOW);
+        evicted  = new ArrayList<>();
+        lenient().when(invalidationLog.origin()).thenReturn("node-a");
+    }
+
+    @Test
+    @DisplayName("Polled messages from other instances reach every subscriber; own messages are skipped")
+    void poll_appliesPeerMessages() {
+        List<Invalidation> second = new ArrayList<>();
+        CacheInvalidationListener listener = listener(evicted::add, second::add);
+        when(invalidationLog.createdSince(any())).thenReturn(List.of(
+                received(1, "node-b", EntityType.USER, 42L),
+                received(2, "node-a", EntityType.USER, 7L),
+                received(3, "node-c", EntityType.LOYALTY_TIER)));
+
+        listener.poll();
+
+        assertThat(evicted).extracting(Invalidation::type).containsExactly(EntityType.USER, EntityType.LOYALTY_TIER);
+        assertThat(evicted.get(0).ids()).containsExactly(42L);
+        assertThat(second).isEqualTo(evicted);
+        assertThat(registry.get("radolfa.cache.invalidation.received").tag("path", "poll").counter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("radolfa.cache.invalidation.lag").timer().max(TimeUnit.MILLISECONDS))
+                .isEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("Each poll reaches back from the previous poll's start; overlapping messages apply once")
+    void poll_overlapAppliedOnce() {
+        CacheInvalidationListener listener = listener(evicted::add);
+        Received message = received(1, "node-b", EntityType.USER, 9L);
+        when(invalidationLog.createdSince(any())).thenReturn(List.of(message));
+
+        clock.advance(Duration.ofSeconds(5));
+        listener.poll();
+        clock.advance(Duration.ofSeconds(5));
+        listener.poll();
+
+        verify(invalidationLog).createdSince(NOW.minus(CacheInvalidationListener.CATCH_UP_SLACK));
+        verify(invalidationLog).createdSince(NOW.plusSeconds(5).minus(CacheInvalidationListener.CATCH_UP_SLACK));
+        assertThat(evicted).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("A failing subscriber does not keep the others from evicting")
+    void failingSubscriber_isolated() {
+        CacheInvalidationListener listener = listener(
+                inv -> { throw new IllegalStateException("boom"); },
+                evicted::add);
+        when(invalidationLog.createdSince(any())).thenReturn(List.of(received(1, "node-b", EntityType.USER, 42L)));
+
+        listener.poll();
+
+        assertThat(evicted).hasSize(1);
+    }
+
+    // ── helpers ──
+
+    private CacheInvalidationListener listener(Subscriber... subscribers) {
+        return new CacheInvalidationListener(invalidationLog, List.of(subscribers), null, schedulerLockPort,
+                registry, clock, false, Duration.ofHours(24));
+    }
+
+    private static Received received(long id, String origin, EntityType type, Long... ids) {
+        return new Received(id, new Invalidation(type, Set.of(ids)), origin, 250);
+    }
+}
@@ -0,0 +1,103 @@
+package tj.radolfa.infrastructure.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import tj.radolfa.application.ports.in.GetLoyaltyTiersUseCase;
+import tj.radolfa.application.ports.in.cart.ClearCartUseCase;
+import tj.radolfa.domain.model.LoyaltyTier;
+import tj.radolfa.infrastructure.persistence.adapter.ReviewUpvoteBuffer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class PortMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Use-case call is timed with the implementing class as component")
+    void timesUseCase() {
+        GetLoyaltyTiersUseCase proxy = proxy(new FakeGetLoyaltyTiers());
+
+        proxy.findAll();
+        proxy.findAll();
+
+        assertEquals(2, registry.get("radolfa.port.calls")
+                .tags("layer", "use_case", "component", "FakeGetLoyaltyTiers",
+                        "method", "findAll", "outcome", "success")
+                .timer().count());
+        assertEquals(0.0, registry.get("radolfa.port.result.size").summary().max());
+    }
+
+    @Test
+    @DisplayName("Failing use case records the error timer and an exception counter, then rethrows")
+    void countsErrors() {
+        ClearCartUseCase proxy = proxy(new FailingClearCart());
+
+        assertThrows(IllegalStateException.class, () -> proxy.execute(1L));
+
+        assertEquals(1, registry.get("radolfa.port.calls").tag("outcome", "error").timer().count());
+        assertEquals(1.0, registry.get("radolfa.port.errors")
+                .tag("exception", "IllegalStateException").counter().count());
+    }
+
+    @Test
+    @DisplayName("Adapter methods are timed only where they implement an out-port")
+    void timesOnlyOutPortMethods() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new ReviewUpvoteBuffer(new JdbcTemplate(), mock(PlatformTransactionManager.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new PortMetricsAspect(registry));
+        ReviewUpvoteBuffer proxy = factory.getProxy();
+
+        proxy.adjust(7L, 1);
+        proxy.pendingCount();
+
+        assertEquals(1, registry.get("radolfa.port.calls")
+                .tags("layer", "out_port", "component", "ReviewUpvoteBuffer", "method", "adjust")
+                .timer().count());
+        assertNull(registry.find("radolfa.port.calls").tag("method", "pendingCount").timer());
+    }
+
+    @Test
+    @DisplayName("Result size covers collections and optionals, ignores scalars")
+    void sizeOfContainers() {
+        assertEquals(3, PortMetricsAspect.sizeOf(List.of(1, 2, 3)));
+        assertEquals(1, PortMetricsAspect.sizeOf(java.util.Optional.of("x")));
+        assertEquals(-1, PortMetricsAspect.sizeOf(42L));
+        assertEquals(-1, PortMetricsAspect.sizeOf(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new PortMetricsAspect(registry));
+        return (T) factory.getProxy();
+    }
+
+    static class FakeGetLoyaltyTiers implements GetLoyaltyTiersUseCase {
+        @Override
+        public List<LoyaltyTier> findAll() {
+            return List.of();
+        }
+    }
+
+    static class FailingClearCart implements ClearCartUseCase {
+        @Override
+        public void execute(Long userId) {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
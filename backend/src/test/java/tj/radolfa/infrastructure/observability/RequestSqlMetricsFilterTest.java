@@ -0,0 +1,128 @@
+package tj.radolfa.infrastructure.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestSqlMetricsFilterTest {
+
+    private final SqlStatementCounter inspector = new SqlStatementCounter();
+
+    private SimpleMeterRegistry     registry;
+    private MockHttpServletRequest  request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new SimpleMeterRegistry();
+        request  = new MockHttpServletRequest("GET", "/api/v1/listings/red-shirt");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/listings/{slug}");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new BudgetedHandler(), BudgetedHandler.class.getMethod("detail")));
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("Statements issued inside the request are recorded under the URI pattern")
+    void recordsStatementsPerUriPattern() throws Exception {
+        filter(false).doFilter(request, response, issuing("select 1", "select 2"));
+
+        assertEquals(2.0, registry.get("http.server.sql.statements")
+                .tag("uri", "/api/v1/listings/{slug}").summary().totalAmount());
+        assertEquals(2, ((SqlStatementCounter.Stats) request.getAttribute(RequestSqlMetricsFilter.STATS_ATTRIBUTE))
+                .statements());
+    }
+
+    @Test
+    @DisplayName("Statements outside a request scope are ignored")
+    void ignoresStatementsOutsideScope() throws Exception {
+        inspector.inspect("select 1");
+        filter(false).doFilter(request, response, issuing());
+
+        assertEquals(0.0, registry.get("http.server.sql.statements").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Same statement repeated past the threshold is counted as N+1")
+    void flagsNPlusOne() throws Exception {
+        filter(false).doFilter(request, response, issuing("select x", "select x", "select x"));
+
+        assertEquals(1.0, registry.get("http.server.sql.n_plus_one").counter().count());
+    }
+
+    @Test
+    @DisplayName("Budget overrun is counted but not thrown when enforcement is off")
+    void budgetOverrunCountedWhenLenient() throws Exception {
+        filter(false).doFilter(request, response, issuing("a", "b", "c", "d"));
+
+        assertEquals(1.0, registry.get("http.server.sql.budget.exceeded").counter().count());
+    }
+
+    @Test
+    @DisplayName("Budget overrun throws when enforcement is on")
+    void budgetOverrunThrowsWhenEnforced() {
+        assertThrows(QueryBudgetExceededException.class,
+                () -> filter(true).doFilter(request, response, issuing("a", "b", "c", "d")));
+    }
+
+    @Test
+    @DisplayName("An enforced overrun fails the request before its body reaches the client")
+    void budgetOverrunEnforced_bodyHeldBack() throws Exception {
+        FilterChain chain = (req, res) -> {
+            for (String sql : new String[]{"a", "b", "c", "d"}) inspector.inspect(sql);
+            res.getWriter().write("{\"ok\":true}");
+            res.flushBuffer();
+        };
+
+        assertThrows(QueryBudgetExceededException.class, () -> filter(true).doFilter(request, response, chain));
+        assertFalse(response.isCommitted());
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Within budget, the held body is passed on unchanged")
+    void withinBudgetEnforced_copiesBody() throws Exception {
+        FilterChain chain = (req, res) -> {
+            inspector.inspect("a");
+            res.getWriter().write("{\"ok\":true}");
+        };
+
+        filter(true).doFilter(request, response, chain);
+
+        assertEquals("{\"ok\":true}", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("An overrun on an already committed response is logged, not thrown")
+    void budgetOverrunOnCommittedResponse_notThrown() throws Exception {
+        response.setCommitted(true);
+
+        filter(true).doFilter(request, response, issuing("a", "b", "c", "d"));
+
+        assertEquals(1.0, registry.get("http.server.sql.budget.exceeded").counter().count());
+    }
+
+    private RequestSqlMetricsFilter filter(boolean enforce) {
+        return new RequestSqlMetricsFilter(registry, new SqlMetricsProperties(true, enforce, 3));
+    }
+
+    private FilterChain issuing(String... statements) {
+        return (req, res) -> {
+            for (String sql : statements) inspector.inspect(sql);
+        };
+    }
+
+    static class BudgetedHandler {
+        @QueryBudget(3)
+        public void detail() {}
+    }
+}
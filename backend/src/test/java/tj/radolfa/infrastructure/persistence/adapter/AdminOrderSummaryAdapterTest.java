@@ -0,0 +1,101 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tj.radolfa.application.ports.out.AdminOrderSummary;
+import tj.radolfa.infrastructure.persistence.repository.OrderDailyStatsRepository;
+import tj.radolfa.infrastructure.persistence.repository.OrderRepository;
+import tj.radolfa.testsupport.MutableClock;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdminOrderSummaryAdapterTest {
+
+    private static final Instant   NOW   = Instant.parse("2026-05-14T12:00:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2026, 5, 14);
+
+    @Mock OrderRepository           orderRepository;
+    @Mock OrderDailyStatsRepository statsRepository;
+
+    private MutableClock             clock;
+    private AdminOrderSummaryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        clock   = new MutableClock(NOW);
+        adapter = new AdminOrderSummaryAdapter(orderRepository, statsRepository, clock);
+        when(orderRepository.findMostRecent(any())).thenReturn(List.of());
+        when(statsRepository.sumOrdersPlaced()).thenReturn(120L);
+        when(statsRepository.sumRevenueFrom(LocalDate.of(2026, 5, 1))).thenReturn(new BigDecimal("9000.00"));
+        when(statsRepository.sumDay(TODAY)).thenReturn(List.<Object[]>of(new Object[]{4L, new BigDecimal("400.00")}));
+    }
+
+    @Test
+    @DisplayName("Summary is assembled from the rollup: lifetime sum, month range, today's row")
+    void load_readsRollup() {
+        AdminOrderSummary summary = adapter.load();
+
+        assertThat(summary.totalOrders()).isEqualTo(120L);
+        assertThat(summary.todayOrders()).isEqualTo(4L);
+        assertThat(summary.revenueToday()).isEqualByComparingTo("400.00");
+        assertThat(summary.revenueThisMonth()).isEqualByComparingTo("9000.00");
+    }
+
+    @Test
+    @DisplayName("Orders placed on this instance show up today without re-reading the row")
+    void recordPlaced_bumpsCachedToday() {
+        adapter.load();
+        adapter.recordPlaced(NOW, new BigDecimal("50.00"));
+
+        AdminOrderSummary summary = adapter.load();
+
+        verify(statsRepository).recordPlaced(eq(TODAY), intThat(s -> s >= 0 && s < AdminOrderSummaryAdapter.STRIPES),
+                eq(new BigDecimal("50.00")));
+        verify(statsRepository, times(1)).sumDay(TODAY);
+        assertThat(summary.todayOrders()).isEqualTo(5L);
+        assertThat(summary.revenueToday()).isEqualByComparingTo("450.00");
+    }
+
+    @Test
+    @DisplayName("Checkouts spread over the day's stripes instead of one hot row")
+    void recordPlaced_spreadsOverStripes() {
+        adapter.load();
+        for (int i = 0; i < 200; i++) {
+            adapter.recordPlaced(NOW, BigDecimal.ONE);
+        }
+
+        ArgumentCaptor<Integer> stripes = ArgumentCaptor.forClass(Integer.class);
+        verify(statsRepository, times(200)).recordPlaced(eq(TODAY), stripes.capture(), eq(BigDecimal.ONE));
+        assertThat(stripes.getAllValues()).allMatch(s -> s >= 0 && s < AdminOrderSummaryAdapter.STRIPES);
+        assertThat(Set.copyOf(stripes.getAllValues())).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Today's snapshot is reloaded once the refresh interval has passed")
+    void load_afterRefreshInterval_reloadsToday() {
+        adapter.load();
+        clock.set(NOW.plus(AdminOrderSummaryAdapter.TODAY_REFRESH).plusSeconds(1));
+
+        adapter.load();
+
+        verify(statsRepository, times(2)).sumDay(TODAY);
+    }
+}
@@ -0,0 +1,79 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DiscountMetricsRollupTest {
+
+    static final LocalDate WATERMARK = LocalDate.of(2026, 10, 15);
+
+    @Mock EntityManager em;
+    @Mock Query         query;
+
+    @InjectMocks DiscountMetricsRollup rollup;
+
+    @BeforeEach
+    void setUp() {
+        when(em.createNativeQuery(anyString())).thenReturn(query);
+        lenient().when(query.setParameter(anyString(), any())).thenReturn(query);
+        lenient().when(query.getSingleResult()).thenReturn(Date.valueOf(WATERMARK));
+    }
+
+    @Test
+    @DisplayName("Compaction covers each day after the watermark once and advances it to the last day")
+    void compactThrough_advancesOverMissingDays() {
+        int compacted = rollup.compactThrough(LocalDate.of(2026, 10, 18));
+
+        assertThat(compacted).isEqualTo(3);
+        verify(em, times(3)).createNativeQuery(contains("INSERT INTO discount_daily_metrics"));
+        // DELETE + INSERT per compacted day, plus the watermark update for the last one
+        verify(query, times(2)).setParameter("day", LocalDate.of(2026, 10, 16));
+        verify(query, times(3)).setParameter("day", LocalDate.of(2026, 10, 18));
+        verify(em).createNativeQuery(contains("SET compacted_through"));
+    }
+
+    @Test
+    @DisplayName("A last day at or before the watermark never moves it, backwards or otherwise")
+    void compactThrough_nothingNew_leavesWatermark() {
+        assertThat(rollup.compactThrough(WATERMARK)).isZero();
+        assertThat(rollup.compactThrough(WATERMARK.minusDays(3))).isZero();
+
+        verify(em, never()).createNativeQuery(contains("SET compacted_through"));
+        verify(em, never()).createNativeQuery(contains("INSERT INTO discount_daily_metrics"));
+    }
+
+    @Test
+    @DisplayName("A compacted day reads raw rows between its own UTC midnights")
+    void compactDay_bindsUtcDayRange() {
+        LocalDate day = LocalDate.of(2026, 10, 16);
+
+        rollup.compactDay(day);
+
+        verify(query).setParameter("start", DiscountMetricsRollup.startOf(day));
+        verify(query).setParameter("end", DiscountMetricsRollup.startOf(day.plusDays(1)));
+        verify(query, times(2)).executeUpdate();
+        verify(query, never()).setParameter(eq("end"), eq(DiscountMetricsRollup.startOf(day)));
+    }
+}
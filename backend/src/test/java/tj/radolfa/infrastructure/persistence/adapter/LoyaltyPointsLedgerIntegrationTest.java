@@ -0,0 +1,191 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import tj.radolfa.application.ports.out.LoyaltyPointsLedgerPort.Reason;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ledger invariants that only hold in Postgres: row locks on the balance snapshot, the
+ * order/reason unique index and {@code SKIP LOCKED} in the snapshot fold.
+ *
+ * <p>Each movement runs in a committed transaction of its own; concurrent ones hold their
+ * transaction open on a second thread until the test lets them commit.
+ *
+ * <p>Run with {@code mvn -Ppostgres-test test}; needs a local Docker daemon.
+ */
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(LoyaltyPointsLedgerAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LoyaltyPointsLedgerIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final AtomicInteger PHONES = new AtomicInteger();
+
+    @Autowired LoyaltyPointsLedgerAdapter ledger;
+    @Autowired JdbcTemplate               jdbc;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    ExecutorService other;
+
+    @BeforeEach
+    void setUp() {
+        other = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        other.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Two concurrent debits over one balance: the second sees the first and is refused")
+    void concurrentDebits_neverOverdraw() throws Exception {
+        long userId = newUser();
+        inTransaction(() -> ledger.credit(userId, 100, Reason.AWARD, null));
+
+        CountDownLatch debited = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> first = other.submit(() -> inTransaction(() -> {
+            boolean ok = ledger.tryDebit(userId, 70, Reason.REDEEM, null);
+            debited.countDown();
+            await(release);
+            return ok;
+        }));
+        assertThat(debited.await(10, TimeUnit.SECONDS)).isTrue();
+
+        ExecutorService second = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> competing = second.submit(() -> inTransaction(
+                    () -> ledger.tryDebit(userId, 70, Reason.REDEEM, null)));
+            awaitLockWaiter();
+            release.countDown();
+
+            assertThat(first.get(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(competing.get(10, TimeUnit.SECONDS)).isFalse();
+        } finally {
+            second.shutdownNow();
+        }
+        assertThat(inTransaction(() -> ledger.balance(userId))).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("A retried award for the same order is recorded once")
+    void awardRetry_creditedOnce() {
+        long userId  = newUser();
+        long orderId = newOrder(userId);
+
+        assertThat(inTransaction(() -> ledger.credit(userId, 50, Reason.AWARD, orderId))).isTrue();
+        assertThat(inTransaction(() -> ledger.credit(userId, 50, Reason.AWARD, orderId))).isFalse();
+
+        assertThat(inTransaction(() -> ledger.balance(userId))).isEqualTo(50);
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM loyalty_point_ledger WHERE order_id = ? AND reason = 'AWARD'",
+                Long.class, orderId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Snapshots skip a user with a movement in flight and fold it on the next run")
+    void snapshot_skipsInFlightMovement() throws Exception {
+        // Fold whatever the other tests left behind
+        inTransaction(() -> ledger.snapshot(1_000));
+        long idle = newUser();
+        long busy = newUser();
+        inTransaction(() -> ledger.credit(idle, 10, Reason.AWARD, null));
+        inTransaction(() -> ledger.credit(busy, 40, Reason.AWARD, null));
+
+        CountDownLatch credited = new CountDownLatch(1);
+        CountDownLatch release  = new CountDownLatch(1);
+        Future<Boolean> inFlight = other.submit(() -> inTransaction(() -> {
+            boolean ok = ledger.credit(busy, 5, Reason.REVIEW_BONUS, null);
+            credited.countDown();
+            await(release);
+            return ok;
+        }));
+        assertThat(credited.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(inTransaction(() -> ledger.snapshot(100))).isEqualTo(1);
+        assertThat(snapshotBalance(idle)).isEqualTo(10);
+        assertThat(snapshotBalance(busy)).isZero();
+
+        release.countDown();
+        assertThat(inFlight.get(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(inTransaction(() -> ledger.snapshot(100))).isEqualTo(1);
+        assertThat(snapshotBalance(busy)).isEqualTo(45);
+        assertThat(inTransaction(() -> ledger.balance(busy))).isEqualTo(45);
+    }
+
+    // ── helpers ──
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private long newUser() {
+        String phone = String.format("+99290%07d", PHONES.incrementAndGet());
+        return jdbc.queryForObject("INSERT INTO users (phone, role) VALUES (?, 'USER') RETURNING id", Long.class, phone);
+    }
+
+    private long newOrder(long userId) {
+        return jdbc.queryForObject("INSERT INTO orders (user_id) VALUES (?) RETURNING id", Long.class, userId);
+    }
+
+    private int snapshotBalance(long userId) {
+        return jdbc.queryForObject("SELECT balance FROM loyalty_point_balances WHERE user_id = ?", Integer.class, userId);
+    }
+
+    /** Waits until some session is blocked on a lock — the competing debit queued behind the first. */
+    private void awaitLockWaiter() throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (Instant.now().isBefore(deadline)) {
+            Long waiting = jdbc.queryForObject(
+                    "SELECT COUNT(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'", Long.class);
+            if (waiting != null && waiting > 0) return;
+            Thread.sleep(20);
+        }
+        throw new AssertionError("competing debit never waited on the balance lock");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) throw new AssertionError("not released");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tj.radolfa.infrastructure.persistence.adapter.QueryDiscountMetricsAdapter.Window;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryDiscountMetricsAdapterTest {
+
+    static final LocalDate FROM = LocalDate.of(2026, 10, 1);
+    static final LocalDate TO   = LocalDate.of(2026, 10, 10);
+
+    @Test
+    @DisplayName("Watermark before the window: everything from raw rows, rollup part empty")
+    void split_watermarkBeforeWindow() {
+        Window w = QueryDiscountMetricsAdapter.split(LocalDate.of(2026, 9, 20), FROM, TO);
+
+        assertThat(w.rollupTo()).isBefore(w.from());
+        assertThat(w.rawStart()).isEqualTo(midnight(FROM));
+        assertThat(w.rawEnd()).isEqualTo(midnight(TO.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Empty rollup (watermark the day before the window): no day is read twice or skipped")
+    void split_watermarkDayBeforeWindow() {
+        Window w = QueryDiscountMetricsAdapter.split(FROM.minusDays(1), FROM, TO);
+
+        assertThat(w.rollupTo()).isEqualTo(FROM.minusDays(1));
+        assertThat(w.rawStart()).isEqualTo(midnight(FROM));
+    }
+
+    @Test
+    @DisplayName("Watermark inside the window: rollup through the watermark, raw from the next midnight")
+    void split_watermarkInsideWindow() {
+        LocalDate watermark = LocalDate.of(2026, 10, 6);
+
+        Window w = QueryDiscountMetricsAdapter.split(watermark, FROM, TO);
+
+        assertThat(w.from()).isEqualTo(FROM);
+        assertThat(w.rollupTo()).isEqualTo(watermark);
+        assertThat(w.rawStart()).isEqualTo(midnight(LocalDate.of(2026, 10, 7)));
+        assertThat(w.rawEnd()).isEqualTo(midnight(LocalDate.of(2026, 10, 11)));
+    }
+
+    @Test
+    @DisplayName("Watermark on the window's last day: raw part is an empty range")
+    void split_watermarkOnLastDay() {
+        Window w = QueryDiscountMetricsAdapter.split(TO, FROM, TO);
+
+        assertThat(w.rollupTo()).isEqualTo(TO);
+        assertThat(w.rawStart()).isEqualTo(w.rawEnd());
+    }
+
+    @Test
+    @DisplayName("Watermark after the window: rollup capped at the window end, raw part empty")
+    void split_watermarkAfterWindow() {
+        Window w = QueryDiscountMetricsAdapter.split(LocalDate.of(2026, 10, 18), FROM, TO);
+
+        assertThat(w.rollupTo()).isEqualTo(TO);
+        assertThat(w.rawStart()).isEqualTo(midnight(TO.plusDays(1)));
+        assertThat(w.rawEnd()).isEqualTo(midnight(TO.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Single-day window of today: read from raw rows between UTC midnights")
+    void split_singleDayToday() {
+        LocalDate today = LocalDate.of(2026, 10, 19);
+
+        Window w = QueryDiscountMetricsAdapter.split(today.minusDays(1), today, today);
+
+        assertThat(w.rollupTo()).isBefore(today);
+        assertThat(w.rawStart()).isEqualTo(midnight(today));
+        assertThat(w.rawEnd()).isEqualTo(midnight(today.plusDays(1)));
+    }
+
+    // ── helpers ──
+
+    private static OffsetDateTime midnight(LocalDate day) {
+        return day.atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,200 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewUpvoteBufferTest {
+
+    private RecordingJdbcTemplate jdbc;
+    private ReviewUpvoteBuffer    buffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbc   = new RecordingJdbcTemplate();
+        buffer = new ReviewUpvoteBuffer(jdbc, new FakeTransactionManager(jdbc));
+    }
+
+    @Test
+    @DisplayName("Many votes on one review become a single row update")
+    void flush_coalescesPerReview() {
+        for (int i = 0; i < 100; i++) buffer.adjust(7L, 1);
+        buffer.adjust(7L, -1);
+        buffer.adjust(3L, 1);
+
+        assertEquals(2, buffer.flush());
+
+        assertEquals(1, jdbc.batches.size());
+        List<Object[]> rows = jdbc.batches.get(0);
+        assertEquals(2, rows.size());
+        // Ascending id order keeps multi-instance flushes deadlock-free
+        assertArrayEquals(new Object[]{1, 3L}, rows.get(0));
+        assertArrayEquals(new Object[]{99, 7L}, rows.get(1));
+        assertEquals(0, buffer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Deltas that cancel out produce no write")
+    void flush_netZero_noWrite() {
+        buffer.adjust(7L, 1);
+        buffer.adjust(7L, -1);
+
+        assertEquals(0, buffer.flush());
+        assertTrue(jdbc.batches.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A failed batch is kept and retried on the next flush")
+    void flush_failure_retries() {
+        buffer.adjust(7L, 1);
+        jdbc.fail.set(true);
+
+        assertEquals(0, buffer.flush());
+        assertEquals(1, buffer.pendingCount());
+
+        jdbc.fail.set(false);
+        buffer.adjust(7L, 1);
+        assertEquals(1, buffer.flush());
+        assertArrayEquals(new Object[]{2, 7L}, jdbc.batches.get(0).get(0));
+    }
+
+    @Test
+    @DisplayName("A batch failing halfway rolls back, so the retry applies each delta once")
+    void flush_failurePartway_retryDoesNotDoubleCount() {
+        buffer.adjust(3L, 2);
+        buffer.adjust(7L, 5);
+        jdbc.failAtRow = 1;
+
+        assertEquals(0, buffer.flush());
+        assertTrue(jdbc.upvotes.isEmpty());
+        assertEquals(2, buffer.pendingCount());
+
+        jdbc.failAtRow = -1;
+        assertEquals(2, buffer.flush());
+        assertEquals(Map.of(3L, 2L, 7L, 5L), jdbc.upvotes);
+    }
+
+    @Test
+    @DisplayName("After shutdown, adjustments are written directly")
+    void shutdown_flushesAndWritesThrough() {
+        buffer.adjust(7L, 1);
+        buffer.flushOnShutdown();
+        assertEquals(1, jdbc.batches.size());
+
+        buffer.adjust(7L, 1);
+        assertEquals(2, jdbc.batches.size());
+        assertEquals(0, buffer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Concurrent votes and flushes never lose or double-count a delta")
+    void concurrentAdjustAndFlush_totalIsExact() throws Exception {
+        int threads = 8;
+        int votesPerThread = 5_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < votesPerThread; i++) {
+                    buffer.adjust((long) (i % 50), 1);
+                }
+                done.countDown();
+            });
+        }
+        pool.submit(() -> {
+            while (running.get()) buffer.flush();
+        });
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        running.set(false);
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        buffer.flush();
+
+        long total = jdbc.batches.stream()
+                .flatMap(List::stream)
+                .mapToLong(row -> ((Number) row[0]).longValue())
+                .sum();
+        assertEquals((long) threads * votesPerThread, total);
+    }
+
+    // =========================================================
+    //  Fakes
+    // =========================================================
+
+    /** Applies rows one by one into a transaction-local copy; only a commit makes them visible. */
+    static class RecordingJdbcTemplate extends JdbcTemplate {
+        final List<List<Object[]>> batches = new ArrayList<>();
+        final Map<Long, Long>      upvotes = new HashMap<>();
+        final AtomicBoolean        fail    = new AtomicBoolean();
+        volatile int               failAtRow = -1;
+
+        private final List<Object[]> staged = new ArrayList<>();
+
+        @Override
+        public synchronized int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            if (fail.get()) throw new IllegalStateException("db down");
+            for (int i = 0; i < batchArgs.size(); i++) {
+                if (i == failAtRow) throw new IllegalStateException("row " + i + " failed");
+                staged.add(batchArgs.get(i));
+            }
+            return new int[batchArgs.size()];
+        }
+
+        synchronized void commit() {
+            if (staged.isEmpty()) return;
+            for (Object[] row : staged) {
+                upvotes.merge((Long) row[1], ((Number) row[0]).longValue(), Long::sum);
+            }
+            batches.add(new ArrayList<>(staged));
+            staged.clear();
+        }
+
+        synchronized void rollback() {
+            staged.clear();
+        }
+    }
+
+    static class FakeTransactionManager implements PlatformTransactionManager {
+        private final RecordingJdbcTemplate jdbc;
+
+        FakeTransactionManager(RecordingJdbcTemplate jdbc) {
+            this.jdbc = jdbc;
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            jdbc.commit();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            jdbc.rollback();
+        }
+    }
+}
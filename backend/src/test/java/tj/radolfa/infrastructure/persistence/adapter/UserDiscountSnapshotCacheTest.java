@@ -0,0 +1,120 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tj.radolfa.application.ports.out.LoadUserSegmentContextPort.UserSegmentContext;
+import tj.radolfa.infrastructure.persistence.entity.LoyaltyTierEntity;
+import tj.radolfa.infrastructure.persistence.entity.UserEntity;
+import tj.radolfa.infrastructure.persistence.repository.DiscountApplicationRepository;
+import tj.radolfa.infrastructure.persistence.repository.OrderRepository;
+import tj.radolfa.infrastructure.persistence.repository.UserRepository;
+import tj.radolfa.infrastructure.persistence.routing.PrimaryReads;
+import tj.radolfa.testsupport.MutableClock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserDiscountSnapshotCacheTest {
+
+    static final Duration TTL = Duration.ofMinutes(2);
+
+    @Mock UserRepository                userRepository;
+    @Mock OrderRepository               orderRepository;
+    @Mock DiscountApplicationRepository applicationRepository;
+
+    MutableClock clock;
+    UserDiscountSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-10-01T12:00:00Z"));
+        cache = new UserDiscountSnapshotCache(userRepository, orderRepository, applicationRepository,
+                PrimaryReads.direct(), clock, TTL);
+
+        LoyaltyTierEntity tier = new LoyaltyTierEntity();
+        tier.setId(3L);
+        UserEntity user = new UserEntity();
+        user.setId(42L);
+        user.setTier(tier);
+        lenient().when(userRepository.findByIdWithTier(42L)).thenReturn(Optional.of(user));
+        lenient().when(orderRepository.countConfirmedOrdersByUserId(anyLong(), any())).thenReturn(2L);
+        lenient().when(applicationRepository.findUsageByUser(42L))
+                .thenReturn(List.<Object[]>of(new Object[]{7L, 1L}, new Object[]{9L, 4L}));
+    }
+
+    @Test
+    @DisplayName("Repeated lookups for a user are served from one snapshot")
+    void repeatedLookups_loadOnce() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(cache.segment(42L)).contains(new UserSegmentContext(42L, 3L, false));
+            assertThat(cache.usage(42L)).isEqualTo(Map.of(7L, 1L, 9L, 4L));
+        }
+
+        verify(userRepository, times(1)).findByIdWithTier(42L);
+        verify(orderRepository, times(1)).countConfirmedOrdersByUserId(anyLong(), any());
+        verify(applicationRepository, times(1)).findUsageByUser(42L);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Invalidation forces the next lookup to reload")
+    void invalidate_reloads() {
+        cache.usage(42L);
+
+        cache.invalidate(42L);
+        cache.usage(42L);
+
+        verify(applicationRepository, times(2)).findUsageByUser(42L);
+    }
+
+    @Test
+    @DisplayName("Snapshot expires after the TTL")
+    void ttl_expires() {
+        cache.segment(42L);
+
+        clock.advance(TTL.minusSeconds(1));
+        cache.segment(42L);
+        verify(userRepository, times(1)).findByIdWithTier(42L);
+
+        clock.advance(TTL);
+        cache.segment(42L);
+        verify(userRepository, times(2)).findByIdWithTier(42L);
+    }
+
+    @Test
+    @DisplayName("Unknown user yields an empty segment context")
+    void unknownUser_emptySegment() {
+        lenient().when(userRepository.findByIdWithTier(99L)).thenReturn(Optional.empty());
+
+        assertThat(cache.segment(99L)).isEmpty();
+        assertThat(cache.usage(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A snapshot loaded while an invalidation races it is returned but not kept")
+    void invalidationDuringLoad_notStored() {
+        lenient().when(applicationRepository.findUsageByUser(42L)).thenAnswer(inv -> {
+            cache.invalidate(42L); // e.g. checkout committing on another thread
+            return List.of();
+        });
+
+        cache.usage(42L);
+
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,190 @@
+package tj.radolfa.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tj.radolfa.domain.model.Cart;
+import tj.radolfa.domain.model.CartItem;
+import tj.radolfa.domain.model.CartStatus;
+import tj.radolfa.domain.model.Money;
+import tj.radolfa.infrastructure.persistence.adapter.WriteBehindCartStore.Durability;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindCartStoreTest {
+
+    static final Long USER_ID = 42L;
+    static final Long CART_ID = 7L;
+
+    @Mock CartRepositoryAdapter      delegate;
+    @Mock JdbcTemplate               jdbc;
+    @Mock PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Repeated loads are served from memory after the first")
+    void load_cachesCart() {
+        WriteBehindCartStore store = store(Durability.ASYNC);
+        when(delegate.findActiveByUserId(USER_ID)).thenReturn(Optional.of(persistedCart()));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.findActiveByUserId(USER_ID)).isPresent();
+        }
+
+        verify(delegate, times(1)).findActiveByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("ASYNC: a quantity change is held in memory and flushed as one upsert")
+    void async_flushesOnlyChangedLine() {
+        WriteBehindCartStore store = store(Durability.ASYNC);
+        when(delegate.findActiveByUserId(USER_ID)).thenReturn(Optional.of(persistedCart()));
+
+        Cart cart = store.findActiveByUserId(USER_ID).orElseThrow();
+        cart.updateQuantity(1L, 5);
+        store.save(cart);
+
+        verify(jdbc, never()).batchUpdate(anyString(), anyList());
+        assertThat(store.findActiveByUserId(USER_ID).orElseThrow().itemCount()).isEqualTo(7);
+        assertThat(store.dirtyCount()).isEqualTo(1);
+
+        assertThat(store.flush()).isEqualTo(1);
+
+        ArgumentCaptor<List<Object[]>> upserts = argsCaptor();
+        verify(jdbc).batchUpdate(contains("ON CONFLICT"), upserts.capture());
+        assertThat(upserts.getValue()).hasSize(1);
+        assertThat(upserts.getValue().get(0)).containsExactly(CART_ID, 1L, 5, new BigDecimal("100"));
+        verify(jdbc, never()).batchUpdate(contains("DELETE"), anyList());
+        verify(delegate, never()).save(cart);
+        assertThat(store.dirtyCount()).isZero();
+        assertThat(store.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("A removed line is flushed as a delete, untouched lines are not written")
+    void async_removedLine_deleted() {
+        WriteBehindCartStore store = store(Durability.ASYNC);
+        when(delegate.findActiveByUserId(USER_ID)).thenReturn(Optional.of(persistedCart()));
+
+        Cart cart = store.findActiveByUserId(USER_ID).orElseThrow();
+        cart.removeItem(2L);
+        store.save(cart);
+        store.flush();
+
+        ArgumentCaptor<List<Object[]>> deletes = argsCaptor();
+        verify(jdbc).batchUpdate(contains("DELETE"), deletes.capture());
+        assertThat(deletes.getValue().get(0)).containsExactly(CART_ID, 2L);
+        verify(jdbc, never()).batchUpdate(contains("ON CONFLICT"), anyList());
+    }
+
+    @Test
+    @DisplayName("WRITE_THROUGH: the diff is written by save itself")
+    void writeThrough_writesOnSave() {
+        WriteBehindCartStore store = store(Durability.WRITE_THROUGH);
+        when(delegate.findActiveByUserId(USER_ID)).thenReturn(Optional.of(persistedCart()));
+
+        Cart cart = store.findActiveByUserId(USER_ID).orElseThrow();
+        cart.addItem(3L, 1, new Money(new BigDecimal("20")));
+        store.save(cart);
+
+        verify(jdbc).batchUpdate(contains("ON CONFLICT"), anyList());
+        assertThat(store.dirtyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Checkout is written immediately and the cart leaves the store")
+    void checkout_writtenAndEvicted() {
+        WriteBehindCartStore store = store(Durability.ASYNC);
+        when(delegate.findActiveByUserId(USER_ID)).thenReturn(Optional.of(persistedCart()));
+
+        Cart cart = store.findActiveByUserId(USER_ID).orElseThrow();
+        cart.checkout();
+        store.save(cart);
+
+        ArgumentCaptor<List<Object[]>> headers = argsCaptor();
+        verify(jdbc).batchUpdate(contains("UPDATE carts"), headers.capture());
+        assertThat(headers.getValue().get(0)[0]).isEqualTo("CHECKED_OUT");
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("A new cart is inserted through the JPA adapter and cached with its id")
+    void newCart_insertedThenCached() {
+        WriteBehindCartStore store = store(Durability.ASYNC);
+        Cart fresh = Cart.forUser(USER_ID);
+        fresh.addItem(1L, 1, new Money(new BigDecimal("100")));
+        when(delegate.save(fresh)).thenReturn(persistedCart());
+
+        Cart saved = store.save(fresh);
+
+        assertThat(saved.getId()).isEqualTo(CART_ID);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.findActiveByUserId(USER_ID)).isPresent();
+        verify(delegate, never()).findActiveByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("The flush skips a cart whose user is mid-request")
+    void flush_skipsLockedUser() throws Exception {
+        WriteBehindCartStore store = store(Durability.ASYNC);
+        when(delegate.findActiveByUserId(USER_ID)).thenReturn(Optional.of(persistedCart()));
+        Cart cart = store.findActiveByUserId(USER_ID).orElseThrow();
+        cart.updateQuantity(1L, 3);
+        store.save(cart);
+
+        TransactionSynchronizationManager.initSynchronization(); // a request transaction on this thread
+        store.findActiveByUserId(USER_ID);
+
+        assertThat(CompletableFuture.supplyAsync(store::flush).get()).isZero();
+        verify(jdbc, never()).batchUpdate(anyString(), anyList());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(0));
+        assertThat(CompletableFuture.supplyAsync(store::flush).get()).isEqualTo(1);
+        verify(jdbc).batchUpdate(contains("ON CONFLICT"), anyList());
+    }
+
+    // ── helpers ──
+
+    private WriteBehindCartStore store(Durability durability) {
+        return new WriteBehindCartStore(delegate, jdbc, transactionManager, durability, 100, 30);
+    }
+
+    private static Cart persistedCart() {
+        Instant at = Instant.parse("2026-10-01T12:00:00Z");
+        return new Cart(CART_ID, USER_ID, CartStatus.ACTIVE, List.of(
+                new CartItem(1L, 1, new Money(new BigDecimal("100"))),
+                new CartItem(2L, 2, new Money(new BigDecimal("50")))), at, at, null);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<List<Object[]>> argsCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    }
+}
@@ -0,0 +1,97 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tj.radolfa.infrastructure.persistence.routing.ReplicaRoutingDataSource.Target;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimaryReadsTest {
+
+    FakeTransactionManager   transactionManager;
+    ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new FakeTransactionManager();
+        routing            = new ReplicaRoutingDataSource(new DriverManagerDataSource(), new DriverManagerDataSource(),
+                () -> true, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        ReplicaReads.set(false);
+    }
+
+    @Test
+    @DisplayName("A cache load inside a @ReadReplica read gets its own transaction on the primary")
+    void loadInsideReplicaRead_readsPrimary() {
+        ReplicaReads.set(true);
+        inReadOnlyTransaction();
+        PrimaryReads primaryReads = new PrimaryReads(transactionManager);
+
+        Target target = primaryReads.read(routing::determineCurrentLookupKey);
+
+        assertThat(target).isEqualTo(Target.PRIMARY);
+        assertThat(transactionManager.begun).isEqualTo(1);
+        assertThat(ReplicaReads.allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Outside a read-only transaction the load runs as it is")
+    void loadOutsideReadOnly_runsInline() {
+        PrimaryReads primaryReads = new PrimaryReads(transactionManager);
+
+        assertThat(primaryReads.read(() -> "loaded")).isEqualTo("loaded");
+        assertThat(transactionManager.begun).isZero();
+    }
+
+    @Test
+    @DisplayName("Without a replica no extra transaction is opened")
+    void noReplica_runsInline() {
+        inReadOnlyTransaction();
+
+        assertThat(PrimaryReads.direct().read(() -> "loaded")).isEqualTo("loaded");
+        assertThat(transactionManager.begun).isZero();
+    }
+
+    // ── helpers ──
+
+    private static void inReadOnlyTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    /** Begins every transaction as new and records how many it began. */
+    static class FakeTransactionManager extends AbstractPlatformTransactionManager {
+
+        int begun;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begun++;
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tj.radolfa.testsupport.MutableClock;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    static final Duration MAX_LAG  = Duration.ofSeconds(5);
+    static final Duration INTERVAL = Duration.ofSeconds(1);
+
+    @Mock JdbcTemplate replica;
+
+    SimpleMeterRegistry registry;
+    MutableClock        clock;
+    ReplicaLagMonitor   monitor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        clock    = new MutableClock(Instant.parse("2026-10-01T12:00:00Z"));
+        monitor  = new ReplicaLagMonitor(replica, registry, clock, MAX_LAG, INTERVAL);
+    }
+
+    @Test
+    @DisplayName("Unusable until the first check; usable while lag stays within the limit")
+    void usableWithinMaxLag() {
+        assertThat(monitor.getAsBoolean()).isFalse();
+
+        when(replica.queryForObject(anyString(), eq(Double.class))).thenReturn(1.5);
+        monitor.check();
+
+        assertThat(monitor.getAsBoolean()).isTrue();
+        assertThat(registry.get("radolfa.datasource.replica.lag").gauge().value()).isEqualTo(1.5);
+    }
+
+    @Test
+    @DisplayName("Lag above the limit or a failed check takes the replica out of rotation")
+    void laggingOrFailing_unusable() {
+        when(replica.queryForObject(anyString(), eq(Double.class)))
+                .thenReturn(8.0)
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        monitor.check();
+        assertThat(monitor.getAsBoolean()).isFalse();
+
+        monitor.check();
+        assertThat(monitor.getAsBoolean()).isFalse();
+        assertThat(registry.get("radolfa.datasource.replica.lag").gauge().value()).isNaN();
+    }
+
+    @Test
+    @DisplayName("A measurement older than a few intervals no longer counts")
+    void staleMeasurement_unusable() {
+        when(replica.queryForObject(anyString(), eq(Double.class))).thenReturn(0.0);
+        monitor.check();
+
+        clock.advance(INTERVAL.multipliedBy(ReplicaLagMonitor.STALE_AFTER_CHECKS));
+
+        assertThat(monitor.getAsBoolean()).isFalse();
+    }
+}
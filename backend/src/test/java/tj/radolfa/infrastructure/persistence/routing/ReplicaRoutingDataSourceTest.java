@@ -0,0 +1,119 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tj.radolfa.infrastructure.persistence.routing.ReplicaRoutingDataSource.Target;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    SimpleMeterRegistry      registry;
+    AtomicBoolean            replicaUsable;
+    ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        registry      = new SimpleMeterRegistry();
+        replicaUsable = new AtomicBoolean(true);
+        routing       = new ReplicaRoutingDataSource(new DriverManagerDataSource(), new DriverManagerDataSource(),
+                replicaUsable::get, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        ReadYourWrites.end();
+        ReplicaReads.set(false);
+    }
+
+    @Test
+    @DisplayName("Read-only transactions of @ReadReplica reads go to the replica, everything else to the primary")
+    void routesByTransactionKind() {
+        ReplicaReads.set(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+
+        inTransaction(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.REPLICA);
+
+        inTransaction(false);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+
+        assertThat(count("replica", "read-only")).isEqualTo(1);
+        assertThat(count("primary", "no-transaction")).isEqualTo(1);
+        assertThat(count("primary", "read-write")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Read-only batch work outside a @ReadReplica read stays on the primary")
+    void unmarkedReadOnly_readsPrimary() {
+        inTransaction(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+        assertThat(count("primary", "read-only-unmarked")).isEqualTo(1);
+        assertThat(count("replica", "read-only")).isZero();
+    }
+
+    @Test
+    @DisplayName("A lagging or unreachable replica sends read-only work to the primary")
+    void laggingReplica_fallsBack() {
+        ReplicaReads.set(true);
+        replicaUsable.set(false);
+        inTransaction(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+        assertThat(count("primary", "lagging")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A client marked by a recent write reads from the primary")
+    void pinnedRequest_readsPrimary() {
+        ReplicaReads.set(true);
+        ReadYourWrites.begin(true);
+        inTransaction(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+        assertThat(count("primary", "sticky")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("After a write transaction, the rest of the request reads from the primary")
+    void writeInRequest_pinsLaterReads() {
+        ReplicaReads.set(true);
+        ReadYourWrites.begin(false);
+        inTransaction(false);
+        routing.determineCurrentLookupKey();
+
+        inTransaction(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("Outside a request scope, writes do not pin the thread")
+    void writeWithoutRequest_doesNotPin() {
+        ReplicaReads.set(true);
+        inTransaction(false);
+        routing.determineCurrentLookupKey();
+
+        inTransaction(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Target.REPLICA);
+    }
+
+    // ── helpers ──
+
+    private static void inTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private double count(String target, String reason) {
+        return registry.get("radolfa.datasource.route").tag("target", target).tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,119 @@
+package tj.radolfa.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing against two real Postgres servers. The "replica" is a second standalone
+ * database — not in recovery, so it reports no lag — told apart by its database name.
+ *
+ * <p>Run with {@code mvn -Preplica-test test}; needs a local Docker daemon.
+ */
+@Tag("replica")
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine").withDatabaseName("primary_db");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16-alpine").withDatabaseName("replica_db");
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+        ReplicaReads.set(false);
+    }
+
+    @Test
+    @DisplayName("@ReadReplica reads run on the replica; other reads, writes and plain statements on the primary")
+    void routesByTransactionKind() {
+        Routed db = routed(dataSource(replica));
+
+        assertThat(inUnmarkedReadOnly(db)).isEqualTo("primary_db");
+        assertThat(inReadOnly(db)).isEqualTo("replica_db");
+        assertThat(inReadWrite(db)).isEqualTo("primary_db");
+        assertThat(currentDatabase(db)).isEqualTo("primary_db");
+    }
+
+    @Test
+    @DisplayName("Reads after a write in the same request stay on the primary")
+    void readYourWrites() {
+        Routed db = routed(dataSource(replica));
+        ReadYourWrites.begin(false);
+
+        db.readWrite.executeWithoutResult(s -> db.jdbc.execute("CREATE TEMP TABLE touched (id INT)"));
+
+        assertThat(inReadOnly(db)).isEqualTo("primary_db");
+    }
+
+    @Test
+    @DisplayName("An unreachable replica is taken out of rotation")
+    void unreachableReplica_fallsBack() {
+        DriverManagerDataSource down = new DriverManagerDataSource(
+                "jdbc:postgresql://127.0.0.1:1/replica_db?connectTimeout=1", "x", "x");
+        Routed db = routed(down);
+
+        assertThat(inReadOnly(db)).isEqualTo("primary_db");
+    }
+
+    // ── helpers ──
+
+    private record Routed(JdbcTemplate jdbc, TransactionTemplate readOnly, TransactionTemplate readWrite) {}
+
+    private static Routed routed(DataSource replicaDataSource) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), registry,
+                Duration.ofSeconds(5), Duration.ofSeconds(1));
+        monitor.check();
+
+        DataSource routed = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(dataSource(primary), replicaDataSource, monitor, registry));
+        DataSourceTransactionManager tm = new DataSourceTransactionManager(routed);
+        TransactionTemplate readOnly = new TransactionTemplate(tm);
+        readOnly.setReadOnly(true);
+        return new Routed(new JdbcTemplate(routed), readOnly, new TransactionTemplate(tm));
+    }
+
+    private static DataSource dataSource(PostgreSQLContainer<?> container) {
+        return new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    private static String inUnmarkedReadOnly(Routed db) {
+        return db.readOnly.execute(s -> currentDatabase(db));
+    }
+
+    /** A read-only transaction as {@link ReadReplicaAspect} opens it. */
+    private static String inReadOnly(Routed db) {
+        boolean previous = ReplicaReads.set(true);
+        try {
+            return db.readOnly.execute(s -> currentDatabase(db));
+        } finally {
+            ReplicaReads.restore(previous);
+        }
+    }
+
+    private static String inReadWrite(Routed db) {
+        return db.readWrite.execute(s -> currentDatabase(db));
+    }
+
+    private static String currentDatabase(Routed db) {
+        return db.jdbc.queryForObject("SELECT current_database()", String.class);
+    }
+}
@@ -0,0 +1,101 @@
+package tj.radolfa.infrastructure.s3;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tj.radolfa.application.ports.out.ImageJobPort.SpooledImage;
+import tj.radolfa.domain.exception.ImageProcessingException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageJobExecutorTest {
+
+    ImageJobExecutor executor = new ImageJobExecutor(1, 1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Spooling copies and closes the source; closing the copy discards it")
+    void spool_copiesClosesAndDiscards() throws IOException {
+        AtomicBoolean sourceClosed = new AtomicBoolean();
+        InputStream source = new ByteArrayInputStream("pixels".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                sourceClosed.set(true);
+            }
+        };
+
+        SpooledImage spooled = executor.spool(source, "a.png");
+
+        assertThat(sourceClosed).isTrue();
+        try (InputStream in = spooled.open()) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("pixels");
+        }
+        spooled.close();
+        assertThatThrownBy(spooled::open).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("A source that cannot be read fails as an image processing error")
+    void spool_unreadableSource() {
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThatThrownBy(() -> executor.spool(broken, "a.png"))
+                .isInstanceOf(ImageProcessingException.class)
+                .hasMessageContaining("a.png");
+    }
+
+    @Test
+    @DisplayName("With every worker busy and the queue full, the caller renders the job itself")
+    void render_saturated_runsOnCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> busy   = executor.render(() -> await(release));
+        CompletableFuture<String> queued = executor.render(() -> Thread.currentThread().getName());
+
+        String ranOn = executor.render(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        assertThat(ranOn).isEqualTo(Thread.currentThread().getName());
+        assertThat(busy.get(5, TimeUnit.SECONDS)).startsWith("image-render-");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).startsWith("image-render-");
+    }
+
+    @Test
+    @DisplayName("Uploads run off the rendering workers")
+    void upload_runsOnVirtualThread() throws Exception {
+        AtomicBoolean virtual = new AtomicBoolean();
+
+        executor.upload(() -> virtual.set(Thread.currentThread().isVirtual())).get(5, TimeUnit.SECONDS);
+
+        assertThat(virtual).isTrue();
+    }
+
+    // ── helpers ──
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Thread.currentThread().getName();
+    }
+}
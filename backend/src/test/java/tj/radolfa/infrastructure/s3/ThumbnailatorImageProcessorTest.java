@@ -0,0 +1,60 @@
+package tj.radolfa.infrastructure.s3;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tj.radolfa.application.ports.out.ProcessedImage;
+import tj.radolfa.domain.exception.ImageProcessingException;
+import tj.radolfa.domain.model.ImageRendition;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThumbnailatorImageProcessorTest {
+
+    ThumbnailatorImageProcessor processor = new ThumbnailatorImageProcessor();
+
+    @Test
+    @DisplayName("Every rendition is produced, fits its bound, and reports its exact length")
+    void renditions_fitBoundsWithExactLength() throws IOException {
+        Map<ImageRendition, ProcessedImage> renditions = processor.renditions(png(1600, 800), "wide.png");
+
+        assertThat(renditions).containsOnlyKeys(ImageRendition.values());
+        for (Map.Entry<ImageRendition, ProcessedImage> e : renditions.entrySet()) {
+            try (InputStream data = e.getValue().data()) {
+                byte[] bytes = data.readAllBytes();
+                assertThat(bytes).hasSize((int) e.getValue().contentLength());
+                assertThat(e.getValue().extension()).isEqualTo(processor.extension());
+
+                BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(bytes));
+                if (decoded != null) { // no WebP reader on a stock JDK
+                    int expectedWidth = Math.min(1600, e.getKey().maxSize());
+                    assertThat(decoded.getWidth()).isEqualTo(expectedWidth);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Undecodable input is reported as an image processing failure")
+    void renditions_garbage_throws() {
+        assertThatThrownBy(() -> processor.renditions(
+                new ByteArrayInputStream("not an image".getBytes()), "bad.png"))
+                .isInstanceOf(ImageProcessingException.class);
+    }
+
+    // ── helpers ──
+
+    private static InputStream png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}
@@ -0,0 +1,68 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+import tj.radolfa.infrastructure.persistence.adapter.DiscountMetricsRollup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DiscountMetricsCompactionJobTest {
+
+    @Mock DiscountMetricsRollup rollup;
+    @Mock SchedulerLockPort     schedulerLockPort;
+
+    @Test
+    @DisplayName("Just after UTC midnight, compaction stops at the day that just ended")
+    void compact_afterMidnight_stopsAtYesterday() {
+        stubRollup(LocalDate.of(2026, 10, 18));
+
+        job(Instant.parse("2026-10-19T00:15:00Z")).compact();
+
+        verify(rollup).compactThrough(LocalDate.of(2026, 10, 18));
+    }
+
+    @Test
+    @DisplayName("Late in the UTC day, today is still not compacted")
+    void compact_lateInDay_neverIncludesToday() {
+        stubRollup(LocalDate.of(2026, 10, 18));
+
+        job(Instant.parse("2026-10-19T23:59:59Z")).compact();
+
+        verify(rollup).compactThrough(LocalDate.of(2026, 10, 18));
+    }
+
+    @Test
+    @DisplayName("Recent days that disagree with raw rows are recompacted")
+    void compact_driftedDay_recompacts() {
+        LocalDate watermark = LocalDate.of(2026, 10, 18);
+        stubRollup(watermark);
+        when(rollup.findInconsistentDays(watermark.minusDays(DiscountMetricsCompactionJob.CHECK_DAYS - 1), watermark))
+                .thenReturn(List.of(LocalDate.of(2026, 10, 14)));
+
+        job(Instant.parse("2026-10-19T00:15:00Z")).compact();
+
+        verify(rollup).compactDay(LocalDate.of(2026, 10, 14));
+    }
+
+    // ── helpers ──
+
+    private void stubRollup(LocalDate watermark) {
+        when(rollup.compactedThrough()).thenReturn(watermark);
+    }
+
+    private DiscountMetricsCompactionJob job(Instant now) {
+        return new DiscountMetricsCompactionJob(rollup, schedulerLockPort, Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
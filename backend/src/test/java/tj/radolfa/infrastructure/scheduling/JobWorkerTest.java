@@ -0,0 +1,138 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tj.radolfa.application.ports.out.JobQueuePort.Stage;
+import tj.radolfa.infrastructure.persistence.adapter.JobQueueAdapter;
+import tj.radolfa.infrastructure.persistence.adapter.JobQueueAdapter.ClaimedJob;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobWorkerTest {
+
+    static final Instant NOW = Instant.parse("2026-10-01T12:00:00Z");
+
+    @Mock JobQueueAdapter            queue;
+    @Mock PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry registry;
+    RecordingHandler    handler;
+    JobWorker           worker;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        handler  = new RecordingHandler();
+        worker   = new JobWorker(queue, List.of(handler), new TransactionTemplate(transactionManager), registry,
+                Clock.fixed(NOW, ZoneOffset.UTC), 2, Duration.ofMinutes(2), 3, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("A successful job is marked done and timed under its stage")
+    void success_completes() {
+        when(queue.claim(anyInt(), any())).thenReturn(List.of(job(1L, 1)));
+
+        worker.poll();
+
+        assertThat(handler.keys).containsExactly("10");
+        verify(queue).complete(1L);
+        verify(queue, never()).fail(anyLong(), anyString(), any());
+        assertThat(registry.get("radolfa.jobs.run").tag("stage", "LOYALTY_AWARD").tag("outcome", "done")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("radolfa.jobs.start.lag").timer().totalTime(TimeUnit.SECONDS))
+                .isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("A failing job is rescheduled with exponential backoff")
+    void failure_retriesWithBackoff() {
+        handler.fail = true;
+        when(queue.claim(anyInt(), any())).thenReturn(List.of(job(1L, 2)));
+
+        worker.poll();
+
+        verify(queue, never()).complete(anyLong());
+        verify(queue).fail(eq(1L), anyString(), eq(Duration.ofSeconds(10)));
+        assertThat(registry.get("radolfa.jobs.run").tag("outcome", "retry").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("The last allowed attempt parks the job as DEAD")
+    void exhausted_parkedDead() {
+        handler.fail = true;
+        when(queue.claim(anyInt(), any())).thenReturn(List.of(job(1L, 3)));
+
+        worker.poll();
+
+        verify(queue).fail(eq(1L), anyString(), isNull());
+        assertThat(registry.get("radolfa.jobs.run").tag("outcome", "dead").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Polling keeps claiming while full batches come back")
+    void fullBatch_claimsAgain() {
+        when(queue.claim(anyInt(), any()))
+                .thenReturn(List.of(job(1L, 1), job(2L, 1)))
+                .thenReturn(List.of(job(3L, 1)));
+
+        worker.poll();
+
+        assertThat(handler.keys).hasSize(3);
+        verify(queue).complete(3L);
+    }
+
+    @Test
+    @DisplayName("Backoff doubles per attempt and is capped")
+    void backoff_capped() {
+        assertThat(worker.backoff(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(worker.backoff(4)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(worker.backoff(30)).isEqualTo(JobWorker.MAX_BACKOFF);
+    }
+
+    // ── helpers ──
+
+    private static ClaimedJob job(long id, int attempts) {
+        return new ClaimedJob(id, Stage.LOYALTY_AWARD, "10", "42", attempts, NOW.minusSeconds(30));
+    }
+
+    static class RecordingHandler implements JobHandler {
+        final List<String> keys = new ArrayList<>();
+        boolean fail;
+
+        @Override
+        public Stage stage() {
+            return Stage.LOYALTY_AWARD;
+        }
+
+        @Override
+        public void handle(String key, String payload) {
+            if (fail) throw new IllegalStateException("boom");
+            keys.add(key);
+        }
+    }
+}
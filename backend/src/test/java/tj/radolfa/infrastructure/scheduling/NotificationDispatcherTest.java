@@ -0,0 +1,234 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+import tj.radolfa.infrastructure.notification.NotificationSink;
+import tj.radolfa.infrastructure.notification.OutboundNotification;
+import tj.radolfa.infrastructure.notification.OutboundNotification.Kind;
+import tj.radolfa.infrastructure.persistence.adapter.NotificationOutboxAdapter;
+import tj.radolfa.testsupport.MutableClock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    static final Instant NOW = Instant.parse("2026-10-01T12:00:00Z");
+
+    @Mock NotificationOutboxAdapter outbox;
+    @Mock SchedulerLockPort         schedulerLockPort;
+
+    SimpleMeterRegistry registry;
+    FakeSink            sink;
+    MutableClock        clock;
+    FakeLease           lease;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        sink     = new FakeSink(3);
+        clock    = new MutableClock(NOW);
+        lease    = new FakeLease();
+        lenient().when(schedulerLockPort.tryAcquire(NotificationDispatcher.LEADER_LOCK, NotificationDispatcher.LEADER_TTL))
+                .thenReturn(Optional.of(lease));
+    }
+
+    @Test
+    @DisplayName("Messages are delivered in provider-sized batches and marked sent")
+    void dispatch_batchesPerProviderCall() {
+        NotificationDispatcher dispatcher = dispatcher(100);
+        when(outbox.claim(anyInt(), any()))
+                .thenReturn(messages(1, 3, 1))
+                .thenReturn(messages(4, 2, 1));
+
+        dispatcher.dispatch();
+
+        assertThat(sink.batchSizes).containsExactly(3, 2);
+        verify(outbox).markSent(List.of(1L, 2L, 3L));
+        verify(outbox).markSent(List.of(4L, 5L));
+        assertThat(registry.get("radolfa.notifications.messages").tag("outcome", "sent").counter().count())
+                .isEqualTo(5);
+        assertThat(registry.get("radolfa.notifications.latency").timer().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("The send rate caps how many messages one tick leases")
+    void dispatch_rateLimited() {
+        NotificationDispatcher dispatcher = dispatcher(2);
+        when(outbox.claim(eq(2), any())).thenReturn(messages(1, 2, 1));
+
+        dispatcher.dispatch();
+        dispatcher.dispatch(); // same instant: budget spent
+
+        verify(outbox).claim(eq(2), any());
+        assertThat(sink.batchSizes).containsExactly(2);
+
+        clock.advance(Duration.ofMillis(500)); // refills one token
+        when(outbox.claim(eq(1), any())).thenReturn(messages(3, 1, 1));
+        dispatcher.dispatch();
+
+        assertThat(sink.batchSizes).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("Rejected messages are retried, exhausted ones parked as DEAD")
+    void dispatch_rejectedRetriedOrDead() {
+        NotificationDispatcher dispatcher = dispatcher(100);
+        List<OutboundNotification> batch = new ArrayList<>(messages(1, 1, 1));
+        batch.addAll(messages(2, 1, 4));
+        when(outbox.claim(anyInt(), any())).thenReturn(batch).thenReturn(List.of());
+        sink.reject.addAll(Set.of(1L, 2L));
+
+        dispatcher.dispatch();
+
+        verify(outbox).markFailed(eq(List.of(1L)), anyString(), eq(Duration.ofSeconds(30)));
+        verify(outbox).markFailed(eq(List.of(2L)), anyString(), isNull());
+        assertThat(registry.get("radolfa.notifications.messages").tag("outcome", "dead").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A provider error fails the whole batch without marking anything sent")
+    void dispatch_providerError_retriesBatch() {
+        NotificationDispatcher dispatcher = dispatcher(100);
+        sink.fail = true;
+        when(outbox.claim(anyInt(), any())).thenReturn(messages(1, 2, 1));
+
+        dispatcher.dispatch();
+
+        verify(outbox).markFailed(eq(List.of(1L, 2L)), anyString(), eq(Duration.ofSeconds(30)));
+        verify(outbox).markSent(List.of());
+    }
+
+    @Test
+    @DisplayName("An instance without the sender lease sends nothing but still reports the backlog")
+    void dispatch_otherInstanceSends_idle() {
+        when(schedulerLockPort.tryAcquire(NotificationDispatcher.LEADER_LOCK, NotificationDispatcher.LEADER_TTL))
+                .thenReturn(Optional.empty());
+        when(outbox.backlog()).thenReturn(7L);
+
+        dispatcher(100).dispatch();
+
+        verify(outbox, never()).claim(anyInt(), any());
+        assertThat(registry.get("radolfa.notifications.backlog").gauge().value()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("The sender lease is kept across ticks, so one bucket paces the whole cluster")
+    void dispatch_keepsLeaseAcrossTicks() {
+        NotificationDispatcher dispatcher = dispatcher(100);
+        when(outbox.claim(anyInt(), any())).thenReturn(List.of());
+
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        verify(schedulerLockPort, times(1)).tryAcquire(any(), any());
+        verify(outbox, times(3)).claim(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("A lost lease stops sending until it is taken again")
+    void dispatch_lostLease_stopsSending() {
+        NotificationDispatcher dispatcher = dispatcher(100);
+        when(outbox.claim(anyInt(), any())).thenReturn(List.of());
+        dispatcher.dispatch();
+
+        lease.held = false;
+        when(schedulerLockPort.tryAcquire(NotificationDispatcher.LEADER_LOCK, NotificationDispatcher.LEADER_TTL))
+                .thenReturn(Optional.empty());
+        dispatcher.dispatch();
+
+        assertThat(lease.closed).isTrue();
+        verify(outbox, times(1)).claim(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Shutting down releases the sender lease")
+    void stepDown_releasesLease() {
+        NotificationDispatcher dispatcher = dispatcher(100);
+        when(outbox.claim(anyInt(), any())).thenReturn(List.of());
+        dispatcher.dispatch();
+
+        dispatcher.stepDown();
+
+        assertThat(lease.closed).isTrue();
+    }
+
+    // ── helpers ──
+
+    private NotificationDispatcher dispatcher(double ratePerSecond) {
+        return new NotificationDispatcher(outbox, sink, schedulerLockPort, registry, clock, ratePerSecond,
+                Duration.ofMinutes(1), 4, Duration.ofSeconds(30), Duration.ofDays(14));
+    }
+
+    private static List<OutboundNotification> messages(long firstId, int count, int attempts) {
+        return LongStream.range(firstId, firstId + count)
+                .mapToObj(id -> new OutboundNotification(id, Kind.ORDER_CONFIRMATION, 42L, id, null,
+                        attempts, NOW.minusSeconds(2)))
+                .toList();
+    }
+
+    static class FakeLease implements SchedulerLockPort.Lease {
+        boolean held = true;
+        boolean closed;
+
+        @Override
+        public boolean isHeld() {
+            return held;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    static class FakeSink implements NotificationSink {
+        final int           maxBatchSize;
+        final List<Integer> batchSizes = new ArrayList<>();
+        final Set<Long>     reject     = new HashSet<>();
+        boolean fail;
+
+        FakeSink(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        @Override
+        public int maxBatchSize() {
+            return maxBatchSize;
+        }
+
+        @Override
+        public Set<Long> deliver(List<OutboundNotification> batch) {
+            if (fail) throw new IllegalStateException("provider down");
+            batchSizes.add(batch.size());
+            return reject;
+        }
+    }
+}
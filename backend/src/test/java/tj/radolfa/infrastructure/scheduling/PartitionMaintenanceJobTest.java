@@ -0,0 +1,104 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+import tj.radolfa.infrastructure.persistence.adapter.DiscountMetricsRollup;
+import tj.radolfa.infrastructure.persistence.adapter.MonthlyPartitionAdapter;
+import tj.radolfa.infrastructure.persistence.adapter.MonthlyPartitionAdapter.Partition;
+import tj.radolfa.infrastructure.persistence.repository.CartRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceJobTest {
+
+    static final Instant NOW = Instant.parse("2026-10-19T00:30:00Z");
+
+    @Mock MonthlyPartitionAdapter partitions;
+    @Mock DiscountMetricsRollup   rollup;
+    @Mock CartRepository          cartRepository;
+    @Mock SchedulerLockPort       schedulerLockPort;
+
+    @Test
+    @DisplayName("The current month and the configured months ahead get partitions")
+    void maintain_createsCurrentAndFutureMonths() {
+        when(partitions.ensure(anyString(), anyString(), any())).thenReturn(Optional.empty());
+
+        job(2, 0, Duration.ZERO).maintain();
+
+        verify(partitions).ensure("discount_application", "applied_at", YearMonth.of(2026, 10));
+        verify(partitions).ensure("discount_application", "applied_at", YearMonth.of(2026, 11));
+        verify(partitions).ensure("discount_application", "applied_at", YearMonth.of(2026, 12));
+        verify(partitions, never()).ensure(anyString(), anyString(), eq(YearMonth.of(2027, 1)));
+        verify(partitions, never()).list(anyString());
+        verify(cartRepository, never()).deleteClosedBefore(any());
+    }
+
+    @Test
+    @DisplayName("Months past retention are archived oldest first, the rest kept")
+    void maintain_archivesMonthsPastRetention() {
+        when(partitions.ensure(anyString(), anyString(), any())).thenReturn(Optional.empty());
+        when(rollup.compactedThrough()).thenReturn(LocalDate.of(2026, 10, 18));
+        when(partitions.list("discount_application")).thenReturn(List.of(
+                partition(2026, 7), partition(2026, 8), partition(2026, 9), partition(2026, 10)));
+
+        job(0, 2, Duration.ZERO).maintain();
+
+        verify(partitions).archive("discount_application", "discount_application_p202607");
+        verify(partitions, never()).archive("discount_application", "discount_application_p202608");
+        verify(partitions, never()).archive("discount_application", "discount_application_p202609");
+    }
+
+    @Test
+    @DisplayName("A month the rollup has not fully compacted is never archived")
+    void maintain_rollupBehind_keepsMonth() {
+        when(partitions.ensure(anyString(), anyString(), any())).thenReturn(Optional.empty());
+        when(rollup.compactedThrough()).thenReturn(LocalDate.of(2026, 7, 30));
+        when(partitions.list("discount_application")).thenReturn(List.of(
+                partition(2026, 6), partition(2026, 7), partition(2026, 8)));
+
+        job(0, 2, Duration.ZERO).maintain();
+
+        verify(partitions).archive("discount_application", "discount_application_p202606");
+        verify(partitions, never()).archive("discount_application", "discount_application_p202607");
+    }
+
+    @Test
+    @DisplayName("Closed carts older than the retention are purged")
+    void maintain_purgesClosedCarts() {
+        when(partitions.ensure(anyString(), anyString(), any())).thenReturn(Optional.empty());
+
+        job(0, 0, Duration.ofDays(90)).maintain();
+
+        verify(cartRepository).deleteClosedBefore(NOW.minus(Duration.ofDays(90)));
+    }
+
+    // ── helpers ──
+
+    private PartitionMaintenanceJob job(int monthsAhead, int retentionMonths, Duration cartRetention) {
+        return new PartitionMaintenanceJob(partitions, rollup, cartRepository, schedulerLockPort,
+                Clock.fixed(NOW, ZoneOffset.UTC), monthsAhead, retentionMonths, cartRetention);
+    }
+
+    private static Partition partition(int year, int month) {
+        return new Partition(String.format("discount_application_p%d%02d", year, month), YearMonth.of(year, month));
+    }
+}
@@ -0,0 +1,41 @@
+package tj.radolfa.infrastructure.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tj.radolfa.application.ports.in.review.RecalculateRatingSummaryUseCase;
+import tj.radolfa.application.ports.out.LoadRatingSummaryPort;
+import tj.radolfa.application.ports.out.SchedulerLockPort;
+import tj.radolfa.application.services.RatingSummaryUpdateQueue;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RatingSummaryFlushJobTest {
+
+    @Mock RatingSummaryUpdateQueue        updateQueue;
+    @Mock RecalculateRatingSummaryUseCase recalcUseCase;
+    @Mock LoadRatingSummaryPort           loadRatingSummaryPort;
+    @Mock SchedulerLockPort               schedulerLockPort;
+
+    @Test
+    @DisplayName("Rebuild goes through the use case per variant and survives a failing one")
+    void rebuildAll_failureOnOneVariant_continuesWithTheRest() {
+        when(loadRatingSummaryPort.findAllRatedVariantIds()).thenReturn(List.of(1L, 2L, 3L));
+        lenient().doThrow(new IllegalStateException("DB error")).when(recalcUseCase).execute(2L);
+
+        RatingSummaryFlushJob job = new RatingSummaryFlushJob(
+                updateQueue, recalcUseCase, loadRatingSummaryPort, schedulerLockPort);
+
+        assertThat(job.rebuildAll()).isEqualTo(2);
+        verify(recalcUseCase).execute(1L);
+        verify(recalcUseCase).execute(3L);
+    }
+}
@@ -0,0 +1,67 @@
+package tj.radolfa.infrastructure.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tj.radolfa.application.ports.in.product.ImportPriceStockUseCase.Row;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceStockImportReaderTest {
+
+    private static List<Row> read(String body, TabularExport.Format format) {
+        PriceStockImportReader reader = new PriceStockImportReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format);
+        List<Row> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+
+    @Test
+    @DisplayName("CSV without header is read as skuCode,price,stock; empty cells are null")
+    void csv_positional() {
+        List<Row> rows = read("A-1,10.50,3\nA-2,,7\n\nA-3,99,\n", TabularExport.Format.CSV);
+
+        assertEquals(3, rows.size());
+        assertEquals(Row.of(1, "A-1", new BigDecimal("10.50"), 3), rows.get(0));
+        assertEquals(Row.of(2, "A-2", null, 7), rows.get(1));
+        assertEquals(Row.of(4, "A-3", new BigDecimal("99"), null), rows.get(2));
+    }
+
+    @Test
+    @DisplayName("CSV header (after a BOM) may reorder columns and quoted cells are unquoted")
+    void csv_headerAndQuotes() {
+        List<Row> rows = read("\uFEFFstock,skuCode,price\n5,\"A,\"\"1\"\"\",12.00\n", TabularExport.Format.CSV);
+
+        assertEquals(List.of(Row.of(2, "A,\"1\"", new BigDecimal("12.00"), 5)), rows);
+    }
+
+    @Test
+    @DisplayName("Unparseable numbers become malformed rows instead of failing the import")
+    void csv_malformed() {
+        List<Row> rows = read("A-1,abc,1\nA-2,1,2\n", TabularExport.Format.CSV);
+
+        assertNotNull(rows.get(0).error());
+        assertEquals(1, rows.get(0).line());
+        assertNull(rows.get(1).error());
+    }
+
+    @Test
+    @DisplayName("NDJSON accepts numbers or strings and treats absent fields as null")
+    void ndjson() {
+        List<Row> rows = read("""
+                {"skuCode":"A-1","price":10.5,"stock":2}
+                {"skuCode":"A-2","stock":"4"}
+                not json
+                """, TabularExport.Format.NDJSON);
+
+        assertEquals(Row.of(1, "A-1", new BigDecimal("10.5"), 2), rows.get(0));
+        assertEquals(Row.of(2, "A-2", null, 4), rows.get(1));
+        assertNotNull(rows.get(2).error());
+    }
+}
@@ -0,0 +1,128 @@
+package tj.radolfa.infrastructure.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TabularExportTest {
+
+    record Row(Long id, String name, BigDecimal amount, Instant at) {}
+
+    private final TabularExport<Row> export = new TabularExport<>(List.of(
+            new TabularExport.Column<>("id",     Row::id),
+            new TabularExport.Column<>("name",   Row::name),
+            new TabularExport.Column<>("amount", Row::amount),
+            new TabularExport.Column<>("at",     Row::at)));
+
+    private static final Instant AT = Instant.parse("2026-03-01T10:15:30Z");
+
+    private static Consumer<Consumer<Row>> rows(Row... rows) {
+        return sink -> {
+            for (Row row : rows) sink.accept(row);
+        };
+    }
+
+    private String write(TabularExport.Format format, Consumer<Consumer<Row>> producer) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export.write(format, out, producer);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    // ==== CSV ====
+
+    @Test
+    @DisplayName("CSV: header line, then one line per row with plain decimals and ISO instants")
+    void csv_writesHeaderAndRows() throws Exception {
+        String csv = write(TabularExport.Format.CSV, rows(
+                new Row(1L, "Alice", new BigDecimal("1E+2"), AT),
+                new Row(2L, null, null, null)));
+
+        assertEquals("id,name,amount,at\r\n"
+                + "1,Alice,100,2026-03-01T10:15:30Z\r\n"
+                + "2,,,\r\n", csv);
+    }
+
+    @Test
+    @DisplayName("CSV: quotes separators and escapes embedded quotes")
+    void csv_quotesSpecialCharacters() {
+        assertEquals("\"Doe, John\"", TabularExport.csvCell("Doe, John"));
+        assertEquals("\"say \"\"hi\"\"\"", TabularExport.csvCell("say \"hi\""));
+        assertEquals("\"line\nbreak\"", TabularExport.csvCell("line\nbreak"));
+    }
+
+    @Test
+    @DisplayName("CSV: text that a spreadsheet would evaluate as a formula is neutralised")
+    void csv_guardsFormulaInjection() {
+        assertEquals("'=SUM(A1:A9)", TabularExport.csvCell("=SUM(A1:A9)"));
+        assertEquals("'+1+cmd|' /C calc'!A0", TabularExport.csvCell("+1+cmd|' /C calc'!A0"));
+        assertEquals("-5", TabularExport.csvCell(-5));
+    }
+
+    @Test
+    @DisplayName("CSV: phone numbers keep their leading plus")
+    void csv_phoneNumbersUnchanged() {
+        assertEquals("+992900123456", TabularExport.csvCell("+992900123456"));
+    }
+
+    // ==== NDJSON ====
+
+    @Test
+    @DisplayName("NDJSON: one JSON object per line, nulls kept")
+    void ndjson_writesOneObjectPerLine() throws Exception {
+        String ndjson = write(TabularExport.Format.NDJSON, rows(
+                new Row(1L, "A \"quoted\" name", new BigDecimal("12.50"), AT),
+                new Row(2L, null, null, null)));
+
+        assertEquals("{\"id\":1,\"name\":\"A \\\"quoted\\\" name\",\"amount\":12.50,\"at\":\"2026-03-01T10:15:30Z\"}\n"
+                + "{\"id\":2,\"name\":null,\"amount\":null,\"at\":null}\n", ndjson);
+    }
+
+    // ==== Response ====
+
+    @Test
+    @DisplayName("respond: gzips the body and sets Content-Encoding when the client accepts gzip")
+    void respond_gzipsWhenAccepted() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = export.respond(
+                "orders", TabularExport.Format.CSV, "gzip, deflate", rows(new Row(1L, "A", BigDecimal.ONE, AT)));
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("orders.csv"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals("id,name,amount,at\r\n1,A,1,2026-03-01T10:15:30Z\r\n",
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("respond: plain body without Content-Encoding when gzip is not accepted")
+    void respond_plainWithoutGzip() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = export.respond(
+                "orders", TabularExport.Format.NDJSON, null, rows());
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("application/x-ndjson;charset=UTF-8", response.getHeaders().getContentType().toString());
+    }
+
+    @Test
+    @DisplayName("Format.parse: case-insensitive, rejects unknown formats")
+    void format_parse() {
+        assertEquals(TabularExport.Format.NDJSON, TabularExport.Format.parse("ndjson"));
+        assertThrows(IllegalArgumentException.class, () -> TabularExport.Format.parse("xlsx"));
+    }
+}
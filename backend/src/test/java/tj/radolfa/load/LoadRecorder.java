@@ -0,0 +1,129 @@
+package tj.radolfa.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects per-request samples for a load run and renders the summary report.
+ *
+ * <p>Each sample carries wall-clock latency, the number of SQL statements Hibernate
+ * prepared and the bytes allocated by the request thread. Samples are grouped by
+ * scenario name so a single run can mix storefront reads with cart and checkout writes.
+ */
+class LoadRecorder {
+
+    record Sample(long latencyNanos, int sqlStatements, long allocatedBytes, int status) {}
+
+    /**
+     * Performance budget for one scenario. A run fails when any limit is exceeded.
+     *
+     * @param maxP99Millis       upper bound for the 99th percentile latency
+     * @param maxSqlPerRequest   upper bound for the worst single request's statement count
+     * @param maxAllocatedKbMean upper bound for mean allocation per request, in KiB
+     */
+    record Budget(long maxP99Millis, int maxSqlPerRequest, long maxAllocatedKbMean) {}
+
+    record Summary(String scenario, int requests, int errors, double throughputPerSec,
+                   double p50Millis, double p99Millis,
+                   double sqlMean, int sqlMax, double allocatedKbMean) {}
+
+    private final Map<String, Queue<Sample>> samples = new ConcurrentHashMap<>();
+
+    void record(String scenario, Sample sample) {
+        samples.computeIfAbsent(scenario, k -> new ConcurrentLinkedQueue<>()).add(sample);
+    }
+
+    List<Summary> summarize(long wallClockNanos) {
+        double seconds = wallClockNanos / 1_000_000_000.0;
+        List<Summary> result = new ArrayList<>();
+        for (Map.Entry<String, Queue<Sample>> entry : new TreeMap<>(samples).entrySet()) {
+            List<Sample> list = new ArrayList<>(entry.getValue());
+            long[] latencies = list.stream().mapToLong(Sample::latencyNanos).sorted().toArray();
+            int errors = (int) list.stream().filter(s -> s.status() >= 400).count();
+            result.add(new Summary(
+                    entry.getKey(),
+                    list.size(),
+                    errors,
+                    list.size() / seconds,
+                    percentile(latencies, 0.50) / 1_000_000.0,
+                    percentile(latencies, 0.99) / 1_000_000.0,
+                    list.stream().mapToInt(Sample::sqlStatements).average().orElse(0),
+                    list.stream().mapToInt(Sample::sqlStatements).max().orElse(0),
+                    list.stream().mapToLong(Sample::allocatedBytes).average().orElse(0) / 1024.0));
+        }
+        return result;
+    }
+
+    /**
+     * Returns one human-readable violation per exceeded budget; empty when the run is within budget.
+     */
+    static List<String> violations(List<Summary> summaries, Map<String, Budget> budgets) {
+        List<String> violations = new ArrayList<>();
+        for (Summary s : summaries) {
+            if (s.errors() > 0) {
+                violations.add(s.scenario() + ": " + s.errors() + " failed requests");
+            }
+            Budget b = budgets.get(s.scenario());
+            if (b == null) continue;
+            if (s.p99Millis() > b.maxP99Millis()) {
+                violations.add(String.format("%s: p99 %.1f ms > budget %d ms",
+                        s.scenario(), s.p99Millis(), b.maxP99Millis()));
+            }
+            if (s.sqlMax() > b.maxSqlPerRequest()) {
+                violations.add(String.format("%s: %d SQL statements > budget %d",
+                        s.scenario(), s.sqlMax(), b.maxSqlPerRequest()));
+            }
+            if (s.allocatedKbMean() > b.maxAllocatedKbMean()) {
+                violations.add(String.format("%s: %.0f KiB allocated/request > budget %d KiB",
+                        s.scenario(), s.allocatedKbMean(), b.maxAllocatedKbMean()));
+            }
+        }
+        return violations;
+    }
+
+    static String render(List<Summary> summaries) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-22s %8s %6s %10s %9s %9s %8s %7s %12s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p99 ms", "sql avg", "sql max", "alloc KiB"));
+        for (Summary s : summaries) {
+            sb.append(String.format("%-22s %8d %6d %10.1f %9.2f %9.2f %8.1f %7d %12.1f%n",
+                    s.scenario(), s.requests(), s.errors(), s.throughputPerSec(),
+                    s.p50Millis(), s.p99Millis(), s.sqlMean(), s.sqlMax(), s.allocatedKbMean()));
+        }
+        return sb.toString();
+    }
+
+    static void writeCsv(Path file, List<Summary> summaries) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("scenario,requests,errors,throughput_per_sec,p50_ms,p99_ms,sql_mean,sql_max,alloc_kb_mean");
+        for (Summary s : summaries) {
+            lines.add(String.join(",", Arrays.asList(
+                    s.scenario(),
+                    String.valueOf(s.requests()),
+                    String.valueOf(s.errors()),
+                    String.format("%.2f", s.throughputPerSec()),
+                    String.format("%.3f", s.p50Millis()),
+                    String.format("%.3f", s.p99Millis()),
+                    String.format("%.2f", s.sqlMean()),
+                    String.valueOf(s.sqlMax()),
+                    String.format("%.1f", s.allocatedKbMean()))));
+        }
+        Files.createDirectories(file.getParent());
+        Files.write(file, lines);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
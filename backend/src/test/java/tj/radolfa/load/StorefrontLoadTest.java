@@ -0,0 +1,222 @@
+package tj.radolfa.load;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import tj.radolfa.domain.model.UserRole;
+import tj.radolfa.infrastructure.observability.RequestSqlMetricsFilter;
+import tj.radolfa.infrastructure.observability.SqlStatementCounter;
+import tj.radolfa.infrastructure.security.JwtUtil;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * End-to-end load harness for the storefront and checkout paths.
+ *
+ * <p>Boots the full application against a Testcontainers Postgres seeded with the
+ * dev migrations; Elasticsearch is replaced by {@code ListingSearchStub} via the
+ * {@code test} profile. A pool of virtual users drives a weighted traffic mix through
+ * {@code ListingController}, {@code CategoryController}, {@code HomeController},
+ * {@code CartController} and {@code OrderController#checkout}, and every request is
+ * measured for latency, SQL statements and thread allocation. SQL counts come from
+ * {@link RequestSqlMetricsFilter}, and budget enforcement is switched on so any
+ * {@code @QueryBudget} overrun fails the request outright.
+ *
+ * <p>Run with {@code mvn -Pload-test test}. Tuning knobs (system properties):
+ * {@code load.users} (default 8), {@code load.requestsPerUser} (default 250).
+ * The report is printed and written to {@code target/load-reports/storefront.csv};
+ * the test fails when any scenario exceeds its {@link LoadRecorder.Budget}.
+ */
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.flyway.locations=classpath:db/migration,classpath:db/migration-dev",
+        "spring.data.elasticsearch.repositories.enabled=false",
+        "management.health.elasticsearch.enabled=false",
+        "radolfa.observability.sql.enforce-budgets=true",
+        "logging.level.tj.radolfa=WARN",
+        "radolfa.security.jwt.secret=load-test-secret-load-test-secret-load-test-secret",
+        "radolfa.security.api-key.system-key=load-test-system-key-0123456789abcdef"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StorefrontLoadTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final int USERS             = Integer.getInteger("load.users", 8);
+    private static final int REQUESTS_PER_USER = Integer.getInteger("load.requestsPerUser", 250);
+    private static final int WARMUP_PER_USER   = 20;
+
+    private static final Map<String, LoadRecorder.Budget> BUDGETS = Map.of(
+            "listing.grid",       new LoadRecorder.Budget(250, 12, 2_048),
+            "listing.detail",     new LoadRecorder.Budget(250, 20, 2_048),
+            "category.tree",      new LoadRecorder.Budget(150,  3,   512),
+            "category.products",  new LoadRecorder.Budget(250, 15, 2_048),
+            "home.collections",   new LoadRecorder.Budget(300, 20, 4_096),
+            "cart.get",           new LoadRecorder.Budget(200, 15, 1_024),
+            "cart.add",           new LoadRecorder.Budget(250, 25, 1_024),
+            "order.checkout",     new LoadRecorder.Budget(500, 60, 4_096));
+
+    @Autowired MockMvc      mockMvc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired JwtUtil      jwtUtil;
+
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private List<String> listingSlugs;
+    private List<String> categorySlugs;
+    private List<Long>   skuIds;
+    private long         pickpointId;
+    private List<String> userTokens;
+
+    @BeforeAll
+    void seedFixtures() {
+        // Checkout must never fail on stock during a run
+        jdbc.update("UPDATE skus SET stock_quantity = 1000000");
+        jdbc.update("UPDATE listing_variants SET is_enabled = TRUE WHERE is_active = TRUE");
+
+        listingSlugs  = jdbc.queryForList("SELECT slug FROM listing_variants WHERE is_active = TRUE", String.class);
+        categorySlugs = jdbc.queryForList("SELECT slug FROM categories", String.class);
+        skuIds        = jdbc.queryForList("SELECT id FROM skus WHERE original_price IS NOT NULL", Long.class);
+        pickpointId   = jdbc.queryForObject("SELECT MIN(id) FROM pickpoint WHERE active = TRUE", Long.class);
+
+        userTokens = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String phone = String.format("+99277%07d", i);
+            Long userId = jdbc.queryForObject(
+                    "INSERT INTO users (phone, role) VALUES (?, 'USER') RETURNING id", Long.class, phone);
+            userTokens.add(jwtUtil.generateToken(userId, phone, UserRole.USER));
+        }
+    }
+
+    @Test
+    void storefrontAndCheckoutMixStayWithinBudget() throws Exception {
+        runMix(new LoadRecorder(), WARMUP_PER_USER);
+
+        LoadRecorder recorder = new LoadRecorder();
+        long started = System.nanoTime();
+        runMix(recorder, REQUESTS_PER_USER);
+        long elapsed = System.nanoTime() - started;
+
+        List<LoadRecorder.Summary> summaries = recorder.summarize(elapsed);
+        System.out.printf("%n[LOAD] %d users x %d requests in %.1f s%n%s",
+                USERS, REQUESTS_PER_USER, elapsed / 1e9, LoadRecorder.render(summaries));
+        LoadRecorder.writeCsv(Path.of("target", "load-reports", "storefront.csv"), summaries);
+
+        List<String> violations = LoadRecorder.violations(summaries, BUDGETS);
+        assertTrue(violations.isEmpty(), "Performance budget exceeded:\n" + String.join("\n", violations));
+    }
+
+    private void runMix(LoadRecorder recorder, int requestsPerUser) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(USERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int u = 0; u < USERS; u++) {
+                String token = userTokens.get(u);
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < requestsPerUser; i++) {
+                        nextRequest(recorder, token);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Weighted traffic mix modelled on storefront browsing: mostly grid and detail
+     * reads, a steady stream of cart views, and a small share of add-to-cart plus checkout.
+     */
+    private void nextRequest(LoadRecorder recorder, String token) throws Exception {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        int roll = rnd.nextInt(100);
+
+        if (roll < 25) {
+            measure(recorder, "listing.grid",
+                    get("/api/v1/listings").param("page", String.valueOf(1 + rnd.nextInt(3))).param("limit", "12"));
+        } else if (roll < 45) {
+            measure(recorder, "listing.detail", get("/api/v1/listings/{slug}", pick(listingSlugs)));
+        } else if (roll < 50) {
+            measure(recorder, "category.tree", get("/api/v1/categories"));
+        } else if (roll < 62) {
+            measure(recorder, "category.products",
+                    get("/api/v1/categories/{slug}/products", pick(categorySlugs)).param("limit", "12"));
+        } else if (roll < 75) {
+            measure(recorder, "home.collections", get("/api/v1/home/collections"));
+        } else if (roll < 88) {
+            measure(recorder, "cart.get", authed(get("/api/v1/cart"), token));
+        } else if (roll < 97) {
+            addToCart(recorder, token);
+        } else {
+            addToCart(recorder, token);
+            measure(recorder, "order.checkout", authed(post("/api/v1/orders/checkout")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"loyaltyPointsToRedeem\":0,\"deliveryType\":\"PICKPOINT\",\"pickpointId\":"
+                            + pickpointId + "}"), token));
+        }
+    }
+
+    private void addToCart(LoadRecorder recorder, String token) throws Exception {
+        measure(recorder, "cart.add", authed(post("/api/v1/cart/items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"skuId\":" + pick(skuIds) + ",\"quantity\":1}"), token));
+    }
+
+    private void measure(LoadRecorder recorder, String scenario, RequestBuilder request) throws Exception {
+        long allocBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        MvcResult result = mockMvc.perform(request).andReturn();
+
+        long latency = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocBefore;
+        SqlStatementCounter.Stats sql = (SqlStatementCounter.Stats)
+                result.getRequest().getAttribute(RequestSqlMetricsFilter.STATS_ATTRIBUTE);
+        recorder.record(scenario, new LoadRecorder.Sample(
+                latency, sql != null ? sql.statements() : 0, allocated, result.getResponse().getStatus()));
+    }
+
+    private static MockHttpServletRequestBuilder authed(MockHttpServletRequestBuilder request, String token) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}